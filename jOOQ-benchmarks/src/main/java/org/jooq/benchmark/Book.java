@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.benchmark;
+
+import java.sql.Date;
+
+import org.jooq.TableField;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+/**
+ * The <code>BOOK</code> table used by all benchmarks.
+ *
+ * @author Lukas Eder
+ */
+public class Book extends TableImpl<BookRecord> {
+
+    /**
+     * Generated UID
+     */
+    private static final long serialVersionUID = -1838367461582335460L;
+
+    public static final Book                            BOOK         = new Book();
+
+    public static final TableField<BookRecord, Integer> ID           = createField("ID", SQLDataType.INTEGER, BOOK);
+    public static final TableField<BookRecord, Integer> AUTHOR_ID    = createField("AUTHOR_ID", SQLDataType.INTEGER, BOOK);
+    public static final TableField<BookRecord, String>  TITLE        = createField("TITLE", SQLDataType.VARCHAR, BOOK);
+    public static final TableField<BookRecord, Date>    PUBLISHED_IN = createField("PUBLISHED_IN", SQLDataType.DATE, BOOK);
+
+    public Book() {
+        super("BOOK");
+    }
+
+    @Override
+    public Class<BookRecord> getRecordType() {
+        return BookRecord.class;
+    }
+}
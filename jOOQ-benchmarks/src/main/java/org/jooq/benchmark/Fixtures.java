@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.benchmark;
+
+import static org.jooq.benchmark.Book.AUTHOR_ID;
+import static org.jooq.benchmark.Book.BOOK;
+import static org.jooq.benchmark.Book.ID;
+import static org.jooq.benchmark.Book.PUBLISHED_IN;
+import static org.jooq.benchmark.Book.TITLE;
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.fieldByName;
+import static org.jooq.impl.DSL.tableByName;
+
+import java.sql.Date;
+import java.sql.SQLException;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.Table;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+
+/**
+ * Shared data for all benchmarks.
+ * <p>
+ * All data is generated deterministically, such that subsequent runs measure
+ * the same work.
+ *
+ * @author Lukas Eder
+ */
+final class Fixtures {
+
+    static final Table<Record>  AUTHOR      = tableByName("AUTHOR");
+    static final Field<Integer> AUTHOR_PK   = fieldByName(Integer.class, "AUTHOR", "ID");
+    static final Field<String>  AUTHOR_NAME = fieldByName(String.class, "AUTHOR", "LAST_NAME");
+
+    /**
+     * Settings that avoid measuring the default logging listeners.
+     */
+    static final Settings settings() {
+        return new Settings().withExecuteLogging(false);
+    }
+
+    /**
+     * A typical reporting query with joins, predicates, grouping and paging.
+     */
+    static final Select<?> query(DSLContext create) {
+        return create.select(AUTHOR_NAME, TITLE, count())
+                     .from(BOOK)
+                     .join(AUTHOR).on(AUTHOR_ID.eq(AUTHOR_PK))
+                     .where(TITLE.like("%SQL%"))
+                     .and(ID.in(1, 2, 3, 4, 5))
+                     .and(PUBLISHED_IN.gt(new Date(0L)))
+                     .groupBy(AUTHOR_NAME, TITLE)
+                     .having(count().gt(1))
+                     .orderBy(AUTHOR_NAME.asc(), TITLE.desc())
+                     .limit(10)
+                     .offset(20);
+    }
+
+    /**
+     * A detached result of <code>BOOK</code> records.
+     */
+    static final Result<BookRecord> result(int rows) {
+        DSLContext create = DSL.using(SQLDialect.H2, settings());
+        Result<BookRecord> result = create.newResult(BOOK);
+
+        for (int i = 0; i < rows; i++) {
+            BookRecord record = create.newRecord(BOOK);
+            record.setValue(ID, i);
+            record.setValue(AUTHOR_ID, i % 10);
+            record.setValue(TITLE, "Title " + i);
+            record.setValue(PUBLISHED_IN, new Date(86400000L * i));
+            result.add(record);
+        }
+
+        return result;
+    }
+
+    /**
+     * CSV content for <code>BOOK</code> records.
+     */
+    static final String csv(int rows) {
+        StringBuilder sb = new StringBuilder("ID,AUTHOR_ID,TITLE\n");
+
+        for (int i = 0; i < rows; i++) {
+            sb.append(i).append(',').append(i % 10).append(",Title ").append(i).append('\n');
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * A context whose connection returns the same result for every query.
+     */
+    static final DSLContext mock(final Result<?> result) {
+        return DSL.using(new MockConnection(new MockDataProvider() {
+            @Override
+            public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+                return new MockResult[] { new MockResult(result.size(), result) };
+            }
+        }), SQLDialect.H2, settings());
+    }
+
+    private Fixtures() {}
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.benchmark;
+
+import static org.jooq.benchmark.Book.AUTHOR_ID;
+import static org.jooq.benchmark.Book.BOOK;
+import static org.jooq.benchmark.Book.ID;
+import static org.jooq.benchmark.Book.TITLE;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.LoaderOptionsStep;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Loading CSV data with the <code>Loader</code> API into an in-memory H2
+ * database.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class LoaderBenchmark {
+
+    @Param({ "1000", "10000" })
+    int        rows;
+
+    /**
+     * The loader's execution strategy:
+     * <ul>
+     * <li><code>ROW</code>: One statement per row</li>
+     * <li><code>BATCH</code>: Batches of 100 statements</li>
+     * <li><code>BULK</code>: Batches of 10 statements, with 100 rows each</li>
+     * </ul>
+     */
+    @Param({ "ROW", "BATCH", "BULK" })
+    String     mode;
+
+    Connection connection;
+    DSLContext create;
+    String     csv;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:", "sa", "");
+        create = DSL.using(connection, SQLDialect.H2, Fixtures.settings());
+        create.execute("create table BOOK (ID int, AUTHOR_ID int, TITLE varchar(100), PUBLISHED_IN date)");
+        csv = Fixtures.csv(rows);
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() {
+        create.truncate(BOOK).execute();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int load() throws IOException {
+        LoaderOptionsStep<BookRecord> loader = create.loadInto(BOOK);
+
+        if ("BATCH".equals(mode))
+            loader = loader.batchAfter(100);
+        else if ("BULK".equals(mode))
+            loader = loader.bulkAfter(100).batchAfter(10);
+
+        return loader.loadCSV(csv)
+                     .fields(ID, AUTHOR_ID, TITLE)
+                     .execute()
+                     .stored();
+    }
+}
@@ -41,6 +41,7 @@
 package org.jooq.util;
 
 import java.io.File;
+import java.util.Set;
 
 
 /**
@@ -64,6 +65,8 @@ abstract class AbstractGenerator implements Generator {
     boolean                            generateGlobalObjectReferences = true;
     boolean                            fluentSetters                  = false;
 
+    int                                targetParallelism              = 1;
+
     protected GeneratorStrategyWrapper strategy;
 
     @Override
@@ -235,6 +238,20 @@ abstract class AbstractGenerator implements Generator {
         return strategy.getTargetPackage();
     }
 
+    /**
+     * Initialise the maximum number of threads used to generate source files
+     */
+    public void setTargetParallelism(int parallelism) {
+        this.targetParallelism = parallelism;
+    }
+
+    /**
+     * The maximum number of threads used to generate source files
+     */
+    public int getTargetParallelism() {
+        return targetParallelism;
+    }
+
     /**
      * If file is a directory, recursively empty its children.
      * If file is a file, delete it
@@ -256,4 +273,27 @@ abstract class AbstractGenerator implements Generator {
             }
         }
     }
+
+    /**
+     * If file is a directory, recursively remove excess files from its
+     * children. If file is a file, delete it unless it is contained in the
+     * files to keep.
+     */
+    protected void removeExcessFiles(File file, String suffix, Set<File> keep) {
+        if (file != null) {
+            if (file.isDirectory()) {
+                File[] children = file.listFiles();
+
+                if (children != null) {
+                    for (File child : children) {
+                        removeExcessFiles(child, suffix, keep);
+                    }
+                }
+            } else {
+                if (file.getName().endsWith(suffix) && !keep.contains(file.getAbsoluteFile())) {
+                    file.delete();
+                }
+            }
+        }
+    }
 }
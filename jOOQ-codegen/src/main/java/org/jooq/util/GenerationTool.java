@@ -312,6 +312,9 @@ public class GenerationTool {
             generator.setTargetPackage(g.getTarget().getPackageName());
             generator.setTargetDirectory(g.getTarget().getDirectory());
 
+            if (g.getTarget().getParallelism() != null && generator instanceof AbstractGenerator)
+                ((AbstractGenerator) generator).setTargetParallelism(g.getTarget().getParallelism());
+
             // [#1394] The <generate/> element should be optional
             if (g.getGenerate() == null)
                 g.setGenerate(new Generate());
@@ -46,6 +46,12 @@ import java.util.List;
 
 /**
  * A strategy for naming various artefacts generated from {@link Definition}'s
+ * <p>
+ * If source files are generated in parallel, i.e. if
+ * <code>&lt;target/&gt;&lt;parallelism/&gt;</code> is greater than
+ * <code>1</code>, the methods of this strategy are called concurrently from
+ * several threads. Custom implementations must then be thread-safe, e.g. by
+ * not keeping any mutable state, or by synchronising access to it.
  *
  * @author Lukas Eder
  */
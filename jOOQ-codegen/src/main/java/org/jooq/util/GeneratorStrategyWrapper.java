@@ -63,6 +63,8 @@ import org.jooq.tools.StringUtils;
 /**
  * A wrapper for generator strategies preventing some common compilation errors
  * resulting from badly generated source code
+ * <p>
+ * This wrapper is thread-safe, provided that the wrapped strategy is.
  *
  * @author Lukas Eder
  */
@@ -223,7 +225,7 @@ class GeneratorStrategyWrapper extends AbstractGeneratorStrategy {
      * [#182] Find all column names that are reserved because of the extended
      * class hierarchy of a generated class
      */
-    private Set<String> reservedColumns(Class<?> clazz) {
+    private synchronized Set<String> reservedColumns(Class<?> clazz) {
         if (clazz == null) {
             return Collections.emptySet();
         }
@@ -232,7 +234,6 @@ class GeneratorStrategyWrapper extends AbstractGeneratorStrategy {
 
         if (result == null) {
             result = new HashSet<String>();
-            reservedColumns.put(clazz, result);
 
             // Recurse up in class hierarchy
             result.addAll(reservedColumns(clazz.getSuperclass()));
@@ -247,6 +248,10 @@ class GeneratorStrategyWrapper extends AbstractGeneratorStrategy {
                     result.add(name);
                 }
             }
+
+            // Only publish the set once it is complete, as generator
+            // strategies may be called concurrently
+            reservedColumns.put(clazz, result);
         }
 
         return result;
@@ -40,7 +40,9 @@
  */
 package org.jooq.util;
 
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
@@ -48,7 +50,11 @@ import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -60,6 +66,12 @@ import org.jooq.tools.StringUtils;
  * This wrapper postpones the actual write to the wrapped {@link PrintWriter}
  * until all information about the target Java class is available. This way, the
  * import dependencies can be calculated at the end.
+ * <p>
+ * Files are only written if their content has changed, such that unchanged
+ * files keep their modification time and need not be recompiled. All files
+ * that writers are created for are registered, such that code generators can
+ * remove excess files from previous runs without removing any files that
+ * were created by custom code.
  *
  * @author Lukas Eder
  */
@@ -76,9 +88,13 @@ public abstract class GeneratorWriter<W extends GeneratorWriter<W>> {
            "(?:\\[(.*)\\])" +
         "\\]", Pattern.DOTALL);
 
+    /**
+     * The files that writers have been created for, and that have not yet been
+     * collected by {@link #files(File)}
+     */
+    private static final Set<File> FILES = Collections.synchronizedSet(new HashSet<File>());
 
     private final File          file;
-    private final PrintWriter   writer;
     private final StringBuilder sb;
     private int                 indentTabs;
     private boolean             newline = true;
@@ -87,13 +103,33 @@ public abstract class GeneratorWriter<W extends GeneratorWriter<W>> {
         file.getParentFile().mkdirs();
 
         this.file = file;
-        try {
-            this.writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
-        }
-        catch (IOException e) {
-            throw new GeneratorException("Error writing " + file.getAbsolutePath());
-        }
         this.sb = new StringBuilder();
+
+        FILES.add(file.getAbsoluteFile());
+    }
+
+    /**
+     * Collect and unregister all files contained in a directory, that writers
+     * have been created for.
+     */
+    static final Set<File> files(File directory) {
+        String path = directory.getAbsolutePath() + File.separator;
+        Set<File> result = new HashSet<File>();
+
+        synchronized (FILES) {
+            Iterator<File> it = FILES.iterator();
+
+            while (it.hasNext()) {
+                File file = it.next();
+
+                if (file.getPath().startsWith(path)) {
+                    result.add(file);
+                    it.remove();
+                }
+            }
+        }
+
+        return result;
     }
 
     @SuppressWarnings("unchecked")
@@ -237,9 +273,41 @@ public abstract class GeneratorWriter<W extends GeneratorWriter<W>> {
     public final void close() {
         String string = beforeClose(sb.toString());
 
-        writer.append(string);
-        writer.flush();
-        writer.close();
+        try {
+            byte[] bytes = string.getBytes("UTF-8");
+
+            if (!unchanged(bytes)) {
+                PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+
+                writer.append(string);
+                writer.flush();
+                writer.close();
+            }
+        }
+        catch (IOException e) {
+            throw new GeneratorException("Error writing " + file.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Whether the file already exists with the given content.
+     */
+    private final boolean unchanged(byte[] bytes) throws IOException {
+        if (!file.isFile() || file.length() != bytes.length) {
+            return false;
+        }
+
+        byte[] existing = new byte[bytes.length];
+        DataInputStream in = new DataInputStream(new FileInputStream(file));
+
+        try {
+            in.readFully(existing);
+        }
+        finally {
+            in.close();
+        }
+
+        return Arrays.equals(existing, bytes);
     }
 
     protected String beforeClose(String string) {
@@ -53,6 +53,10 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.jooq.AggregateFunction;
 import org.jooq.Configuration;
@@ -133,6 +137,12 @@ public class JavaGenerator extends AbstractGenerator {
      */
     private Database                database;
 
+    /**
+     * The executor generating source files in parallel, or <code>null</code>
+     * if source files are generated sequentially
+     */
+    private ExecutorService         executor;
+
     @Override
     public final void generate(Database db) {
         this.database = db;
@@ -177,6 +187,7 @@ public class JavaGenerator extends AbstractGenerator {
         log.info("  relations", generateRelations()
             + ((!generateRelations && generateDaos) ? " (forced to true because of <daos/>)" : ""));
         log.info("  global references", generateGlobalObjectReferences());
+        log.info("  parallelism", getTargetParallelism());
         log.info("----------------------------------------------------------");
 
         if (!generateInstanceFields()) {
@@ -204,19 +215,163 @@ public class JavaGenerator extends AbstractGenerator {
         // ----------------------------------------------------------------------
         // XXX Initialising
         // ----------------------------------------------------------------------
-        log.info("Emptying", targetPackageDir.getAbsolutePath());
-        empty(targetPackageDir, ".java");
+        if (getTargetParallelism() > 1) {
+            executor = Executors.newFixedThreadPool(getTargetParallelism());
+        }
 
         // ----------------------------------------------------------------------
         // XXX Generating schemas
         // ----------------------------------------------------------------------
-        log.info("Generating schemata", "Total: " + database.getSchemata().size());
-        for (SchemaDefinition schema : database.getSchemata()) {
-            try {
-                generate(schema);
+        try {
+            log.info("Generating schemata", "Total: " + database.getSchemata().size());
+            for (SchemaDefinition schema : database.getSchemata()) {
+                try {
+                    if (executor != null) {
+                        initialise(schema);
+                    }
+
+                    generate(schema);
+                }
+                catch (Exception e) {
+                    throw new GeneratorException("Error generating code for schema " + schema, e);
+                }
             }
-            catch (Exception e) {
-                throw new GeneratorException("Error generating code for schema " + schema, e);
+        }
+        finally {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+
+        // ----------------------------------------------------------------------
+        // XXX Cleaning up
+        // ----------------------------------------------------------------------
+
+        // Unchanged files are not rewritten. Only remove files that are no
+        // longer generated, instead of emptying the target directory upfront
+        log.info("Removing excess files", targetPackageDir.getAbsolutePath());
+        removeExcessFiles(targetPackageDir, ".java", GeneratorWriter.files(targetPackageDir));
+    }
+
+    /**
+     * Load all lazily initialised meta data of a schema before generating its
+     * source files in parallel, as {@link Database} implementations are not
+     * thread-safe.
+     */
+    private final void initialise(SchemaDefinition schema) {
+        database.getRelations();
+        database.getSequences(schema);
+        database.getIdentities(schema);
+        database.getUniqueKeys(schema);
+        database.getForeignKeys(schema);
+        database.getCheckConstraints(schema);
+        database.getEnums(schema);
+
+        for (TableDefinition table : database.getTables(schema)) {
+            table.getPrimaryKey();
+            table.getUniqueKeys();
+            table.getForeignKeys();
+            table.getCheckConstraints();
+            table.getIdentity();
+            table.getChildTables();
+
+            for (ColumnDefinition column : table.getColumns()) {
+                column.getType();
+                column.getPrimaryKey();
+                column.getUniqueKeys();
+                column.getForeignKeys();
+                column.isIdentity();
+            }
+
+            for (ParameterDefinition parameter : table.getParameters()) {
+                parameter.getType();
+            }
+        }
+
+        for (UDTDefinition udt : database.getUDTs(schema)) {
+            for (AttributeDefinition attribute : udt.getAttributes()) {
+                attribute.getType();
+            }
+
+            initialise(udt.getRoutines());
+        }
+
+        for (ArrayDefinition array : database.getArrays(schema)) {
+            array.getElementType();
+        }
+
+        initialise(database.getRoutines(schema));
+
+        for (PackageDefinition pkg : database.getPackages(schema)) {
+            initialise(pkg.getRoutines());
+        }
+    }
+
+    private final void initialise(List<RoutineDefinition> routines) {
+        for (RoutineDefinition routine : routines) {
+            routine.getInParameters();
+            routine.getOutParameters();
+            routine.getReturnValue();
+            routine.getReturnType();
+
+            for (ParameterDefinition parameter : routine.getAllParameters()) {
+                parameter.getType();
+            }
+        }
+    }
+
+    /**
+     * Generate a source file for every one of a list of definitions, in
+     * parallel if {@link #getTargetParallelism()} allows for it.
+     * <p>
+     * This method returns when all source files have been generated. Errors
+     * are logged, just like in sequential generation.
+     */
+    private abstract class Artifacts<D extends Definition> {
+
+        private final String description;
+
+        Artifacts(String description) {
+            this.description = description;
+        }
+
+        abstract void generate(D definition);
+
+        final void generateAll(List<? extends D> definitions) {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+
+            for (final D definition : definitions) {
+                Runnable task = new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            generate(definition);
+                        }
+                        catch (Exception e) {
+                            log.error("Error while generating " + description + " " + definition, e);
+                        }
+                    }
+                };
+
+                if (executor == null) {
+                    task.run();
+                }
+                else {
+                    futures.add(executor.submit(task));
+                }
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                }
+                catch (InterruptedException e) {
+                    throw new GeneratorException("Interrupted while generating " + description, e);
+                }
+                catch (ExecutionException e) {
+                    throw new GeneratorException("Error while generating " + description, e.getCause());
+                }
             }
         }
     }
@@ -510,13 +665,12 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateRecords(SchemaDefinition schema) {
         log.info("Generating table records");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
+        new Artifacts<TableDefinition>("table record") {
+            @Override
+            void generate(TableDefinition table) {
                 generateRecord(table);
-            } catch (Exception e) {
-                log.error("Error while generating table record " + table, e);
             }
-        }
+        }.generateAll(database.getTables(schema));
 
         watch.splitInfo("Table records generated");
     }
@@ -781,13 +935,12 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateInterfaces(SchemaDefinition schema) {
         log.info("Generating table interfaces");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
+        new Artifacts<TableDefinition>("table interface") {
+            @Override
+            void generate(TableDefinition table) {
                 generateInterface(table);
-            } catch (Exception e) {
-                log.error("Error while generating table interface " + table, e);
             }
-        }
+        }.generateAll(database.getTables(schema));
 
         watch.splitInfo("Table interfaces generated");
     }
@@ -867,16 +1020,15 @@ public class JavaGenerator extends AbstractGenerator {
      */
     protected void generateInterfaceClassFooter(TableDefinition table, JavaWriter out) {}
 
-    protected void generateUDTs(SchemaDefinition schema) {
+    protected void generateUDTs(final SchemaDefinition schema) {
         log.info("Generating UDTs");
 
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            try {
+        new Artifacts<UDTDefinition>("udt") {
+            @Override
+            void generate(UDTDefinition udt) {
                 generateUDT(schema, udt);
-            } catch (Exception e) {
-                log.error("Error while generating udt " + udt, e);
             }
-        }
+        }.generateAll(database.getUDTs(schema));
 
         watch.splitInfo("UDTs generated");
     }
@@ -967,14 +1119,12 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateUDTPojos(SchemaDefinition schema) {
         log.info("Generating UDT POJOs");
 
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            try {
+        new Artifacts<UDTDefinition>("UDT POJO") {
+            @Override
+            void generate(UDTDefinition udt) {
                 generatePojo(udt);
             }
-            catch (Exception e) {
-                log.error("Error while generating UDT POJO " + udt, e);
-            }
-        }
+        }.generateAll(database.getUDTs(schema));
 
         watch.splitInfo("UDT POJOs generated");
     }
@@ -990,13 +1140,12 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateUDTInterfaces(SchemaDefinition schema) {
         log.info("Generating UDT interfaces");
 
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            try {
+        new Artifacts<UDTDefinition>("UDT interface") {
+            @Override
+            void generate(UDTDefinition udt) {
                 generateInterface(udt);
-            } catch (Exception e) {
-                log.error("Error while generating UDT interface " + udt, e);
             }
-        }
+        }.generateAll(database.getUDTs(schema));
 
         watch.splitInfo("UDT interfaces generated");
     }
@@ -1015,13 +1164,12 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateUDTRecords(SchemaDefinition schema) {
         log.info("Generating UDT records");
 
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            try {
+        new Artifacts<UDTDefinition>("UDT record") {
+            @Override
+            void generate(UDTDefinition udt) {
                 generateUDTRecord(udt);
-            } catch (Exception e) {
-                log.error("Error while generating UDT record " + udt, e);
             }
-        }
+        }.generateAll(database.getUDTs(schema));
 
         watch.splitInfo("UDT records generated");
     }
@@ -1086,16 +1234,15 @@ public class JavaGenerator extends AbstractGenerator {
         watch.splitInfo("UDT references generated");
     }
 
-    protected void generateArrays(SchemaDefinition schema) {
+    protected void generateArrays(final SchemaDefinition schema) {
         log.info("Generating ARRAYs");
 
-        for (ArrayDefinition array : database.getArrays(schema)) {
-            try {
+        new Artifacts<ArrayDefinition>("ARRAY record") {
+            @Override
+            void generate(ArrayDefinition array) {
                 generateArray(schema, array);
-            } catch (Exception e) {
-                log.error("Error while generating ARRAY record " + array, e);
             }
-        }
+        }.generateAll(database.getArrays(schema));
 
         watch.splitInfo("ARRAYs generated");
     }
@@ -1174,13 +1321,12 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateEnums(SchemaDefinition schema) {
         log.info("Generating ENUMs");
 
-        for (EnumDefinition e : database.getEnums(schema)) {
-            try {
+        new Artifacts<EnumDefinition>("enum") {
+            @Override
+            void generate(EnumDefinition e) {
                 generateEnum(e);
-            } catch (Exception ex) {
-                log.error("Error while generating enum " + e, ex);
             }
-        }
+        }.generateAll(database.getEnums(schema));
 
         watch.splitInfo("Enums generated");
     }
@@ -1254,7 +1400,7 @@ public class JavaGenerator extends AbstractGenerator {
      */
     protected void generateEnumClassFooter(EnumDefinition e, JavaWriter out) {}
 
-    protected void generateRoutines(SchemaDefinition schema) {
+    protected void generateRoutines(final SchemaDefinition schema) {
         log.info("Generating routines and table-valued functions");
 
         JavaWriter outR = new JavaWriter(new File(getStrategy().getFile(schema).getParentFile(), "Routines.java"));
@@ -1264,12 +1410,6 @@ public class JavaGenerator extends AbstractGenerator {
         outR.println("public class Routines {");
         for (RoutineDefinition routine : database.getRoutines(schema)) {
             printRoutine(outR, routine);
-
-            try {
-                generateRoutine(schema, routine);
-            } catch (Exception e) {
-                log.error("Error while generating routine " + routine, e);
-            }
         }
 
         for (TableDefinition table : database.getTables(schema)) {
@@ -1281,6 +1421,13 @@ public class JavaGenerator extends AbstractGenerator {
         outR.println("}");
         outR.close();
 
+        new Artifacts<RoutineDefinition>("routine") {
+            @Override
+            void generate(RoutineDefinition routine) {
+                generateRoutine(schema, routine);
+            }
+        }.generateAll(database.getRoutines(schema));
+
         watch.splitInfo("Routines generated");
     }
 
@@ -1309,16 +1456,15 @@ public class JavaGenerator extends AbstractGenerator {
         printConvenienceMethodTableValuedFunctionAsField(out, table, true);
     }
 
-    protected void generatePackages(SchemaDefinition schema) {
+    protected void generatePackages(final SchemaDefinition schema) {
         log.info("Generating packages");
 
-        for (PackageDefinition pkg : database.getPackages(schema)) {
-            try {
+        new Artifacts<PackageDefinition>("package") {
+            @Override
+            void generate(PackageDefinition pkg) {
                 generatePackage(schema, pkg);
-            } catch (Exception e) {
-                log.error("Error while generating package " + pkg, e);
             }
-        }
+        }.generateAll(database.getPackages(schema));
 
         watch.splitInfo("Packages generated");
     }
@@ -1399,14 +1545,12 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateDaos(SchemaDefinition schema) {
         log.info("Generating DAOs");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
+        new Artifacts<TableDefinition>("table DAO") {
+            @Override
+            void generate(TableDefinition table) {
                 generateDao(table);
             }
-            catch (Exception e) {
-                log.error("Error while generating table DAO " + table, e);
-            }
-        }
+        }.generateAll(database.getTables(schema));
 
         watch.splitInfo("Table DAOs generated");
     }
@@ -1538,14 +1682,12 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generatePojos(SchemaDefinition schema) {
         log.info("Generating table POJOs");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
+        new Artifacts<TableDefinition>("table POJO") {
+            @Override
+            void generate(TableDefinition table) {
                 generatePojo(table);
             }
-            catch (Exception e) {
-                log.error("Error while generating table POJO " + table, e);
-            }
-        }
+        }.generateAll(database.getTables(schema));
 
         watch.splitInfo("Table POJOs generated");
     }
@@ -1698,17 +1840,15 @@ public class JavaGenerator extends AbstractGenerator {
      */
     protected void generatePojoClassFooter(TableDefinition table, JavaWriter out) {}
 
-    protected void generateTables(SchemaDefinition schema) {
+    protected void generateTables(final SchemaDefinition schema) {
         log.info("Generating tables");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
+        new Artifacts<TableDefinition>("table") {
+            @Override
+            void generate(TableDefinition table) {
                 generateTable(schema, table);
             }
-            catch (Exception e) {
-                log.error("Error while generating table " + table, e);
-            }
-        }
+        }.generateAll(database.getTables(schema));
 
         watch.splitInfo("Tables generated");
     }
@@ -56,6 +56,11 @@ import java.util.List;
 import java.util.Map;
 
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultIndex;
+import org.jooq.ResultQuery;
 import org.jooq.SQLDialect;
 import org.jooq.Table;
 import org.jooq.exception.DataAccessException;
@@ -132,9 +137,11 @@ public abstract class AbstractDatabase implements Database {
 
     // Other caches
     private final Map<Table<?>, Boolean>                                     exists;
+    private final Map<String, ResultIndex<?>>                                bulk;
 
     protected AbstractDatabase() {
         exists = new HashMap<Table<?>, Boolean>();
+        bulk = new HashMap<String, ResultIndex<?>>();
     }
 
     @Override
@@ -184,6 +191,40 @@ public abstract class AbstractDatabase implements Database {
         return result;
     }
 
+    /**
+     * Fetch the records of a dictionary view query that describe a single
+     * object.
+     * <p>
+     * The query is executed only once, fetching the records of all objects,
+     * e.g. all columns of all tables in a schema. Its result is cached and
+     * indexed by <code>keys</code>, such that subsequent calls with the same
+     * query return the relevant records without any further round trips.
+     * Queries are identified by their SQL string with inlined bind values.
+     *
+     * @param query The query fetching the records of all objects
+     * @param keys The fields that identify an object in the query's result.
+     *            These must be contained in the query's select list.
+     * @param values The values of <code>keys</code> that identify the object
+     *            whose records are requested.
+     * @return The matching records, in the order of the query's result
+     * @see AbstractDefinition#fetchBulk(ResultQuery, Field[], Object...)
+     */
+    final <R extends Record> Result<R> fetchBulk(ResultQuery<R> query, Field<?>[] keys, Object... values) {
+        String sql = create().renderInlined(query);
+
+        @SuppressWarnings("unchecked")
+        ResultIndex<R> index = (ResultIndex<R>) bulk.get(sql);
+
+        if (index == null) {
+            index = create().fetch(query).intoIndex(keys);
+            bulk.put(sql, index);
+
+            log.debug("Bulk fetched", index.size() + " object(s)");
+        }
+
+        return index.get(values);
+    }
+
     @Override
     public final List<SchemaDefinition> getSchemata() {
         if (schemata == null) {
@@ -44,6 +44,10 @@ package org.jooq.util;
 import java.sql.Connection;
 
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
 import org.jooq.SQLDialect;
 
 /**
@@ -223,4 +227,22 @@ public abstract class AbstractDefinition implements Definition {
     protected final SQLDialect getDialect() {
         return database.getDialect();
     }
+
+    /**
+     * Fetch the records of a dictionary view query that describe this
+     * definition.
+     * <p>
+     * The query fetches the records of all objects of its kind, which are
+     * cached by an {@link AbstractDatabase}. Other {@link Database}
+     * implementations execute the query for every call.
+     *
+     * @see AbstractDatabase#fetchBulk(ResultQuery, Field[], Object...)
+     */
+    protected final <R extends Record> Result<R> fetchBulk(ResultQuery<R> query, Field<?>[] keys, Object... values) {
+        if (database instanceof AbstractDatabase) {
+            return ((AbstractDatabase) database).fetchBulk(query, keys, values);
+        }
+
+        return create().fetch(query).intoIndex(keys).get(values);
+    }
 }
@@ -45,6 +45,7 @@ import static org.jooq.util.h2.information_schema.tables.FunctionColumns.FUNCTIO
 
 import java.sql.SQLException;
 
+import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.tools.StringUtils;
 import org.jooq.util.AbstractRoutineDefinition;
@@ -85,8 +86,9 @@ public class H2RoutineDefinition extends AbstractRoutineDefinition {
 
     @Override
     protected void init0() throws SQLException {
-        for (Record record : create()
+        for (Record record : fetchBulk(create()
                 .select(
+                    FunctionColumns.ALIAS_NAME,
                     FunctionColumns.COLUMN_NAME,
                     FunctionColumns.TYPE_NAME,
                     FunctionColumns.PRECISION,
@@ -96,8 +98,8 @@ public class H2RoutineDefinition extends AbstractRoutineDefinition {
                     FunctionColumns.COLUMN_DEFAULT.nvl2(true, false).as("default"))
                 .from(FUNCTION_COLUMNS)
                 .where(FunctionColumns.ALIAS_SCHEMA.equal(getSchema().getName()))
-                .and(FunctionColumns.ALIAS_NAME.equal(getName()))
-                .orderBy(FunctionColumns.POS.asc()).fetch()) {
+                .orderBy(FunctionColumns.POS.asc()),
+                new Field[] { FunctionColumns.ALIAS_NAME }, getName())) {
 
             String paramName = record.getValue(FunctionColumns.COLUMN_NAME);
             String typeName = record.getValue(FunctionColumns.TYPE_NAME);
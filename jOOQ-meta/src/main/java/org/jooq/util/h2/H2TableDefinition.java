@@ -46,6 +46,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.util.AbstractTableDefinition;
 import org.jooq.util.ColumnDefinition;
@@ -71,7 +72,8 @@ public class H2TableDefinition extends AbstractTableDefinition {
     public List<ColumnDefinition> getElements0() throws SQLException {
         List<ColumnDefinition> result = new ArrayList<ColumnDefinition>();
 
-        for (Record record : create().select(
+        for (Record record : fetchBulk(create().select(
+                Columns.TABLE_NAME,
                 Columns.COLUMN_NAME,
                 Columns.ORDINAL_POSITION,
                 Columns.TYPE_NAME,
@@ -84,9 +86,8 @@ public class H2TableDefinition extends AbstractTableDefinition {
                 Columns.SEQUENCE_NAME)
             .from(COLUMNS)
             .where(Columns.TABLE_SCHEMA.equal(getSchema().getName()))
-            .and(Columns.TABLE_NAME.equal(getName()))
-            .orderBy(Columns.ORDINAL_POSITION)
-            .fetch()) {
+            .orderBy(Columns.ORDINAL_POSITION),
+            new Field[] { Columns.TABLE_NAME }, getName())) {
 
             DataTypeDefinition type = new DefaultDataTypeDefinition(
                 getDatabase(),
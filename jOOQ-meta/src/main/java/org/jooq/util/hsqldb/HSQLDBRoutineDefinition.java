@@ -40,15 +40,14 @@
  */
 package org.jooq.util.hsqldb;
 
-import static org.jooq.impl.DSL.condition;
 import static org.jooq.impl.DSL.nvl;
-import static org.jooq.impl.DSL.val;
 import static org.jooq.util.hsqldb.information_schema.Tables.ELEMENT_TYPES;
 import static org.jooq.util.hsqldb.information_schema.Tables.PARAMETERS;
 import static org.jooq.util.hsqldb.information_schema.Tables.ROUTINES;
 
 import java.sql.SQLException;
 
+import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.tools.StringUtils;
@@ -97,7 +96,8 @@ public class HSQLDBRoutineDefinition extends AbstractRoutineDefinition {
 
     @Override
     protected void init0() throws SQLException {
-        Result<?> result = create().select(
+        Result<?> result = fetchBulk(create().select(
+                PARAMETERS.SPECIFIC_NAME,
                 PARAMETERS.PARAMETER_MODE,
                 PARAMETERS.PARAMETER_NAME,
                 nvl(ELEMENT_TYPES.COLLECTION_TYPE_IDENTIFIER, PARAMETERS.DATA_TYPE).as("datatype"),
@@ -114,14 +114,17 @@ public class HSQLDBRoutineDefinition extends AbstractRoutineDefinition {
             .and(ROUTINES.ROUTINE_NAME.equal(ELEMENT_TYPES.OBJECT_NAME))
             .and(PARAMETERS.DTD_IDENTIFIER.equal(ELEMENT_TYPES.COLLECTION_TYPE_IDENTIFIER))
             .where(PARAMETERS.SPECIFIC_SCHEMA.equal(getSchema().getName()))
-            .and(PARAMETERS.SPECIFIC_NAME.equal(this.specificName))
+            .orderBy(PARAMETERS.ORDINAL_POSITION.asc()),
+            new Field[] { PARAMETERS.SPECIFIC_NAME }, this.specificName);
+
+        for (Record record : result) {
 
             // [#3015] HSQLDB user-defined AGGREGATE functions have four parameters, but only one
             // is relevant to client code
-            .and(condition(val(!isAggregate())).or(PARAMETERS.ORDINAL_POSITION.eq(1L)))
-            .orderBy(PARAMETERS.ORDINAL_POSITION.asc()).fetch();
+            if (isAggregate() && record.getValue(PARAMETERS.ORDINAL_POSITION, long.class) != 1L) {
+                continue;
+            }
 
-        for (Record record : result) {
             String inOut = record.getValue(PARAMETERS.PARAMETER_MODE);
 
             DataTypeDefinition type = new DefaultDataTypeDefinition(
@@ -52,6 +52,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.util.AbstractTableDefinition;
 import org.jooq.util.ColumnDefinition;
@@ -73,7 +74,8 @@ public class HSQLDBTableDefinition extends AbstractTableDefinition {
 	public List<ColumnDefinition> getElements0() throws SQLException {
 		List<ColumnDefinition> result = new ArrayList<ColumnDefinition>();
 
-        for (Record record : create().select(
+        for (Record record : fetchBulk(create().select(
+                COLUMNS.TABLE_NAME,
                 COLUMNS.COLUMN_NAME,
                 COLUMNS.ORDINAL_POSITION,
                 nvl(ELEMENT_TYPES.COLLECTION_TYPE_IDENTIFIER,
@@ -93,9 +95,8 @@ public class HSQLDBTableDefinition extends AbstractTableDefinition {
             .and(COLUMNS.TABLE_NAME.equal(ELEMENT_TYPES.OBJECT_NAME))
             .and(COLUMNS.DTD_IDENTIFIER.equal(ELEMENT_TYPES.COLLECTION_TYPE_IDENTIFIER))
             .where(COLUMNS.TABLE_SCHEMA.equal(getSchema().getName()))
-            .and(COLUMNS.TABLE_NAME.equal(getName()))
-            .orderBy(COLUMNS.ORDINAL_POSITION)
-            .fetch()) {
+            .orderBy(COLUMNS.ORDINAL_POSITION),
+            new Field[] { COLUMNS.TABLE_NAME }, getName())) {
 
             DataTypeDefinition type = new DefaultDataTypeDefinition(
                 getDatabase(),
@@ -45,6 +45,7 @@ import static org.jooq.util.hsqldb.information_schema.Tables.PARAMETERS;
 
 import java.util.regex.Matcher;
 
+import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.tools.StringUtils;
 import org.jooq.util.AbstractRoutineDefinition;
@@ -98,8 +99,10 @@ public class MySQLRoutineDefinition extends AbstractRoutineDefinition {
 
     	// [#742] In MySQL 5.5 and later, the INFORMATION_SCHEMA.PARAMETERS
     	// table is available, which is much more reliable than mysql.proc
-        for (Record record : create()
+        for (Record record : fetchBulk(create()
                 .select(
+                    Parameters.SPECIFIC_NAME,
+                    Parameters.ROUTINE_TYPE,
                     Parameters.ORDINAL_POSITION,
                     Parameters.PARAMETER_NAME,
                     Parameters.PARAMETER_MODE,
@@ -110,10 +113,8 @@ public class MySQLRoutineDefinition extends AbstractRoutineDefinition {
                 )
                 .from(PARAMETERS)
                 .where(Parameters.SPECIFIC_SCHEMA.eq(getSchema().getInputName()))
-                .and(Parameters.SPECIFIC_NAME.eq(getInputName()))
-                .and(Parameters.ROUTINE_TYPE.eq(procType.name()))
-                .orderBy(Parameters.ORDINAL_POSITION.asc())
-                .fetch()) {
+                .orderBy(Parameters.ORDINAL_POSITION.asc()),
+                new Field[] { Parameters.SPECIFIC_NAME, Parameters.ROUTINE_TYPE }, getInputName(), procType.name())) {
 
             String inOut = record.getValue(Parameters.PARAMETER_MODE);
 
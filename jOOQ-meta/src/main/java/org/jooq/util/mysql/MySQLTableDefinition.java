@@ -51,6 +51,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.util.AbstractTableDefinition;
 import org.jooq.util.ColumnDefinition;
@@ -73,7 +74,8 @@ public class MySQLTableDefinition extends AbstractTableDefinition {
 	public List<ColumnDefinition> getElements0() throws SQLException {
 		List<ColumnDefinition> result = new ArrayList<ColumnDefinition>();
 
-		for (Record record : create().select(
+		for (Record record : fetchBulk(create().select(
+        		    Columns.TABLE_NAME,
         		    Columns.ORDINAL_POSITION,
     		        Columns.COLUMN_NAME,
     		        Columns.COLUMN_COMMENT,
@@ -87,9 +89,8 @@ public class MySQLTableDefinition extends AbstractTableDefinition {
     		        Columns.EXTRA)
     		    .from(COLUMNS)
     		    .where(TABLE_SCHEMA.equal(getSchema().getName()))
-    		    .and(TABLE_NAME.equal(getName()))
-    		    .orderBy(ORDINAL_POSITION)
-    		    .fetch()) {
+    		    .orderBy(ORDINAL_POSITION),
+    		    new Field[] { TABLE_NAME }, getName())) {
 
 		    String dataType = record.getValue(Columns.DATA_TYPE);
 
@@ -47,6 +47,7 @@ import static org.jooq.util.postgres.information_schema.Tables.ROUTINES;
 import java.sql.SQLException;
 import java.util.Arrays;
 
+import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.util.AbstractRoutineDefinition;
 import org.jooq.util.DataTypeDefinition;
@@ -93,7 +94,8 @@ public class PostgresRoutineDefinition extends AbstractRoutineDefinition {
 
     @Override
     protected void init0() throws SQLException {
-        for (Record record : create().select(
+        for (Record record : fetchBulk(create().select(
+                PARAMETERS.SPECIFIC_NAME,
                 PARAMETERS.PARAMETER_NAME,
                 PARAMETERS.DATA_TYPE,
                 PARAMETERS.CHARACTER_MAXIMUM_LENGTH,
@@ -104,9 +106,8 @@ public class PostgresRoutineDefinition extends AbstractRoutineDefinition {
                 PARAMETERS.PARAMETER_MODE)
             .from(PARAMETERS)
             .where(PARAMETERS.SPECIFIC_SCHEMA.equal(getSchema().getName()))
-            .and(PARAMETERS.SPECIFIC_NAME.equal(specificName))
-            .orderBy(PARAMETERS.ORDINAL_POSITION.asc())
-            .fetch()) {
+            .orderBy(PARAMETERS.ORDINAL_POSITION.asc()),
+            new Field[] { PARAMETERS.SPECIFIC_NAME }, specificName)) {
 
             String inOut = record.getValue(PARAMETERS.PARAMETER_MODE);
 
@@ -48,6 +48,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.util.AbstractTableDefinition;
 import org.jooq.util.ColumnDefinition;
@@ -69,7 +70,8 @@ public class PostgresTableDefinition extends AbstractTableDefinition {
 	public List<ColumnDefinition> getElements0() throws SQLException {
 		List<ColumnDefinition> result = new ArrayList<ColumnDefinition>();
 
-        for (Record record : create().select(
+        for (Record record : fetchBulk(create().select(
+                COLUMNS.TABLE_NAME,
                 COLUMNS.COLUMN_NAME,
                 COLUMNS.ORDINAL_POSITION,
                 COLUMNS.DATA_TYPE,
@@ -81,9 +83,8 @@ public class PostgresTableDefinition extends AbstractTableDefinition {
                 COLUMNS.UDT_NAME)
             .from(COLUMNS)
             .where(COLUMNS.TABLE_SCHEMA.equal(getSchema().getName()))
-            .and(COLUMNS.TABLE_NAME.equal(getName()))
-            .orderBy(COLUMNS.ORDINAL_POSITION)
-            .fetch()) {
+            .orderBy(COLUMNS.ORDINAL_POSITION),
+            new Field[] { COLUMNS.TABLE_NAME }, getName())) {
 
             DataTypeDefinition type = new DefaultDataTypeDefinition(
                 getDatabase(),
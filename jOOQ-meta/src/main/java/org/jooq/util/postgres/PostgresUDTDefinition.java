@@ -47,6 +47,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.util.AbstractUDTDefinition;
 import org.jooq.util.AttributeDefinition;
@@ -66,7 +67,8 @@ public class PostgresUDTDefinition extends AbstractUDTDefinition {
     protected List<AttributeDefinition> getElements0() throws SQLException {
         List<AttributeDefinition> result = new ArrayList<AttributeDefinition>();
 
-        for (Record record : create().select(
+        for (Record record : fetchBulk(create().select(
+                    ATTRIBUTES.UDT_NAME,
                     ATTRIBUTES.ATTRIBUTE_NAME,
                     ATTRIBUTES.ORDINAL_POSITION,
                     ATTRIBUTES.DATA_TYPE,
@@ -78,9 +80,8 @@ public class PostgresUDTDefinition extends AbstractUDTDefinition {
                     ATTRIBUTES.ATTRIBUTE_UDT_NAME)
                 .from(ATTRIBUTES)
                 .where(ATTRIBUTES.UDT_SCHEMA.equal(getSchema().getName()))
-                .and(ATTRIBUTES.UDT_NAME.equal(getName()))
-                .orderBy(ATTRIBUTES.ORDINAL_POSITION)
-                .fetch()) {
+                .orderBy(ATTRIBUTES.ORDINAL_POSITION),
+                new Field[] { ATTRIBUTES.UDT_NAME }, getName())) {
 
             DataTypeDefinition type = new DefaultDataTypeDefinition(
                 getDatabase(),
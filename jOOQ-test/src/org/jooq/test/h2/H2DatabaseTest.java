@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.test.h2;
+
+import static java.util.Arrays.asList;
+import static org.jooq.util.h2.information_schema.tables.Columns.COLUMNS;
+import static org.jooq.util.h2.information_schema.tables.FunctionColumns.FUNCTION_COLUMNS;
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.util.ColumnDefinition;
+import org.jooq.util.ParameterDefinition;
+import org.jooq.util.RoutineDefinition;
+import org.jooq.util.SchemaDefinition;
+import org.jooq.util.TableDefinition;
+import org.jooq.util.h2.H2Database;
+import org.jooq.util.h2.information_schema.tables.Columns;
+import org.jooq.util.h2.information_schema.tables.FunctionColumns;
+import org.jooq.util.jaxb.CustomType;
+import org.jooq.util.jaxb.EnumType;
+import org.jooq.util.jaxb.ForcedType;
+import org.jooq.util.jaxb.Schema;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for bulk fetched H2 meta data, which must match the meta data that is
+ * fetched for each object individually.
+ *
+ * @author Lukas Eder
+ */
+public class H2DatabaseTest {
+
+    private Connection connection;
+    private DSLContext create;
+    private H2Database database;
+
+    @Before
+    public void setUp() throws Exception {
+        Class.forName("org.h2.Driver");
+        connection = DriverManager.getConnection("jdbc:h2:mem:h2-database-test", "sa", "");
+        create = DSL.using(connection, SQLDialect.H2);
+
+        Statement stmt = connection.createStatement();
+        stmt.execute("create schema BULK");
+        stmt.execute("create table BULK.T_B (Z int, A varchar(10), M date)");
+        stmt.execute("create table BULK.T_A (Y int, X int)");
+        stmt.execute("create table BULK.T_C (C3 int, C1 int, C2 int, C0 int)");
+        stmt.execute("alter table BULK.T_A add column W int");
+        stmt.execute("alter table BULK.T_C drop column C1");
+        stmt.execute("create table PUBLIC.T_A (OTHER int)");
+        stmt.execute("create alias BULK.F_SCALB for \"java.lang.Math.scalb(double, int)\"");
+        stmt.execute("create alias BULK.F_ABS for \"java.lang.Math.abs(int)\"");
+        stmt.close();
+
+        Schema schema = new Schema();
+        schema.setInputSchema("BULK");
+
+        database = new H2Database();
+        database.setConnection(connection);
+        database.setConfiguredSchemata(asList(schema));
+        database.setIncludes(new String[] { ".*" });
+        database.setExcludes(new String[] { "" });
+        database.setRecordVersionFields(new String[] { "" });
+        database.setRecordTimestampFields(new String[] { "" });
+        database.setOverridePrimaryKeys(new String[] { "" });
+        database.setConfiguredCustomTypes(new ArrayList<CustomType>());
+        database.setConfiguredEnumTypes(new ArrayList<EnumType>());
+        database.setConfiguredForcedTypes(new ArrayList<ForcedType>());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    public void testColumns() throws Exception {
+        SchemaDefinition schema = database.getSchema("BULK");
+        List<TableDefinition> tables = schema.getTables();
+        assertEquals(3, tables.size());
+
+        for (TableDefinition table : tables) {
+
+            // The columns of a single table, as they were fetched previously
+            List<String> expected = new ArrayList<String>();
+            for (Record record : create
+                    .select(Columns.COLUMN_NAME, Columns.ORDINAL_POSITION)
+                    .from(COLUMNS)
+                    .where(Columns.TABLE_SCHEMA.equal(schema.getName()))
+                    .and(Columns.TABLE_NAME.equal(table.getName()))
+                    .orderBy(Columns.ORDINAL_POSITION)
+                    .fetch())
+                expected.add(record.getValue(Columns.COLUMN_NAME) + ":" + record.getValue(Columns.ORDINAL_POSITION));
+
+            assertEquals(expected, columns(table));
+        }
+
+        assertEquals(asList("Y:1", "X:2", "W:3"), columns(database.getTable(schema, "T_A")));
+        assertEquals(asList("Z:1", "A:2", "M:3"), columns(database.getTable(schema, "T_B")));
+        assertEquals(asList("C3:1", "C2:2", "C0:3"), columns(database.getTable(schema, "T_C")));
+    }
+
+    @Test
+    public void testRoutineParameters() throws Exception {
+        SchemaDefinition schema = database.getSchema("BULK");
+        List<RoutineDefinition> routines = database.getRoutines(schema);
+        assertEquals(2, routines.size());
+
+        for (RoutineDefinition routine : routines) {
+
+            // The parameters of a single routine, as they were fetched previously
+            List<String> expected = new ArrayList<String>();
+            for (Record record : create
+                    .select(FunctionColumns.COLUMN_NAME, FunctionColumns.TYPE_NAME)
+                    .from(FUNCTION_COLUMNS)
+                    .where(FunctionColumns.ALIAS_SCHEMA.equal(schema.getName()))
+                    .and(FunctionColumns.ALIAS_NAME.equal(routine.getName()))
+                    .orderBy(FunctionColumns.POS.asc())
+                    .fetch())
+                expected.add(record.getValue(FunctionColumns.COLUMN_NAME) + ":" + record.getValue(FunctionColumns.TYPE_NAME));
+
+            assertEquals(expected, parameters(routine));
+        }
+
+        assertEquals(asList("P1:INTEGER"), parameters(database.getRoutines(schema).get(0)));
+        assertEquals(asList("P1:DOUBLE", "P2:INTEGER"), parameters(database.getRoutines(schema).get(1)));
+    }
+
+    private static List<String> parameters(RoutineDefinition routine) {
+        List<String> result = new ArrayList<String>();
+
+        for (ParameterDefinition parameter : routine.getInParameters())
+            result.add(parameter.getName() + ":" + parameter.getType().getType());
+
+        return result;
+    }
+
+    private static List<String> columns(TableDefinition table) {
+        List<String> result = new ArrayList<String>();
+
+        for (ColumnDefinition column : table.getColumns())
+            result.add(column.getName() + ":" + column.getPosition());
+
+        return result;
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq;
+
+import java.sql.Statement;
+import java.util.concurrent.Future;
+
+/**
+ * The result of an asynchronous execution.
+ * <p>
+ * In addition to the blocking {@link Future} API, an
+ * <code>AsyncResult</code> allows for registering callbacks that are notified
+ * upon completion, and for composing further computations on the result:
+ * <code><pre>
+ * create.selectFrom(BOOK)
+ *       .fetchAsync()
+ *       .then(new AsyncFunction&lt;Result&lt;BookRecord&gt;, Integer&gt;() {
+ *           public Integer apply(Result&lt;BookRecord&gt; result) {
+ *               return result.size();
+ *           }
+ *       })
+ *       .onComplete(callback);
+ * </pre></code>
+ * <p>
+ * Callbacks and functions are executed in the thread that completes the
+ * execution, or in the registering thread if the execution has already
+ * completed.
+ * <p>
+ * Calling {@link #cancel(boolean)} with <code>mayInterruptIfRunning</code>
+ * set to <code>true</code> cancels a running execution through
+ * {@link Statement#cancel()}. The executing thread itself is not interrupted.
+ * The resulting {@link java.sql.SQLException} is reported to
+ * {@link ExecuteListener#exception(ExecuteContext)} as any other exception.
+ *
+ * @param <T> The result type
+ * @author Lukas Eder
+ */
+public interface AsyncResult<T> extends Future<T> {
+
+    /**
+     * Register a callback to be notified when this execution has completed,
+     * successfully, exceptionally, or by cancellation.
+     *
+     * @return This same result, to register further callbacks
+     */
+    AsyncResult<T> onComplete(AsyncCallback<? super T> callback);
+
+    /**
+     * Compose a further computation on the outcome of this execution.
+     * <p>
+     * If this execution completes exceptionally, the returned result completes
+     * with the same exception, without calling the function. Cancelling the
+     * returned result also cancels this execution.
+     *
+     * @return The result of the function
+     */
+    <U> AsyncResult<U> then(AsyncFunction<? super T, ? extends U> function);
+}
@@ -42,6 +42,7 @@ package org.jooq;
 
 import java.io.Serializable;
 import java.sql.Statement;
+import java.util.concurrent.Executor;
 
 import org.jooq.exception.DataAccessException;
 
@@ -76,6 +77,26 @@ public interface Batch extends Serializable {
      */
     int[] execute() throws DataAccessException;
 
+    /**
+     * Execute the batch operation asynchronously.
+     * <p>
+     * The batch is executed by an {@link java.util.concurrent.Executor}
+     * obtained from {@link Configuration#executorProvider()}.
+     *
+     * @return A handle to the outcome of {@link #execute()}
+     * @see AsyncResult
+     */
+    AsyncResult<int[]> executeAsync();
+
+    /**
+     * Execute the batch operation asynchronously, using a custom executor.
+     *
+     * @param executor The executor running the batch operation
+     * @return A handle to the outcome of {@link #execute()}
+     * @see AsyncResult
+     */
+    AsyncResult<int[]> executeAsync(Executor executor);
+
     /**
      * Get the number of executed queries in this batch operation
      */
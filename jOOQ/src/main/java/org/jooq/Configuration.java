@@ -203,6 +203,14 @@ public interface Configuration extends Serializable {
      */
     VisitListenerProvider[] visitListenerProviders();
 
+    /**
+     * Get this configuration's underlying executor provider.
+     * <p>
+     * The executor provider supplies the {@link java.util.concurrent.Executor}
+     * for asynchronous executions, such as {@link Query#executeAsync()}.
+     */
+    ExecutorProvider executorProvider();
+
     /**
      * Retrieve the configured schema mapping.
      *
@@ -285,6 +293,18 @@ public interface Configuration extends Serializable {
      */
     Configuration set(VisitListenerProvider... newVisitListenerProviders);
 
+    /**
+     * Change this configuration to hold a new executor provider.
+     * <p>
+     * This method is not thread-safe and should not be used in globally
+     * available <code>Configuration</code> objects.
+     *
+     * @param newExecutorProvider The new executor provider to be contained in
+     *            the changed configuration.
+     * @return The changed configuration.
+     */
+    Configuration set(ExecutorProvider newExecutorProvider);
+
     /**
      * Change this configuration to hold a new dialect.
      * <p>
@@ -371,6 +391,16 @@ public interface Configuration extends Serializable {
      */
     Configuration derive(VisitListenerProvider... newVisitListenerProviders);
 
+    /**
+     * Create a derived configuration from this one, with a new executor
+     * provider.
+     *
+     * @param newExecutorProvider The new executor provider to be contained in
+     *            the derived configuration.
+     * @return The derived configuration.
+     */
+    Configuration derive(ExecutorProvider newExecutorProvider);
+
     /**
      * Create a derived configuration from this one, with a new dialect.
      *
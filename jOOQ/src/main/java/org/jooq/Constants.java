@@ -71,12 +71,12 @@ public final class Constants {
     /**
      * The current jooq-runtime XSD file name.
      */
-    public static final String XSD_RUNTIME    = "jooq-runtime-3.3.0.xsd";
+    public static final String XSD_RUNTIME    = "jooq-runtime-3.4.0.xsd";
 
     /**
      * The current jooq-runtime XML namespace
      */
-    public static final String NS_RUNTIME     = "http://www.jooq.org/xsd/jooq-runtime-3.3.0.xsd";
+    public static final String NS_RUNTIME     = "http://www.jooq.org/xsd/jooq-runtime-3.4.0.xsd";
 
     /**
      * The current jooq-codegen XSD file name.
@@ -40,6 +40,9 @@
  */
 package org.jooq;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
@@ -148,6 +151,128 @@ public interface Cursor<R extends Record> extends Iterable<R> {
      */
     Result<R> fetch(int number) throws DataAccessException;
 
+    /**
+     * Fetch all remaining records as a column-oriented result.
+     * <p>
+     * This will conveniently close the <code>Cursor</code>, after the last
+     * <code>Record</code> was fetched.
+     * <p>
+     * Unlike {@link #fetch()}, the returned result does not hold on to one
+     * record object per row. Values are stored per column, using primitive
+     * arrays for <code>Integer</code>, <code>Long</code> and
+     * <code>Double</code> columns and dictionary-encoding for
+     * <code>String</code> columns. This considerably reduces the memory
+     * footprint of large, read-mostly results.
+     * <p>
+     * Records obtained from the returned result through
+     * {@link Result#get(int)} or iteration are materialised lazily as
+     * unchanged copies of the stored row. Modifications to these records are
+     * not written back to the result. Records can only be appended to the
+     * result, not replaced or removed.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    Result<R> fetchColumnar() throws DataAccessException;
+
+    /**
+     * Stream all remaining records as CSV to a writer.
+     * <p>
+     * This is the same as calling
+     * <code>formatCSV(writer, ',', "")</code>.
+     *
+     * @param writer The writer to write the formatted records to.
+     * @throws IOException if something went wrong writing to the writer
+     * @throws DataAccessException if something went wrong executing the query
+     * @see Result#formatCSV()
+     */
+    void formatCSV(Writer writer) throws IOException, DataAccessException;
+
+    /**
+     * Stream all remaining records as CSV to a writer.
+     * <p>
+     * Records are written one by one, as they are fetched from the underlying
+     * {@link ResultSet}, without keeping them in memory. This will
+     * conveniently close the <code>Cursor</code>, after the last
+     * <code>Record</code> was written.
+     * <p>
+     * The writer is flushed every {@link Settings#getExportFlushSize()}
+     * records, and after the last record. It is not closed.
+     *
+     * @param writer The writer to write the formatted records to.
+     * @param delimiter The delimiter to use between records
+     * @param nullString A special string for encoding <code>NULL</code> values.
+     * @throws IOException if something went wrong writing to the writer
+     * @throws DataAccessException if something went wrong executing the query
+     * @see Result#formatCSV(char, String)
+     */
+    void formatCSV(Writer writer, char delimiter, String nullString) throws IOException, DataAccessException;
+
+    /**
+     * Stream all remaining records as UTF-8 encoded CSV to an output stream.
+     *
+     * @param stream The stream to write the formatted records to.
+     * @throws IOException if something went wrong writing to the stream
+     * @throws DataAccessException if something went wrong executing the query
+     * @see #formatCSV(Writer)
+     */
+    void formatCSV(OutputStream stream) throws IOException, DataAccessException;
+
+    /**
+     * Stream all remaining records as JSON to a writer.
+     * <p>
+     * Records are written one by one, as they are fetched from the underlying
+     * {@link ResultSet}, without keeping them in memory. This will
+     * conveniently close the <code>Cursor</code>, after the last
+     * <code>Record</code> was written.
+     * <p>
+     * The writer is flushed every {@link Settings#getExportFlushSize()}
+     * records, and after the last record. It is not closed.
+     *
+     * @param writer The writer to write the formatted records to.
+     * @throws IOException if something went wrong writing to the writer
+     * @throws DataAccessException if something went wrong executing the query
+     * @see Result#formatJSON()
+     */
+    void formatJSON(Writer writer) throws IOException, DataAccessException;
+
+    /**
+     * Stream all remaining records as UTF-8 encoded JSON to an output stream.
+     *
+     * @param stream The stream to write the formatted records to.
+     * @throws IOException if something went wrong writing to the stream
+     * @throws DataAccessException if something went wrong executing the query
+     * @see #formatJSON(Writer)
+     */
+    void formatJSON(OutputStream stream) throws IOException, DataAccessException;
+
+    /**
+     * Stream all remaining records as XML to a writer.
+     * <p>
+     * Records are written one by one, as they are fetched from the underlying
+     * {@link ResultSet}, without keeping them in memory. This will
+     * conveniently close the <code>Cursor</code>, after the last
+     * <code>Record</code> was written.
+     * <p>
+     * The writer is flushed every {@link Settings#getExportFlushSize()}
+     * records, and after the last record. It is not closed.
+     *
+     * @param writer The writer to write the formatted records to.
+     * @throws IOException if something went wrong writing to the writer
+     * @throws DataAccessException if something went wrong executing the query
+     * @see Result#formatXML()
+     */
+    void formatXML(Writer writer) throws IOException, DataAccessException;
+
+    /**
+     * Stream all remaining records as UTF-8 encoded XML to an output stream.
+     *
+     * @param stream The stream to write the formatted records to.
+     * @throws IOException if something went wrong writing to the stream
+     * @throws DataAccessException if something went wrong executing the query
+     * @see #formatXML(Writer)
+     */
+    void formatXML(OutputStream stream) throws IOException, DataAccessException;
+
     /**
      * Fetch the next record from the cursor.
      * <p>
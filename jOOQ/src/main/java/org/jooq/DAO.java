@@ -42,6 +42,7 @@ package org.jooq;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.jooq.exception.DataAccessException;
 
@@ -96,6 +97,17 @@ public interface DAO<R extends TableRecord<R>, P, T> {
 
     /**
      * Performs a batch <code>INSERT</code> statement for a given set of POJOs
+     * <p>
+     * Unless the underlying table has a record version or timestamp field, or
+     * {@link RecordListener}s are configured, POJOs are inserted with as few
+     * multi-row <code>INSERT</code> statements as possible. Otherwise, a batch
+     * <code>INSERT</code> is executed, and
+     * {@link RecordListener#insertStart(RecordContext)} and
+     * {@link RecordListener#insertEnd(RecordContext)} events are fired for
+     * every POJO.
+     * <p>
+     * Neither of these is atomic when executed in auto-commit mode. See
+     * {@link InsertQuery} for details.
      *
      * @param objects The POJOs to be inserted
      * @throws DataAccessException if something went wrong executing the query
@@ -158,6 +170,9 @@ public interface DAO<R extends TableRecord<R>, P, T> {
 
     /**
      * Performs a <code>DELETE</code> statement for a given set of IDs
+     * <p>
+     * Large sets of IDs are deleted in several statements, if the number of
+     * bind values per statement is limited by the underlying database.
      *
      * @param ids The IDs to be deleted
      * @throws DataAccessException if something went wrong executing the query
@@ -209,6 +224,31 @@ public interface DAO<R extends TableRecord<R>, P, T> {
      */
     P findById(T id) throws DataAccessException;
 
+    /**
+     * Find records of the underlying table by a set of IDs.
+     *
+     * @param ids The IDs of records in the underlying table
+     * @return A map from each ID to its record. IDs for which no record was
+     *         found are not contained in the returned map.
+     * @throws DataAccessException if something went wrong executing the query
+     * @see #findByIds(Collection)
+     */
+    Map<T, P> findByIds(T... ids) throws DataAccessException;
+
+    /**
+     * Find records of the underlying table by a set of IDs.
+     * <p>
+     * Large sets of IDs are fetched in several queries, if the number of bind
+     * values per statement is limited by the underlying database.
+     *
+     * @param ids The IDs of records in the underlying table
+     * @return A map from each ID to its record. IDs for which no record was
+     *         found are not contained in the returned map.
+     * @throws DataAccessException if something went wrong executing the query
+     * @see #findByIds(Object...)
+     */
+    Map<T, P> findByIds(Collection<T> ids) throws DataAccessException;
+
     /**
      * Find records by a given field and a set of values.
      *
@@ -74,6 +74,7 @@ import org.jooq.conf.ParamType;
 import org.jooq.conf.Settings;
 import org.jooq.conf.StatementType;
 import org.jooq.exception.DataAccessException;
+import org.jooq.exception.DataChangedException;
 import org.jooq.exception.InvalidResultException;
 import org.jooq.exception.MappingException;
 import org.jooq.impl.DSL;
@@ -4541,14 +4542,32 @@ public interface DSLContext {
      * <code>[number of distinct rendered SQL statements]</code>. In the worst
      * case, this corresponds to the number of total records.
      * <p>
+     * Records generate the same SQL if they are of the same type, result in
+     * the same type of statement, and have the same set of changed values.
+     * The SQL is rendered only once for each such group of records.
+     * <p>
+     * With {@link Settings#isExecuteWithOptimisticLocking()}, version and
+     * timestamp columns are checked and incremented as with
+     * {@link UpdatableRecord#store()}. If any record could not be stored
+     * because it was changed in the database, a
+     * {@link DataChangedException} is thrown after all other records have
+     * been updated.
+     * <p>
+     * Records of tables without version and timestamp columns are checked
+     * with an additional <code>SELECT .. FOR UPDATE</code> statement each,
+     * unless {@link Settings#getOptimisticLockingMode()} is set to
+     * {@link org.jooq.conf.OptimisticLockingMode#ORIGINAL_VALUES}. In that
+     * case, original values are compared within the batched statements.
+     * <p>
      * The record type order is preserved in the way they are passed to this
      * method. This is an example of how statements will be ordered: <code><pre>
      * // Let's assume, odd numbers result in INSERTs and even numbers in UPDATES
      * // Let's also assume a[n] are all of the same type, just as b[n], c[n]...
      * int[] result = create.batchStore(a1, a2, a3, b1, a4, c1, b3, a5)
      *                      .execute();
-     * </pre></code> The above results in <code>result.length == 8</code> and
-     * the following 4 separate batch statements:
+     * </pre></code> The above results in <code>result.length == 8</code>, where
+     * <code>result[i]</code> is the update count of the <code>i</code>-th
+     * record, and the following 4 separate batch statements:
      * <ol>
      * <li>INSERT a1, a3, a5</li>
      * <li>UPDATE a2, a4</li>
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq;
+
+import java.util.concurrent.Executor;
+
+/**
+ * A provider for {@link Executor} instances.
+ * <p>
+ * An <code>ExecutorProvider</code> is used by jOOQ's asynchronous execution
+ * API, such as {@link Query#executeAsync()}, {@link ResultQuery#fetchAsync()}
+ * or {@link Batch#executeAsync()}, to obtain an <code>Executor</code> that
+ * runs the actual JDBC calls. By default, jOOQ uses a shared pool of daemon
+ * threads that is dedicated to such blocking calls. It creates a thread for
+ * every concurrent execution, and terminates idle threads after a minute.
+ * Provide your own <code>Executor</code> in order to control the lifecycle
+ * and the number of threads, e.g. when running in a J2EE container.
+ *
+ * @author Lukas Eder
+ * @see Configuration#executorProvider()
+ */
+public interface ExecutorProvider {
+
+    /**
+     * Provide an executor for an asynchronous execution.
+     * <p>
+     * This method is called once for each asynchronous execution. It may
+     * return the same <code>Executor</code> for every call.
+     */
+    Executor provide();
+}
@@ -41,6 +41,7 @@
 package org.jooq;
 
 import java.util.Collection;
+import java.util.Map;
 
 import org.jooq.exception.DataAccessException;
 
@@ -128,4 +129,33 @@ public interface ForeignKey<R extends Record, O extends Record> extends Key<R> {
      * @see UpdatableRecord#fetchChildren(ForeignKey)
      */
     Result<R> fetchChildren(Collection<? extends O> records) throws DataAccessException;
+
+    /**
+     * Fetch parent records of a given set of records through this foreign key,
+     * and map each record to its parent record.
+     * <p>
+     * Parent records are fetched with as few queries as possible, even for
+     * large sets of records. The returned map uses identity comparison for its
+     * keys. Records whose foreign key is <code>NULL</code> or whose parent
+     * record does not exist are not contained in the returned map.
+     *
+     * @return A map from each record to its parent record
+     * @throws DataAccessException if something went wrong executing the query
+     * @see #fetchParents(Collection)
+     */
+    Map<R, O> fetchParentMap(Collection<? extends R> records) throws DataAccessException;
+
+    /**
+     * Fetch child records of a given set of records through this foreign key,
+     * and map each record to its child records.
+     * <p>
+     * Child records are fetched with as few queries as possible, even for
+     * large sets of records. The returned map uses identity comparison for its
+     * keys. Records without any child records are mapped to an empty result.
+     *
+     * @return A map from each record to its child records
+     * @throws DataAccessException if something went wrong executing the query
+     * @see #fetchChildren(Collection)
+     */
+    Map<O, Result<R>> fetchChildrenMap(Collection<? extends O> records) throws DataAccessException;
 }
@@ -55,6 +55,12 @@ import java.util.Map;
 
 /**
  * A query for data insertion
+ * <p>
+ * Multi-record inserts whose bind values exceed the limits of a single
+ * statement of the underlying dialect are executed as several statements. These
+ * statements are not atomic: in auto-commit mode, each one is committed
+ * individually, and a failing statement leaves the previously inserted rows in
+ * the database. Execute such inserts in a transaction, if this is undesired.
  *
  * @param <R> The record type of the table being inserted into
  * @author Lukas Eder
@@ -211,4 +211,102 @@ public interface LoaderOptionsStep<R extends TableRecord<R>> extends LoaderSourc
     @Support
     LoaderOptionsStep<R> commitNone();
 
+    /**
+     * Insert up to <code>number</code> rows with a single multi-row
+     * <code>INSERT .. VALUES</code> statement.
+     * <p>
+     * Rows are buffered until enough rows are available, or until the next
+     * commit as specified by {@link #commitAfter(int)}. Consecutive rows with
+     * a different number of columns are inserted with separate statements.
+     * This is ignored when used together with {@link #onDuplicateKeyUpdate()}.
+     * <p>
+     * If a multi-row statement fails, its first row is reported in
+     * {@link Loader#errors()}, and all of its rows are counted as
+     * {@link Loader#ignored()}.
+     * <p>
+     * If you don't specify a BULK OPTION, each row is inserted with its own
+     * statement.
+     *
+     * @param number The number of rows that are inserted together.
+     */
+    @Support
+    LoaderOptionsStep<R> bulkAfter(int number);
+
+    /**
+     * Send up to <code>number</code> <code>INSERT</code> statements to the
+     * database in a single JDBC batch.
+     * <p>
+     * This can be combined with {@link #bulkAfter(int)}, in case of which
+     * each batched statement inserts several rows. Statements are buffered
+     * until the batch is complete, or until the next commit as specified by
+     * {@link #commitAfter(int)}.
+     * <p>
+     * If a batch fails, the first failed statement's first row is reported in
+     * {@link Loader#errors()}, as far as the JDBC driver reports it. The rows
+     * of all statements that didn't succeed are counted as
+     * {@link Loader#ignored()}.
+     * <p>
+     * If you don't specify a BATCH OPTION, each statement is executed on its
+     * own.
+     *
+     * @param number The number of statements that are executed together.
+     */
+    @Support
+    LoaderOptionsStep<R> batchAfter(int number);
+
+    /**
+     * Read and convert input rows on separate threads while the loading
+     * thread inserts them.
+     * <p>
+     * Reading (e.g. CSV parsing), converting values to the target column
+     * types, and inserting rows each run on their own thread. Rows are handed
+     * over through bounded queues of the given capacity, which block reading
+     * and converting threads when the loading thread cannot keep up. All
+     * <code>INSERT</code> statements, commits and rollbacks are still executed
+     * on the thread calling {@link LoaderLoadStep#execute()}.
+     * <p>
+     * If you don't specify a PIPELINE OPTION, or if <code>capacity</code> is
+     * <code>0</code>, all work is done on the loading thread.
+     *
+     * @param capacity The number of rows that may be buffered between each
+     *            stage of the pipeline.
+     */
+    @Support
+    LoaderOptionsStep<R> pipeline(int capacity);
+
+    /**
+     * Use the database's native bulk loading protocol, if available.
+     * <p>
+     * Input rows are streamed to the database through the JDBC driver,
+     * without temporary files:
+     * <ul>
+     * <li>{@link SQLDialect#POSTGRES}: <code>COPY .. FROM STDIN</code> through
+     * the PostgreSQL JDBC driver's <code>CopyManager</code></li>
+     * <li>{@link SQLDialect#MARIADB}, {@link SQLDialect#MYSQL}:
+     * <code>LOAD DATA LOCAL INFILE</code> with an input stream set on the
+     * MySQL Connector/J or MariaDB JDBC driver's statement</li>
+     * </ul>
+     * <p>
+     * Values are passed to the database as they are read from the input, and
+     * parsed by the database. Missing trailing values are loaded as
+     * <code>NULL</code>. With {@link #commitAfter(int)}, each chunk of
+     * <code>number</code> rows is loaded with a separate statement. If loading
+     * fails, the first row of the failing chunk is reported in
+     * {@link Loader#errors()}.
+     * <p>
+     * Loading falls back to <code>INSERT</code> statements as configured by
+     * {@link #bulkAfter(int)} and {@link #batchAfter(int)} in any of these
+     * cases:
+     * <ul>
+     * <li>The dialect or JDBC driver doesn't support native bulk loading</li>
+     * <li>{@link #onErrorIgnore()} is specified, as erroneous rows cannot be
+     * skipped individually</li>
+     * <li>{@link #onDuplicateKeyUpdate()} is specified</li>
+     * <li>{@link #onDuplicateKeyIgnore()} is specified, and the dialect cannot
+     * skip duplicates while loading (e.g. PostgreSQL)</li>
+     * </ul>
+     */
+    @Support
+    LoaderOptionsStep<R> nativeBulkLoad();
+
 }
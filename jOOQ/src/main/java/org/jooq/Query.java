@@ -45,6 +45,7 @@ import java.sql.PreparedStatement;
 import java.sql.Statement;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import org.jooq.api.annotation.State;
 import org.jooq.conf.ParamType;
@@ -82,6 +83,28 @@ public interface Query extends QueryPart, Attachable {
      */
     int execute() throws DataAccessException;
 
+    /**
+     * Execute the query asynchronously.
+     * <p>
+     * The query is executed by an {@link java.util.concurrent.Executor}
+     * obtained from {@link Configuration#executorProvider()}. All
+     * {@link ExecuteListener} events are fired in the executing thread, as
+     * with {@link #execute()}.
+     *
+     * @return A handle to the outcome of {@link #execute()}
+     * @see AsyncResult
+     */
+    AsyncResult<Integer> executeAsync();
+
+    /**
+     * Execute the query asynchronously, using a custom executor.
+     *
+     * @param executor The executor running the query
+     * @return A handle to the outcome of {@link #execute()}
+     * @see AsyncResult
+     */
+    AsyncResult<Integer> executeAsync(Executor executor);
+
     /**
      * Whether this query is executable in its current state.
      * <p>
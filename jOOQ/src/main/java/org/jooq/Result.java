@@ -46,6 +46,7 @@ import java.sql.Statement;
 import java.util.List;
 import java.util.Map;
 
+import org.jooq.exception.DataAccessException;
 import org.jooq.exception.DataTypeException;
 import org.jooq.exception.InvalidResultException;
 import org.jooq.exception.MappingException;
@@ -740,6 +741,23 @@ public interface Result<R extends Record> extends List<R>, Attachable {
     <E> Map<Record, List<E>> intoGroups(Field<?>[] keys, RecordMapper<? super R, E> mapper)
         throws IllegalArgumentException, MappingException;
 
+    /**
+     * Return a reusable hash index over this result's records, keyed by the
+     * given fields.
+     * <p>
+     * Unlike {@link #intoGroups(Field[])}, the returned index can be used for
+     * repeated lookups by key values, as well as for in-memory joins with
+     * other results, without grouping this result again.
+     *
+     * @param keys The keys. If this is <code>null</code> or an empty array,
+     *            the resulting index will contain at most one key.
+     * @return An index over this result's records
+     * @throws IllegalArgumentException If any of the argument fields is not
+     *             contained in {@link #fieldsRow()}
+     * @see ResultIndex
+     */
+    ResultIndex<R> intoIndex(Field<?>... keys) throws IllegalArgumentException;
+
     /**
      * Convert this result into an array of arrays.
      * <p>
@@ -1188,4 +1206,34 @@ public interface Result<R extends Record> extends List<R>, Attachable {
      * @see String#intern()
      */
     Result<R> intern(String... fieldNames);
+
+    // ------------------------------------------------------------------------
+    // Relationship navigation
+    // ------------------------------------------------------------------------
+
+    /**
+     * Fetch parent records of all records in this result through a foreign
+     * key.
+     * <p>
+     * This is the same as calling {@link ForeignKey#fetchParents(java.util.Collection)}
+     * with this result. As opposed to calling
+     * {@link TableRecord#fetchParent(ForeignKey)} on every record, parent
+     * records are fetched with as few queries as possible.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    <O extends Record> Result<O> fetchParents(ForeignKey<R, O> key) throws DataAccessException;
+
+    /**
+     * Fetch child records of all records in this result through a foreign
+     * key.
+     * <p>
+     * This is the same as calling {@link ForeignKey#fetchChildren(java.util.Collection)}
+     * with this result. As opposed to calling
+     * {@link UpdatableRecord#fetchChildren(ForeignKey)} on every record, child
+     * records are fetched with as few queries as possible.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    <X extends Record> Result<X> fetchChildren(ForeignKey<X, R> key) throws DataAccessException;
 }
@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq;
+
+import java.util.Map;
+
+import org.jooq.exception.DataTypeException;
+
+/**
+ * A hash index over the records of a {@link Result}.
+ * <p>
+ * An index is created once with {@link Result#intoIndex(Field...)} and can
+ * then be used for any number of lookups by key values, or for in-memory
+ * joins with other results. Keys are computed directly from the indexed
+ * result's values, without creating intermediate key records. Keys consisting
+ * of a single <code>Byte</code>, <code>Short</code>, <code>Integer</code> or
+ * <code>Long</code> field are indexed by their primitive <code>long</code>
+ * value.
+ * <p>
+ * An index reflects the state of its result at the time when it was created.
+ * Subsequent modifications to the result, such as adding, removing or sorting
+ * records, or changing the records' key values, are not reflected by the
+ * index. The index does not copy the records themselves, though. Records
+ * returned by the index are the same instances as those of the result.
+ *
+ * @param <R> The indexed records' type
+ * @author Lukas Eder
+ */
+public interface ResultIndex<R extends Record> {
+
+    /**
+     * The key fields of this index.
+     */
+    Field<?>[] keys();
+
+    /**
+     * The number of distinct keys in this index.
+     */
+    int size();
+
+    /**
+     * Whether any record matches the given key values.
+     *
+     * @see #get(Object...)
+     */
+    boolean contains(Object... values) throws IllegalArgumentException, DataTypeException;
+
+    /**
+     * Get all records matching the given key values.
+     *
+     * @param values The key values, in the order of {@link #keys()}. Values
+     *            are converted to the key fields' types.
+     * @return The matching records, or an empty result if no records match.
+     * @throws IllegalArgumentException If the number of values does not
+     *             match the number of keys.
+     * @throws DataTypeException If a value cannot be converted to its key
+     *             field's type.
+     */
+    Result<R> get(Object... values) throws IllegalArgumentException, DataTypeException;
+
+    /**
+     * Get all records matching a key value.
+     * <p>
+     * This method avoids boxing the key value for indexes on a single
+     * <code>Byte</code>, <code>Short</code>, <code>Integer</code> or
+     * <code>Long</code> field.
+     *
+     * @return The matching records, or an empty result if no records match.
+     * @throws IllegalArgumentException If this index does not have exactly
+     *             one key.
+     */
+    Result<R> get(long value) throws IllegalArgumentException;
+
+    /**
+     * Return a {@link Map} with the key values as a map key and the matching
+     * records as value.
+     * <p>
+     * This is the same as {@link Result#intoGroups(Field[])}.
+     */
+    Map<Record, Result<R>> intoGroups();
+
+    /**
+     * Join another result with this index in memory.
+     * <p>
+     * For every record from <code>other</code>, a joined record is created
+     * for every indexed record whose keys match <code>other</code>'s values
+     * of <code>otherKeys</code>. Joined records contain all of
+     * <code>other</code>'s fields, followed by all of the indexed result's
+     * fields. Records from <code>other</code> without any matching records
+     * are omitted, just like in an SQL <code>INNER JOIN</code>.
+     *
+     * @param other The result to join with this index.
+     * @param otherKeys The fields from <code>other</code> to match against
+     *            {@link #keys()}.
+     * @return The joined records, in the order of <code>other</code>'s
+     *         records.
+     * @throws IllegalArgumentException If the number of
+     *             <code>otherKeys</code> does not match the number of keys, or
+     *             if any of <code>otherKeys</code> is not contained in
+     *             <code>other</code>.
+     * @throws DataTypeException If a value cannot be converted to its key
+     *             field's type.
+     */
+    Result<Record> join(Result<?> other, Field<?>... otherKeys) throws IllegalArgumentException, DataTypeException;
+}
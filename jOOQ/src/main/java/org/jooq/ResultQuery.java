@@ -41,11 +41,15 @@
 
 package org.jooq;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 
 import org.jooq.api.annotation.State;
@@ -107,6 +111,125 @@ public interface ResultQuery<R extends Record> extends Query {
      */
     Result<R> fetch() throws DataAccessException;
 
+    /**
+     * Execute the query and return the generated result in a column-oriented
+     * form.
+     * <p>
+     * This is the same as calling {@link #fetchLazy()} and then
+     * {@link Cursor#fetchColumnar()}, closing the cursor afterwards. The
+     * returned result stores values per column rather than per record, which
+     * considerably reduces the memory footprint of large, read-mostly
+     * results. Records obtained from the result are materialised lazily as
+     * unchanged copies of the stored row.
+     *
+     * @return The result.
+     * @throws DataAccessException if something went wrong executing the query
+     * @see Cursor#fetchColumnar()
+     */
+    Result<R> fetchColumnar() throws DataAccessException;
+
+    /**
+     * Execute the query and stream the result as CSV to a writer.
+     * <p>
+     * This is the same as calling
+     * <code>formatCSV(writer, ',', "")</code>.
+     *
+     * @param writer The writer to write the formatted records to.
+     * @throws IOException if something went wrong writing to the writer
+     * @throws DataAccessException if something went wrong executing the query
+     * @see Result#formatCSV()
+     */
+    void formatCSV(Writer writer) throws IOException, DataAccessException;
+
+    /**
+     * Execute the query and stream the result as CSV to a writer.
+     * <p>
+     * Records are written one by one, as they are fetched from the underlying
+     * {@link ResultSet}, without keeping them in memory. The underlying
+     * cursor is closed after the last record was written, or when an
+     * exception occurs.
+     * <p>
+     * The writer is flushed every {@link Settings#getExportFlushSize()}
+     * records, and after the last record. It is not closed.
+     *
+     * @param writer The writer to write the formatted records to.
+     * @param delimiter The delimiter to use between records
+     * @param nullString A special string for encoding <code>NULL</code> values.
+     * @throws IOException if something went wrong writing to the writer
+     * @throws DataAccessException if something went wrong executing the query
+     * @see Result#formatCSV(char, String)
+     */
+    void formatCSV(Writer writer, char delimiter, String nullString) throws IOException, DataAccessException;
+
+    /**
+     * Execute the query and stream the result as UTF-8 encoded CSV to an
+     * output stream.
+     *
+     * @param stream The stream to write the formatted records to.
+     * @throws IOException if something went wrong writing to the stream
+     * @throws DataAccessException if something went wrong executing the query
+     * @see #formatCSV(Writer)
+     */
+    void formatCSV(OutputStream stream) throws IOException, DataAccessException;
+
+    /**
+     * Execute the query and stream the result as JSON to a writer.
+     * <p>
+     * Records are written one by one, as they are fetched from the underlying
+     * {@link ResultSet}, without keeping them in memory. The underlying
+     * cursor is closed after the last record was written, or when an
+     * exception occurs.
+     * <p>
+     * The writer is flushed every {@link Settings#getExportFlushSize()}
+     * records, and after the last record. It is not closed.
+     *
+     * @param writer The writer to write the formatted records to.
+     * @throws IOException if something went wrong writing to the writer
+     * @throws DataAccessException if something went wrong executing the query
+     * @see Result#formatJSON()
+     */
+    void formatJSON(Writer writer) throws IOException, DataAccessException;
+
+    /**
+     * Execute the query and stream the result as UTF-8 encoded JSON to an
+     * output stream.
+     *
+     * @param stream The stream to write the formatted records to.
+     * @throws IOException if something went wrong writing to the stream
+     * @throws DataAccessException if something went wrong executing the query
+     * @see #formatJSON(Writer)
+     */
+    void formatJSON(OutputStream stream) throws IOException, DataAccessException;
+
+    /**
+     * Execute the query and stream the result as XML to a writer.
+     * <p>
+     * Records are written one by one, as they are fetched from the underlying
+     * {@link ResultSet}, without keeping them in memory. The underlying
+     * cursor is closed after the last record was written, or when an
+     * exception occurs.
+     * <p>
+     * The writer is flushed every {@link Settings#getExportFlushSize()}
+     * records, and after the last record. It is not closed.
+     *
+     * @param writer The writer to write the formatted records to.
+     * @throws IOException if something went wrong writing to the writer
+     * @throws DataAccessException if something went wrong executing the query
+     * @see Result#formatXML()
+     */
+    void formatXML(Writer writer) throws IOException, DataAccessException;
+
+    /**
+     * Execute the query and stream the result as UTF-8 encoded XML to an
+     * output stream.
+     *
+     * @param stream The stream to write the formatted records to.
+     * @throws IOException if something went wrong writing to the stream
+     * @throws DataAccessException if something went wrong executing the query
+     * @see #formatXML(Writer)
+     */
+    void formatXML(OutputStream stream) throws IOException, DataAccessException;
+
     /**
      * Execute the query and return the generated result as a JDBC
      * {@link ResultSet}.
@@ -1005,6 +1128,34 @@ public interface ResultQuery<R extends Record> extends Query {
      */
     <E> List<E> fetch(RecordMapper<? super R, E> mapper) throws DataAccessException;
 
+    /**
+     * Fetch results asynchronously.
+     * <p>
+     * The query is executed by an {@link java.util.concurrent.Executor}
+     * obtained from {@link Configuration#executorProvider()}. All
+     * {@link ExecuteListener} events are fired in the executing thread, as
+     * with {@link #fetch()}. Use {@link AsyncResult#then(AsyncFunction)} to
+     * transform the result, e.g. into a list of POJOs, in the executing
+     * thread.
+     * <p>
+     * The result and its contained records are attached to the original
+     * {@link Configuration} by default. Use {@link Settings#isAttachRecords()}
+     * to override this behaviour.
+     *
+     * @return A handle to the outcome of {@link #fetch()}
+     * @see AsyncResult
+     */
+    AsyncResult<Result<R>> fetchAsync();
+
+    /**
+     * Fetch results asynchronously, using a custom executor.
+     *
+     * @param executor The executor running the query
+     * @return A handle to the outcome of {@link #fetch()}
+     * @see #fetchAsync()
+     */
+    AsyncResult<Result<R>> fetchAsync(Executor executor);
+
     /**
      * Fetch results asynchronously.
      * <p>
@@ -1031,7 +1182,8 @@ public interface ResultQuery<R extends Record> extends Query {
      *
      * @return A future result
      * @throws DataAccessException if something went wrong executing the query
-     * @deprecated - 3.2.0 - [#2581] - This method will be removed in jOOQ 4.0
+     * @deprecated - 3.2.0 - [#2581] - This method will be removed in jOOQ 4.0.
+     *             Use {@link #fetchAsync()} instead.
      */
     @Deprecated
     FutureResult<R> fetchLater() throws DataAccessException;
@@ -1107,6 +1259,9 @@ public interface ResultQuery<R extends Record> extends Query {
      * This is not the same as setting a <code>LIMIT .. OFFSET</code> clause
      * onto the statement, where the result set is restricted within the
      * database.
+     * <p>
+     * If no maximum is specified, the one from
+     * {@link org.jooq.conf.Settings#getMaxRows()} applies.
      *
      * @see Statement#setMaxRows(int)
      */
@@ -1118,11 +1273,30 @@ public interface ResultQuery<R extends Record> extends Query {
      * Regardless of this setting, {@link #fetchLazy()} is the only way in jOOQ
      * not to fetch all data in memory. However, you may influence how your JDBC
      * driver interacts with your database through specifying a fetch size.
+     * <p>
+     * If no fetch size is specified, the one from
+     * {@link org.jooq.conf.Settings#getFetchSize()} applies. If none is
+     * specified there either, {@link #fetchLazy()} can be made to default to a
+     * fetch size that makes the JDBC driver stream rows, where this is needed,
+     * see {@link org.jooq.conf.Settings#isFetchLazyStreaming()}. This is off
+     * by default, as e.g. MySQL does not allow for executing other statements
+     * on the same connection while a streaming result set is open.
      *
      * @see Statement#setFetchSize(int)
      */
     ResultQuery<R> fetchSize(int rows);
 
+    /**
+     * Specify the fetch direction of the underlying {@link Statement}.
+     * <p>
+     * This is a hint to the JDBC driver about the direction in which rows
+     * will be processed, which is only relevant for scrollable
+     * <code>ResultSet</code> objects, see {@link #resultSetType(int)}.
+     *
+     * @see Statement#setFetchDirection(int)
+     */
+    ResultQuery<R> fetchDirection(int direction);
+
     /**
      * Specify the <code>ResultSet</code> concurrency of <code>ResultSet</code>
      * objects created by jOOQ.
@@ -43,6 +43,7 @@ package org.jooq;
 import java.sql.ResultSet;
 import java.sql.Statement;
 
+import org.jooq.conf.OptimisticLockingMode;
 import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.DataChangedException;
@@ -188,7 +189,14 @@ public interface UpdatableRecord<R extends UpdatableRecord<R>> extends TableReco
      * checking of database record state and the actual <code>UPDATE</code></li>
      * </ul>
      * <p>
-     * See {@link SelectQuery#setForUpdate(boolean)} for more details</li>
+     * See {@link SelectQuery#setForUpdate(boolean)} for more details
+     * <p>
+     * If {@link Settings#getOptimisticLockingMode()} is set to
+     * {@link OptimisticLockingMode#ORIGINAL_VALUES}, no such
+     * <code>SELECT</code> statement is executed. Instead, this record's
+     * original values are compared to the corresponding values in the database
+     * in the <code>WHERE</code> clause of the executed <code>UPDATE</code>
+     * statement. LOB columns are not compared.</li>
      * </ul>
      * <p>
      * <h5>Statement examples</h5>
@@ -301,7 +309,14 @@ public interface UpdatableRecord<R extends UpdatableRecord<R>> extends TableReco
      * checking of database record state and the actual <code>DELETE</code></li>
      * </ul>
      * <p>
-     * See {@link SelectQuery#setForUpdate(boolean)} for more details</li>
+     * See {@link SelectQuery#setForUpdate(boolean)} for more details
+     * <p>
+     * If {@link Settings#getOptimisticLockingMode()} is set to
+     * {@link OptimisticLockingMode#ORIGINAL_VALUES}, no such
+     * <code>SELECT</code> statement is executed. Instead, this record's
+     * original values are compared to the corresponding values in the database
+     * in the <code>WHERE</code> clause of the executed <code>DELETE</code>
+     * statement. LOB columns are not compared.</li>
      * </ul>
      * <h5>Statement examples</h5>
      * <p>
@@ -49,6 +49,7 @@ import static org.jooq.tools.StringUtils.defaultIfNull;
 import java.io.File;
 import java.io.InputStream;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.Statement;
 
 import javax.xml.bind.JAXB;
@@ -144,6 +145,21 @@ public final class SettingsTools {
         return getStatementType(settings) == STATIC_STATEMENT;
     }
 
+    /**
+     * Get the optimistic locking mode from the settings.
+     */
+    public static final OptimisticLockingMode getOptimisticLockingMode(Settings settings) {
+        if (settings != null) {
+            OptimisticLockingMode result = settings.getOptimisticLockingMode();
+
+            if (result != null) {
+                return result;
+            }
+        }
+
+        return OptimisticLockingMode.SELECT_FOR_UPDATE;
+    }
+
     /**
      * Whether primary keys should be updatable.
      */
@@ -158,6 +174,65 @@ public final class SettingsTools {
         return defaultIfNull(settings.isReflectionCaching(), true);
     }
 
+    /**
+     * Whether rendered SQL strings should be cached for re-execution.
+     */
+    public static final boolean renderCaching(Settings settings) {
+        return defaultIfNull(settings.isRenderCaching(), false);
+    }
+
+    /**
+     * The number of records after which streaming exports are flushed.
+     */
+    public static final int exportFlushSize(Settings settings) {
+        return defaultIfNull(settings.getExportFlushSize(), 0);
+    }
+
+    /**
+     * The default JDBC fetch size of {@link org.jooq.ResultQuery} statements.
+     */
+    public static final int fetchSize(Settings settings) {
+        return defaultIfNull(settings.getFetchSize(), 0);
+    }
+
+    /**
+     * The default JDBC fetch direction of {@link org.jooq.ResultQuery}
+     * statements, or <code>0</code> if the driver's default applies.
+     *
+     * @see ResultSet#FETCH_FORWARD
+     * @see ResultSet#FETCH_REVERSE
+     * @see ResultSet#FETCH_UNKNOWN
+     */
+    public static final int fetchDirection(Settings settings) {
+        FetchDirection direction = settings.getFetchDirection();
+
+        if (direction != null) {
+            switch (direction) {
+                case FORWARD: return ResultSet.FETCH_FORWARD;
+                case REVERSE: return ResultSet.FETCH_REVERSE;
+                case UNKNOWN: return ResultSet.FETCH_UNKNOWN;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * The default maximum number of rows of {@link org.jooq.ResultQuery}
+     * statements.
+     */
+    public static final int maxRows(Settings settings) {
+        return defaultIfNull(settings.getMaxRows(), 0);
+    }
+
+    /**
+     * Whether lazy fetching should use a dialect-specific streaming fetch
+     * size. This is off by default.
+     */
+    public static final boolean fetchLazyStreaming(Settings settings) {
+        return defaultIfNull(settings.isFetchLazyStreaming(), false);
+    }
+
     /**
      * Lazy access to {@link RenderMapping}.
      */
@@ -41,10 +41,13 @@
 package org.jooq.impl;
 
 import static org.jooq.impl.Utils.DATA_OMIT_CLAUSE_EVENT_EMISSION;
+import static org.jooq.impl.Utils.subscribes;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.jooq.BindContext;
@@ -75,7 +78,10 @@ abstract class AbstractContext<C extends Context<C>> implements Context<C> {
     int                               index;
 
     // [#2665] VisitListener API
-    final VisitListener[]             visitListeners;
+    private final VisitListener[]     clauseStartListeners;
+    private final VisitListener[]     clauseEndListeners;
+    private final VisitListener[]     visitStartListeners;
+    private final VisitListener[]     visitEndListeners;
     private final Deque<Clause>       visitClauses;
     private final DefaultVisitContext visitContext;
     private final Deque<QueryPart>    visitParts;
@@ -86,16 +92,32 @@ abstract class AbstractContext<C extends Context<C>> implements Context<C> {
         this.visitClauses = new ArrayDeque<Clause>();
 
         VisitListenerProvider[] providers = configuration.visitListenerProviders();
+        VisitListener[] listeners = new VisitListener[providers.length + 1];
 
-        this.visitListeners = new VisitListener[providers.length + 1];
         this.visitContext = new DefaultVisitContext();
         this.visitParts = new ArrayDeque<QueryPart>();
 
         for (int i = 0; i < providers.length; i++) {
-            this.visitListeners[i] = providers[i].provide();
+            listeners[i] = providers[i].provide();
         }
 
-        this.visitListeners[providers.length] = new InternalVisitListener();
+        listeners[providers.length] = new InternalVisitListener();
+
+        // Dispatch events only to listeners that subscribe to them
+        this.clauseStartListeners = subscribed(listeners, "clauseStart");
+        this.clauseEndListeners = subscribed(listeners, "clauseEnd");
+        this.visitStartListeners = subscribed(listeners, "visitStart");
+        this.visitEndListeners = subscribed(listeners, "visitEnd");
+    }
+
+    private final VisitListener[] subscribed(VisitListener[] listeners, String method) {
+        List<VisitListener> result = new ArrayList<VisitListener>(listeners.length);
+
+        for (VisitListener listener : listeners)
+            if (subscribes(listener, DefaultVisitListener.class, method, VisitContext.class))
+                result.add(listener);
+
+        return result.toArray(new VisitListener[result.size()]);
     }
 
     // ------------------------------------------------------------------------
@@ -108,7 +130,7 @@ abstract class AbstractContext<C extends Context<C>> implements Context<C> {
 
             // Issue start clause events
             // -----------------------------------------------------------------
-            Clause[] clauses = visitListeners.length > 0 ? clause(part) : null;
+            Clause[] clauses = clauseStartListeners.length > 0 || clauseEndListeners.length > 0 ? clause(part) : null;
             if (clauses != null)
                 for (int i = 0; i < clauses.length; i++)
                     start(clauses[i]);
@@ -164,7 +186,7 @@ abstract class AbstractContext<C extends Context<C>> implements Context<C> {
         if (clause != null) {
             visitClauses.addLast(clause);
 
-            for (VisitListener listener : visitListeners) {
+            for (VisitListener listener : clauseStartListeners) {
                 listener.clauseStart(visitContext);
             }
         }
@@ -175,7 +197,7 @@ abstract class AbstractContext<C extends Context<C>> implements Context<C> {
     @Override
     public final C end(Clause clause) {
         if (clause != null) {
-            for (VisitListener listener : visitListeners) {
+            for (VisitListener listener : clauseEndListeners) {
                 listener.clauseEnd(visitContext);
             }
 
@@ -189,7 +211,7 @@ abstract class AbstractContext<C extends Context<C>> implements Context<C> {
     private final QueryPart start(QueryPart part) {
         visitParts.addLast(part);
 
-        for (VisitListener listener : visitListeners) {
+        for (VisitListener listener : visitStartListeners) {
             listener.visitStart(visitContext);
         }
 
@@ -197,7 +219,7 @@ abstract class AbstractContext<C extends Context<C>> implements Context<C> {
     }
 
     private final void end(QueryPart part) {
-        for (VisitListener listener : visitListeners) {
+        for (VisitListener listener : visitEndListeners) {
             listener.visitEnd(visitContext);
         }
 
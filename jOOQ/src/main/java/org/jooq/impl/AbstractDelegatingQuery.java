@@ -42,7 +42,9 @@ package org.jooq.impl;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
+import org.jooq.AsyncResult;
 import org.jooq.AttachableInternal;
 import org.jooq.BindContext;
 import org.jooq.Clause;
@@ -140,6 +142,16 @@ abstract class AbstractDelegatingQuery<Q extends Query> extends AbstractQueryPar
         return delegate.execute();
     }
 
+    @Override
+    public final AsyncResult<Integer> executeAsync() {
+        return delegate.executeAsync();
+    }
+
+    @Override
+    public final AsyncResult<Integer> executeAsync(Executor executor) {
+        return delegate.executeAsync(executor);
+    }
+
     @Override
     public final boolean isExecutable() {
         return delegate.isExecutable();
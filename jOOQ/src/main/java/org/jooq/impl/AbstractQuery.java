@@ -57,7 +57,10 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
+import org.jooq.AsyncResult;
 import org.jooq.AttachableInternal;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
@@ -235,8 +238,17 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query, Attacha
         return keepStatement;
     }
 
+    final int timeout() {
+        return timeout;
+    }
+
+    /**
+     * Subclasses may override this method to close additional resources.
+     * <p>
+     * {@inheritDoc}
+     */
     @Override
-    public final void close() {
+    public void close() {
         if (statement != null) {
             try {
                 statement.close();
@@ -261,93 +273,122 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query, Attacha
     }
 
     @Override
-    public final int execute() {
-        if (isExecutable()) {
-
-            // Get the attached configuration of this query
-            Configuration c = configuration();
+    public final AsyncResult<Integer> executeAsync() {
+        return executeAsync(null);
+    }
 
-            // [#1191] The following triggers a start event on all listeners.
-            //         This may be used to provide jOOQ with a JDBC connection,
-            //         in case this Query / Configuration was previously
-            //         deserialised
-            ExecuteContext ctx = new DefaultExecuteContext(c, this);
-            ExecuteListener listener = new ExecuteListeners(ctx);
+    @Override
+    public final AsyncResult<Integer> executeAsync(Executor executor) {
+        return AsyncResultImpl.submit(configuration(), executor, new Callable<Integer>() {
 
-            int result = 0;
-            try {
-                if (ctx.connection() == null) {
-                    throw new DetachedException("Cannot execute query. No Connection configured");
-                }
+            @Override
+            public Integer call() {
+                return execute();
+            }
+        });
+    }
 
-                // [#385] If a statement was previously kept open
-                if (keepStatement() && statement != null) {
-                    ctx.sql(sql);
-                    ctx.statement(statement);
-                }
+    @Override
+    public final int execute() {
+        if (isExecutable()) {
+            return executeStatements(configuration());
+        }
+        else {
+            if (log.isDebugEnabled()) {
+                log.debug("Query is not executable", this);
+            }
 
-                // [#385] First time statement preparing
-                else {
-                    listener.renderStart(ctx);
-                    ctx.sql(getSQL0(ctx));
-                    listener.renderEnd(ctx);
+            return 0;
+        }
+    }
 
-                    sql = ctx.sql();
+    /**
+     * Default implementation for executing an executable query. Subclasses may
+     * override this method to execute queries that exceed the limits of a
+     * single statement as several statements.
+     */
+    int executeStatements(Configuration c) {
+        return executeStatement(c);
+    }
 
-                    listener.prepareStart(ctx);
-                    prepare(ctx);
-                    listener.prepareEnd(ctx);
+    /**
+     * Execute this query as a single statement.
+     */
+    final int executeStatement(Configuration c) {
 
-                    statement = ctx.statement();
-                }
+        // [#1191] The following triggers a start event on all listeners.
+        //         This may be used to provide jOOQ with a JDBC connection,
+        //         in case this Query / Configuration was previously
+        //         deserialised
+        ExecuteContext ctx = new DefaultExecuteContext(c, this);
+        ExecuteListener listener = new ExecuteListeners(ctx);
 
-                // [#1856] Set the query timeout onto the Statement
-                if (timeout != 0) {
-                    ctx.statement().setQueryTimeout(timeout);
-                }
+        int result = 0;
+        try {
+            if (ctx.connection() == null) {
+                throw new DetachedException("Cannot execute query. No Connection configured");
+            }
 
-                if (
+            // [#385] If a statement was previously kept open
+            if (keepStatement() && statement != null) {
+                ctx.sql(sql);
+                ctx.statement(statement);
+            }
 
-                    // [#1145] Bind variables only for true prepared statements
-                    // [#2414] Even if parameters are inlined here, child
-                    //         QueryParts may override this behaviour!
-                    executePreparedStatements(c.settings()) &&
+            // [#385] First time statement preparing
+            else {
+                listener.renderStart(ctx);
+                ctx.sql(getSQL0(ctx));
+                listener.renderEnd(ctx);
 
-                    // [#1520] Renderers may enforce static statements, too
-                    !Boolean.TRUE.equals(ctx.data(DATA_FORCE_STATIC_STATEMENT))) {
+                sql = ctx.sql();
 
-                    listener.bindStart(ctx);
-                    using(c).bindContext(ctx.statement()).visit(this);
-                    listener.bindEnd(ctx);
-                }
+                listener.prepareStart(ctx);
+                prepare(ctx);
+                listener.prepareEnd(ctx);
 
-                result = execute(ctx, listener);
-                return result;
+                statement = ctx.statement();
             }
-            catch (SQLException e) {
-                ctx.sqlException(e);
-                listener.exception(ctx);
-                throw ctx.exception();
+
+            // [#1856] Set the query timeout onto the Statement
+            if (timeout != 0) {
+                ctx.statement().setQueryTimeout(timeout);
             }
-            finally {
 
-                // [#2385] Successful fetchLazy() needs to keep open resources
-                if (!keepResultSet() || ctx.exception() != null) {
-                    Utils.safeClose(listener, ctx, keepStatement());
-                }
+            if (
 
-                if (!keepStatement()) {
-                    statement = null;
-                    sql = null;
-                }
+                // [#1145] Bind variables only for true prepared statements
+                // [#2414] Even if parameters are inlined here, child
+                //         QueryParts may override this behaviour!
+                executePreparedStatements(c.settings()) &&
+
+                // [#1520] Renderers may enforce static statements, too
+                !Boolean.TRUE.equals(ctx.data(DATA_FORCE_STATIC_STATEMENT))) {
+
+                listener.bindStart(ctx);
+                using(c).bindContext(ctx.statement()).visit(this);
+                listener.bindEnd(ctx);
             }
+
+            result = execute(ctx, listener);
+            return result;
         }
-        else {
-            if (log.isDebugEnabled()) {
-                log.debug("Query is not executable", this);
+        catch (SQLException e) {
+            ctx.sqlException(e);
+            listener.exception(ctx);
+            throw ctx.exception();
+        }
+        finally {
+
+            // [#2385] Successful fetchLazy() needs to keep open resources
+            if (!keepResultSet() || ctx.exception() != null) {
+                Utils.safeClose(listener, ctx, keepStatement());
             }
 
-            return 0;
+            if (!keepStatement()) {
+                statement = null;
+                sql = null;
+            }
         }
     }
 
@@ -409,12 +450,46 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query, Attacha
         return true;
     }
 
+    /**
+     * A key identifying the SQL string rendered for this query, or
+     * <code>null</code> if this query's SQL string must not be taken from
+     * the {@link RenderCache}.
+     * <p>
+     * The key is computed from the current state of this query on every
+     * execution. Two queries with equal keys must render the same SQL string
+     * with the same {@link org.jooq.Configuration}, regardless of their bind
+     * values.
+     */
+    Object renderKey() {
+        return null;
+    }
+
     private final String getSQL0(ExecuteContext ctx) {
         if (executePreparedStatements(configuration().settings())) {
+            RenderCache cache = null;
+            Object key = null;
+
+            // Re-use a previously rendered SQL string, if allowed
+            if (RenderCache.cacheable(configuration) && (key = renderKey()) != null) {
+                cache = RenderCache.of(configuration);
+                key = RenderCache.key(configuration, key);
+
+                String result = cache.get(key);
+                if (result != null) {
+                    return result;
+                }
+            }
+
             try {
                 RenderContext render = new DefaultRenderContext(configuration);
                 render.data(DATA_COUNT_BIND_VALUES, true);
-                return render.render(this);
+                String result = render.render(this);
+
+                if (cache != null) {
+                    cache.put(key, result);
+                }
+
+                return result;
             }
             catch (DefaultRenderContext.ForceInlineSignal e) {
                 ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
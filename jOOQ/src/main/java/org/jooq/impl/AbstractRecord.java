@@ -54,6 +54,7 @@ import static org.jooq.impl.Utils.settings;
 import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -83,10 +84,12 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     /**
      * Generated UID
      */
-    private static final long   serialVersionUID = -6052512608911220404L;
+    private static final long   serialVersionUID = -4734271563271735011L;
 
     final RowImpl               fields;
-    final Value<?>[]            values;
+    final Object[]              values;
+    final Object[]              originals;
+    final BitSet                changed;
 
     AbstractRecord(Collection<? extends Field<?>> fields) {
         this(new RowImpl(fields));
@@ -97,12 +100,12 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     }
 
     AbstractRecord(RowImpl fields) {
-        this.fields = fields;
-        this.values = new Value<?>[fields.size()];
+        int size = fields.size();
 
-        for (int i = 0; i < values.length; i++) {
-            values[i] = new Value<Object>(null);
-        }
+        this.fields = fields;
+        this.values = new Object[size];
+        this.originals = new Object[size];
+        this.changed = new BitSet(size);
     }
 
     // ------------------------------------------------------------------------
@@ -115,7 +118,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
         int size = size();
         for (int i = 0; i < size; i++) {
-            Object value = getValue0(i).getValue();
+            Object value = values[i];
 
             if (value instanceof Attachable) {
                 result.add((Attachable) value);
@@ -175,18 +178,19 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final <T> T getValue(Field<T> field) {
-        return getValue0(field).getValue();
+        return (T) values[indexOrFail(fieldsRow(), field)];
     }
 
     @Override
     @Deprecated
     public final <T> T getValue(Field<T> field, T defaultValue) {
-        return getValue0(field).getValue(defaultValue);
+        final T result = getValue(field);
+        return result == null ? defaultValue : result;
     }
 
     @Override
     public final <T> T getValue(Field<?> field, Class<? extends T> type) {
-        return Convert.convert(getValue(field), type);
+        return ConverterRegistry.convert(configuration(), getValue(field), type);
     }
 
     @Override
@@ -210,7 +214,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final Object getValue(int index) {
-        return getValue0(index).getValue();
+        return values[safeIndex(index)];
     }
 
     @Override
@@ -222,7 +226,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final <T> T getValue(int index, Class<? extends T> type) {
-        return Convert.convert(getValue(index), type);
+        return ConverterRegistry.convert(configuration(), getValue(index), type);
     }
 
     @Override
@@ -257,7 +261,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final <T> T getValue(String fieldName, Class<? extends T> type) {
-        return Convert.convert(getValue(fieldName), type);
+        return ConverterRegistry.convert(configuration(), getValue(fieldName), type);
     }
 
     @Override
@@ -279,22 +283,12 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         return result == null ? defaultValue : result;
     }
 
-    final <T> Value<T> getValue0(int index) {
-        Value<?>[] v = getValues();
-
-        if (index >= v.length) {
+    final int safeIndex(int index) {
+        if (index >= values.length) {
             throw new IllegalArgumentException("Field " + index + " is not contained in list");
         }
 
-        return (Value<T>) v[index];
-    }
-
-    final <T> Value<T> getValue0(Field<T> field) {
-        return getValue0(indexOrFail(fieldsRow(), field));
-    }
-
-    final Value<?>[] getValues() {
-        return values;
+        return index;
     }
 
     /**
@@ -311,41 +305,64 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     }
 
     private final <T> void setValue(int index, Field<T> field, T value) {
-        Value<T> val = getValue0(index);
+        safeIndex(index);
         UniqueKey<?> key = getPrimaryKey();
 
         // Normal fields' changed flag is always set to true
         if (key == null || !key.getFields().contains(field)) {
-            val.setValue(value);
+            setValue0(index, value);
         }
 
         // The primary key's changed flag might've been set previously
-        else if (val.isChanged()) {
-            val.setValue(value);
+        else if (changed.get(index)) {
+            setValue0(index, value);
         }
 
         // [#2764] Users may override updatability of primary key values
         else if (updatablePrimaryKeys(settings(this))) {
-            val.setValue(value);
+            setValue0(index, value);
         }
 
         // [#2698] If the primary key has not yet been set
-        else if (val.getOriginal() == null) {
-            val.setValue(value);
+        else if (originals[index] == null) {
+            setValue0(index, value);
         }
 
         // [#979] If the primary key is being changed, all other fields' flags
         // need to be set to true for in case this record is stored again, an
         // INSERT statement will thus be issued
         else {
-            val.setValue(value, true);
+            Object previous = values[index];
+
+            // [#979] Avoid modifying the changed flag on unchanged primary key values
+            // [#945] Be sure that the changed flag is never reset to false
+            if (previous == null ? value != null : !previous.equals(value)) {
+                changed.set(index);
+            }
 
-            if (val.isChanged()) {
+            values[index] = value;
+
+            if (changed.get(index)) {
                 changed(true);
             }
         }
     }
 
+    /**
+     * Set a value and its changed flag.
+     * <p>
+     * The flag is always set to true:
+     * <ul>
+     * <li>[#945] To avoid bugs resulting from setting the same value twice</li>
+     * <li>[#948] To allow for controlling the number of hard-parses</li>
+     * <li>To allow for explicitly overriding default values with null</li>
+     * </ul>
+     */
+    private final void setValue0(int index, Object value) {
+        values[index] = value;
+        changed.set(index);
+    }
+
     @Override
     public final <T, U> void setValue(Field<T> field, U value, Converter<T, ? super U> converter) {
         setValue(field, converter.to(value));
@@ -353,16 +370,31 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     final void setValues(Field<?>[] fields, AbstractRecord record) {
         for (Field<?> field : fields) {
-            setValue(field, record.getValue0(field));
+            int targetIndex = indexOrFail(fieldsRow(), field);
+            int sourceIndex = indexOrFail(record.fieldsRow(), field);
+
+            values[targetIndex] = record.values[sourceIndex];
+            originals[targetIndex] = record.originals[sourceIndex];
+            changed.set(targetIndex, record.changed.get(sourceIndex));
         }
     }
 
-    final void setValue(Field<?> field, Value<?> value) {
-        setValue(indexOrFail(fieldsRow(), field), value);
+    /**
+     * Set a value and its original value, resetting the changed flag, as if
+     * the value had just been fetched from the database.
+     */
+    final void setUnchanged(Field<?> field, Object value) {
+        setUnchanged(indexOrFail(fieldsRow(), field), value);
     }
 
-    final void setValue(int index, Value<?> value) {
-        getValues()[index] = value;
+    /**
+     * Set a value and its original value, resetting the changed flag, as if
+     * the value had just been fetched from the database.
+     */
+    final void setUnchanged(int index, Object value) {
+        values[index] = value;
+        originals[index] = value;
+        changed.clear(index);
     }
 
     /**
@@ -382,10 +414,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
             @Override
             public AbstractRecord operate(AbstractRecord record) throws RuntimeException {
-                Value<?>[] v = getValues();
-
-                for (int i = 0; i < v.length; i++) {
-                    record.setValue(i, new Value<Object>(v[i].getOriginal()));
+                for (int i = 0; i < originals.length; i++) {
+                    record.setUnchanged(i, originals[i]);
                 }
 
                 return record;
@@ -400,7 +430,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final Object original(int fieldIndex) {
-        return getValues()[fieldIndex].getOriginal();
+        return originals[safeIndex(fieldIndex)];
     }
 
     @Override
@@ -410,13 +440,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final boolean changed() {
-        for (Value<?> value : getValues()) {
-            if (value.isChanged()) {
-                return true;
-            }
-        }
-
-        return false;
+        return !changed.isEmpty();
     }
 
     @Override
@@ -426,7 +450,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final boolean changed(int fieldIndex) {
-        return getValue0(fieldIndex).isChanged();
+        return changed.get(safeIndex(fieldIndex));
     }
 
     @Override
@@ -435,9 +459,13 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     }
 
     @Override
-    public final void changed(boolean changed) {
-        for (Value<?> value : getValues()) {
-            value.setChanged(changed);
+    public final void changed(boolean c) {
+        changed.set(0, values.length, c);
+
+        // [#1995] If a value is meant to be "unchanged", the "original" should
+        // match the supposedly "unchanged" value.
+        if (!c) {
+            System.arraycopy(values, 0, originals, 0, values.length);
         }
     }
 
@@ -447,8 +475,14 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     }
 
     @Override
-    public final void changed(int fieldIndex, boolean changed) {
-        getValue0(fieldIndex).setChanged(changed);
+    public final void changed(int fieldIndex, boolean c) {
+        changed.set(safeIndex(fieldIndex), c);
+
+        // [#1995] If a value is meant to be "unchanged", the "original" should
+        // match the supposedly "unchanged" value.
+        if (!c) {
+            originals[fieldIndex] = values[fieldIndex];
+        }
     }
 
     @Override
@@ -458,9 +492,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void reset() {
-        for (Value<?> value : getValues()) {
-            value.reset();
-        }
+        changed.clear();
+        System.arraycopy(originals, 0, values, 0, originals.length);
     }
 
     @Override
@@ -470,7 +503,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void reset(int fieldIndex) {
-        getValue0(fieldIndex).reset();
+        changed.clear(safeIndex(fieldIndex));
+        values[fieldIndex] = originals[fieldIndex];
     }
 
     @Override
@@ -555,13 +589,10 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
                         if (sourceIndex >= 0) {
                             DataType<?> targetType = targetField.getDataType();
-                            Value<?> sourceValue = values[sourceIndex];
 
-                            t.values[targetIndex] = new Value<Object>(
-                                targetType.convert(sourceValue.getValue()),
-                                targetType.convert(sourceValue.getOriginal()),
-                                sourceValue.isChanged()
-                            );
+                            t.values[targetIndex] = targetType.convert(values[sourceIndex]);
+                            t.originals[targetIndex] = targetType.convert(originals[sourceIndex]);
+                            t.changed.set(targetIndex, changed.get(sourceIndex));
                         }
                     }
                 }
@@ -50,6 +50,9 @@ import static org.jooq.SQLDialect.CUBRID;
 import static org.jooq.impl.Utils.DATA_LOCK_ROWS_FOR_UPDATE;
 import static org.jooq.impl.Utils.consumeWarnings;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -58,9 +61,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 
+import org.jooq.AsyncResult;
 import org.jooq.Configuration;
 import org.jooq.Converter;
 import org.jooq.Cursor;
@@ -73,6 +77,8 @@ import org.jooq.RecordMapper;
 import org.jooq.Result;
 import org.jooq.ResultQuery;
 import org.jooq.Table;
+import org.jooq.conf.Settings;
+import org.jooq.conf.SettingsTools;
 import org.jooq.exception.DataTypeException;
 import org.jooq.tools.Convert;
 import org.jooq.tools.JooqLogger;
@@ -92,6 +98,7 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
 
     private int                     maxRows;
     private int                     fetchSize;
+    private int                     fetchDirection;
     private int                     resultSetConcurrency;
     private int                     resultSetType;
     private int                     resultSetHoldability;
@@ -151,6 +158,12 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         return this;
     }
 
+    @Override
+    public final ResultQuery<R> fetchDirection(int direction) {
+        this.fetchDirection = direction;
+        return this;
+    }
+
     @Override
     public final ResultQuery<R> resultSetConcurrency(int concurrency) {
         this.resultSetConcurrency = concurrency;
@@ -231,21 +244,54 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
             ctx.statement(ctx.connection().prepareStatement(ctx.sql()));
         }
 
+        Settings settings = ctx.configuration().settings();
+
         // [#1263] Allow for negative fetch sizes to support some non-standard
         // MySQL feature, where Integer.MIN_VALUE is used
-        if (fetchSize != 0) {
+        int f = fetchSize(ctx, settings);
+        if (f != 0) {
             if (log.isDebugEnabled())
-                log.debug("Setting fetch size", fetchSize);
+                log.debug("Setting fetch size", f);
 
-            ctx.statement().setFetchSize(fetchSize);
+            ctx.statement().setFetchSize(f);
+        }
+
+        int d = fetchDirection != 0 ? fetchDirection : SettingsTools.fetchDirection(settings);
+        if (d != 0) {
+            ctx.statement().setFetchDirection(d);
         }
 
         // [#1854] Set the max number of rows for this result query
-        if (maxRows != 0) {
-            ctx.statement().setMaxRows(maxRows);
+        int m = maxRows != 0 ? maxRows : SettingsTools.maxRows(settings);
+        if (m != 0) {
+            ctx.statement().setMaxRows(m);
         }
     }
 
+    /**
+     * The fetch size to apply to this query's statement, which is either
+     * specified explicitly on the query, or in the settings. Lazy fetching may
+     * default to a fetch size that makes the driver stream rows.
+     */
+    private final int fetchSize(ExecuteContext ctx, Settings settings) {
+        if (fetchSize != 0)
+            return fetchSize;
+
+        int result = SettingsTools.fetchSize(settings);
+        if (result != 0)
+            return result;
+
+        // Drivers stream only read-only, forward-only result sets
+        if (lazy
+                && SettingsTools.fetchLazyStreaming(settings)
+                && !isForUpdate()
+                && (resultSetType == 0 || resultSetType == ResultSet.TYPE_FORWARD_ONLY)
+                && (resultSetConcurrency == 0 || resultSetConcurrency == ResultSet.CONCUR_READ_ONLY))
+            return Utils.streamingFetchSize(ctx.configuration().dialect());
+
+        return 0;
+    }
+
     @Override
     protected final int execute(ExecuteContext ctx, ExecuteListener listener) throws SQLException {
         try {
@@ -337,6 +383,102 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         return result;
     }
 
+    @Override
+    public final Result<R> fetchColumnar() {
+        Cursor<R> cursor = fetchLazy();
+
+        try {
+            return cursor.fetchColumnar();
+        }
+        finally {
+            cursor.close();
+        }
+    }
+
+    @Override
+    public final void formatCSV(Writer writer) throws IOException {
+        Cursor<R> cursor = fetchLazy();
+
+        try {
+            cursor.formatCSV(writer);
+        }
+        finally {
+            cursor.close();
+        }
+    }
+
+    @Override
+    public final void formatCSV(Writer writer, char delimiter, String nullString) throws IOException {
+        Cursor<R> cursor = fetchLazy();
+
+        try {
+            cursor.formatCSV(writer, delimiter, nullString);
+        }
+        finally {
+            cursor.close();
+        }
+    }
+
+    @Override
+    public final void formatCSV(OutputStream stream) throws IOException {
+        Cursor<R> cursor = fetchLazy();
+
+        try {
+            cursor.formatCSV(stream);
+        }
+        finally {
+            cursor.close();
+        }
+    }
+
+    @Override
+    public final void formatJSON(Writer writer) throws IOException {
+        Cursor<R> cursor = fetchLazy();
+
+        try {
+            cursor.formatJSON(writer);
+        }
+        finally {
+            cursor.close();
+        }
+    }
+
+    @Override
+    public final void formatJSON(OutputStream stream) throws IOException {
+        Cursor<R> cursor = fetchLazy();
+
+        try {
+            cursor.formatJSON(stream);
+        }
+        finally {
+            cursor.close();
+        }
+    }
+
+    @Override
+    public final void formatXML(Writer writer) throws IOException {
+        Cursor<R> cursor = fetchLazy();
+
+        try {
+            cursor.formatXML(writer);
+        }
+        finally {
+            cursor.close();
+        }
+    }
+
+    @Override
+    public final void formatXML(OutputStream stream) throws IOException {
+        Cursor<R> cursor = fetchLazy();
+
+        try {
+            cursor.formatXML(stream);
+        }
+        finally {
+            cursor.close();
+        }
+    }
+
     @Override
     public final ResultSet fetchResultSet() {
         return fetchLazy().resultSet();
@@ -344,12 +486,13 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
 
     @Override
     public final Cursor<R> fetchLazy() {
-        return fetchLazy(0);
+        return fetchLazy(fetchSize);
     }
 
     @Override
     @Deprecated
     public final Cursor<R> fetchLazy(int size) {
+        int previousFetchSize = fetchSize;
         lazy = true;
         fetchSize = size;
 
@@ -358,7 +501,7 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         }
         finally {
             lazy = false;
-            fetchSize = 0;
+            fetchSize = previousFetchSize;
         }
 
         return cursor;
@@ -671,15 +814,23 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
     @Deprecated
     public final org.jooq.FutureResult<R> fetchLater() {
         ExecutorService executor = newSingleThreadExecutor();
-        Future<Result<R>> future = executor.submit(new ResultQueryCallable());
-        return new FutureResultImpl<R>(future, executor);
+        return new FutureResultImpl<R>(fetchAsync(executor), executor);
     }
 
     @Override
     @Deprecated
     public final org.jooq.FutureResult<R> fetchLater(ExecutorService executor) {
-        Future<Result<R>> future = executor.submit(new ResultQueryCallable());
-        return new FutureResultImpl<R>(future);
+        return new FutureResultImpl<R>(fetchAsync(executor));
+    }
+
+    @Override
+    public final AsyncResult<Result<R>> fetchAsync() {
+        return fetchAsync(null);
+    }
+
+    @Override
+    public final AsyncResult<Result<R>> fetchAsync(Executor executor) {
+        return AsyncResultImpl.submit(configuration(), executor, new ResultQueryCallable());
     }
 
     @Override
@@ -463,7 +463,7 @@ abstract class AbstractStoreQuery<R extends Record> extends AbstractQuery implem
 
                                 @Override
                                 public R operate(R record) throws RuntimeException {
-                                    ((AbstractRecord) record).setValue(field, new Value<Number>(id));
+                                    ((AbstractRecord) record).setUnchanged(field, id);
                                     return record;
                                 }
                             }));
@@ -0,0 +1,259 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import org.jooq.AsyncCallback;
+import org.jooq.AsyncFunction;
+import org.jooq.AsyncResult;
+import org.jooq.Configuration;
+import org.jooq.ExecutorProvider;
+
+/**
+ * A {@link FutureTask} based implementation of {@link AsyncResult}.
+ * <p>
+ * While running, this task is registered with its executing thread, such that
+ * {@link DefaultExecuteContext} can register the statement currently being
+ * executed for cancellation.
+ *
+ * @author Lukas Eder
+ */
+class AsyncResultImpl<T> extends FutureTask<T> implements AsyncResult<T> {
+
+    private static final ThreadLocal<AsyncResultImpl<?>> CURRENT = new ThreadLocal<AsyncResultImpl<?>>();
+
+    private final Future<?>                              parent;
+    private final List<Runnable>                         listeners;
+    private boolean                                      completed;
+    private volatile Statement                           statement;
+
+    AsyncResultImpl(Callable<T> callable) {
+        this(callable, null);
+    }
+
+    private AsyncResultImpl(Callable<T> callable, Future<?> parent) {
+        super(callable);
+
+        this.parent = parent;
+        this.listeners = new ArrayList<Runnable>();
+    }
+
+    /**
+     * Submit a callable to an executor.
+     *
+     * @param configuration The configuration providing an executor, if no
+     *            explicit executor is given
+     * @param executor The explicit executor, or <code>null</code>
+     */
+    static final <T> AsyncResult<T> submit(Configuration configuration, Executor executor, Callable<T> callable) {
+        AsyncResultImpl<T> result = new AsyncResultImpl<T>(callable);
+
+        if (executor == null) {
+            ExecutorProvider provider = Utils.configuration(configuration).executorProvider();
+
+            // Executor providers may have been lost during deserialisation
+            executor = (provider != null ? provider : new DefaultExecutorProvider()).provide();
+        }
+
+        executor.execute(result);
+        return result;
+    }
+
+    /**
+     * Register the statement that is being executed by the current thread, if
+     * the current thread runs an asynchronous execution.
+     */
+    static final void statement(Statement statement) {
+        AsyncResultImpl<?> current = CURRENT.get();
+
+        if (current != null)
+            current.statement = statement;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Execution and cancellation
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final void run() {
+        AsyncResultImpl<?> previous = CURRENT.get();
+        CURRENT.set(this);
+
+        try {
+            super.run();
+        }
+        finally {
+            statement = null;
+
+            if (previous == null)
+                CURRENT.remove();
+            else
+                CURRENT.set(previous);
+        }
+    }
+
+    @Override
+    public final boolean cancel(boolean mayInterruptIfRunning) {
+        Statement s = statement;
+
+        // Interrupting threads that are blocked in JDBC calls may leave
+        // drivers in an inconsistent state. Cancel the statement instead
+        boolean result = super.cancel(false);
+
+        if (result && mayInterruptIfRunning && s != null) {
+            try {
+                s.cancel();
+            }
+
+            // The statement may have completed or been closed in the meantime
+            catch (SQLException ignore) {}
+        }
+
+        if (parent != null)
+            parent.cancel(mayInterruptIfRunning);
+
+        return result;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Callbacks and composition
+    // -------------------------------------------------------------------------
+
+    @Override
+    protected final void done() {
+        List<Runnable> list;
+
+        synchronized (listeners) {
+            completed = true;
+            list = new ArrayList<Runnable>(listeners);
+            listeners.clear();
+        }
+
+        for (Runnable listener : list)
+            listener.run();
+    }
+
+    /**
+     * Run a listener upon completion, or immediately if already completed.
+     */
+    private final void listen(Runnable listener) {
+        synchronized (listeners) {
+            if (!completed) {
+                listeners.add(listener);
+                return;
+            }
+        }
+
+        listener.run();
+    }
+
+    @Override
+    public final AsyncResult<T> onComplete(final AsyncCallback<? super T> callback) {
+        listen(new Runnable() {
+
+            @Override
+            public void run() {
+                T value = null;
+                Throwable cause = null;
+
+                try {
+                    value = get();
+                }
+                catch (ExecutionException e) {
+                    cause = e.getCause();
+                }
+                catch (CancellationException e) {
+                    cause = e;
+                }
+                catch (InterruptedException e) {
+                    cause = e;
+                }
+
+                if (cause == null)
+                    callback.onSuccess(value);
+                else
+                    callback.onFailure(cause);
+            }
+        });
+
+        return this;
+    }
+
+    @Override
+    public final <U> AsyncResult<U> then(final AsyncFunction<? super T, ? extends U> function) {
+        final AsyncResultImpl<U> result = new AsyncResultImpl<U>(new Callable<U>() {
+
+            @Override
+            public U call() throws Exception {
+                T value;
+
+                try {
+                    value = get();
+                }
+                catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+
+                    if (cause instanceof Exception)
+                        throw (Exception) cause;
+                    else if (cause instanceof Error)
+                        throw (Error) cause;
+                    else
+                        throw e;
+                }
+
+                return function.apply(value);
+            }
+        }, this);
+
+        listen(result);
+        return result;
+    }
+}
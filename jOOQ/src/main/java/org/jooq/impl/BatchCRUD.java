@@ -42,22 +42,28 @@ package org.jooq.impl;
 
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
 
+import java.math.BigInteger;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
+import org.jooq.AsyncResult;
 import org.jooq.AttachableInternal;
 import org.jooq.Batch;
 import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
-import org.jooq.ExecuteContext;
 import org.jooq.Query;
 import org.jooq.UpdatableRecord;
-import org.jooq.exception.ControlFlowSignal;
 import org.jooq.exception.DataAccessException;
+import org.jooq.exception.DataChangedException;
 
 /**
  * @author Lukas Eder
@@ -69,7 +75,7 @@ class BatchCRUD implements Batch {
      */
     private static final long          serialVersionUID = -2935544935267715011L;
 
-    private final DSLContext             create;
+    private final DSLContext           create;
     private final Configuration        configuration;
     private final UpdatableRecord<?>[] records;
     private final Action               action;
@@ -81,6 +87,22 @@ class BatchCRUD implements Batch {
         this.records = records;
     }
 
+    @Override
+    public final AsyncResult<int[]> executeAsync() {
+        return executeAsync(null);
+    }
+
+    @Override
+    public final AsyncResult<int[]> executeAsync(Executor executor) {
+        return AsyncResultImpl.submit(configuration, executor, new Callable<int[]>() {
+
+            @Override
+            public int[] call() {
+                return execute();
+            }
+        });
+    }
+
     @Override
     public final int size() {
         return records.length;
@@ -100,96 +122,85 @@ class BatchCRUD implements Batch {
     }
 
     private final int[] executePrepared() {
-        Map<String, List<Query>> queries = new LinkedHashMap<String, List<Query>>();
-        QueryCollector collector = new QueryCollector();
+        Prepared[] prepared = prepare();
+        int[] result = new int[records.length];
 
-        // Add the QueryCollector to intercept query execution after rendering
-        Configuration local = configuration.derive(Utils.combine(
-            configuration.executeListenerProviders(),
-            new DefaultExecuteListenerProvider(collector)
-        ));
+        // Group statements by shape, i.e. by the SQL they would render
+        Map<List<Object>, List<Prepared>> shapes = new LinkedHashMap<List<Object>, List<Prepared>>();
 
-        // [#1537] Communicate with UpdatableRecordImpl
-        local.data(Utils.DATA_OMIT_RETURNING_CLAUSE, true);
+        for (Prepared p : prepared) {
+            if (p != null) {
+                List<Object> shape = p.shape();
+                List<Prepared> list = shapes.get(shape);
 
-        // [#1529] Avoid DEBUG logging of single INSERT / UPDATE statements
-        local.settings().setExecuteLogging(false);
-
-        for (int i = 0; i < records.length; i++) {
-            Configuration previous = ((AttachableInternal) records[i]).configuration();
+                if (list == null) {
+                    list = new ArrayList<Prepared>();
+                    shapes.put(shape, list);
+                }
 
-            try {
-                records[i].attach(local);
-                executeAction(i);
+                list.add(p);
             }
-            catch (QueryCollectorSignal e) {
-                Query query = e.getQuery();
-                String sql = e.getSQL();
-
-                // Aggregate executable queries by identical SQL
-                if (query.isExecutable()) {
-                    List<Query> list = queries.get(sql);
+        }
 
-                    if (list == null) {
-                        list = new ArrayList<Query>();
-                        queries.put(sql, list);
-                    }
+        // Execute one batch statement for each shape, which is rendered only
+        // once. Every shape may have several records with different bind
+        // values. The order is preserved as much as possible
+        for (List<Prepared> list : shapes.values()) {
+            BatchBindStep batch = create.batch(list.get(0).query);
 
-                    list.add(query);
-                }
+            for (Prepared p : list) {
+                batch.bind(p.query.getBindValues().toArray());
             }
-            finally {
-                records[i].attach(previous);
+
+            int[] array = batch.execute();
+            for (int i = 0; i < list.size() && i < array.length; i++) {
+                result[list.get(i).index] = array[i];
             }
         }
 
-        // Execute one batch statement for each identical SQL statement. Every
-        // SQL statement may have several queries with different bind values.
-        // The order is preserved as much as possible
-        List<Integer> result = new ArrayList<Integer>();
-        for (Entry<String, List<Query>> entry : queries.entrySet()) {
-            BatchBindStep batch = create.batch(entry.getValue().get(0));
+        executed(prepared, result);
+        return result;
+    }
 
-            for (Query query : entry.getValue()) {
-                batch.bind(query.getBindValues().toArray());
-            }
+    private final int[] executeStatic() {
+        Prepared[] prepared = prepare();
+        List<Query> queries = new ArrayList<Query>();
 
-            int[] array = batch.execute();
-            for (int i : array) {
-                result.add(i);
+        for (Prepared p : prepared) {
+            if (p != null) {
+                queries.add(p.query);
             }
         }
 
-        int[] array = new int[result.size()];
-        for (int i = 0; i < result.size(); i++) {
-            array[i] = result.get(i);
+        // Resulting statements can be batch executed in their requested order
+        int[] array = create.batch(queries).execute();
+        int[] result = new int[records.length];
+
+        for (int i = 0, j = 0; i < prepared.length && j < array.length; i++) {
+            if (prepared[i] != null) {
+                result[i] = array[j++];
+            }
         }
 
-        updateChangedFlag();
-        return array;
+        executed(prepared, result);
+        return result;
     }
 
-    private final int[] executeStatic() {
-        List<Query> queries = new ArrayList<Query>();
-        QueryCollector collector = new QueryCollector();
-
-        Configuration local = configuration.derive(Utils.combine(
-            configuration.executeListenerProviders(),
-            new DefaultExecuteListenerProvider(collector)
-        ));
+    /**
+     * Prepare all statements without executing them.
+     */
+    private final Prepared[] prepare() {
+        Prepared[] result = new Prepared[records.length];
 
         for (int i = 0; i < records.length; i++) {
             Configuration previous = ((AttachableInternal) records[i]).configuration();
 
             try {
-                records[i].attach(local);
-                executeAction(i);
-            }
-            catch (QueryCollectorSignal e) {
-                Query query = e.getQuery();
+                records[i].attach(configuration);
+                result[i] = ((UpdatableRecordImpl<?>) records[i]).prepare(create, action);
 
-                if (query.isExecutable()) {
-                    queries.add(query);
+                if (result[i] != null) {
+                    result[i].index = i;
                 }
             }
             finally {
@@ -197,35 +208,30 @@ class BatchCRUD implements Batch {
             }
         }
 
-        // Resulting statements can be batch executed in their requested order
-        int[] result = create.batch(queries).execute();
-        updateChangedFlag();
         return result;
     }
 
-    private void executeAction(int i) {
-        switch (action) {
-            case STORE:
-                records[i].store();
-                break;
-            case INSERT:
-                records[i].insert();
-                break;
-            case UPDATE:
-                records[i].update();
-                break;
-            case DELETE:
-                records[i].delete();
-                break;
+    /**
+     * Update the records' state after execution.
+     */
+    private final void executed(Prepared[] prepared, int[] result) {
+        boolean changed = false;
+
+        for (int i = 0; i < prepared.length; i++) {
+            if (prepared[i] != null) {
+                if (result[i] > 0 || result[i] == Statement.SUCCESS_NO_INFO) {
+                    prepared[i].record.executed(prepared[i]);
+                }
+
+                // [#1596] No records were updated due to version and/or timestamp change
+                else if (prepared[i].optimistic) {
+                    changed = true;
+                }
+            }
         }
-    }
 
-    private final void updateChangedFlag() {
-        // 1. Deleted records should be marked as changed, such that subsequent
-        //    calls to store() will insert them again
-        // 2. Stored records should be marked as unchanged
-        for (UpdatableRecord<?> record : records) {
-            record.changed(action == Action.DELETE);
+        if (changed) {
+            throw new DataChangedException("Database record has been changed or doesn't exist any longer");
         }
     }
 
@@ -256,51 +262,48 @@ class BatchCRUD implements Batch {
     }
 
     /**
-     * Collect queries
-     * <p>
-     * The query collector intercepts query execution after rendering. This
-     * allows for rendering SQL according to the specific logic contained in
-     * TableRecords without actually executing that SQL
+     * A statement prepared by a record for batch execution.
      */
-    private static class QueryCollector extends DefaultExecuteListener {
-
-        /**
-         * Generated UID
-         */
-        private static final long serialVersionUID = 7399239846062763212L;
-
-        @Override
-        public void renderEnd(ExecuteContext ctx) {
-            throw new QueryCollectorSignal(ctx.sql(), ctx.query());
+    static final class Prepared {
+
+        final UpdatableRecordImpl<?> record;
+        final Action                 action;
+        final Query                  query;
+        final BigInteger             version;
+        final Timestamp              timestamp;
+        final boolean                optimistic;
+        final BitSet                 nulls;
+        int                          index;
+
+        Prepared(UpdatableRecordImpl<?> record, Action action, Query query, BigInteger version, Timestamp timestamp, boolean optimistic, BitSet nulls) {
+            this.record = record;
+            this.action = action;
+            this.query = query;
+            this.version = version;
+            this.timestamp = timestamp;
+            this.optimistic = optimistic;
+            this.nulls = nulls;
         }
-    }
-
-    /**
-     * A query execution interception signal.
-     * <p>
-     * This exception is used as a signal for jOOQ's internals to abort query
-     * execution, and return generated SQL back to batch execution.
-     */
-    private static class QueryCollectorSignal extends ControlFlowSignal {
 
         /**
-         * Generated UID
+         * The shape of this statement.
+         * <p>
+         * Statements of the same shape render the same SQL. The SQL depends
+         * on the table, the statement type, the changed fields, and on
+         * whether values used in conditions are <code>NULL</code>. Changed
+         * values are bound whether they are <code>NULL</code> or not, so they
+         * don't affect the shape.
          */
-        private static final long serialVersionUID = -9047250761846931903L;
-        private final String      sql;
-        private final Query       query;
-
-        QueryCollectorSignal(String sql, Query query) {
-            this.sql = sql;
-            this.query = query;
-        }
-
-        String getSQL() {
-            return sql;
-        }
-
-        Query getQuery() {
-            return query;
+        final List<Object> shape() {
+            return Arrays.<Object> asList(
+                record.getTable(),
+                action,
+                record.changed.clone(),
+                nulls,
+                version != null,
+                timestamp != null,
+                optimistic
+            );
         }
     }
 }
@@ -44,7 +44,10 @@ import static org.jooq.impl.Utils.consumeWarnings;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
+import org.jooq.AsyncResult;
 import org.jooq.Batch;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
@@ -69,6 +72,22 @@ class BatchMultiple implements Batch {
         this.queries = queries;
     }
 
+    @Override
+    public final AsyncResult<int[]> executeAsync() {
+        return executeAsync(null);
+    }
+
+    @Override
+    public final AsyncResult<int[]> executeAsync(Executor executor) {
+        return AsyncResultImpl.submit(configuration, executor, new Callable<int[]>() {
+
+            @Override
+            public int[] call() {
+                return execute();
+            }
+        });
+    }
+
     @Override
     public final int size() {
         return queries.length;
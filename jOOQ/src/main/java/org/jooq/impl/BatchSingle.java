@@ -49,7 +49,10 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
+import org.jooq.AsyncResult;
 import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
@@ -95,6 +98,22 @@ class BatchSingle implements BatchBindStep {
         return this;
     }
 
+    @Override
+    public final AsyncResult<int[]> executeAsync() {
+        return executeAsync(null);
+    }
+
+    @Override
+    public final AsyncResult<int[]> executeAsync(Executor executor) {
+        return AsyncResultImpl.submit(configuration, executor, new Callable<int[]>() {
+
+            @Override
+            public int[] call() {
+                return execute();
+            }
+        });
+    }
+
     @Override
     public final int size() {
         return allBindValues.size();
@@ -0,0 +1,477 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Utils.attachRecords;
+
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+
+/**
+ * A column-oriented storage for the records of a {@link Result}.
+ * <p>
+ * Rather than keeping one record object per row, every column is stored in
+ * its own array. <code>Integer</code>, <code>Long</code> and
+ * <code>Double</code> columns are stored in primitive arrays with a separate
+ * <code>null</code> bitmap. <code>String</code> columns are
+ * dictionary-encoded as long as the number of distinct values remains small.
+ * <p>
+ * Records are materialised lazily on {@link #get(int)} as new, unchanged
+ * copies of the stored row. Modifications to materialised records are not
+ * written back to this storage. Rows can only be appended.
+ *
+ * @author Lukas Eder
+ */
+final class ColumnarRecords<R extends Record> extends AbstractList<R> implements RandomAccess, Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long                  serialVersionUID = 1542364278157815409L;
+
+    private static final int                   INITIAL_CAPACITY = 16;
+
+    private final Field<?>[]                   fields;
+    private final Class<? extends R>           type;
+    private final Column[]                     columns;
+    private Configuration                      configuration;
+    private int                                size;
+    private transient Constructor<? extends R> constructor;
+
+    ColumnarRecords(Configuration configuration, Field<?>[] fields, Class<? extends R> type) {
+        this.configuration = configuration;
+        this.fields = fields;
+        this.type = type;
+        this.columns = new Column[fields.length];
+
+        for (int i = 0; i < fields.length; i++) {
+            columns[i] = column(fields[i].getType());
+        }
+    }
+
+    /**
+     * Create a new, empty storage with the same record type.
+     */
+    final ColumnarRecords<R> emptyCopy() {
+        return new ColumnarRecords<R>(configuration, fields, type);
+    }
+
+    /**
+     * Attach this storage, and thus all subsequently materialised records.
+     */
+    final void attach(Configuration c) {
+        this.configuration = c;
+    }
+
+    /**
+     * Get a single value without materialising its record.
+     */
+    final Object value(int row, int column) {
+        rangeCheck(row);
+        return columns[column].get(row);
+    }
+
+    /**
+     * Append a row of another storage without materialising its record.
+     */
+    final void addRow(ColumnarRecords<R> source, int row) {
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].add(size, source.columns[i].get(row));
+        }
+
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Sort the rows by the values of a single column.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    final void sortByColumn(final int column, final Comparator comparator) {
+        final Column c = columns[column];
+
+        permute(order(new Comparator<Integer>() {
+            @Override
+            public int compare(Integer i1, Integer i2) {
+                return comparator.compare(c.get(i1), c.get(i2));
+            }
+        }));
+    }
+
+    /**
+     * Sort the rows by comparing materialised records.
+     */
+    final void sortByRecord(final Comparator<? super R> comparator) {
+        final Object[] records = toArray();
+
+        permute(order(new Comparator<Integer>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public int compare(Integer i1, Integer i2) {
+                return comparator.compare((R) records[i1], (R) records[i2]);
+            }
+        }));
+    }
+
+    private final Integer[] order(Comparator<Integer> comparator) {
+        Integer[] order = new Integer[size];
+
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+
+        // Arrays.sort() on objects is stable, as is Collections.sort()
+        Arrays.sort(order, comparator);
+        return order;
+    }
+
+    private final void permute(Integer[] order) {
+        for (int i = 0; i < columns.length; i++) {
+            Column source = columns[i];
+            Column target = column(fields[i].getType());
+
+            for (int j = 0; j < order.length; j++) {
+                target.add(j, source.get(order[j]));
+            }
+
+            columns[i] = target;
+        }
+
+        modCount++;
+    }
+
+    private final void rangeCheck(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Index: " + row + ", Size: " + size);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: List API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final R get(int index) {
+        rangeCheck(index);
+
+        if (constructor == null && type != RecordImpl.class) {
+            constructor = Utils.recordConstructor(type);
+        }
+
+        @SuppressWarnings("unchecked")
+        AbstractRecord record = (AbstractRecord) Utils.newRecord((Constructor<R>) constructor, fields, null).<RuntimeException> operate(null);
+
+        for (int i = 0; i < columns.length; i++) {
+            Object value = columns[i].get(index);
+
+            record.values[i] = value;
+            record.originals[i] = value;
+        }
+
+        if (attachRecords(configuration)) {
+            record.attach(configuration);
+        }
+
+        @SuppressWarnings("unchecked")
+        R result = (R) record;
+        return result;
+    }
+
+    @Override
+    public final boolean add(R record) {
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].add(size, record.getValue(i));
+        }
+
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public final void add(int index, R record) {
+        if (index != size) {
+            throw new UnsupportedOperationException("Columnar results support appending records only");
+        }
+
+        add(record);
+    }
+
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Column implementations
+    // -------------------------------------------------------------------------
+
+    private static final Column column(Class<?> type) {
+        if (type == Integer.class)
+            return new IntColumn();
+        else if (type == Long.class)
+            return new LongColumn();
+        else if (type == Double.class)
+            return new DoubleColumn();
+        else if (type == String.class)
+            return new StringColumn();
+        else
+            return new ObjectColumn();
+    }
+
+    private static final int capacity(int length, int index) {
+        return Math.max(INITIAL_CAPACITY, Math.max(index + 1, length + (length >> 1)));
+    }
+
+    /**
+     * A single column's values.
+     */
+    private static abstract class Column implements Serializable {
+
+        /**
+         * Generated UID
+         */
+        private static final long serialVersionUID = -4387154928262447129L;
+
+        abstract Object get(int row);
+
+        /**
+         * Append a value. <code>row</code> is always the number of values
+         * stored so far.
+         */
+        abstract void add(int row, Object value);
+    }
+
+    private static final class IntColumn extends Column {
+
+        /**
+         * Generated UID
+         */
+        private static final long serialVersionUID = 8426183741237459710L;
+
+        private int[]             values           = new int[0];
+        private final BitSet      nulls            = new BitSet();
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+
+        @Override
+        void add(int row, Object value) {
+            if (row >= values.length)
+                values = Arrays.copyOf(values, capacity(values.length, row));
+
+            if (value == null)
+                nulls.set(row);
+            else
+                values[row] = (Integer) value;
+        }
+    }
+
+    private static final class LongColumn extends Column {
+
+        /**
+         * Generated UID
+         */
+        private static final long serialVersionUID = -5510283196234722215L;
+
+        private long[]            values           = new long[0];
+        private final BitSet      nulls            = new BitSet();
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+
+        @Override
+        void add(int row, Object value) {
+            if (row >= values.length)
+                values = Arrays.copyOf(values, capacity(values.length, row));
+
+            if (value == null)
+                nulls.set(row);
+            else
+                values[row] = (Long) value;
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+
+        /**
+         * Generated UID
+         */
+        private static final long serialVersionUID = 4090745826716520343L;
+
+        private double[]          values           = new double[0];
+        private final BitSet      nulls            = new BitSet();
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+
+        @Override
+        void add(int row, Object value) {
+            if (row >= values.length)
+                values = Arrays.copyOf(values, capacity(values.length, row));
+
+            if (value == null)
+                nulls.set(row);
+            else
+                values[row] = (Double) value;
+        }
+    }
+
+    /**
+     * A dictionary-encoded string column, which falls back to storing plain
+     * string references once the dictionary grows too large to pay off.
+     */
+    private static final class StringColumn extends Column {
+
+        /**
+         * Generated UID
+         */
+        private static final long    serialVersionUID = -4735412440405768006L;
+
+        private static final int     MAX_DICTIONARY   = 1 << 16;
+
+        private Map<String, Integer> codes            = new HashMap<String, Integer>();
+        private String[]             dictionary       = new String[0];
+        private int[]                values           = new int[0];
+        private String[]             plain;
+
+        @Override
+        Object get(int row) {
+            if (plain != null)
+                return plain[row];
+
+            int code = values[row];
+            return code < 0 ? null : dictionary[code];
+        }
+
+        @Override
+        void add(int row, Object value) {
+            if (plain != null) {
+                if (row >= plain.length)
+                    plain = Arrays.copyOf(plain, capacity(plain.length, row));
+
+                plain[row] = (String) value;
+                return;
+            }
+
+            if (row >= values.length)
+                values = Arrays.copyOf(values, capacity(values.length, row));
+
+            if (value == null) {
+                values[row] = -1;
+                return;
+            }
+
+            Integer code = codes.get(value);
+            if (code == null) {
+                if (codes.size() >= MAX_DICTIONARY) {
+                    toPlain(row);
+                    add(row, value);
+                    return;
+                }
+
+                code = codes.size();
+                codes.put((String) value, code);
+
+                if (code >= dictionary.length)
+                    dictionary = Arrays.copyOf(dictionary, capacity(dictionary.length, code));
+
+                dictionary[code] = (String) value;
+            }
+
+            values[row] = code;
+        }
+
+        private void toPlain(int rows) {
+            String[] p = new String[capacity(rows, rows)];
+
+            for (int i = 0; i < rows; i++) {
+                p[i] = (String) get(i);
+            }
+
+            plain = p;
+            codes = null;
+            dictionary = null;
+            values = null;
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+
+        /**
+         * Generated UID
+         */
+        private static final long serialVersionUID = 2256431937046658215L;
+
+        private Object[]          values           = new Object[0];
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        void add(int row, Object value) {
+            if (row >= values.length)
+                values = Arrays.copyOf(values, capacity(values.length, row));
+
+            values[row] = value;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import static java.util.Arrays.asList;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jooq.Configuration;
+import org.jooq.Converter;
+import org.jooq.Record;
+import org.jooq.tools.Convert;
+
+/**
+ * The custom converters of a {@link Configuration}.
+ * <p>
+ * Converters registered with a {@link Configuration} are applied whenever
+ * values are converted to an arbitrary type in the context of that
+ * configuration, e.g. by {@link Record#getValue(int, Class)},
+ * {@link org.jooq.Result#getValues(int, Class)} or
+ * {@link Record#into(Class)}. A registered converter converts values of type
+ * {@link Converter#fromType()} (or any of its subtypes) to
+ * {@link Converter#toType()}, taking precedence over the built-in conversion
+ * rules of {@link Convert}.
+ * <p>
+ * Registering a converter replaces any previously registered converter for the
+ * same pair of types.
+ *
+ * @author Lukas Eder
+ */
+public final class ConverterRegistry {
+
+    /**
+     * The {@link Configuration#data()} key under which the registry is stored.
+     */
+    private static final String                                  DATA_CONVERTER_REGISTRY = new String("org.jooq.configuration.converter-registry");
+
+    private final ConcurrentMap<List<Class<?>>, Converter<?, ?>> converters;
+
+    private ConverterRegistry() {
+        this.converters = new ConcurrentHashMap<List<Class<?>>, Converter<?, ?>>();
+    }
+
+    /**
+     * Get the custom converters of a {@link Configuration}.
+     */
+    public static ConverterRegistry of(Configuration configuration) {
+        ConverterRegistry result = (ConverterRegistry) configuration.data(DATA_CONVERTER_REGISTRY);
+
+        if (result == null) {
+
+            // String synchronization is OK as the key was created using new String()
+            synchronized (DATA_CONVERTER_REGISTRY) {
+                result = (ConverterRegistry) configuration.data(DATA_CONVERTER_REGISTRY);
+
+                if (result == null) {
+                    result = new ConverterRegistry();
+                    configuration.data(DATA_CONVERTER_REGISTRY, result);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Register a custom converter.
+     */
+    public ConverterRegistry register(Converter<?, ?> converter) {
+        converters.put(types(converter.fromType(), converter.toType()), converter);
+        return this;
+    }
+
+    /**
+     * Unregister a custom converter that was previously registered with
+     * {@link #register(Converter)}.
+     */
+    public ConverterRegistry unregister(Converter<?, ?> converter) {
+        converters.remove(types(converter.fromType(), converter.toType()));
+        return this;
+    }
+
+    /**
+     * Convert a value, applying the registered custom converters, or the
+     * built-in rules of {@link Convert#convert(Object, Class)}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T convert(Object from, Class<? extends T> toClass) {
+        if (from != null && !converters.isEmpty()) {
+            for (Class<?> c = from.getClass(); c != null; c = c.getSuperclass()) {
+                Converter<Object, ?> converter = (Converter<Object, ?>) converters.get(types(c, toClass));
+
+                if (converter != null) {
+                    return (T) converter.from(from);
+                }
+            }
+        }
+
+        return Convert.convert(from, toClass);
+    }
+
+    @Override
+    public String toString() {
+        return "ConverterRegistry " + converters.values();
+    }
+
+    private static final List<Class<?>> types(Class<?> from, Class<?> to) {
+        return asList(from, to);
+    }
+
+    // -------------------------------------------------------------------------
+    // Conversions in the context of a Configuration
+    // -------------------------------------------------------------------------
+
+    /**
+     * The registry of a configuration, or <code>null</code> if there are no
+     * custom converters.
+     */
+    private static final ConverterRegistry registry(Configuration configuration) {
+        if (configuration == null) {
+            return null;
+        }
+
+        ConverterRegistry result = (ConverterRegistry) configuration.data(DATA_CONVERTER_REGISTRY);
+        return result == null || result.converters.isEmpty() ? null : result;
+    }
+
+    /**
+     * Convert a value in the context of a configuration.
+     */
+    static final <T> T convert(Configuration configuration, Object from, Class<? extends T> toClass) {
+        ConverterRegistry registry = registry(configuration);
+
+        return registry == null
+            ? Convert.<T>convert(from, toClass)
+            : registry.<T>convert(from, toClass);
+    }
+
+    /**
+     * Convert a collection of values in the context of a configuration.
+     */
+    static final <T> List<T> convert(Configuration configuration, Collection<?> from, Class<? extends T> toClass) {
+        ConverterRegistry registry = registry(configuration);
+
+        if (registry == null) {
+            return Convert.convert(from, toClass);
+        }
+
+        List<T> result = new ArrayList<T>(from.size());
+        for (Object o : from) {
+            result.add(registry.<T>convert(o, toClass));
+        }
+
+        return result;
+    }
+
+    /**
+     * Convert an array of values in the context of a configuration.
+     */
+    static final Object[] convertArray(Configuration configuration, Object[] from, Class<?> toClass) {
+        ConverterRegistry registry = registry(configuration);
+
+        if (registry == null || from == null) {
+            return Convert.convertArray(from, toClass);
+        }
+
+        Class<?> componentType = toClass.isArray() ? toClass.getComponentType() : toClass;
+        Object[] result = (Object[]) Array.newInstance(componentType, from.length);
+        for (int i = 0; i < from.length; i++) {
+            result[i] = registry.convert(from[i], componentType);
+        }
+
+        return result;
+    }
+}
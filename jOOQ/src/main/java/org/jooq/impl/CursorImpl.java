@@ -41,10 +41,17 @@
 package org.jooq.impl;
 
 import static java.lang.Boolean.TRUE;
+import static org.jooq.conf.SettingsTools.exportFlushSize;
 import static org.jooq.impl.Utils.DATA_LOCK_ROWS_FOR_UPDATE;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Constructor;
 import java.math.BigDecimal;
 import java.net.URL;
 import java.sql.Array;
@@ -87,20 +94,23 @@ import org.jooq.tools.jdbc.JDBCUtils;
  */
 class CursorImpl<R extends Record> implements Cursor<R> {
 
-    private static final JooqLogger   log = JooqLogger.getLogger(CursorImpl.class);
+    private static final JooqLogger        log = JooqLogger.getLogger(CursorImpl.class);
 
-    private final ExecuteContext      ctx;
-    private final ExecuteListener     listener;
-    private final Field<?>[]          fields;
-    private final boolean[]           intern;
-    private final boolean             keepResultSet;
-    private final boolean             keepStatement;
-    private final Class<? extends R>  type;
-    private boolean                   isClosed;
+    private final ExecuteContext           ctx;
+    private final ExecuteListener          listener;
+    private final boolean                  recordEvents;
+    private final Field<?>[]               fields;
+    private final FieldReader[]            readers;
+    private final boolean[]                intern;
+    private final boolean                  keepResultSet;
+    private final boolean                  keepStatement;
+    private final Class<? extends R>       type;
+    private final Constructor<? extends R> constructor;
+    private boolean                        isClosed;
 
-    private transient CursorResultSet rs;
-    private transient Iterator<R>     iterator;
-    private transient int             rows;
+    private transient CursorResultSet      rs;
+    private transient Iterator<R>          iterator;
+    private transient int                  rows;
 
     @SuppressWarnings("unchecked")
     CursorImpl(ExecuteContext ctx, ExecuteListener listener, Field<?>[] fields, int[] internIndexes, boolean keepStatement, boolean keepResultSet) {
@@ -110,8 +120,11 @@ class CursorImpl<R extends Record> implements Cursor<R> {
     CursorImpl(ExecuteContext ctx, ExecuteListener listener, Field<?>[] fields, int[] internIndexes, boolean keepStatement, boolean keepResultSet, Class<? extends R> type) {
         this.ctx = ctx;
         this.listener = (listener != null ? listener : new ExecuteListeners(ctx));
+        this.recordEvents = !(this.listener instanceof ExecuteListeners) || ((ExecuteListeners) this.listener).recordEvents();
         this.fields = fields;
+        this.readers = FieldReader.readers(ctx.configuration(), fields);
         this.type = type;
+        this.constructor = Utils.recordConstructor(type);
         this.keepStatement = keepStatement;
         this.keepResultSet = keepResultSet;
         this.rs = new CursorResultSet();
@@ -187,13 +200,61 @@ class CursorImpl<R extends Record> implements Cursor<R> {
         return null;
     }
 
+    @Override
+    public final Result<R> fetchColumnar() {
+        return fetch0(Integer.MAX_VALUE, new ResultImpl<R>(ctx.configuration(), new Fields<R>(fields),
+            new ColumnarRecords<R>(ctx.configuration(), fields, type)));
+    }
+
+    @Override
+    public final void formatCSV(Writer writer) throws IOException {
+        formatCSV(writer, ',', "");
+    }
+
+    @Override
+    public final void formatCSV(Writer writer, char delimiter, String nullString) throws IOException {
+        ResultWriter.csv(writer, fields, exportFlushSize(ctx.configuration().settings()), delimiter, nullString).write(this);
+    }
+
+    @Override
+    public final void formatCSV(OutputStream stream) throws IOException {
+        formatCSV(writer(stream));
+    }
+
+    @Override
+    public final void formatJSON(Writer writer) throws IOException {
+        ResultWriter.json(writer, fields, exportFlushSize(ctx.configuration().settings())).write(this);
+    }
+
+    @Override
+    public final void formatJSON(OutputStream stream) throws IOException {
+        formatJSON(writer(stream));
+    }
+
+    @Override
+    public final void formatXML(Writer writer) throws IOException {
+        ResultWriter.xml(writer, fields, exportFlushSize(ctx.configuration().settings())).write(this);
+    }
+
+    @Override
+    public final void formatXML(OutputStream stream) throws IOException {
+        formatXML(writer(stream));
+    }
+
+    private static final Writer writer(OutputStream stream) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(stream, "UTF-8"));
+    }
+
     @Override
     public final Result<R> fetch(int number) {
+        return fetch0(number, new ResultImpl<R>(ctx.configuration(), fields));
+    }
+
+    private final Result<R> fetch0(int number, ResultImpl<R> result) {
         // [#1157] This invokes listener.fetchStart(ctx), which has to be called
         // Before listener.resultStart(ctx)
         iterator();
 
-        ResultImpl<R> result = new ResultImpl<R>(ctx.configuration(), fields);
         R record = null;
 
         ctx.result(result);
@@ -1409,7 +1470,7 @@ class CursorImpl<R extends Record> implements Cursor<R> {
                         rs.updateRow();
                     }
 
-                    record = Utils.newRecord((Class<AbstractRecord>) type, fields, ctx.configuration())
+                    record = Utils.newRecord((Constructor<AbstractRecord>) constructor, fields, ctx.configuration())
                                   .operate(initialiser);
 
                     rows++;
@@ -1441,28 +1502,28 @@ class CursorImpl<R extends Record> implements Cursor<R> {
             @Override
             public AbstractRecord operate(AbstractRecord record) throws SQLException {
                 ctx.record(record);
-                listener.recordStart(ctx);
 
-                for (int i = 0; i < fields.length; i++) {
-                    setValue(record, fields[i], i);
+                if (recordEvents)
+                    listener.recordStart(ctx);
+
+                ResultSet r = ctx.resultSet();
+                for (int i = 0; i < readers.length; i++) {
+                    Object value = readers[i].read(ctx, r, i + 1);
 
-                    if (intern[i]) {
-                        record.getValue0(i).intern();
+                    if (intern[i] && value instanceof String) {
+                        value = ((String) value).intern();
                     }
+
+                    record.values[i] = value;
+                    record.originals[i] = value;
                 }
 
                 ctx.record(record);
-                listener.recordEnd(ctx);
 
-                return record;
-            }
+                if (recordEvents)
+                    listener.recordEnd(ctx);
 
-            /**
-             * Utility method to prevent unnecessary unchecked conversions
-             */
-            private final <T> void setValue(AbstractRecord record, Field<T> field, int index) throws SQLException {
-                T value = Utils.getFromResultSet(ctx, field, index + 1);
-                record.setValue(index, new Value<T>(value));
+                return record;
             }
         }
     }
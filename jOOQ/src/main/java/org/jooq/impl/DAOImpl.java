@@ -44,15 +44,20 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.jooq.impl.DSL.row;
 import static org.jooq.impl.DSL.using;
+import static org.jooq.impl.Utils.chunks;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jooq.Condition;
 import org.jooq.Configuration;
 import org.jooq.DAO;
 import org.jooq.Field;
+import org.jooq.InsertQuery;
 import org.jooq.Record;
 import org.jooq.RecordMapper;
 import org.jooq.Table;
@@ -130,11 +135,46 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
     @Override
     public final void insert(Collection<P> objects) {
 
-        // Execute a batch INSERT
-        if (objects.size() > 1) {
+        // Execute a batch INSERT, if records need to maintain their version or
+        // timestamp fields individually, or if RecordListeners need to be
+        // notified about each record's INSERT
+        if (objects.size() > 1 && (table.getRecordVersion() != null
+                                || table.getRecordTimestamp() != null
+                                || configuration.recordListenerProviders().length > 0)) {
             using(configuration).batchInsert(records(objects, false)).execute();
         }
 
+        // Execute multi-row INSERTs for records with the same changed fields
+        else if (objects.size() > 1) {
+            Map<List<Field<?>>, List<R>> groups = new LinkedHashMap<List<Field<?>>, List<R>>();
+
+            for (R record : records(objects, false)) {
+                List<Field<?>> changed = new ArrayList<Field<?>>();
+
+                for (Field<?> field : record.fields())
+                    if (record.changed(field))
+                        changed.add(field);
+
+                List<R> group = groups.get(changed);
+                if (group == null) {
+                    group = new ArrayList<R>();
+                    groups.put(changed, group);
+                }
+
+                group.add(record);
+            }
+
+            // The INSERT statement splits large groups into several chunks
+            for (List<R> group : groups.values()) {
+                InsertQuery<R> insert = using(configuration).insertQuery(table);
+
+                for (R record : group)
+                    insert.addRecord(record);
+
+                insert.execute();
+            }
+        }
+
         // Execute a regular INSERT
         else if (objects.size() == 1) {
             records(objects, false).get(0).insert();
@@ -191,7 +231,9 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
         Field<?>[] pk = pk();
 
         if (pk != null) {
-            using(configuration).delete(table).where(equal(pk, ids)).execute();
+            for (List<T> chunk : chunks(configuration, distinct(pk, ids), pk.length)) {
+                using(configuration).delete(table).where(equal(pk, chunk)).execute();
+            }
         }
     }
 
@@ -247,6 +289,41 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
         return mapper().map(record);
     }
 
+    @Override
+    public final Map<T, P> findByIds(T... ids) {
+        return findByIds(asList(ids));
+    }
+
+    @Override
+    public final Map<T, P> findByIds(Collection<T> ids) {
+        Field<?>[] pk = pk();
+        Map<T, P> result = new LinkedHashMap<T, P>();
+
+        if (pk != null) {
+            Map<List<Object>, P> objects = new HashMap<List<Object>, P>();
+
+            for (List<T> chunk : chunks(configuration, distinct(pk, ids), pk.length)) {
+                for (R record : using(configuration).selectFrom(table).where(equal(pk, chunk)).fetch()) {
+                    Object[] values = new Object[pk.length];
+
+                    for (int i = 0; i < pk.length; i++)
+                        values[i] = record.getValue(pk[i]);
+
+                    objects.put(key(pk, values), mapper().map(record));
+                }
+            }
+
+            for (T id : ids) {
+                P object = objects.get(key(pk, id));
+
+                if (object != null)
+                    result.put(id, object);
+            }
+        }
+
+        return result;
+    }
+
     @Override
     public final <Z> List<P> fetch(Field<Z> field, Z... values) {
         return using(configuration)
@@ -322,7 +399,7 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
                 return equal(pk, ids.iterator().next());
             }
             else {
-                return ((Field<Object>) pk[0]).in(pk[0].getDataType().convert(ids));
+                return ((Field<Object>) pk[0]).in((Collection<Object>) pk[0].getDataType().convert(ids));
             }
         }
 
@@ -332,6 +409,37 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
         }
     }
 
+    /**
+     * Remove duplicate IDs, comparing them by their converted key values.
+     */
+    private final List<T> distinct(Field<?>[] pk, Collection<T> ids) {
+        Map<List<Object>, T> result = new LinkedHashMap<List<Object>, T>();
+
+        for (T id : ids) {
+            List<Object> key = key(pk, id);
+
+            if (!result.containsKey(key))
+                result.put(key, id);
+        }
+
+        return new ArrayList<T>(result.values());
+    }
+
+    private final List<Object> key(Field<?>[] pk, T id) {
+
+        // [#2573] Composite key T types are of type Record[N]
+        return key(pk, pk.length == 1 ? new Object[] { id } : ((Record) id).intoArray());
+    }
+
+    private final List<Object> key(Field<?>[] pk, Object[] values) {
+        Object[] result = new Object[pk.length];
+
+        for (int i = 0; i < pk.length; i++)
+            result[i] = pk[i].getDataType().convert(values[i]);
+
+        return asList(result);
+    }
+
     private final Field<?>[] pk() {
         UniqueKey<?> key = table.getPrimaryKey();
         return key == null ? null : key.getFieldsArray();
@@ -346,7 +454,7 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
 
             if (forUpdate && pk != null)
                 for (Field<?> field : pk)
-                    ((AbstractRecord) record).getValue0(field).setChanged(false);
+                    record.changed(field, false);
 
             result.add(record);
         }
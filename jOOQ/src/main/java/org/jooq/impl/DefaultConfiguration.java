@@ -50,6 +50,7 @@ import java.io.StringWriter;
 import java.sql.Connection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import javax.sql.DataSource;
 import javax.xml.bind.JAXB;
@@ -58,6 +59,7 @@ import org.jooq.Configuration;
 import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.ExecuteListenerProvider;
+import org.jooq.ExecutorProvider;
 import org.jooq.RecordListenerProvider;
 import org.jooq.RecordMapperProvider;
 import org.jooq.SQLDialect;
@@ -93,6 +95,7 @@ public class DefaultConfiguration implements Configuration {
     private transient RecordListenerProvider[]  recordListenerProviders;
     private transient ExecuteListenerProvider[] executeListenerProviders;
     private transient VisitListenerProvider[]   visitListenerProviders;
+    private transient ExecutorProvider          executorProvider;
 
     // Derived objects
     private org.jooq.SchemaMapping              mapping;
@@ -128,6 +131,7 @@ public class DefaultConfiguration implements Configuration {
             null,
             null,
             null,
+            null,
             dialect,
             SettingsTools.defaultSettings(),
             null
@@ -149,6 +153,7 @@ public class DefaultConfiguration implements Configuration {
             configuration.recordListenerProviders(),
             configuration.executeListenerProviders(),
             configuration.visitListenerProviders(),
+            configuration.executorProvider(),
             configuration.dialect(),
             configuration.settings(),
             configuration.data()
@@ -169,6 +174,7 @@ public class DefaultConfiguration implements Configuration {
             RecordListenerProvider[] recordListenerProviders,
             ExecuteListenerProvider[] executeListenerProviders,
             VisitListenerProvider[] visitListenerProviders,
+            ExecutorProvider executorProvider,
             SQLDialect dialect,
             Settings settings,
             Map<Object, Object> data)
@@ -178,6 +184,7 @@ public class DefaultConfiguration implements Configuration {
         set(recordListenerProviders);
         set(executeListenerProviders);
         set(visitListenerProviders);
+        set(executorProvider);
         set(dialect);
         set(settings);
 
@@ -225,6 +232,7 @@ public class DefaultConfiguration implements Configuration {
             recordListenerProviders,
             executeListenerProviders,
             visitListenerProviders,
+            executorProvider,
             dialect,
             settings,
             data
@@ -242,6 +250,7 @@ public class DefaultConfiguration implements Configuration {
             recordListenerProviders,
             executeListenerProviders,
             visitListenerProviders,
+            executorProvider,
             dialect,
             settings,
             data
@@ -259,6 +268,7 @@ public class DefaultConfiguration implements Configuration {
             newRecordListenerProviders,
             executeListenerProviders,
             visitListenerProviders,
+            executorProvider,
             dialect,
             settings,
             data
@@ -276,6 +286,7 @@ public class DefaultConfiguration implements Configuration {
             recordListenerProviders,
             newExecuteListenerProviders,
             visitListenerProviders,
+            executorProvider,
             dialect,
             settings,
             data
@@ -293,6 +304,33 @@ public class DefaultConfiguration implements Configuration {
             recordListenerProviders,
             executeListenerProviders,
             newVisitListenerProviders,
+            executorProvider,
+            dialect,
+            settings,
+            data
+        );
+    }
+
+    /**
+     * Convenience method for {@link #derive(ExecutorProvider)}, using an
+     * {@link ExecutorProvider} that always provides the argument executor.
+     */
+    public final Configuration derive(Executor newExecutor) {
+        return derive(new ExecutorWrapper(newExecutor));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Configuration derive(ExecutorProvider newExecutorProvider) {
+        return new DefaultConfiguration(
+            connectionProvider,
+            recordMapperProvider,
+            recordListenerProviders,
+            executeListenerProviders,
+            visitListenerProviders,
+            newExecutorProvider,
             dialect,
             settings,
             data
@@ -310,6 +348,7 @@ public class DefaultConfiguration implements Configuration {
             recordListenerProviders,
             executeListenerProviders,
             visitListenerProviders,
+            executorProvider,
             newDialect,
             settings,
             data
@@ -327,6 +366,7 @@ public class DefaultConfiguration implements Configuration {
             recordListenerProviders,
             executeListenerProviders,
             visitListenerProviders,
+            executorProvider,
             dialect,
             newSettings,
             data
@@ -413,6 +453,26 @@ public class DefaultConfiguration implements Configuration {
         return this;
     }
 
+    /**
+     * Convenience method for {@link #set(ExecutorProvider)}, using an
+     * {@link ExecutorProvider} that always provides the argument executor.
+     */
+    public final Configuration set(Executor newExecutor) {
+        return set(new ExecutorWrapper(newExecutor));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Configuration set(ExecutorProvider newExecutorProvider) {
+        this.executorProvider = newExecutorProvider != null
+            ? newExecutorProvider
+            : new DefaultExecutorProvider();
+
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -479,6 +539,14 @@ public class DefaultConfiguration implements Configuration {
         return visitListenerProviders;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final ExecutorProvider executorProvider() {
+        return executorProvider;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -554,6 +622,9 @@ public class DefaultConfiguration implements Configuration {
         oos.writeObject(recordMapperProvider instanceof Serializable
             ? recordMapperProvider
             : null);
+        oos.writeObject(executorProvider instanceof Serializable
+            ? executorProvider
+            : null);
 
         oos.writeObject(cloneSerializables(executeListenerProviders));
         oos.writeObject(cloneSerializables(recordListenerProviders));
@@ -577,8 +648,26 @@ public class DefaultConfiguration implements Configuration {
 
         connectionProvider = (ConnectionProvider) ois.readObject();
         recordMapperProvider = (RecordMapperProvider) ois.readObject();
+        executorProvider = (ExecutorProvider) ois.readObject();
         executeListenerProviders = (ExecuteListenerProvider[]) ois.readObject();
         recordListenerProviders = (RecordListenerProvider[]) ois.readObject();
         visitListenerProviders = (VisitListenerProvider[]) ois.readObject();
     }
+
+    /**
+     * An {@link ExecutorProvider} that always provides the same executor.
+     */
+    private static class ExecutorWrapper implements ExecutorProvider {
+
+        private final Executor executor;
+
+        ExecutorWrapper(Executor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public final Executor provide() {
+            return executor;
+        }
+    }
 }
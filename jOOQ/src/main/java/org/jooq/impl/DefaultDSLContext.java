@@ -62,7 +62,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -215,7 +214,7 @@ public class DefaultDSLContext implements DSLContext, Serializable {
     }
 
     public DefaultDSLContext(SQLDialect dialect, Settings settings) {
-        this(new DefaultConfiguration(new NoConnectionProvider(), null, null, null, null, dialect, settings, null));
+        this(new DefaultConfiguration(new NoConnectionProvider(), null, null, null, null, null, dialect, settings, null));
     }
 
     public DefaultDSLContext(Connection connection, SQLDialect dialect) {
@@ -223,7 +222,7 @@ public class DefaultDSLContext implements DSLContext, Serializable {
     }
 
     public DefaultDSLContext(Connection connection, SQLDialect dialect, Settings settings) {
-        this(new DefaultConfiguration(new DefaultConnectionProvider(connection), null, null, null, null, dialect, settings, null));
+        this(new DefaultConfiguration(new DefaultConnectionProvider(connection), null, null, null, null, null, dialect, settings, null));
     }
 
     public DefaultDSLContext(DataSource datasource, SQLDialect dialect) {
@@ -231,7 +230,7 @@ public class DefaultDSLContext implements DSLContext, Serializable {
     }
 
     public DefaultDSLContext(DataSource datasource, SQLDialect dialect, Settings settings) {
-        this(new DefaultConfiguration(new DataSourceConnectionProvider(datasource), null, null, null, null, dialect, settings, null));
+        this(new DefaultConfiguration(new DataSourceConnectionProvider(datasource), null, null, null, null, null, dialect, settings, null));
     }
 
     public DefaultDSLContext(ConnectionProvider connectionProvider, SQLDialect dialect) {
@@ -239,7 +238,7 @@ public class DefaultDSLContext implements DSLContext, Serializable {
     }
 
     public DefaultDSLContext(ConnectionProvider connectionProvider, SQLDialect dialect, Settings settings) {
-        this(new DefaultConfiguration(connectionProvider, null, null, null, null, dialect, settings, null));
+        this(new DefaultConfiguration(connectionProvider, null, null, null, null, null, dialect, settings, null));
     }
 
     public DefaultDSLContext(Configuration configuration) {
@@ -671,28 +670,41 @@ public class DefaultDSLContext implements DSLContext, Serializable {
 
     @Override
     public Result<Record> fetchFromJSON(String string) {
-        List<String[]> data = new LinkedList<String[]>();
-        JSONReader reader = null;
+        JSONReader reader = new JSONReader(new StringReader(string));
+
         try {
-            reader = new JSONReader(new StringReader(string));
-            List<String[]> records = reader.readAll();
-            String[] fields = reader.getFields();
-            data.add(fields);
-            data.addAll(records);
+            List<Field<?>> fields = new ArrayList<Field<?>>();
+
+            for (String name : reader.getFields()) {
+                fields.add(fieldByName(String.class, name));
+            }
+
+            Result<Record> result = new ResultImpl<Record>(configuration, fields);
+            Object[] values;
+
+            // Records are read and added one at a time, without an
+            // intermediary document model
+            while ((values = reader.readNext()) != null) {
+                RecordImpl record = new RecordImpl(fields);
+
+                for (int i = 0; i < Math.min(values.length, fields.size()); i++) {
+                    record.setUnchanged(i, values[i] == null ? null : values[i].toString());
+                }
+
+                result.add(record);
+            }
+
+            return result;
         }
         catch (IOException e) {
             throw new DataAccessException("Could not read the JSON string", e);
         }
         finally {
             try {
-                if (reader != null) {
-                    reader.close();
-                }
+                reader.close();
             }
             catch (IOException ignore) {}
         }
-
-        return fetchFromStringData(data);
     }
 
     @Override
@@ -719,7 +731,7 @@ public class DefaultDSLContext implements DSLContext, Serializable {
                     RecordImpl record = new RecordImpl(fields);
 
                     for (int i = 0; i < Math.min(values.length, fields.size()); i++) {
-                        record.setValue(i, new Value<Object>(values[i]));
+                        record.setUnchanged(i, values[i]);
                     }
 
                     result.add(record);
@@ -388,6 +388,9 @@ class DefaultExecuteContext implements ExecuteContext {
     @Override
     public final void statement(PreparedStatement s) {
         this.statement = s;
+
+        // Allow for cancelling asynchronous executions
+        AsyncResultImpl.statement(s);
     }
 
     @Override
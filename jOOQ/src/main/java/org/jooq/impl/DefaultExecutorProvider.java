@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jooq.ExecutorProvider;
+
+/**
+ * A default implementation for the {@link ExecutorProvider}.
+ * <p>
+ * Asynchronous executions run blocking JDBC calls, which don't consume CPU
+ * while waiting for the database. All asynchronous executions therefore share
+ * a single, lazily created pool of daemon threads that is dedicated to this
+ * blocking I/O. The pool doesn't queue executions. It starts a new thread
+ * whenever all existing threads are busy, and threads that have been idle for
+ * {@link #KEEP_ALIVE} seconds are terminated. The number of threads is thus
+ * bounded only by the number of concurrent asynchronous executions, which is
+ * usually bounded by the size of a connection pool. Provide an explicit
+ * {@link ExecutorProvider} if that is not the case.
+ *
+ * @author Lukas Eder
+ */
+class DefaultExecutorProvider implements ExecutorProvider {
+
+    /**
+     * The number of seconds after which idle threads are terminated.
+     */
+    static final long KEEP_ALIVE = 60L;
+
+    @Override
+    public final Executor provide() {
+        return Pool.EXECUTOR;
+    }
+
+    /**
+     * The shared thread pool, initialised on first use.
+     */
+    private static class Pool {
+
+        static final ExecutorService EXECUTOR = new ThreadPoolExecutor(
+            0, Integer.MAX_VALUE, KEEP_ALIVE, TimeUnit.SECONDS,
+            new SynchronousQueue<Runnable>(),
+            new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "jooq-async-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            }
+        );
+    }
+}
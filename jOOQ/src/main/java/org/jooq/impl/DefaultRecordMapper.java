@@ -56,6 +56,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -71,7 +72,6 @@ import org.jooq.RecordMapper;
 import org.jooq.RecordMapperProvider;
 import org.jooq.RecordType;
 import org.jooq.exception.MappingException;
-import org.jooq.tools.Convert;
 import org.jooq.tools.reflect.Reflect;
 
 /**
@@ -339,8 +339,16 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                 result = (Object[]) Array.newInstance(componentType, size);
             }
 
-            for (int i = 0; i < size; i++) {
-                result[i] = Convert.convert(record.getValue(i), componentType);
+            // Avoid conversion if values can be assigned as they are
+            if (componentType == Object.class) {
+                for (int i = 0; i < size; i++) {
+                    result[i] = record.getValue(i);
+                }
+            }
+            else {
+                for (int i = 0; i < size; i++) {
+                    result[i] = ConverterRegistry.convert(configuration, record.getValue(i), componentType);
+                }
             }
 
             return (E) result;
@@ -402,32 +410,46 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
      */
     private class MutablePOJOMapper implements RecordMapper<R, E> {
 
-        private final Constructor<? extends E>         constructor;
-        private final boolean                          useAnnotations;
-        private final List<java.lang.reflect.Field>[]  members;
-        private final List<java.lang.reflect.Method>[] methods;
+        private final Constructor<? extends E> constructor;
+        private final boolean                  useAnnotations;
+        private final Assignment[]             assignments;
 
         MutablePOJOMapper(Constructor<? extends E> constructor) {
             this.constructor = accessible(constructor);
             this.useAnnotations = hasColumnAnnotations(configuration, type);
-            this.members = new List[fields.length];
-            this.methods = new List[fields.length];
 
+            List<Assignment> list = new ArrayList<Assignment>();
             for (int i = 0; i < fields.length; i++) {
                 Field<?> field = fields[i];
+                List<java.lang.reflect.Field> members;
+                List<java.lang.reflect.Method> methods;
 
                 // Annotations are available and present
                 if (useAnnotations) {
-                    members[i] = getAnnotatedMembers(configuration, type, field.getName());
-                    methods[i] = getAnnotatedSetters(configuration, type, field.getName());
+                    members = getAnnotatedMembers(configuration, type, field.getName());
+                    methods = getAnnotatedSetters(configuration, type, field.getName());
                 }
 
                 // No annotations are present
                 else {
-                    members[i] = getMatchingMembers(configuration, type, field.getName());
-                    methods[i] = getMatchingSetters(configuration, type, field.getName());
+                    members = getMatchingMembers(configuration, type, field.getName());
+                    methods = getMatchingSetters(configuration, type, field.getName());
+                }
+
+                for (java.lang.reflect.Field member : members) {
+
+                    // [#935] Avoid setting final fields
+                    if ((member.getModifiers() & Modifier.FINAL) == 0) {
+                        list.add(new MemberAssignment(field, i, member));
+                    }
+                }
+
+                for (java.lang.reflect.Method method : methods) {
+                    list.add(new MethodAssignment(field, i, method));
                 }
             }
+
+            this.assignments = list.toArray(new Assignment[list.size()]);
         }
 
         @Override
@@ -435,18 +457,8 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
             try {
                 E result = instance != null ? instance : constructor.newInstance();
 
-                for (int i = 0; i < fields.length; i++) {
-                    for (java.lang.reflect.Field member : members[i]) {
-
-                        // [#935] Avoid setting final fields
-                        if ((member.getModifiers() & Modifier.FINAL) == 0) {
-                            map(record, result, member, i);
-                        }
-                    }
-
-                    for (java.lang.reflect.Method method : methods[i]) {
-                        method.invoke(result, record.getValue(i, method.getParameterTypes()[0]));
-                    }
+                for (Assignment assignment : assignments) {
+                    assignment.assign(record, result);
                 }
 
                 return result;
@@ -455,42 +467,99 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                 throw new MappingException("An error ocurred when mapping record to " + type, e);
             }
         }
+    }
+
+    /**
+     * An assignment of a record value to a POJO member or setter.
+     * <p>
+     * All reflection information and the need for conversion are resolved
+     * once per mapper, not once per record.
+     */
+    private static abstract class Assignment {
+
+        private final int      index;
+        final Class<?>         targetType;
+        private final boolean  convert;
+
+        Assignment(Field<?> field, int index, Class<?> targetType) {
+            this.index = index;
+            this.targetType = targetType;
+            this.convert = needsConversion(field, targetType);
+        }
+
+        final Object value(Record record) {
+            return convert ? record.getValue(index, targetType) : record.getValue(index);
+        }
 
-        private final void map(Record record, Object result, java.lang.reflect.Field member, int index) throws IllegalAccessException {
-            Class<?> mType = member.getType();
+        abstract void assign(Record record, Object result) throws Exception;
+    }
 
-            if (mType.isPrimitive()) {
-                if (mType == byte.class) {
-                    member.setByte(result, record.getValue(index, byte.class));
+    /**
+     * An assignment of a record value to a POJO member.
+     */
+    private static class MemberAssignment extends Assignment {
+
+        private final java.lang.reflect.Field member;
+
+        MemberAssignment(Field<?> field, int index, java.lang.reflect.Field member) {
+            super(field, index, member.getType());
+
+            this.member = member;
+        }
+
+        @Override
+        final void assign(Record record, Object result) throws IllegalAccessException {
+            if (targetType.isPrimitive()) {
+                if (targetType == byte.class) {
+                    member.setByte(result, (Byte) value(record));
                 }
-                else if (mType == short.class) {
-                    member.setShort(result, record.getValue(index, short.class));
+                else if (targetType == short.class) {
+                    member.setShort(result, (Short) value(record));
                 }
-                else if (mType == int.class) {
-                    member.setInt(result, record.getValue(index, int.class));
+                else if (targetType == int.class) {
+                    member.setInt(result, (Integer) value(record));
                 }
-                else if (mType == long.class) {
-                    member.setLong(result, record.getValue(index, long.class));
+                else if (targetType == long.class) {
+                    member.setLong(result, (Long) value(record));
                 }
-                else if (mType == float.class) {
-                    member.setFloat(result, record.getValue(index, float.class));
+                else if (targetType == float.class) {
+                    member.setFloat(result, (Float) value(record));
                 }
-                else if (mType == double.class) {
-                    member.setDouble(result, record.getValue(index, double.class));
+                else if (targetType == double.class) {
+                    member.setDouble(result, (Double) value(record));
                 }
-                else if (mType == boolean.class) {
-                    member.setBoolean(result, record.getValue(index, boolean.class));
+                else if (targetType == boolean.class) {
+                    member.setBoolean(result, (Boolean) value(record));
                 }
-                else if (mType == char.class) {
-                    member.setChar(result, record.getValue(index, char.class));
+                else if (targetType == char.class) {
+                    member.setChar(result, (Character) value(record));
                 }
             }
             else {
-                member.set(result, record.getValue(index, mType));
+                member.set(result, value(record));
             }
         }
     }
 
+    /**
+     * An assignment of a record value to a POJO setter.
+     */
+    private static class MethodAssignment extends Assignment {
+
+        private final java.lang.reflect.Method method;
+
+        MethodAssignment(Field<?> field, int index, java.lang.reflect.Method method) {
+            super(field, index, method.getParameterTypes()[0]);
+
+            this.method = method;
+        }
+
+        @Override
+        final void assign(Record record, Object result) throws Exception {
+            method.invoke(result, value(record));
+        }
+    }
+
     /**
      * Convert a record into an "immutable" POJO (final fields, "matching"
      * constructor).
@@ -499,17 +568,30 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
         private final Constructor<E> constructor;
         private final Class<?>[]     parameterTypes;
+        private final boolean[]      convert;
 
         public ImmutablePOJOMapper(Constructor<E> constructor, Class<?>[] parameterTypes) {
             this.constructor = accessible(constructor);
             this.parameterTypes = parameterTypes;
+            this.convert = new boolean[parameterTypes.length];
+
+            for (int i = 0; i < parameterTypes.length; i++) {
+                convert[i] = needsConversion(fields[i], parameterTypes[i]);
+            }
         }
 
         @Override
         public final E map(R record) {
             try {
-                Object[] converted = Convert.convert(record.intoArray(), parameterTypes);
-                return constructor.newInstance(converted);
+                Object[] values = new Object[parameterTypes.length];
+
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = convert[i]
+                        ? ConverterRegistry.convert(configuration, record.getValue(i), parameterTypes[i])
+                        : record.getValue(i);
+                }
+
+                return constructor.newInstance(values);
             }
             catch (Exception e) {
                 throw new MappingException("An error ocurred when mapping record to " + type, e);
@@ -525,62 +607,82 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
         private final Constructor<E>                  constructor;
         private final Class<?>[]                      parameterTypes;
-        private final Object[]                        parameterValues;
         private final List<String>                    propertyNames;
         private final boolean                         useAnnotations;
-        private final List<java.lang.reflect.Field>[] members;
-        private final java.lang.reflect.Method[]      methods;
+
+        /**
+         * The record field index for each constructor parameter, or
+         * <code>-1</code> if a parameter isn't mapped.
+         */
+        private final int[]                           fieldIndexes;
+        private final boolean[]                       convert;
 
         ImmutablePOJOMapperWithConstructorProperties(Constructor<E> constructor, ConstructorProperties properties) {
-            this.constructor = constructor;
+            this.constructor = accessible(constructor);
             this.propertyNames = Arrays.asList(properties.value());
             this.useAnnotations = hasColumnAnnotations(configuration, type);
             this.parameterTypes = constructor.getParameterTypes();
-            this.parameterValues = new Object[parameterTypes.length];
-            this.members = new List[fields.length];
-            this.methods = new Method[fields.length];
+            this.fieldIndexes = new int[parameterTypes.length];
+            this.convert = new boolean[parameterTypes.length];
 
+            Arrays.fill(fieldIndexes, -1);
             for (int i = 0; i < fields.length; i++) {
                 Field<?> field = fields[i];
+                List<java.lang.reflect.Field> members;
+                java.lang.reflect.Method method;
 
                 // Annotations are available and present
                 if (useAnnotations) {
-                    members[i] = getAnnotatedMembers(configuration, type, field.getName());
-                    methods[i] = getAnnotatedGetter(configuration, type, field.getName());
+                    members = getAnnotatedMembers(configuration, type, field.getName());
+                    method = getAnnotatedGetter(configuration, type, field.getName());
                 }
 
                 // No annotations are present
                 else {
-                    members[i] = getMatchingMembers(configuration, type, field.getName());
-                    methods[i] = getMatchingGetter(configuration, type, field.getName());
+                    members = getMatchingMembers(configuration, type, field.getName());
+                    method = getMatchingGetter(configuration, type, field.getName());
+                }
+
+                for (java.lang.reflect.Field member : members) {
+                    int index = propertyNames.indexOf(member.getName());
+
+                    if (index >= 0) {
+                        fieldIndexes[index] = i;
+                    }
+                }
+
+                if (method != null) {
+                    int index = propertyNames.indexOf(getPropertyName(method.getName()));
+
+                    if (index >= 0) {
+                        fieldIndexes[index] = i;
+                    }
                 }
             }
+
+            for (int i = 0; i < parameterTypes.length; i++) {
+                convert[i] = fieldIndexes[i] < 0
+                    ? parameterTypes[i].isPrimitive()
+                    : needsConversion(fields[fieldIndexes[i]], parameterTypes[i]);
+            }
         }
 
         @Override
         public final E map(R record) {
             try {
-                for (int i = 0; i < fields.length; i++) {
-                    for (java.lang.reflect.Field member : members[i]) {
-                        int index = propertyNames.indexOf(member.getName());
+                Object[] values = new Object[parameterTypes.length];
 
-                        if (index >= 0) {
-                            parameterValues[index] = record.getValue(i);
-                        }
+                for (int i = 0; i < values.length; i++) {
+                    if (fieldIndexes[i] >= 0) {
+                        values[i] = record.getValue(fieldIndexes[i]);
                     }
 
-                    if (methods[i] != null) {
-                        String name = getPropertyName(methods[i].getName());
-                        int index = propertyNames.indexOf(name);
-
-                        if (index >= 0) {
-                            parameterValues[index] = record.getValue(i);
-                        }
+                    if (convert[i]) {
+                        values[i] = ConverterRegistry.convert(configuration, values[i], parameterTypes[i]);
                     }
                 }
 
-                Object[] converted = Convert.convert(parameterValues, parameterTypes);
-                return accessible(constructor).newInstance(converted);
+                return constructor.newInstance(values);
             }
             catch (Exception e) {
                 throw new MappingException("An error ocurred when mapping record to " + type, e);
@@ -588,6 +690,14 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         }
     }
 
+    /**
+     * Whether values of a field need to be converted before they can be
+     * assigned to a given type.
+     */
+    private static final boolean needsConversion(Field<?> field, Class<?> targetType) {
+        return targetType.isPrimitive() || !targetType.isAssignableFrom(field.getType());
+    }
+
     private static <E> E attach(E attachable, Record record) {
         // [#2869] Attach the mapped outcome if it is Attachable and if the context's
         // Settings.attachRecords flag is set
@@ -41,20 +41,45 @@
 package org.jooq.impl;
 
 import static java.lang.Boolean.FALSE;
+import static org.jooq.impl.ExecuteListeners.Event.BIND_END;
+import static org.jooq.impl.ExecuteListeners.Event.BIND_START;
+import static org.jooq.impl.ExecuteListeners.Event.END;
+import static org.jooq.impl.ExecuteListeners.Event.EXCEPTION;
+import static org.jooq.impl.ExecuteListeners.Event.EXECUTE_END;
+import static org.jooq.impl.ExecuteListeners.Event.EXECUTE_START;
+import static org.jooq.impl.ExecuteListeners.Event.FETCH_END;
+import static org.jooq.impl.ExecuteListeners.Event.FETCH_START;
+import static org.jooq.impl.ExecuteListeners.Event.PREPARE_END;
+import static org.jooq.impl.ExecuteListeners.Event.PREPARE_START;
+import static org.jooq.impl.ExecuteListeners.Event.RECORD_END;
+import static org.jooq.impl.ExecuteListeners.Event.RECORD_START;
+import static org.jooq.impl.ExecuteListeners.Event.RENDER_END;
+import static org.jooq.impl.ExecuteListeners.Event.RENDER_START;
+import static org.jooq.impl.ExecuteListeners.Event.RESULT_END;
+import static org.jooq.impl.ExecuteListeners.Event.RESULT_START;
+import static org.jooq.impl.ExecuteListeners.Event.START;
+import static org.jooq.impl.ExecuteListeners.Event.WARNING;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.ExecuteListenerProvider;
 import org.jooq.conf.Settings;
+import org.jooq.tools.JooqLogger;
 import org.jooq.tools.LoggerListener;
+import org.jooq.tools.StopWatch;
 import org.jooq.tools.StopWatchListener;
 
 /**
  * A queue implementation for several {@link ExecuteListener} objects as defined
  * in {@link Settings#getExecuteListeners()}
+ * <p>
+ * Events are only dispatched to listeners that subscribe to them. Listeners
+ * extending {@link DefaultExecuteListener} subscribe to all events whose
+ * methods they override, other listeners subscribe to all events.
  *
  * @author Lukas Eder
  */
@@ -65,7 +90,13 @@ class ExecuteListeners implements ExecuteListener {
      */
     private static final long           serialVersionUID = 7399239846062763212L;
 
-    private final List<ExecuteListener> listeners;
+    private static final JooqLogger     LOGGER_LISTENER  = JooqLogger.getLogger(LoggerListener.class);
+    private static final JooqLogger     STOP_WATCH       = JooqLogger.getLogger(StopWatch.class);
+
+    /**
+     * The subscribed listeners, indexed by {@link Event#ordinal()}.
+     */
+    private final ExecuteListener[][]   listeners;
 
     // In some setups, these two events may get mixed up chronologically by the
     // Cursor. Postpone fetchEnd event until after resultEnd event, if there is
@@ -82,91 +113,138 @@ class ExecuteListeners implements ExecuteListener {
     /**
      * Provide delegate listeners from an <code>ExecuteContext</code>
      */
-    private static List<ExecuteListener> listeners(ExecuteContext ctx) {
-        List<ExecuteListener> result = new ArrayList<ExecuteListener>();
+    private static ExecuteListener[][] listeners(ExecuteContext ctx) {
+        List<ExecuteListener> list = new ArrayList<ExecuteListener>();
 
+        // jOOQ's logging listeners don't log anything below DEBUG level
         if (!FALSE.equals(ctx.configuration().settings().isExecuteLogging())) {
-            result.add(new LoggerListener());
-            result.add(new StopWatchListener());
+            if (LOGGER_LISTENER.isDebugEnabled())
+                list.add(new LoggerListener());
+
+            if (STOP_WATCH.isDebugEnabled())
+                list.add(new StopWatchListener());
         }
 
         for (ExecuteListenerProvider provider : ctx.configuration().executeListenerProviders()) {
 
             // Could be null after deserialisation
             if (provider != null) {
-                result.add(provider.provide());
+                list.add(provider.provide());
             }
         }
 
+        Event[] events = Event.values();
+        List<List<ExecuteListener>> subscribed = new ArrayList<List<ExecuteListener>>(events.length);
+
+        for (int i = 0; i < events.length; i++)
+            subscribed.add(new ArrayList<ExecuteListener>(list.size()));
+
+        for (ExecuteListener listener : list) {
+            Set<String> subscriptions = Utils.subscriptions(listener, DefaultExecuteListener.class, ExecuteContext.class);
+
+            for (Event event : events)
+                if (subscribes(listener, subscriptions, event))
+                    subscribed.get(event.ordinal()).add(listener);
+        }
+
+        ExecuteListener[][] result = new ExecuteListener[events.length][];
+
+        for (Event event : events) {
+            List<ExecuteListener> l = subscribed.get(event.ordinal());
+            result[event.ordinal()] = l.toArray(new ExecuteListener[l.size()]);
+        }
+
         return result;
     }
 
+    private static boolean subscribes(ExecuteListener listener, Set<String> subscriptions, Event event) {
+
+        // jOOQ's logging listeners don't log records below TRACE level
+        if (event == RECORD_START || event == RECORD_END) {
+            if (listener.getClass() == LoggerListener.class && !LOGGER_LISTENER.isTraceEnabled())
+                return false;
+
+            if (listener.getClass() == StopWatchListener.class && !STOP_WATCH.isTraceEnabled())
+                return false;
+        }
+
+        return subscriptions == null || subscriptions.contains(event.method);
+    }
+
+    /**
+     * Whether any listener subscribes to {@link #recordStart(ExecuteContext)}
+     * or {@link #recordEnd(ExecuteContext)} events.
+     */
+    final boolean recordEvents() {
+        return listeners[RECORD_START.ordinal()].length > 0 || listeners[RECORD_END.ordinal()].length > 0;
+    }
+
     @Override
     public final void start(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners) {
+        for (ExecuteListener listener : listeners[START.ordinal()]) {
             listener.start(ctx);
         }
     }
 
     @Override
     public final void renderStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners) {
+        for (ExecuteListener listener : listeners[RENDER_START.ordinal()]) {
             listener.renderStart(ctx);
         }
     }
 
     @Override
     public final void renderEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners) {
+        for (ExecuteListener listener : listeners[RENDER_END.ordinal()]) {
             listener.renderEnd(ctx);
         }
     }
 
     @Override
     public final void prepareStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners) {
+        for (ExecuteListener listener : listeners[PREPARE_START.ordinal()]) {
             listener.prepareStart(ctx);
         }
     }
 
     @Override
     public final void prepareEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners) {
+        for (ExecuteListener listener : listeners[PREPARE_END.ordinal()]) {
             listener.prepareEnd(ctx);
         }
     }
 
     @Override
     public final void bindStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners) {
+        for (ExecuteListener listener : listeners[BIND_START.ordinal()]) {
             listener.bindStart(ctx);
         }
     }
 
     @Override
     public final void bindEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners) {
+        for (ExecuteListener listener : listeners[BIND_END.ordinal()]) {
             listener.bindEnd(ctx);
         }
     }
 
     @Override
     public final void executeStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners) {
+        for (ExecuteListener listener : listeners[EXECUTE_START.ordinal()]) {
             listener.executeStart(ctx);
         }
     }
 
     @Override
     public final void executeEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners) {
+        for (ExecuteListener listener : listeners[EXECUTE_END.ordinal()]) {
             listener.executeEnd(ctx);
         }
     }
 
     @Override
     public final void fetchStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners) {
+        for (ExecuteListener listener : listeners[FETCH_START.ordinal()]) {
             listener.fetchStart(ctx);
         }
     }
@@ -175,21 +253,21 @@ class ExecuteListeners implements ExecuteListener {
     public final void resultStart(ExecuteContext ctx) {
         resultStart = true;
 
-        for (ExecuteListener listener : listeners) {
+        for (ExecuteListener listener : listeners[RESULT_START.ordinal()]) {
             listener.resultStart(ctx);
         }
     }
 
     @Override
     public final void recordStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners) {
+        for (ExecuteListener listener : listeners[RECORD_START.ordinal()]) {
             listener.recordStart(ctx);
         }
     }
 
     @Override
     public final void recordEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners) {
+        for (ExecuteListener listener : listeners[RECORD_END.ordinal()]) {
             listener.recordEnd(ctx);
         }
     }
@@ -198,7 +276,7 @@ class ExecuteListeners implements ExecuteListener {
     public final void resultEnd(ExecuteContext ctx) {
         resultStart = false;
 
-        for (ExecuteListener listener : listeners) {
+        for (ExecuteListener listener : listeners[RESULT_END.ordinal()]) {
             listener.resultEnd(ctx);
         }
 
@@ -213,7 +291,7 @@ class ExecuteListeners implements ExecuteListener {
             fetchEnd = true;
         }
         else {
-            for (ExecuteListener listener : listeners) {
+            for (ExecuteListener listener : listeners[FETCH_END.ordinal()]) {
                 listener.fetchEnd(ctx);
             }
         }
@@ -221,22 +299,52 @@ class ExecuteListeners implements ExecuteListener {
 
     @Override
     public final void end(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners) {
+        for (ExecuteListener listener : listeners[END.ordinal()]) {
             listener.end(ctx);
         }
     }
 
     @Override
     public final void exception(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners) {
+        for (ExecuteListener listener : listeners[EXCEPTION.ordinal()]) {
             listener.exception(ctx);
         }
     }
 
     @Override
     public final void warning(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners) {
+        for (ExecuteListener listener : listeners[WARNING.ordinal()]) {
             listener.warning(ctx);
         }
     }
+
+    /**
+     * The {@link ExecuteListener} events.
+     */
+    enum Event {
+        START("start"),
+        RENDER_START("renderStart"),
+        RENDER_END("renderEnd"),
+        PREPARE_START("prepareStart"),
+        PREPARE_END("prepareEnd"),
+        BIND_START("bindStart"),
+        BIND_END("bindEnd"),
+        EXECUTE_START("executeStart"),
+        EXECUTE_END("executeEnd"),
+        FETCH_START("fetchStart"),
+        RESULT_START("resultStart"),
+        RECORD_START("recordStart"),
+        RECORD_END("recordEnd"),
+        RESULT_END("resultEnd"),
+        FETCH_END("fetchEnd"),
+        END("end"),
+        EXCEPTION("exception"),
+        WARNING("warning");
+
+        final String method;
+
+        private Event(String method) {
+            this.method = method;
+        }
+    }
 }
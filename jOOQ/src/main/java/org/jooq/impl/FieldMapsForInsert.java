@@ -192,6 +192,27 @@ class FieldMapsForInsert extends AbstractQueryPart {
         return !insertMaps.isEmpty() && insertMaps.get(0) != null;
     }
 
+    /**
+     * The rows that are inserted.
+     */
+    final List<FieldMapForInsert> rows() {
+        List<FieldMapForInsert> result = new ArrayList<FieldMapForInsert>(insertMaps.size());
+
+        for (FieldMapForInsert map : insertMaps)
+            if (map != null)
+                result.add(map);
+
+        return result;
+    }
+
+    /**
+     * Replace the rows that are inserted.
+     */
+    final void rows(List<FieldMapForInsert> rows) {
+        insertMaps.clear();
+        insertMaps.addAll(rows);
+    }
+
     public final FieldMapForInsert getMap() {
         if (insertMaps.get(index()) == null) {
             insertMaps.set(index(), new FieldMapForInsert());
@@ -0,0 +1,199 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import static org.jooq.tools.jdbc.JDBCUtils.wasNull;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.jooq.Configuration;
+import org.jooq.ExecuteContext;
+import org.jooq.Field;
+import org.jooq.SQLDialect;
+
+/**
+ * A reader for a single column of a {@link ResultSet}.
+ * <p>
+ * Readers are resolved once per {@link Field} when a cursor is opened, such
+ * that the per-row fetch loop does not need to repeat the type decisions
+ * performed by {@link Utils#getFromResultSet(ExecuteContext, Field, int)}.
+ * Types that need dialect-specific or converter-specific treatment are read
+ * through that general method.
+ *
+ * @author Lukas Eder
+ */
+abstract class FieldReader {
+
+    /**
+     * Read a value from the current row of a {@link ResultSet}.
+     */
+    abstract Object read(ExecuteContext ctx, ResultSet rs, int index) throws SQLException;
+
+    /**
+     * Resolve readers for a set of fields.
+     */
+    static final FieldReader[] readers(Configuration configuration, Field<?>[] fields) {
+        FieldReader[] result = new FieldReader[fields.length];
+
+        for (int i = 0; i < fields.length; i++) {
+            result[i] = reader(configuration.dialect(), fields[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Resolve a reader for a field.
+     */
+    static final FieldReader reader(SQLDialect dialect, final Field<?> field) {
+
+        // User-defined converters are applied by the general method
+        if (field.getConverter() instanceof IdentityConverter) {
+            Class<?> type = field.getType();
+
+            if (type == String.class)
+                return STRING;
+            else if (type == Integer.class)
+                return INTEGER;
+            else if (type == Long.class)
+                return LONG;
+            else if (type == Short.class)
+                return SHORT;
+            else if (type == Byte.class)
+                return BYTE;
+            else if (type == Boolean.class)
+                return BOOLEAN;
+            else if (type == Double.class)
+                return DOUBLE;
+            else if (type == Float.class)
+                return FLOAT;
+            else if (type == byte[].class)
+                return BYTES;
+
+            // The SQLite JDBC driver doesn't support BigDecimals
+            else if (type == BigDecimal.class && dialect != SQLDialect.SQLITE)
+                return BIG_DECIMAL;
+        }
+
+        return new FieldReader() {
+            @Override
+            Object read(ExecuteContext ctx, ResultSet rs, int index) throws SQLException {
+                return Utils.getFromResultSet(ctx, field, index);
+            }
+        };
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX: Readers for the most common types
+    // ------------------------------------------------------------------------
+
+    private static final FieldReader STRING      = new FieldReader() {
+        @Override
+        Object read(ExecuteContext ctx, ResultSet rs, int index) throws SQLException {
+            return rs.getString(index);
+        }
+    };
+
+    private static final FieldReader INTEGER     = new FieldReader() {
+        @Override
+        Object read(ExecuteContext ctx, ResultSet rs, int index) throws SQLException {
+            return wasNull(rs, Integer.valueOf(rs.getInt(index)));
+        }
+    };
+
+    private static final FieldReader LONG        = new FieldReader() {
+        @Override
+        Object read(ExecuteContext ctx, ResultSet rs, int index) throws SQLException {
+            return wasNull(rs, Long.valueOf(rs.getLong(index)));
+        }
+    };
+
+    private static final FieldReader SHORT       = new FieldReader() {
+        @Override
+        Object read(ExecuteContext ctx, ResultSet rs, int index) throws SQLException {
+            return wasNull(rs, Short.valueOf(rs.getShort(index)));
+        }
+    };
+
+    private static final FieldReader BYTE        = new FieldReader() {
+        @Override
+        Object read(ExecuteContext ctx, ResultSet rs, int index) throws SQLException {
+            return wasNull(rs, Byte.valueOf(rs.getByte(index)));
+        }
+    };
+
+    private static final FieldReader BOOLEAN     = new FieldReader() {
+        @Override
+        Object read(ExecuteContext ctx, ResultSet rs, int index) throws SQLException {
+            return wasNull(rs, Boolean.valueOf(rs.getBoolean(index)));
+        }
+    };
+
+    private static final FieldReader DOUBLE      = new FieldReader() {
+        @Override
+        Object read(ExecuteContext ctx, ResultSet rs, int index) throws SQLException {
+            return wasNull(rs, Double.valueOf(rs.getDouble(index)));
+        }
+    };
+
+    private static final FieldReader FLOAT       = new FieldReader() {
+        @Override
+        Object read(ExecuteContext ctx, ResultSet rs, int index) throws SQLException {
+            return wasNull(rs, Float.valueOf(rs.getFloat(index)));
+        }
+    };
+
+    private static final FieldReader BYTES       = new FieldReader() {
+        @Override
+        Object read(ExecuteContext ctx, ResultSet rs, int index) throws SQLException {
+            return rs.getBytes(index);
+        }
+    };
+
+    private static final FieldReader BIG_DECIMAL = new FieldReader() {
+        @Override
+        Object read(ExecuteContext ctx, ResultSet rs, int index) throws SQLException {
+            return rs.getBigDecimal(index);
+        }
+    };
+}
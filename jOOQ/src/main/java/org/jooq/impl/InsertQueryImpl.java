@@ -50,7 +50,9 @@ import static org.jooq.Clause.INSERT_RETURNING;
 // ...
 import static org.jooq.SQLDialect.MARIADB;
 import static org.jooq.SQLDialect.MYSQL;
+import static org.jooq.conf.SettingsTools.executePreparedStatements;
 import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.using;
 import static org.jooq.impl.Utils.DATA_RENDERING_DB2_FINAL_TABLE_CLAUSE;
 import static org.jooq.impl.Utils.unqualify;
 
@@ -79,14 +81,15 @@ import org.jooq.exception.SQLDialectNotSupportedException;
  */
 class InsertQueryImpl<R extends Record> extends AbstractStoreQuery<R> implements InsertQuery<R> {
 
-    private static final long        serialVersionUID = 4466005417945353842L;
-    private static final Clause[]    CLAUSES          = { INSERT };
+    private static final long            serialVersionUID = 4466005417945353842L;
+    private static final Clause[]        CLAUSES          = { INSERT };
 
-    private final FieldMapForUpdate  updateMap;
-    private final FieldMapsForInsert insertMaps;
-    private boolean                  defaultValues;
-    private boolean                  onDuplicateKeyUpdate;
-    private boolean                  onDuplicateKeyIgnore;
+    private final FieldMapForUpdate      updateMap;
+    private final FieldMapsForInsert     insertMaps;
+    private boolean                      defaultValues;
+    private boolean                      onDuplicateKeyUpdate;
+    private boolean                      onDuplicateKeyIgnore;
+    private transient InsertQueryImpl<R> chunk;
 
     InsertQueryImpl(Configuration configuration, Table<R> into) {
         super(configuration, into);
@@ -494,4 +497,109 @@ class InsertQueryImpl<R extends Record> extends AbstractStoreQuery<R> implements
     public final boolean isExecutable() {
         return insertMaps.isExecutable() || defaultValues;
     }
+
+    // -------------------------------------------------------------------------
+    // Chunked execution of large multi-record inserts
+    // -------------------------------------------------------------------------
+
+    /**
+     * The number of rows that can be inserted with a single statement.
+     * <p>
+     * The bind values of an <code>ON DUPLICATE KEY UPDATE</code> clause are
+     * rendered only once per statement, regardless of the number of rows.
+     */
+    private final int chunkSize(Configuration c) {
+        int rowBindValues = Math.max(1, insertMaps.insertMaps.get(0).size());
+        int updateBindValues = onDuplicateKeyUpdate ? using(c).extractBindValues(updateMap).size() : 0;
+        int rows = (Utils.maxBindValues(c.dialect()) - updateBindValues) / rowBindValues;
+
+        return Math.max(1, Math.min(rows, Utils.maxInsertRows(c.dialect())));
+    }
+
+    @Override
+    final int executeStatements(Configuration c) {
+        if (defaultValues || !insertMaps.isExecutable()) {
+            return executeStatement(c);
+        }
+
+        int size = chunkSize(c);
+        if (insertMaps.insertMaps.size() <= size) {
+            return executeStatement(c);
+        }
+
+        List<FieldMapForInsert> rows = insertMaps.rows();
+        int result = 0;
+
+        returned = null;
+        InsertQueryImpl<R> last = null;
+
+        // A statement kept open for a different chunk size cannot be re-used
+        if (chunk != null && chunk.insertMaps.insertMaps.size() != size) {
+            close();
+        }
+
+        try {
+            for (int i = 0; i < rows.size(); i += size) {
+                List<FieldMapForInsert> sub = rows.subList(i, Math.min(i + size, rows.size()));
+                InsertQueryImpl<R> query;
+
+                // All chunks but the last one render the same SQL string and
+                // can re-use the same prepared statement, unless bind values
+                // are inlined
+                if (sub.size() == size) {
+                    if (chunk == null) {
+                        chunk = chunk(c);
+                        chunk.keepStatement(executePreparedStatements(c.settings()));
+                    }
+
+                    query = chunk;
+                }
+                else {
+                    query = last = chunk(c);
+                }
+
+                query.insertMaps.rows(sub);
+                query.returned = null;
+                result += query.execute();
+
+                if (!returning.isEmpty())
+                    getReturnedRecords().addAll(query.getReturnedRecords());
+            }
+        }
+        finally {
+            if (last != null)
+                last.close();
+
+            // The shared statement is kept open only if this query is
+            if (!keepStatement())
+                close();
+        }
+
+        return result;
+    }
+
+    @Override
+    public final void close() {
+        super.close();
+
+        if (chunk != null) {
+            chunk.close();
+            chunk = null;
+        }
+    }
+
+    /**
+     * Create an empty copy of this query, which inserts a chunk of rows.
+     */
+    private final InsertQueryImpl<R> chunk(Configuration c) {
+        InsertQueryImpl<R> result = new InsertQueryImpl<R>(c, into);
+
+        result.updateMap.putAll(updateMap);
+        result.onDuplicateKeyUpdate = onDuplicateKeyUpdate;
+        result.onDuplicateKeyIgnore = onDuplicateKeyIgnore;
+        result.returning.addAll(returning);
+        result.queryTimeout(timeout());
+
+        return result;
+    }
 }
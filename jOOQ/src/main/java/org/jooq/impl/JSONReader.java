@@ -45,52 +45,110 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
 
-import org.jooq.tools.json.ContainerFactory;
+import org.jooq.tools.json.ContentHandler;
 import org.jooq.tools.json.JSONParser;
 import org.jooq.tools.json.ParseException;
 
 /**
  * A very simple JSON reader based on Simple JSON.
+ * <p>
+ * This reader reads documents in the format produced by
+ * {@link org.jooq.Result#formatJSON()}. Records are parsed lazily, one at a
+ * time, such that arbitrarily large documents can be read with constant
+ * memory. Values are returned as their JSON types: {@link String},
+ * {@link Long}, {@link Double}, {@link Boolean} or <code>null</code>.
+ * Nested arrays or objects are returned as <code>null</code>.
  *
  * @author Johannes Bühler
  */
-@SuppressWarnings({ "rawtypes", "unchecked" })
-class JSONReader implements Closeable {
+class JSONReader implements Closeable, Iterator<Object[]> {
 
-    private final BufferedReader br;
-    private final JSONParser     parser;
-    private String[]             fieldMetaData;
-    private List<String[]>       records;
+    private final BufferedReader       br;
+    private final JSONParser           parser;
+    private final Handler              handler;
+    private final LinkedList<Object[]> buffered;
+    private boolean                    started;
+    private boolean                    finished;
+    private Object[]                   next;
 
     public JSONReader(Reader reader) {
         this.br = new BufferedReader(reader);
         this.parser = new JSONParser();
+        this.handler = new Handler();
+        this.buffered = new LinkedList<Object[]>();
     }
 
-    public List<String[]> readAll() throws IOException {
-        if (this.records != null) {
-            return this.records;
+    /**
+     * Get the field names from the document's <code>"fields"</code> entry.
+     * <p>
+     * If the document lists its records before its fields, these records are
+     * buffered in memory.
+     */
+    public String[] getFields() throws IOException {
+        while (!handler.fieldsRead && !finished) {
+            parse();
+
+            if (handler.record != null) {
+                buffered.add(handler.record);
+                handler.record = null;
+            }
         }
-        try {
-            LinkedHashMap jsonRoot = getJsonRoot();
-            readFields(jsonRoot);
-            records = readRecords(jsonRoot);
+
+        return handler.fields.toArray(new String[handler.fields.size()]);
+    }
+
+    /**
+     * Read the next record, or <code>null</code> if there are no more records.
+     */
+    public Object[] readNext() throws IOException {
+        if (next != null) {
+            Object[] result = next;
+            next = null;
+            return result;
         }
-        catch (ParseException ex) {
-            throw new RuntimeException(ex);
+
+        if (!buffered.isEmpty()) {
+            return buffered.removeFirst();
         }
-        return records;
+
+        while (!finished) {
+            parse();
+
+            if (handler.record != null) {
+                Object[] result = handler.record;
+                handler.record = null;
+                return result;
+            }
+        }
+
+        return null;
     }
 
-    public String[] getFields() throws IOException {
-        if (fieldMetaData == null) {
-            readAll();
+    /**
+     * Parse the document until the next record or the end of the fields has
+     * been reached.
+     */
+    private void parse() throws IOException {
+        handler.paused = false;
+
+        try {
+            parser.parse(br, handler, started);
+            started = true;
+        }
+        catch (ParseException e) {
+            finished = true;
+            throw new IOException("Could not parse JSON document: " + e, e);
+        }
+
+        // The parser only returns without pausing at the end of the document
+        if (!handler.paused) {
+            finished = true;
         }
-        return fieldMetaData;
     }
 
     @Override
@@ -98,48 +156,145 @@ class JSONReader implements Closeable {
         br.close();
     }
 
-    private List<String[]> readRecords(LinkedHashMap jsonRoot) {
-        LinkedList jsonRecords = (LinkedList) jsonRoot.get("records");
-        records = new ArrayList();
-        for (Object record : jsonRecords) {
-            LinkedList values = (LinkedList) record;
-            List<String> v = new ArrayList<String>();
-            for (Object value : values) {
-                String asString = value == null ? null : String.valueOf(value);
-                v.add(asString);
+    // -------------------------------------------------------------------------
+    // The Iterator API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = readNext();
+            }
+            catch (IOException e) {
+                throw new RuntimeException(e);
             }
-            records.add(v.toArray(new String[v.size()]));
         }
 
-        return records;
+        return next != null;
+    }
+
+    @Override
+    public Object[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        Object[] result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
     }
 
-    private LinkedHashMap getJsonRoot() throws IOException, ParseException {
-        Object parse = parser.parse(br, new ContainerFactory() {
-            @Override
-            public LinkedHashMap createObjectContainer() {
-                return new LinkedHashMap();
+    /**
+     * A handler that collects field names and records, pausing the parser
+     * after each record.
+     * <p>
+     * The document structure is
+     * <code>{"fields":[{"name":...},...],"records":[[...],...]}</code>, where
+     * field objects and records are found at nesting depth 3.
+     */
+    private static class Handler implements ContentHandler {
+        final List<String>   fields = new ArrayList<String>();
+        boolean              fieldsRead;
+        Object[]             record;
+        boolean              paused;
+
+        private int          depth;
+        private String       key;
+        private String       fieldKey;
+        private List<Object> row;
+
+        @Override
+        public void startJSON() {}
+
+        @Override
+        public void endJSON() {}
+
+        @Override
+        public boolean startObject() {
+            return startValue();
+        }
+
+        @Override
+        public boolean endObject() {
+            depth--;
+            return true;
+        }
+
+        @Override
+        public boolean startObjectEntry(String k) {
+            if (depth == 1)
+                key = k;
+            else if (depth == 3)
+                fieldKey = k;
+
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            if (depth == 1 && "fields".equals(key)) {
+                fieldsRead = true;
+                return pause();
             }
 
-            @Override
-            public List createArrayContainer() {
-                return new LinkedList();
+            return true;
+        }
+
+        @Override
+        public boolean startArray() {
+            if (depth == 2 && "records".equals(key)) {
+                depth++;
+                row = new ArrayList<Object>();
+                return true;
             }
-        });
-        return (LinkedHashMap) parse;
-    }
 
-    private void readFields(LinkedHashMap jsonRoot) {
-        if (fieldMetaData != null) {
-            return;
+            return startValue();
         }
-        LinkedList fieldEntries = (LinkedList) jsonRoot.get("fields");
-        fieldMetaData = new String[fieldEntries.size()];
-        int i = 0;
-        for (Object key : fieldEntries) {
-            fieldMetaData[i] = (String) ((LinkedHashMap) key).get("name");
-            i++;
+
+        @Override
+        public boolean endArray() {
+            depth--;
+
+            if (depth == 2 && row != null) {
+                record = row.toArray();
+                row = null;
+                return pause();
+            }
+
+            return true;
+        }
+
+        @Override
+        public boolean primitive(Object value) {
+            if (depth == 3) {
+                if (row != null)
+                    row.add(value);
+                else if ("fields".equals(key) && "name".equals(fieldKey))
+                    fields.add(value == null ? null : String.valueOf(value));
+            }
+
+            return true;
+        }
+
+        private boolean startValue() {
+
+            // Nested arrays or objects within records are not supported
+            if (depth == 3 && row != null)
+                row.add(null);
+
+            depth++;
+            return true;
+        }
+
+        private boolean pause() {
+            paused = true;
+            return false;
         }
     }
 }
-
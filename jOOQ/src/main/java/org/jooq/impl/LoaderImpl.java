@@ -41,6 +41,7 @@
 package org.jooq.impl;
 
 import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
@@ -49,14 +50,29 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jooq.BatchBindStep;
 import org.jooq.Condition;
 import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.InsertQuery;
@@ -72,6 +88,7 @@ import org.jooq.SelectQuery;
 import org.jooq.Table;
 import org.jooq.TableRecord;
 import org.jooq.exception.DataAccessException;
+import org.jooq.tools.JooqLogger;
 import org.jooq.tools.StringUtils;
 import org.jooq.tools.csv.CSVParser;
 import org.jooq.tools.csv.CSVReader;
@@ -110,6 +127,11 @@ class LoaderImpl<R extends TableRecord<R>> implements
     private static final int        CONTENT_XML             = 1;
     private static final int        CONTENT_JSON            = 2;
 
+    private static final Object     END_OF_INPUT            = new Object();
+    private static final long       CLOSE_TIMEOUT           = 1000L;
+
+    private static final JooqLogger log                     = JooqLogger.getLogger(LoaderImpl.class);
+
     // Configuration data
     // ------------------
     private final DSLContext        create;
@@ -119,6 +141,10 @@ class LoaderImpl<R extends TableRecord<R>> implements
     private int                     onError                 = ON_ERROR_ABORT;
     private int                     commit                  = COMMIT_NONE;
     private int                     commitAfter             = 1;
+    private int                     bulk                    = 1;
+    private int                     batch                   = 1;
+    private int                     pipeline                = 0;
+    private boolean                 nativeBulkLoad;
     private int                     content                 = CONTENT_CSV;
     private BufferedReader          data;
 
@@ -212,6 +238,30 @@ class LoaderImpl<R extends TableRecord<R>> implements
         return this;
     }
 
+    @Override
+    public final LoaderImpl<R> bulkAfter(int number) {
+        bulk = Math.max(1, number);
+        return this;
+    }
+
+    @Override
+    public final LoaderImpl<R> batchAfter(int number) {
+        batch = Math.max(1, number);
+        return this;
+    }
+
+    @Override
+    public final LoaderImpl<R> pipeline(int capacity) {
+        pipeline = Math.max(0, capacity);
+        return this;
+    }
+
+    @Override
+    public final LoaderImpl<R> nativeBulkLoad() {
+        nativeBulkLoad = true;
+        return this;
+    }
+
     @Override
     public final LoaderImpl<R> loadCSV(File file) throws FileNotFoundException {
         content = CONTENT_CSV;
@@ -382,11 +432,7 @@ class LoaderImpl<R extends TableRecord<R>> implements
         JSONReader reader = new JSONReader(data);
 
         try {
-
-            // The current json format is not designed for streaming. Thats why
-            // all records are loaded at once.
-            List<String[]> allRecords = reader.readAll();
-            executeSQL(allRecords.iterator());
+            executeSQL(reader, reader);
         }
 
         // SQLExceptions originating from rollbacks or commits are always fatal
@@ -394,16 +440,13 @@ class LoaderImpl<R extends TableRecord<R>> implements
         catch (SQLException e) {
             throw Utils.translate(null, e);
         }
-        finally {
-            reader.close();
-        }
     }
 
     private final void executeCSV() throws IOException {
         CSVReader reader = new CSVReader(data, separator, quote, ignoreRows);
 
         try {
-            executeSQL(reader);
+            executeSQL(reader, reader);
         }
 
         // SQLExceptions originating from rollbacks or commits are always fatal
@@ -411,54 +454,161 @@ class LoaderImpl<R extends TableRecord<R>> implements
         catch (SQLException e) {
             throw Utils.translate(null, e);
         }
+    }
+
+    /**
+     * Load all rows of a reader, and close its source afterwards.
+     */
+    private void executeSQL(Iterator<? extends Object[]> reader, Closeable source) throws SQLException, IOException {
+        PipelinedRows pipe = null;
+
+        try {
+            if (nativeBulkLoad && executeNative(reader)) {
+                return;
+            }
+
+            Iterator<LoaderRow> rows;
+
+            if (pipeline > 0) {
+                pipe = new PipelinedRows(reader, source);
+                rows = pipe;
+            }
+            else {
+                rows = new SequentialRows(reader);
+            }
+
+            executeSQL0(rows);
+        }
         finally {
-            reader.close();
+            if (pipe != null) {
+                pipe.close();
+            }
+            else {
+                source.close();
+            }
         }
     }
 
-    private void executeSQL(Iterator<String[]> reader) throws SQLException {
-        String[] row;
+    /**
+     * Try loading data using the dialect's native bulk loading protocol.
+     *
+     * @return Whether data was loaded. If <code>false</code>, no input has
+     *         been consumed.
+     */
+    private final boolean executeNative(Iterator<? extends Object[]> reader) throws SQLException {
 
-        // TODO: When running in COMMIT_AFTER > 1 or COMMIT_ALL mode, then
-        // it might be better to bulk load / merge n records
-        rowloop: while (reader.hasNext() && ((row = reader.next()) != null)) {
+        // Native bulk loads cannot skip individual erroneous rows, nor update
+        // existing records
+        if (onError == ON_ERROR_IGNORE || onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
+            return false;
+        }
 
-            // [#1627] Handle NULL values
-            for (int i = 0; i < row.length; i++) {
-                if (StringUtils.equals(nullString, row[i])) {
-                    row[i] = null;
-                }
+        NativeBulkLoad load = NativeBulkLoad.of(configuration.dialect());
+        boolean ignore = onDuplicate == ON_DUPLICATE_KEY_IGNORE;
+
+        if (load == null || (ignore && !load.supportsIgnore())) {
+            return false;
+        }
+
+        ConnectionProvider provider = configuration.connectionProvider();
+        Connection connection = provider.acquire();
+
+        try {
+            if (!load.available(connection)) {
+                return false;
             }
 
-            processed++;
-            InsertQuery<R> insert = create.insertQuery(table);
+            String sql = load.sql(create, table, fields, ignore);
+            int limit = commit == COMMIT_AFTER ? commitAfter : Integer.MAX_VALUE;
 
-            for (int i = 0; i < row.length; i++) {
-                if (i < fields.length && fields[i] != null) {
-                    addValue0(insert, fields[i], row[i]);
+            for (;;) {
+                NativeBulkLoad.Rows rows = load.rows(reader, fields, nullString, limit, processed);
+
+                if (rows.first() == null) {
+                    break;
+                }
+
+                try {
+                    long loaded = load.load(connection, sql, rows);
+                    int missing = (int) (rows.rows() - loaded);
+
+                    processed += rows.rows();
+                    stored += loaded;
+
+                    // Duplicates may have been skipped silently
+                    if (missing > 0) {
+                        ignored += missing;
+
+                        if (!ignore) {
+                            errors.add(new LoaderErrorImpl(
+                                new DataAccessException(missing + " rows could not be loaded, possibly because of duplicate keys"),
+                                strings(rows.first()), rows.firstIndex(), create.query(sql)));
+                            break;
+                        }
+                    }
+                }
+                catch (SQLException e) {
+                    processed += rows.rows();
+                    ignored += rows.rows();
+                    errors.add(new LoaderErrorImpl(Utils.translate(sql, e), strings(rows.first()), rows.firstIndex(), create.query(sql)));
+                    break;
+                }
+
+                if (rows.exhausted()) {
+                    break;
+                }
+
+                if (commit == COMMIT_AFTER) {
+                    connection.commit();
                 }
             }
+        }
+        finally {
+            provider.release(connection);
+        }
 
-            // TODO: This is only supported by some dialects. Let other
-            // dialects execute a SELECT and then either an INSERT or UPDATE
-            if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
-                insert.onDuplicateKeyUpdate(true);
+        finish();
+        return true;
+    }
 
-                for (int i = 0; i < row.length; i++) {
-                    if (i < fields.length && fields[i] != null && !primaryKey[i]) {
-                        addValueForUpdate0(insert, fields[i], row[i]);
-                    }
+    private void executeSQL0(Iterator<LoaderRow> rows) throws SQLException {
+        List<LoaderRow> buffer = new ArrayList<LoaderRow>();
+        Set<List<Object>> bufferedKeys = new HashSet<List<Object>>();
+
+        // Multi-row INSERT .. ON DUPLICATE KEY UPDATE statements would need to
+        // reference the inserted values, which isn't supported
+        int rowsPerStatement = onDuplicate == ON_DUPLICATE_KEY_UPDATE ? 1 : bulk;
+        int rowsPerFlush = rowsPerStatement * batch;
+
+        rowloop: while (rows.hasNext()) {
+            LoaderRow row = rows.next();
+            processed++;
+
+            // Rows of different lengths result in different INSERT statements
+            if (!buffer.isEmpty() && buffer.get(0).length != row.length) {
+                if (!flush(buffer, rowsPerStatement)) {
+                    break rowloop;
                 }
+
+                bufferedKeys.clear();
             }
 
             // TODO: This can be implemented faster using a MERGE statement
             // in some dialects
-            else if (onDuplicate == ON_DUPLICATE_KEY_IGNORE) {
+            if (onDuplicate == ON_DUPLICATE_KEY_IGNORE) {
+
+                // Duplicates among buffered rows are not yet in the database
+                List<Object> key = row.key();
+                if (bufferedKeys.contains(key)) {
+                    ignored++;
+                    continue rowloop;
+                }
+
                 SelectQuery<R> select = create.selectQuery(table);
 
                 for (int i = 0; i < row.length; i++) {
-                    if (i < fields.length && primaryKey[i]) {
-                        select.addConditions(getCondition(fields[i], row[i]));
+                    if (primaryKey[i]) {
+                        select.addConditions(getCondition(fields[i], row.values[i]));
                     }
                 }
 
@@ -469,33 +619,38 @@ class LoaderImpl<R extends TableRecord<R>> implements
                     }
                 }
                 catch (DataAccessException e) {
-                    errors.add(new LoaderErrorImpl(e, row, processed - 1, select));
+                    errors.add(new LoaderErrorImpl(e, strings(row.row), row.index, select));
                 }
-            }
 
-            // Don't do anything. Let the execution fail
-            else if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {}
+                bufferedKeys.add(key);
+            }
 
-            try {
-                insert.execute();
-                stored++;
+            buffer.add(row);
 
-                if (commit == COMMIT_AFTER) {
-                    if (processed % commitAfter == 0) {
-                        configuration.connectionProvider().acquire().commit();
-                    }
+            if (buffer.size() >= rowsPerFlush || (commit == COMMIT_AFTER && processed % commitAfter == 0)) {
+                if (!flush(buffer, rowsPerStatement)) {
+                    break rowloop;
                 }
-            }
-            catch (DataAccessException e) {
-                errors.add(new LoaderErrorImpl(e, row, processed - 1, insert));
-                ignored++;
 
-                if (onError == ON_ERROR_ABORT) {
-                    break rowloop;
+                bufferedKeys.clear();
+
+                if (commit == COMMIT_AFTER && processed % commitAfter == 0) {
+                    configuration.connectionProvider().acquire().commit();
                 }
             }
         }
 
+        if (!buffer.isEmpty()) {
+            flush(buffer, rowsPerStatement);
+        }
+
+        finish();
+    }
+
+    /**
+     * Commit or rollback according to the COMMIT OPTIONS, after loading.
+     */
+    private final void finish() throws SQLException {
         // Rollback on errors in COMMIT_ALL mode
         try {
             if (commit == COMMIT_ALL) {
@@ -520,25 +675,470 @@ class LoaderImpl<R extends TableRecord<R>> implements
         }
     }
 
+    /**
+     * Insert all buffered rows, and clear the buffer.
+     * <p>
+     * Rows are inserted using <code>INSERT</code> statements of at most
+     * <code>rowsPerStatement</code> rows each. If there are several
+     * statements, they're executed in a single JDBC batch.
+     *
+     * @return Whether loading should continue.
+     */
+    private final boolean flush(List<LoaderRow> buffer, int rowsPerStatement) {
+        List<InsertQuery<R>> inserts = new ArrayList<InsertQuery<R>>();
+
+        for (int from = 0; from < buffer.size(); from += rowsPerStatement) {
+            inserts.add(insert(buffer.subList(from, Math.min(from + rowsPerStatement, buffer.size()))));
+        }
+
+        // The last statement may contain fewer rows than the others, in case
+        // of which it is executed separately
+        int batched = inserts.size();
+        if (batched > 1 && buffer.size() % rowsPerStatement != 0) {
+            batched--;
+        }
+
+        boolean result = true;
+
+        if (batched == 1) {
+            result = execute(buffer, rowsPerStatement, 0, inserts.get(0));
+        }
+        else {
+            result = execute(buffer, rowsPerStatement, inserts.subList(0, batched));
+        }
+
+        if (result && batched < inserts.size()) {
+            result = execute(buffer, rowsPerStatement, batched, inserts.get(batched));
+        }
+
+        buffer.clear();
+        return result;
+    }
+
+    /**
+     * Execute a single <code>INSERT</code> statement.
+     */
+    private final boolean execute(List<LoaderRow> buffer, int rowsPerStatement, int statement, InsertQuery<R> insert) {
+        List<LoaderRow> rows = rows(buffer, rowsPerStatement, statement);
+
+        try {
+            insert.execute();
+            stored += rows.size();
+            return true;
+        }
+        catch (DataAccessException e) {
+            errors.add(new LoaderErrorImpl(e, strings(rows.get(0).row), rows.get(0).index, insert));
+            ignored += rows.size();
+            return onError != ON_ERROR_ABORT;
+        }
+    }
+
+    /**
+     * Execute several <code>INSERT</code> statements of the same shape in a
+     * single JDBC batch.
+     */
+    private final boolean execute(List<LoaderRow> buffer, int rowsPerStatement, List<InsertQuery<R>> inserts) {
+        BatchBindStep batchStep = create.batch(inserts.get(0));
+
+        for (InsertQuery<R> insert : inserts) {
+            batchStep.bind(insert.getBindValues().toArray());
+        }
+
+        try {
+            batchStep.execute();
+            stored += inserts.size() * rowsPerStatement;
+            return true;
+        }
+        catch (DataAccessException e) {
+            int[] counts = e.getCause() instanceof BatchUpdateException
+                ? ((BatchUpdateException) e.getCause()).getUpdateCounts()
+                : null;
+
+            // Drivers either stop at the first failed statement, or report
+            // each failed statement with Statement.EXECUTE_FAILED
+            int failed = 0;
+            int succeeded = 0;
+
+            if (counts != null) {
+                failed = counts.length;
+
+                for (int i = counts.length - 1; i >= 0; i--) {
+                    if (counts[i] == Statement.EXECUTE_FAILED) {
+                        failed = i;
+                    }
+                    else {
+                        succeeded++;
+                    }
+                }
+            }
+
+            // The first failed statement is reported. If unknown, the batch
+            // as a whole is reported through its first statement
+            int statement = failed < inserts.size() ? failed : 0;
+            List<LoaderRow> rows = rows(buffer, rowsPerStatement, statement);
+
+            errors.add(new LoaderErrorImpl(e, strings(rows.get(0).row), rows.get(0).index, inserts.get(statement)));
+            stored += succeeded * rowsPerStatement;
+            ignored += (inserts.size() - succeeded) * rowsPerStatement;
+            return onError != ON_ERROR_ABORT;
+        }
+    }
+
+    private final List<LoaderRow> rows(List<LoaderRow> buffer, int rowsPerStatement, int statement) {
+        int from = statement * rowsPerStatement;
+        return buffer.subList(from, Math.min(from + rowsPerStatement, buffer.size()));
+    }
+
+    /**
+     * Create a (possibly multi-row) <code>INSERT</code> statement for a set
+     * of rows of the same length.
+     */
+    private final InsertQuery<R> insert(List<LoaderRow> rows) {
+        InsertQuery<R> insert = create.insertQuery(table);
+
+        for (int r = 0; r < rows.size(); r++) {
+            LoaderRow row = rows.get(r);
+
+            if (r > 0) {
+                insert.newRecord();
+            }
+
+            for (int i = 0; i < row.length; i++) {
+                if (fields[i] != null) {
+                    addValue0(insert, fields[i], row.values[i]);
+                }
+            }
+        }
+
+        // TODO: This is only supported by some dialects. Let other
+        // dialects execute a SELECT and then either an INSERT or UPDATE
+        if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
+            LoaderRow row = rows.get(0);
+            insert.onDuplicateKeyUpdate(true);
+
+            for (int i = 0; i < row.length; i++) {
+                if (fields[i] != null && !primaryKey[i]) {
+                    addValueForUpdate0(insert, fields[i], row.values[i]);
+                }
+            }
+        }
+
+        return insert;
+    }
+
     /**
      * Type-safety...
      */
-    private <T> void addValue0(InsertQuery<R> insert, Field<T> field, String row) {
-        insert.addValue(field, field.getDataType().convert(row));
+    @SuppressWarnings("unchecked")
+    private <T> void addValue0(InsertQuery<R> insert, Field<T> field, Object value) {
+        insert.addValue(field, (T) value);
     }
 
     /**
      * Type-safety...
      */
-    private <T> void addValueForUpdate0(InsertQuery<R> insert, Field<T> field, String row) {
-        insert.addValueForUpdate(field, field.getDataType().convert(row));
+    @SuppressWarnings("unchecked")
+    private <T> void addValueForUpdate0(InsertQuery<R> insert, Field<T> field, Object value) {
+        insert.addValueForUpdate(field, (T) value);
     }
 
     /**
      * Get a type-safe condition
      */
-    private <T> Condition getCondition(Field<T> field, String string) {
-        return field.equal(field.getDataType().convert(string));
+    @SuppressWarnings("unchecked")
+    private <T> Condition getCondition(Field<T> field, Object value) {
+        return field.equal((T) value);
+    }
+
+    /**
+     * Convert a raw input row to a {@link LoaderRow}.
+     * <p>
+     * CSV input rows consist of strings. JSON input rows may also contain
+     * numbers and booleans, which are converted to the target type directly.
+     */
+    private final LoaderRow convert(Object[] row, int index) {
+
+        // [#1627] Handle NULL values
+        for (int i = 0; i < row.length; i++) {
+            if (row[i] instanceof String && StringUtils.equals(nullString, (String) row[i])) {
+                row[i] = null;
+            }
+        }
+
+        int length = Math.min(row.length, fields.length);
+        Object[] values = new Object[length];
+
+        for (int i = 0; i < length; i++) {
+            if (fields[i] != null) {
+                values[i] = fields[i].getDataType().convert(row[i]);
+            }
+        }
+
+        return new LoaderRow(row, index, length, values);
+    }
+
+    /**
+     * A converted input row.
+     */
+    private final class LoaderRow {
+        final Object[] row;
+        final int      index;
+        final int      length;
+        final Object[] values;
+
+        LoaderRow(Object[] row, int index, int length, Object[] values) {
+            this.row = row;
+            this.index = index;
+            this.length = length;
+            this.values = values;
+        }
+
+        /**
+         * The primary key values of this row.
+         */
+        List<Object> key() {
+            List<Object> result = new ArrayList<Object>();
+
+            for (int i = 0; i < length; i++) {
+                if (primaryKey[i]) {
+                    result.add(values[i]);
+                }
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * The string representation of a raw input row, for error reporting.
+     */
+    private static final String[] strings(Object[] row) {
+        if (row == null || row instanceof String[]) {
+            return (String[]) row;
+        }
+
+        String[] result = new String[row.length];
+        for (int i = 0; i < row.length; i++) {
+            result[i] = row[i] == null ? null : row[i].toString();
+        }
+
+        return result;
+    }
+
+    /**
+     * Read and convert input rows on the loading thread.
+     */
+    private final class SequentialRows implements Iterator<LoaderRow> {
+        private final Iterator<? extends Object[]> reader;
+        private Object[]                           next;
+        private int                                index;
+
+        SequentialRows(Iterator<? extends Object[]> reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && reader.hasNext()) {
+                next = reader.next();
+            }
+
+            return next != null;
+        }
+
+        @Override
+        public LoaderRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            Object[] row = next;
+            next = null;
+            return convert(row, index++);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Read and convert input rows on two separate threads, handing them over
+     * to the loading thread through bounded queues.
+     * <p>
+     * The bounded queues apply back-pressure to the reading and converting
+     * threads if the loading thread cannot keep up.
+     */
+    private final class PipelinedRows implements Iterator<LoaderRow> {
+        private final BlockingQueue<Object> parsed;
+        private final BlockingQueue<Object> converted;
+        private final ExecutorService       executor;
+        private final Closeable             source;
+        private final AtomicBoolean         abandoned;
+        private Object                      next;
+
+        PipelinedRows(final Iterator<? extends Object[]> reader, Closeable source) {
+            this.parsed = new ArrayBlockingQueue<Object>(pipeline);
+            this.converted = new ArrayBlockingQueue<Object>(pipeline);
+            this.executor = Executors.newFixedThreadPool(2, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+
+                    // Abandoned threads must not keep the JVM alive
+                    Thread thread = new Thread(runnable, "jooq-loader");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            this.source = source;
+            this.abandoned = new AtomicBoolean();
+
+            executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        Object[] row;
+
+                        while (reader.hasNext() && ((row = reader.next()) != null)) {
+                            parsed.put(row);
+                        }
+
+                        parsed.put(END_OF_INPUT);
+                    }
+                    catch (InterruptedException e) {}
+                    catch (RuntimeException e) {
+                        fail(parsed, e);
+                    }
+                    catch (Error e) {
+                        fail(parsed, e);
+                    }
+                    finally {
+                        if (abandoned.get()) {
+                            closeSource();
+                        }
+                    }
+                }
+            });
+
+            executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        for (int index = 0;; index++) {
+                            Object row = parsed.take();
+
+                            if (row instanceof Object[]) {
+                                converted.put(convert((Object[]) row, index));
+                            }
+                            else {
+                                converted.put(row);
+                                return;
+                            }
+                        }
+                    }
+                    catch (InterruptedException e) {}
+                    catch (RuntimeException e) {
+                        fail(converted, e);
+                    }
+                    catch (Error e) {
+                        fail(converted, e);
+                    }
+                }
+            });
+        }
+
+        /**
+         * Hand over an exception to the next stage, waiting for space in its
+         * queue, unless the pipeline is being closed.
+         */
+        private void fail(BlockingQueue<Object> queue, Throwable e) {
+            try {
+                queue.put(e);
+            }
+            catch (InterruptedException ignore) {}
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    next = converted.take();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new DataAccessException("Interrupted while loading", e);
+                }
+            }
+
+            if (next instanceof RuntimeException) {
+                throw (RuntimeException) next;
+            }
+            else if (next instanceof Error) {
+                throw (Error) next;
+            }
+
+            return next != END_OF_INPUT;
+        }
+
+        @Override
+        public LoaderRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            LoaderRow row = (LoaderRow) next;
+            next = null;
+            return row;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Stop the reading and converting threads, and close the source once
+         * they have terminated.
+         * <p>
+         * A reading thread that is blocked in non-interruptible I/O doesn't
+         * terminate when it is interrupted. Closing the source concurrently
+         * would block as well, as readers synchronise reading and closing.
+         * Such a thread is abandoned after {@link #CLOSE_TIMEOUT}
+         * milliseconds. It closes the source itself, once it returns.
+         */
+        void close() throws IOException {
+            executor.shutdownNow();
+
+            try {
+                if (executor.awaitTermination(CLOSE_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                    source.close();
+                    return;
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            abandoned.set(true);
+
+            // The reading thread may have terminated in the mean time
+            if (executor.isTerminated()) {
+                source.close();
+            }
+            else {
+                log.warn("Loader", "Reading thread did not terminate within " + CLOSE_TIMEOUT + "ms. The input is closed once reading returns");
+            }
+        }
+
+        private void closeSource() {
+            try {
+                source.close();
+            }
+            catch (IOException e) {
+                log.warn("Loader", "Error closing input", e);
+            }
+        }
     }
 
     // -------------------------------------------------------------------------
@@ -46,7 +46,6 @@ import static java.util.Collections.unmodifiableList;
 import static org.jooq.SQLDialect.MARIADB;
 import static org.jooq.SQLDialect.MYSQL;
 import static org.jooq.SQLDialect.SQLITE;
-import static org.jooq.impl.DSL.name;
 
 import java.io.Serializable;
 import java.sql.Connection;
@@ -55,10 +54,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 
 import org.jooq.Catalog;
 import org.jooq.Configuration;
@@ -67,9 +63,9 @@ import org.jooq.DSLContext;
 import org.jooq.DataType;
 import org.jooq.Field;
 import org.jooq.Meta;
-import org.jooq.Name;
 import org.jooq.Record;
 import org.jooq.Result;
+import org.jooq.ResultIndex;
 import org.jooq.SQLDialect;
 import org.jooq.Schema;
 import org.jooq.Table;
@@ -263,7 +259,7 @@ class MetaImpl implements Meta, Serializable {
         private static final long                            serialVersionUID = -2621899850912554198L;
 
         private transient volatile List<Table<?>>            tableCache;
-        private transient volatile Map<Name, Result<Record>> columnCache;
+        private transient volatile ResultIndex<Record>       columnCache;
 
         MetaSchema(String name) {
             super(name);
@@ -328,9 +324,14 @@ class MetaImpl implements Meta, Serializable {
                     SQLDataType.VARCHAR  // TABLE_TYPE
                 );
 
+                // [#2760] MySQL JDBC confuses "catalog" and "schema"
+                int schemaIndex = asList(MYSQL, MARIADB).contains(configuration.dialect().family())
+                    ? 0  // TABLE_CAT
+                    : 1; // TABLE_SCHEM
+
                 for (Record table : tables) {
 //                  String catalog = table.getValue(0, String.class);
-                    String schema = table.getValue(1, String.class);
+                    String schema = table.getValue(schemaIndex, String.class);
                     String name = table.getValue(2, String.class);
 
                     result.add(new MetaTable(name, this, getColumns(schema, name)));
@@ -349,7 +350,6 @@ class MetaImpl implements Meta, Serializable {
             }
         }
 
-        @SuppressWarnings("unchecked")
         private final Result<Record> getColumns(String schema, String table) throws SQLException {
 
             // SQLite JDBC's DatabaseMetaData.getColumns() can only return a single
@@ -357,26 +357,19 @@ class MetaImpl implements Meta, Serializable {
             if (columnCache == null && configuration.dialect() != SQLITE) {
                 Result<Record> columns = getColumns0(schema, "%");
 
-                Field<String> tableSchem = (Field<String>) columns.field(1); // TABLE_SCHEM
-                Field<String> tableName = (Field<String>) columns.field(2);  // TABLE_NAME
-
-                Map<Record, Result<Record>> groups =
-                columns.intoGroups(new Field[] {
-                    tableSchem,
-                    tableName
-                });
-
-                columnCache = new LinkedHashMap<Name, Result<Record>>();
+                // [#2760] MySQL JDBC confuses "catalog" and "schema"
+                Field<?> tableSchem = asList(MYSQL, MARIADB).contains(configuration.dialect().family())
+                    ? columns.field(0)  // TABLE_CAT
+                    : columns.field(1); // TABLE_SCHEM
+                Field<?> tableName = columns.field(2);  // TABLE_NAME
 
-                for (Entry<Record, Result<Record>> entry : groups.entrySet()) {
-                    Record key = entry.getKey();
-                    Result<Record> value = entry.getValue();
-                    columnCache.put(name(key.getValue(tableSchem), key.getValue(tableName)), value);
-                }
+                columnCache = columns.intoIndex(tableSchem, tableName);
             }
 
+            // Tables without any columns are not contained in the cache
             if (columnCache != null) {
-                return columnCache.get(name(schema, table));
+                Result<Record> result = columnCache.get(schema, table);
+                return result.isEmpty() ? null : result;
             }
             else {
                 return getColumns0(schema, table);
@@ -0,0 +1,448 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.name;
+import static org.jooq.tools.reflect.Reflect.on;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.tools.StringUtils;
+import org.jooq.tools.jdbc.JDBCUtils;
+import org.jooq.tools.reflect.ReflectException;
+
+/**
+ * A dialect-specific, native bulk loading protocol used by the
+ * {@link LoaderImpl}.
+ * <p>
+ * Vendor-specific JDBC driver APIs are accessed through reflection, such that
+ * jOOQ doesn't depend on any JDBC driver at compile time.
+ *
+ * @author Lukas Eder
+ */
+abstract class NativeBulkLoad {
+
+    /**
+     * Get the native bulk loading protocol for a dialect, or <code>null</code>
+     * if the dialect doesn't have any.
+     */
+    static final NativeBulkLoad of(SQLDialect dialect) {
+        switch (dialect.family()) {
+            case POSTGRES:
+                return new Postgres();
+
+            case MARIADB:
+            case MYSQL:
+                return new MySQL();
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Whether duplicate records can be skipped by this protocol.
+     */
+    abstract boolean supportsIgnore();
+
+    /**
+     * Whether the JDBC driver behind a connection supports this protocol.
+     */
+    abstract boolean available(Connection connection);
+
+    /**
+     * The SQL statement that is used for loading data.
+     */
+    abstract String sql(DSLContext create, Table<?> table, Field<?>[] fields, boolean ignore);
+
+    /**
+     * Load data into the database.
+     *
+     * @return The number of loaded records.
+     */
+    abstract long load(Connection connection, String sql, InputStream data) throws SQLException;
+
+    /**
+     * Encode a value for the data stream.
+     */
+    abstract void encode(StringBuilder sb, String value);
+
+    /**
+     * Create a data stream of at most <code>limit</code> rows from a
+     * <code>Loader</code>'s input.
+     */
+    final Rows rows(Iterator<? extends Object[]> reader, Field<?>[] fields, String nullString, int limit, int firstIndex) {
+        return new Rows(reader, fields, nullString, limit, firstIndex);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Utilities
+    // -------------------------------------------------------------------------
+
+    static final String columns(DSLContext create, Field<?>[] fields) {
+        StringBuilder sb = new StringBuilder();
+        String separator = "";
+
+        for (Field<?> field : fields) {
+            if (field != null) {
+                sb.append(separator).append(create.render(name(field.getName())));
+                separator = ", ";
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Load a class from the connection's class loader, or from jOOQ's class
+     * loader.
+     */
+    static final Class<?> type(Connection connection, String name) {
+        try {
+            return Class.forName(name, false, connection.getClass().getClassLoader());
+        }
+        catch (ClassNotFoundException e) {
+            try {
+                return Class.forName(name);
+            }
+            catch (ClassNotFoundException ignore) {
+                return null;
+            }
+        }
+    }
+
+    static final boolean isWrapperFor(Connection connection, String name) {
+        Class<?> type = type(connection, name);
+
+        try {
+            return type != null && connection.isWrapperFor(type);
+        }
+        catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Unwrap <code>SQLException</code>s thrown through reflection.
+     */
+    static final SQLException sqlException(ReflectException e) {
+        Throwable cause = e.getCause();
+
+        if (cause instanceof InvocationTargetException) {
+            cause = cause.getCause();
+        }
+
+        if (cause instanceof SQLException) {
+            return (SQLException) cause;
+        }
+
+        throw e;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Dialects
+    // -------------------------------------------------------------------------
+
+    /**
+     * PostgreSQL's <code>COPY .. FROM STDIN</code> through the driver's
+     * <code>CopyManager</code>.
+     */
+    private static class Postgres extends NativeBulkLoad {
+
+        private static final String PG_CONNECTION = "org.postgresql.PGConnection";
+
+        @Override
+        final boolean supportsIgnore() {
+            return false;
+        }
+
+        @Override
+        final boolean available(Connection connection) {
+            return isWrapperFor(connection, PG_CONNECTION);
+        }
+
+        @Override
+        final String sql(DSLContext create, Table<?> table, Field<?>[] fields, boolean ignore) {
+            return "copy " + create.render(table) + " (" + columns(create, fields) + ") from stdin with csv";
+        }
+
+        @Override
+        final long load(Connection connection, String sql, InputStream data) throws SQLException {
+            Object pg = connection.unwrap(type(connection, PG_CONNECTION));
+
+            try {
+                return on(pg).call("getCopyAPI").call("copyIn", sql, data).<Long> get();
+            }
+            catch (ReflectException e) {
+                throw sqlException(e);
+            }
+        }
+
+        @Override
+        final void encode(StringBuilder sb, String value) {
+
+            // Unquoted empty strings are NULL, quoted ones are empty strings
+            if (value != null) {
+                sb.append('"').append(value.replace("\"", "\"\"")).append('"');
+            }
+        }
+    }
+
+    /**
+     * MySQL's and MariaDB's <code>LOAD DATA LOCAL INFILE</code> with an input
+     * stream set on the driver's statement.
+     */
+    private static class MySQL extends NativeBulkLoad {
+
+        private static final String[][] DRIVERS = {
+            { "com.mysql.jdbc.Connection", "com.mysql.jdbc.Statement" },
+            { "org.mariadb.jdbc.MySQLConnection", "org.mariadb.jdbc.MySQLStatement" }
+        };
+
+        @Override
+        final boolean supportsIgnore() {
+            return true;
+        }
+
+        @Override
+        final boolean available(Connection connection) {
+            return statementType(connection) != null;
+        }
+
+        private final Class<?> statementType(Connection connection) {
+            for (String[] driver : DRIVERS) {
+                if (isWrapperFor(connection, driver[0])) {
+                    return type(connection, driver[1]);
+                }
+            }
+
+            return null;
+        }
+
+        @Override
+        final String sql(DSLContext create, Table<?> table, Field<?>[] fields, boolean ignore) {
+            return "load data local infile 'jooq-loader.csv'"
+                + (ignore ? " ignore" : "")
+                + " into table " + create.render(table)
+                + " character set utf8"
+                + " fields terminated by ',' optionally enclosed by '\"' escaped by '\\\\'"
+                + " lines terminated by '\\n'"
+                + " (" + columns(create, fields) + ")";
+        }
+
+        @Override
+        final long load(Connection connection, String sql, InputStream data) throws SQLException {
+            Statement statement = connection.createStatement();
+
+            try {
+                on(statement.unwrap(statementType(connection))).call("setLocalInfileInputStream", data);
+                return statement.executeUpdate(sql);
+            }
+            catch (ReflectException e) {
+                throw sqlException(e);
+            }
+            finally {
+                JDBCUtils.safeClose(statement);
+            }
+        }
+
+        @Override
+        final void encode(StringBuilder sb, String value) {
+            if (value == null) {
+                sb.append("\\N");
+            }
+            else {
+                sb.append('"').append(value.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Data stream
+    // -------------------------------------------------------------------------
+
+    /**
+     * A stream of UTF-8 encoded records, read lazily from a
+     * <code>Loader</code>'s input.
+     */
+    final class Rows extends InputStream {
+
+        private final Iterator<? extends Object[]> reader;
+        private final Field<?>[]                   fields;
+        private final String                       nullString;
+        private final int                          limit;
+
+        private final Object[]                     first;
+        private final int                          firstIndex;
+        private Object[]                           pending;
+        private int                                rows;
+        private boolean                            exhausted;
+
+        private byte[]                             line;
+        private int                                position;
+
+        Rows(Iterator<? extends Object[]> reader, Field<?>[] fields, String nullString, int limit, int firstIndex) {
+            this.reader = reader;
+            this.fields = fields;
+            this.nullString = nullString;
+            this.limit = limit;
+            this.firstIndex = firstIndex;
+            this.first = nextRow();
+            this.pending = first;
+        }
+
+        /**
+         * The first row of this stream, or <code>null</code> if the input is
+         * exhausted.
+         */
+        final Object[] first() {
+            return first;
+        }
+
+        /**
+         * The row index of the first row of this stream.
+         */
+        final int firstIndex() {
+            return firstIndex;
+        }
+
+        /**
+         * The number of rows read from the input so far.
+         */
+        final int rows() {
+            return rows;
+        }
+
+        /**
+         * Whether the input has no more rows.
+         */
+        final boolean exhausted() {
+            return exhausted;
+        }
+
+        private final Object[] nextRow() {
+            Object[] row;
+
+            if (rows < limit && reader.hasNext() && ((row = reader.next()) != null)) {
+                rows++;
+                return row;
+            }
+
+            exhausted = rows < limit;
+            return null;
+        }
+
+        private final boolean nextLine() {
+            Object[] row = pending != null ? pending : nextRow();
+            pending = null;
+
+            if (row == null) {
+                return false;
+            }
+
+            StringBuilder sb = new StringBuilder();
+            String separator = "";
+
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i] != null) {
+                    Object raw = i < row.length ? row[i] : null;
+                    String value = raw == null ? null : raw.toString();
+
+                    // [#1627] Handle NULL values
+                    if (StringUtils.equals(nullString, value)) {
+                        value = null;
+                    }
+
+                    sb.append(separator);
+                    encode(sb, value);
+                    separator = ",";
+                }
+            }
+
+            sb.append('\n');
+
+            try {
+                line = sb.toString().getBytes("UTF-8");
+                position = 0;
+                return true;
+            }
+            catch (UnsupportedEncodingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public final int read() throws IOException {
+            if ((line == null || position == line.length) && !nextLine()) {
+                return -1;
+            }
+
+            return line[position++] & 0xFF;
+        }
+
+        @Override
+        public final int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+
+            if ((line == null || position == line.length) && !nextLine()) {
+                return -1;
+            }
+
+            int result = Math.min(len, line.length - position);
+            System.arraycopy(line, position, b, off, result);
+            position += result;
+            return result;
+        }
+    }
+}
@@ -46,9 +46,12 @@ import static org.jooq.impl.RecordDelegate.RecordLifecycleType.LOAD;
 import static org.jooq.impl.RecordDelegate.RecordLifecycleType.REFRESH;
 import static org.jooq.impl.Utils.attachRecords;
 
+import java.util.Set;
+
 import org.jooq.Configuration;
 import org.jooq.ExecuteType;
 import org.jooq.Record;
+import org.jooq.RecordContext;
 import org.jooq.RecordListener;
 import org.jooq.RecordListenerProvider;
 import org.jooq.exception.ControlFlowSignal;
@@ -93,13 +96,18 @@ class RecordDelegate<R extends Record> {
         if (configuration != null) {
             providers = configuration.recordListenerProviders();
 
-            if (providers != null) {
+            // Avoid allocating listener state for every record when nobody listens
+            if (providers != null && providers.length > 0) {
                 listeners = new RecordListener[providers.length];
-                ctx = new DefaultRecordContext(configuration, executeType(), record);
 
                 for (int i = 0; i < providers.length; i++) {
                     listeners[i] = providers[i].provide();
                 }
+
+                if (subscribes(listeners))
+                    ctx = new DefaultRecordContext(configuration, executeType(), record);
+                else
+                    listeners = null;
             }
         }
 
@@ -166,16 +174,41 @@ class RecordDelegate<R extends Record> {
         return record;
     }
 
+    /**
+     * Whether any listener subscribes to any of this lifecycle type's events.
+     */
+    private final boolean subscribes(RecordListener[] listeners) {
+        for (RecordListener listener : listeners) {
+            Set<String> subscriptions = Utils.subscriptions(listener, DefaultRecordListener.class, RecordContext.class);
+
+            if (subscriptions == null
+             || subscriptions.contains(type.start)
+             || subscriptions.contains(type.end)
+             || subscriptions.contains("exception"))
+                return true;
+        }
+
+        return false;
+    }
+
     private final ExecuteType executeType() {
         return type == LOAD || type == REFRESH ? READ : WRITE;
     }
 
     enum RecordLifecycleType {
-        LOAD,
-        REFRESH,
-        STORE,
-        INSERT,
-        UPDATE,
-        DELETE
+        LOAD("loadStart", "loadEnd"),
+        REFRESH("refreshStart", "refreshEnd"),
+        STORE("storeStart", "storeEnd"),
+        INSERT("insertStart", "insertEnd"),
+        UPDATE("updateStart", "updateEnd"),
+        DELETE("deleteStart", "deleteEnd");
+
+        final String start;
+        final String end;
+
+        private RecordLifecycleType(String start, String end) {
+            this.start = start;
+            this.end = end;
+        }
     }
 }
@@ -40,16 +40,24 @@
  */
 package org.jooq.impl;
 
+import static java.util.Arrays.asList;
 import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.Utils.chunks;
 import static org.jooq.impl.Utils.filterOne;
 import static org.jooq.impl.Utils.first;
 import static org.jooq.impl.Utils.list;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.jooq.AttachableInternal;
+import org.jooq.Configuration;
 import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.ForeignKey;
@@ -126,8 +134,70 @@ class ReferenceImpl<R extends Record, O extends Record> extends AbstractKey<R> i
         }
     }
 
+    @Override
+    public final Map<R, O> fetchParentMap(Collection<? extends R> records) {
+        Map<R, O> result = new IdentityHashMap<R, O>();
+
+        if (records != null && records.size() > 0) {
+            TableField<O, ?>[] keyFields = key.getFieldsArray();
+            TableField<R, ?>[] fields = getFieldsArray();
+            Map<List<Object>, O> parents = new HashMap<List<Object>, O>();
+
+            for (O parent : fetch(records, key.getTable(), keyFields, fields))
+                parents.put(values(parent, keyFields, keyFields), parent);
+
+            for (R record : records) {
+                O parent = parents.get(values(record, fields, keyFields));
+
+                if (parent != null)
+                    result.put(record, parent);
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public final Map<O, Result<R>> fetchChildrenMap(Collection<? extends O> records) {
+        Map<O, Result<R>> result = new IdentityHashMap<O, Result<R>>();
+
+        if (records != null && records.size() > 0) {
+            TableField<O, ?>[] keyFields = key.getFieldsArray();
+            TableField<R, ?>[] fields = getFieldsArray();
+            Result<R> children = fetch(records, getTable(), fields, keyFields);
+            Configuration configuration = ((AttachableInternal) children).configuration();
+            Map<List<Object>, Result<R>> groups = new HashMap<List<Object>, Result<R>>();
+
+            for (R child : children) {
+                List<Object> values = values(child, fields, keyFields);
+                Result<R> group = groups.get(values);
+
+                if (group == null) {
+                    group = new ResultImpl<R>(configuration, children.fields());
+                    groups.put(values, group);
+                }
+
+                group.add(child);
+            }
+
+            for (O record : records) {
+                Result<R> group = groups.get(values(record, keyFields, keyFields));
+
+                result.put(record, group != null
+                    ? group
+                    : new ResultImpl<R>(configuration, children.fields()));
+            }
+        }
+
+        return result;
+    }
+
     /**
      * Do the actual fetching
+     * <p>
+     * Distinct, non-<code>NULL</code> values are fetched in chunks, such that
+     * the dialect's maximum number of bind values per statement is not
+     * exceeded.
      */
     @SuppressWarnings("unchecked")
     private static <R1 extends Record, R2 extends Record> Result<R1> fetch(
@@ -136,54 +206,59 @@ class ReferenceImpl<R extends Record, O extends Record> extends AbstractKey<R> i
         TableField<R1, ?>[] fields1,
         TableField<R2, ?>[] fields2) {
 
-        // Use regular predicates
-        if (fields1.length == 1) {
-            return extractDSLContext(records)
-                .selectFrom(table)
-                .where(((Field<Object>) fields1[0]).in(extractValues(records, fields2[0])))
-                .fetch();
-        }
+        DSLContext create = extractDSLContext(records);
+        Set<List<Object>> values = new LinkedHashSet<List<Object>>();
 
-        // Use row value expressions
-        else {
-            return extractDSLContext(records)
-                .selectFrom(table)
-                .where(row(fields1).in(extractRows(records, fields2)))
-                .fetch();
+        for (R2 record : records) {
+            List<Object> v = values(record, fields2, fields1);
+
+            if (!v.contains(null))
+                values.add(v);
         }
 
-    }
+        Result<R1> result = new ResultImpl<R1>(create.configuration(), table.fields());
 
-    /**
-     * Extract a list of values from a set of records given some fields
-     */
-    private static <R extends Record> List<Object> extractValues(Collection<? extends R> records, TableField<R, ?> field2) {
-        List<Object> result = new ArrayList<Object>();
+        for (List<List<Object>> chunk : chunks(create.configuration(), new ArrayList<List<Object>>(values), fields1.length)) {
+
+            // Use regular predicates
+            if (fields1.length == 1) {
+                List<Object> in = new ArrayList<Object>(chunk.size());
+
+                for (List<Object> v : chunk)
+                    in.add(v.get(0));
 
-        for (R record : records) {
-            result.add(record.getValue(field2));
+                result.addAll(create.selectFrom(table)
+                                    .where(((Field<Object>) fields1[0]).in(in))
+                                    .fetch());
+            }
+
+            // Use row value expressions
+            else {
+                List<RowN> in = new ArrayList<RowN>(chunk.size());
+
+                for (List<Object> v : chunk)
+                    in.add(row(v.toArray()));
+
+                result.addAll(create.selectFrom(table)
+                                    .where(row(fields1).in(in))
+                                    .fetch());
+            }
         }
 
         return result;
     }
 
     /**
-     * Extract a list of row value expressions from a set of records given some fields
+     * Extract a record's values for a set of fields, converted to the types of
+     * another set of fields, such that values can be compared across tables.
      */
-    private static <R extends Record> List<RowN> extractRows(Collection<? extends R> records, TableField<R, ?>[] fields) {
-        List<RowN> rows = new ArrayList<RowN>();
+    private static List<Object> values(Record record, Field<?>[] fields, Field<?>[] types) {
+        Object[] result = new Object[fields.length];
 
-        for (R record : records) {
-            Object[] values = new Object[fields.length];
-
-            for (int i = 0; i < fields.length; i++) {
-                values[i] = record.getValue(fields[i]);
-            }
-
-            rows.add(row(values));
-        }
+        for (int i = 0; i < fields.length; i++)
+            result[i] = types[i].getDataType().convert(record.getValue(fields[i]));
 
-        return rows;
+        return asList(result);
     }
 
     /**
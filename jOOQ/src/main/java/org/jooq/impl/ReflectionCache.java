@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import java.util.List;
+
+import org.jooq.Configuration;
+import org.jooq.conf.Settings;
+import org.jooq.impl.Utils.Cache;
+
+/**
+ * The reflection cache statistics of a {@link Configuration}.
+ * <p>
+ * When {@link Settings#isReflectionCaching()} is turned on, reflection
+ * information that is needed to map records to POJOs and vice versa is cached
+ * in the {@link Configuration}. Records that are not attached to any
+ * {@link Configuration} use process-wide caches, which only cache information
+ * about classes that are visible from jOOQ's own class loader. In application
+ * servers, attach records to a {@link Configuration} in order to cache
+ * information about application classes.
+ *
+ * @author Lukas Eder
+ */
+public final class ReflectionCache {
+
+    private final Configuration configuration;
+
+    private ReflectionCache(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Get the reflection cache statistics of a {@link Configuration}.
+     *
+     * @param configuration The configuration, or <code>null</code> to get the
+     *            statistics of the process-wide caches.
+     */
+    public static ReflectionCache of(Configuration configuration) {
+        return new ReflectionCache(configuration);
+    }
+
+    /**
+     * The number of lookups that could re-use previously computed reflection
+     * information.
+     */
+    public long hits() {
+        long result = 0;
+
+        for (Cache cache : caches())
+            result += cache.hits();
+
+        return result;
+    }
+
+    /**
+     * The number of lookups that had to compute reflection information.
+     */
+    public long misses() {
+        long result = 0;
+
+        for (Cache cache : caches())
+            result += cache.misses();
+
+        return result;
+    }
+
+    /**
+     * The number of values that were removed from the caches in order to
+     * respect their maximum size.
+     */
+    public long evictions() {
+        long result = 0;
+
+        for (Cache cache : caches())
+            result += cache.evictions();
+
+        return result;
+    }
+
+    /**
+     * The number of values currently held by the caches.
+     */
+    public int size() {
+        int result = 0;
+
+        for (Cache cache : caches())
+            result += cache.size();
+
+        return result;
+    }
+
+    /**
+     * Remove all cached values and reset all counters.
+     */
+    public void clear() {
+        for (Cache cache : caches())
+            cache.clear();
+    }
+
+    private final List<Cache> caches() {
+        return Cache.caches(configuration);
+    }
+
+    @Override
+    public String toString() {
+        return "ReflectionCache [size=" + size() + ", hits=" + hits() + ", misses=" + misses() + ", evictions=" + evictions() + "]";
+    }
+}
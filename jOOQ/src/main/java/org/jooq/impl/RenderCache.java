@@ -0,0 +1,240 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.conf.SettingsTools.getParamType;
+import static org.jooq.conf.SettingsTools.renderCaching;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.conf.Settings;
+
+/**
+ * The render cache of a {@link Configuration}.
+ * <p>
+ * When {@link Settings#isRenderCaching()} is turned on, executed queries
+ * re-use SQL strings that were rendered for previous executions of
+ * structurally equal queries in the same {@link Configuration}, as long as
+ * the {@link Configuration#dialect()} and all rendering-relevant
+ * {@link Settings} remain the same. Bind values may differ between
+ * executions.
+ * <p>
+ * Only plain SQL queries whose arguments are all bind values are cached, e.g.
+ * queries created through {@link DSLContext#query(String, Object...)} or
+ * {@link DSLContext#resultQuery(String, Object...)}. Their structure is
+ * fully described by their SQL string and by the state of their bind values,
+ * which is compared on every execution. Other queries, including all queries
+ * constructed with the DSL API, can be modified at any time and are always
+ * rendered.
+ * <p>
+ * Queries rendering inlined bind values, or being rendered in the presence of
+ * {@link Configuration#visitListenerProviders()}, are never cached. The cache
+ * keeps at most {@link #MAX_SIZE} SQL strings, discarding the least recently
+ * used ones.
+ *
+ * @author Lukas Eder
+ */
+public final class RenderCache {
+
+    /**
+     * The maximum number of SQL strings kept in a render cache.
+     */
+    public static final int     MAX_SIZE          = 1000;
+
+    /**
+     * The {@link Configuration#data()} key under which the render cache is
+     * stored.
+     */
+    private static final String DATA_RENDER_CACHE = new String("org.jooq.configuration.render-cache");
+
+    private final Map<Object, String> cache;
+    private final AtomicLong          hits;
+    private final AtomicLong          misses;
+
+    private RenderCache() {
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.cache = new LinkedHashMap<Object, String>(16, 0.75f, true) {
+
+            /**
+             * Generated UID
+             */
+            private static final long serialVersionUID = 5408327356392817231L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, String> eldest) {
+                return size() > MAX_SIZE;
+            }
+        };
+    }
+
+    /**
+     * Get the render cache of a {@link Configuration}.
+     */
+    public static RenderCache of(Configuration configuration) {
+        RenderCache result = (RenderCache) configuration.data(DATA_RENDER_CACHE);
+
+        if (result == null) {
+
+            // String synchronization is OK as the key was created using new String()
+            synchronized (DATA_RENDER_CACHE) {
+                result = (RenderCache) configuration.data(DATA_RENDER_CACHE);
+
+                if (result == null) {
+                    result = new RenderCache();
+                    configuration.data(DATA_RENDER_CACHE, result);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * The number of executions that could re-use a previously rendered SQL
+     * string.
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * The number of executions of cacheable queries that had to render their
+     * SQL string.
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * The number of SQL strings that are currently cached.
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Discard all cached SQL strings and reset the hit and miss counters.
+     */
+    public void reset() {
+        synchronized (cache) {
+            cache.clear();
+        }
+
+        hits.set(0);
+        misses.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "RenderCache [size=" + size() + ", hits=" + hits + ", misses=" + misses + "]";
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Internal API used by AbstractQuery
+    // -------------------------------------------------------------------------
+
+    /**
+     * Whether rendered SQL may be cached in the context of a
+     * {@link Configuration}.
+     */
+    static final boolean cacheable(Configuration configuration) {
+        Settings settings = configuration.settings();
+
+        return renderCaching(settings)
+            && getParamType(settings) != INLINED
+            && configuration.visitListenerProviders().length == 0;
+    }
+
+    /**
+     * Create a key describing everything that influences the SQL string
+     * rendered for a query with a given {@link Query} key in the context of a
+     * {@link Configuration}.
+     */
+    static final Object key(Configuration configuration, Object query) {
+        Settings settings = configuration.settings();
+
+        return Arrays.asList(
+            configuration.dialect(),
+            settings.getRenderNameStyle(),
+            settings.getRenderKeywordStyle(),
+            settings.isRenderFormatted(),
+            getParamType(settings),
+            query
+        );
+    }
+
+    /**
+     * Look up a previously rendered SQL string.
+     */
+    final String get(Object key) {
+        String result;
+
+        synchronized (cache) {
+            result = cache.get(key);
+        }
+
+        if (result != null)
+            hits.incrementAndGet();
+        else
+            misses.incrementAndGet();
+
+        return result;
+    }
+
+    /**
+     * Cache a rendered SQL string.
+     */
+    final void put(Object key, String sql) {
+        synchronized (cache) {
+            cache.put(key, sql);
+        }
+    }
+}
@@ -48,6 +48,8 @@ import static org.jooq.tools.StringUtils.abbreviate;
 import static org.jooq.tools.StringUtils.leftPad;
 import static org.jooq.tools.StringUtils.rightPad;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.lang.reflect.Array;
 import java.sql.ResultSet;
 import java.util.ArrayList;
@@ -60,6 +62,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -70,6 +73,7 @@ import org.jooq.Configuration;
 import org.jooq.Converter;
 import org.jooq.EnumType;
 import org.jooq.Field;
+import org.jooq.ForeignKey;
 import org.jooq.Record;
 import org.jooq.RecordHandler;
 import org.jooq.RecordMapper;
@@ -77,11 +81,11 @@ import org.jooq.RecordType;
 import org.jooq.Result;
 import org.jooq.Row;
 import org.jooq.Table;
+import org.jooq.exception.DataAccessException;
 import org.jooq.exception.InvalidResultException;
 import org.jooq.tools.Convert;
 import org.jooq.tools.StringUtils;
 import org.jooq.tools.jdbc.MockResultSet;
-import org.jooq.tools.json.JSONObject;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -114,9 +118,13 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
     }
 
     ResultImpl(Configuration configuration, Fields<R> fields) {
+        this(configuration, fields, new ArrayList<R>());
+    }
+
+    ResultImpl(Configuration configuration, Fields<R> fields, List<R> records) {
         this.configuration = configuration;
         this.fields = fields;
-        this.records = new ArrayList<R>();
+        this.records = records;
     }
 
     // -------------------------------------------------------------------------
@@ -127,6 +135,12 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
     public final void attach(Configuration c) {
         this.configuration = c;
 
+        // Columnar records are attached when they're materialised
+        if (records instanceof ColumnarRecords) {
+            ((ColumnarRecords<R>) records).attach(c);
+            return;
+        }
+
         for (R record : records) {
             if (record != null) {
                 record.attach(c);
@@ -191,7 +205,7 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
 
     @Override
     public final <T> T getValue(int index, Field<T> field) {
-        return get(index).getValue(field);
+        return (T) getValue(index, indexOrFail(fieldsRow(), field));
     }
 
     @Override
@@ -202,6 +216,10 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
 
     @Override
     public final Object getValue(int index, int fieldIndex) {
+        if (records instanceof ColumnarRecords) {
+            return ((ColumnarRecords<R>) records).value(index, fieldIndex);
+        }
+
         return get(index).getValue(fieldIndex);
     }
 
@@ -230,7 +248,7 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
 
     @Override
     public final <T> List<T> getValues(Field<?> field, Class<? extends T> type) {
-        return Convert.convert(getValues(field), type);
+        return ConverterRegistry.convert(configuration, getValues(field), type);
     }
 
     @Override
@@ -240,10 +258,11 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
 
     @Override
     public final List<?> getValues(int fieldIndex) {
-        List<Object> result = new ArrayList<Object>(size());
+        int size = size();
+        List<Object> result = new ArrayList<Object>(size);
 
-        for (R record : this) {
-            result.add(record.getValue(fieldIndex));
+        for (int i = 0; i < size; i++) {
+            result.add(getValue(i, fieldIndex));
         }
 
         return result;
@@ -251,7 +270,7 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
 
     @Override
     public final <T> List<T> getValues(int fieldIndex, Class<? extends T> type) {
-        return Convert.convert(getValues(fieldIndex), type);
+        return ConverterRegistry.convert(configuration, getValues(fieldIndex), type);
     }
 
     @Override
@@ -266,7 +285,7 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
 
     @Override
     public final <T> List<T> getValues(String fieldName, Class<? extends T> type) {
-        return Convert.convert(getValues(fieldName), type);
+        return ConverterRegistry.convert(configuration, getValues(fieldName), type);
     }
 
     @Override
@@ -503,57 +522,12 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
 
     @Override
     public final String formatCSV(char delimiter, String nullString) {
-        StringBuilder sb = new StringBuilder();
-
-        String sep1 = "";
-        for (Field<?> field : fields.fields) {
-            sb.append(sep1);
-            sb.append(formatCSV0(field.getName(), ""));
-
-            sep1 = Character.toString(delimiter);
-        }
-
-        sb.append("\n");
-
-        for (Record record : this) {
-            String sep2 = "";
-
-            for (int index = 0; index < fields.fields.length; index++) {
-                sb.append(sep2);
-                sb.append(formatCSV0(record.getValue(index), nullString));
-
-                sep2 = Character.toString(delimiter);
-            }
-
-            sb.append("\n");
-        }
-
-        return sb.toString();
-    }
-
-    private final String formatCSV0(Object value, String nullString) {
-
-        // Escape null and empty strings
-        if (value == null || "".equals(value)) {
-            if (StringUtils.isEmpty(nullString)) {
-                return "\"\"";
-            }
-            else {
-                return nullString;
-            }
-        }
-
-        String result = format0(value, false);
-
-        if (StringUtils.containsAny(result, ',', ';', '\t', '"', '\n', '\r', '\'', '\\')) {
-            return "\"" + result.replace("\\", "\\\\").replace("\"", "\"\"") + "\"";
-        }
-        else {
-            return result;
-        }
+        StringWriter writer = new StringWriter();
+        format(ResultWriter.csv(writer, fields.fields, 0, delimiter, nullString));
+        return writer.toString();
     }
 
-    private static final String format0(Object value, boolean changed) {
+    static final String format0(Object value, boolean changed) {
         String formatted = changed ? "*" : "";
 
         if (value == null) {
@@ -577,82 +551,26 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
 
     @Override
     public final String formatJSON() {
-        List<Map<String, String>> f = new ArrayList<Map<String, String>>();
-        List<List<Object>> r = new ArrayList<List<Object>>();
-
-        Map<String, String> fieldMap;
-        for (Field<?> field : fields.fields) {
-            fieldMap = new LinkedHashMap<String, String>();
-            fieldMap.put("name", field.getName());
-            fieldMap.put("type", field.getDataType().getTypeName().toUpperCase());
-
-            f.add(fieldMap);
-        }
-
-        for (Record record : this) {
-            List<Object> list = new ArrayList<Object>();
-
-            for (int index = 0; index < fields.fields.length; index++) {
-                list.add(record.getValue(index));
-            }
-
-            r.add(list);
-        }
-
-        Map<String, List<?>> map = new LinkedHashMap<String, List<?>>();
-
-        map.put("fields", f);
-        map.put("records", r);
-
-        return JSONObject.toJSONString(map);
+        StringWriter writer = new StringWriter();
+        format(ResultWriter.json(writer, fields.fields, 0));
+        return writer.toString();
     }
 
     @Override
     public final String formatXML() {
-        StringBuilder sb = new StringBuilder();
-
-        sb.append("<result xmlns=\"http://www.jooq.org/xsd/jooq-export-2.6.0.xsd\">");
-        sb.append("<fields>");
+        StringWriter writer = new StringWriter();
+        format(ResultWriter.xml(writer, fields.fields, 0));
+        return writer.toString();
+    }
 
-        for (Field<?> field : fields.fields) {
-            sb.append("<field name=\"");
-            sb.append(escapeXML(field.getName()));
-            sb.append("\" ");
-            sb.append("type=\"");
-            sb.append(field.getDataType().getTypeName().toUpperCase());
-            sb.append("\"/>");
+    private final void format(ResultWriter writer) {
+        try {
+            writer.write(this);
         }
 
-        sb.append("</fields>");
-        sb.append("<records>");
-
-        for (Record record : this) {
-            sb.append("<record>");
-
-            for (int index = 0; index < fields.fields.length; index++) {
-                Object value = record.getValue(index);
-
-                sb.append("<value field=\"");
-                sb.append(escapeXML(fields.fields[index].getName()));
-                sb.append("\"");
-
-                if (value == null) {
-                    sb.append("/>");
-                }
-                else {
-                    sb.append(">");
-                    sb.append(escapeXML(format0(value, false)));
-                    sb.append("</value>");
-                }
-            }
-
-            sb.append("</record>");
+        catch (IOException e) {
+            throw new DataAccessException("Could not format the result", e);
         }
-
-        sb.append("</records>");
-        sb.append("</result>");
-
-        return sb.toString();
     }
 
     @Override
@@ -754,12 +672,6 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
         return handler;
     }
 
-    private final String escapeXML(String string) {
-        return StringUtils.replaceEach(string,
-            new String[] { "\"", "'", "<", ">", "&" },
-            new String[] { "&quot;", "&apos;", "&lt;", "&gt;", "&amp;"});
-    }
-
     @Override
     public final List<Map<String, Object>> intoMaps() {
         List<Map<String, Object>> list = new ArrayList<Map<String, Object>>();
@@ -806,23 +718,15 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
 
     @Override
     public final Map<Record, R> intoMap(Field<?>[] keys) {
-        if (keys == null) {
-            keys = new Field[0];
-        }
-
+        ResultIndexImpl<R> index = intoIndex(keys);
         Map<Record, R> map = new LinkedHashMap<Record, R>();
-        for (R record : this) {
-
-            @SuppressWarnings({ "rawtypes", "unchecked" })
-            RecordImpl key = new RecordImpl(keys);
 
-            for (Field<?> field : keys) {
-                Utils.copyValue(key, field, record, field);
+        for (int group = 0; group < index.groups(); group++) {
+            if (index.groupSize(group) > 1) {
+                throw new InvalidResultException("Key list " + Arrays.asList(index.keys()) + " is not unique in Result for " + this);
             }
 
-            if (map.put(key, record) != null) {
-                throw new InvalidResultException("Key list " + Arrays.asList(keys) + " is not unique in Result for " + this);
-            }
+            map.put(index.key(group), get(index.first(group)));
         }
 
         return map;
@@ -879,6 +783,11 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
     @Override
     public final <K> Map<K, Result<R>> intoGroups(Field<K> key) {
         int index = indexOrFail(fieldsRow(), key);
+
+        if (records instanceof ColumnarRecords) {
+            return intoGroupsColumnar(index);
+        }
+
         Map<K, Result<R>> map = new LinkedHashMap<K, Result<R>>();
 
         for (R record : this) {
@@ -896,6 +805,36 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
         return map;
     }
 
+    /**
+     * Group columnar records into columnar results, without materialising
+     * any records.
+     */
+    @SuppressWarnings("unchecked")
+    private final <K> Map<K, Result<R>> intoGroupsColumnar(int index) {
+        ColumnarRecords<R> source = (ColumnarRecords<R>) records;
+        Map<K, ColumnarRecords<R>> groups = new LinkedHashMap<K, ColumnarRecords<R>>();
+
+        int size = source.size();
+        for (int i = 0; i < size; i++) {
+            K val = (K) source.value(i, index);
+            ColumnarRecords<R> group = groups.get(val);
+
+            if (group == null) {
+                group = source.emptyCopy();
+                groups.put(val, group);
+            }
+
+            group.addRow(source, i);
+        }
+
+        Map<K, Result<R>> map = new LinkedHashMap<K, Result<R>>();
+        for (Entry<K, ColumnarRecords<R>> entry : groups.entrySet()) {
+            map.put(entry.getKey(), new ResultImpl<R>(configuration, fields, entry.getValue()));
+        }
+
+        return map;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public final <K, V> Map<K, List<V>> intoGroups(Field<K> key, Field<V> value) {
@@ -904,9 +843,10 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
 
         Map<K, List<V>> map = new LinkedHashMap<K, List<V>>();
 
-        for (R record : this) {
-            K k = (K) record.getValue(kIndex);
-            V v = (V) record.getValue(vIndex);
+        int size = size();
+        for (int i = 0; i < size; i++) {
+            K k = (K) getValue(i, kIndex);
+            V v = (V) getValue(i, vIndex);
             List<V> result = map.get(k);
 
             if (result == null) {
@@ -922,30 +862,7 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
 
     @Override
     public final Map<Record, Result<R>> intoGroups(Field<?>[] keys) {
-        if (keys == null) {
-            keys = new Field[0];
-        }
-
-        Map<Record, Result<R>> map = new LinkedHashMap<Record, Result<R>>();
-        for (R record : this) {
-
-            @SuppressWarnings({ "rawtypes", "unchecked" })
-            RecordImpl key = new RecordImpl(keys);
-
-            for (Field<?> field : keys) {
-                Utils.copyValue(key, field, record, field);
-            }
-
-            Result<R> result = map.get(key);
-            if (result == null) {
-                result = new ResultImpl<R>(configuration(), this.fields);
-                map.put(key, result);
-            }
-
-            result.add(record);
-        }
-
-        return map;
+        return intoIndex(keys).intoGroups();
     }
 
     @Override
@@ -981,32 +898,31 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
 
     @Override
     public final <E> Map<Record, List<E>> intoGroups(Field<?>[] keys, RecordMapper<? super R, E> mapper) {
-        if (keys == null) {
-            keys = new Field[0];
-        }
-
+        ResultIndexImpl<R> index = intoIndex(keys);
         Map<Record, List<E>> map = new LinkedHashMap<Record, List<E>>();
-        for (R record : this) {
 
-            @SuppressWarnings({ "rawtypes", "unchecked" })
-            RecordImpl key = new RecordImpl(keys);
+        for (int group = 0; group < index.groups(); group++) {
+            List<E> list = new ArrayList<E>(index.groupSize(group));
 
-            for (Field<?> field : keys) {
-                Utils.copyValue(key, field, record, field);
+            for (int row = index.first(group); row >= 0; row = index.next(row)) {
+                list.add(mapper.map(get(row)));
             }
 
-            List<E> list = map.get(key);
-            if (list == null) {
-                list = new ArrayList<E>();
-                map.put(key, list);
-            }
-
-            list.add(mapper.map(record));
+            map.put(index.key(group), list);
         }
 
         return map;
     }
 
+    @Override
+    public final ResultIndexImpl<R> intoIndex(Field<?>... keys) {
+        if (keys == null) {
+            keys = new Field[0];
+        }
+
+        return new ResultIndexImpl<R>(configuration, fields, this, keys);
+    }
+
     @Override
     public final Object[][] intoArray() {
         int size = size();
@@ -1029,7 +945,7 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
     @SuppressWarnings("unchecked")
     @Override
     public final <T> T[] intoArray(int fieldIndex, Class<? extends T> type) {
-        return (T[]) Convert.convertArray(intoArray(fieldIndex), type);
+        return (T[]) ConverterRegistry.convertArray(configuration, intoArray(fieldIndex), type);
     }
 
     @Override
@@ -1047,7 +963,7 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
     @SuppressWarnings("unchecked")
     @Override
     public final <T> T[] intoArray(String fieldName, Class<? extends T> type) {
-        return (T[]) Convert.convertArray(intoArray(fieldName), type);
+        return (T[]) ConverterRegistry.convertArray(configuration, intoArray(fieldName), type);
     }
 
     @Override
@@ -1064,7 +980,7 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
     @SuppressWarnings("unchecked")
     @Override
     public final <T> T[] intoArray(Field<?> field, Class<? extends T> type) {
-        return (T[]) Convert.convertArray(intoArray(field), type);
+        return (T[]) ConverterRegistry.convertArray(configuration, intoArray(field), type);
     }
 
     @Override
@@ -1145,6 +1061,11 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
     @SuppressWarnings({ "rawtypes", "unchecked" })
     @Override
     public final Result<R> sortAsc(int fieldIndex, Comparator<?> comparator) {
+        if (records instanceof ColumnarRecords) {
+            ((ColumnarRecords<R>) records).sortByColumn(fieldIndex, comparator);
+            return this;
+        }
+
         return sortAsc(new RecordComparator(fieldIndex, comparator));
     }
 
@@ -1155,6 +1076,11 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
 
     @Override
     public final Result<R> sortAsc(Comparator<? super R> comparator) {
+        if (records instanceof ColumnarRecords) {
+            ((ColumnarRecords<R>) records).sortByRecord(comparator);
+            return this;
+        }
+
         Collections.sort(this, comparator);
         return this;
     }
@@ -1196,6 +1122,16 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
         return sortAsc(Collections.reverseOrder(comparator));
     }
 
+    @Override
+    public final <O extends Record> Result<O> fetchParents(ForeignKey<R, O> key) {
+        return key.fetchParents(this);
+    }
+
+    @Override
+    public final <X extends Record> Result<X> fetchChildren(ForeignKey<X, R> key) {
+        return key.fetchChildren(this);
+    }
+
     @Override
     public final Result<R> intern(Field<?>... f) {
         return intern(fields.indexesOf(f));
@@ -1206,7 +1142,12 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
         for (int fieldIndex : fieldIndexes) {
             if (fields.fields[fieldIndex].getType() == String.class) {
                 for (Record record : this) {
-                    ((AbstractRecord) record).getValue0(fieldIndex).intern();
+                    AbstractRecord r = (AbstractRecord) record;
+                    String value = (String) r.values[fieldIndex];
+
+                    if (value != null) {
+                        r.values[fieldIndex] = value.intern();
+                    }
                 }
             }
         }
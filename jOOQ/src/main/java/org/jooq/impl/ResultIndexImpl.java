@@ -0,0 +1,538 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Utils.indexOrFail;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultIndex;
+import org.jooq.tools.Convert;
+
+/**
+ * A hash index over the rows of a {@link Result}.
+ * <p>
+ * Rows with equal keys are collected in groups, which are chained in a hash
+ * table. Rows are referenced by their index in a copy of the result's records,
+ * such that neither key records nor map entries are created per row. The rows'
+ * key values are copied as well, such that modifications to the result don't
+ * corrupt the index.
+ *
+ * @author Lukas Eder
+ */
+final class ResultIndexImpl<R extends Record> implements ResultIndex<R> {
+
+    private final Configuration configuration;
+    private final Fields<R>     fields;
+    private final Field<?>[]    keys;
+    private final int[]         indexes;
+
+    /**
+     * The indexed records, and their key values, row by row.
+     */
+    private final Record[]      records;
+    private final Object[]      keyValues;
+
+    /**
+     * The key values of single-column integer keys, or <code>null</code> if
+     * key values are compared as objects.
+     */
+    private final long[]        longs;
+    private final BitSet        nulls;
+
+    /**
+     * The hash table, pointing to the first group of every bucket.
+     */
+    private final int[]         buckets;
+    private final int           mask;
+
+    /**
+     * The groups: their hash codes, the next group in the same bucket, their
+     * first and last rows, and their sizes.
+     */
+    private final int[]         groupHash;
+    private final int[]         groupNext;
+    private final int[]         groupFirst;
+    private final int[]         groupLast;
+    private final int[]         groupSize;
+    private int                 groups;
+
+    /**
+     * The next row of every row's group.
+     */
+    private final int[]         rowNext;
+
+    ResultIndexImpl(Configuration configuration, Fields<R> fields, Result<R> result, Field<?>[] keys) {
+        this.configuration = configuration;
+        this.fields = fields;
+        this.keys = keys;
+        this.indexes = new int[keys.length];
+
+        for (int k = 0; k < keys.length; k++) {
+            indexes[k] = indexOrFail(fields, keys[k]);
+        }
+
+        int size = result.size();
+        int capacity = Math.max(size, 1);
+
+        this.records = result.toArray(new Record[size]);
+        this.keyValues = new Object[size * keys.length];
+
+        for (int row = 0; row < size; row++) {
+            for (int k = 0; k < keys.length; k++) {
+                keyValues[row * keys.length + k] = records[row].getValue(indexes[k]);
+            }
+        }
+
+        this.buckets = new int[tableSize(size)];
+        this.mask = buckets.length - 1;
+        this.groupHash = new int[capacity];
+        this.groupNext = new int[capacity];
+        this.groupFirst = new int[capacity];
+        this.groupLast = new int[capacity];
+        this.groupSize = new int[capacity];
+        this.rowNext = new int[capacity];
+
+        Arrays.fill(buckets, -1);
+
+        if (keys.length == 1 && integer(keys[0].getType())) {
+            this.longs = new long[capacity];
+            this.nulls = new BitSet();
+
+            for (int row = 0; row < size; row++) {
+                Object value = value(row, 0);
+
+                if (value == null)
+                    nulls.set(row);
+                else
+                    longs[row] = longValue(value);
+            }
+        }
+        else {
+            this.longs = null;
+            this.nulls = null;
+        }
+
+        for (int row = 0; row < size; row++) {
+            add(row);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: ResultIndex API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final Field<?>[] keys() {
+        return keys.clone();
+    }
+
+    @Override
+    public final int size() {
+        return groups;
+    }
+
+    @Override
+    public final boolean contains(Object... values) {
+        return find(convert(values)) >= 0;
+    }
+
+    @Override
+    public final Result<R> get(Object... values) {
+        return group(find(convert(values)));
+    }
+
+    @Override
+    public final Result<R> get(long value) {
+        if (keys.length != 1) {
+            throw new IllegalArgumentException("Index has " + keys.length + " keys: " + Arrays.asList(keys));
+        }
+
+        if (longs != null) {
+            return group(find(hash(value), false, value));
+        }
+
+        return get((Object) value);
+    }
+
+    @Override
+    public final Map<Record, Result<R>> intoGroups() {
+        Map<Record, Result<R>> map = new LinkedHashMap<Record, Result<R>>();
+
+        for (int group = 0; group < groups; group++) {
+            map.put(key(group), group(group));
+        }
+
+        return map;
+    }
+
+    @Override
+    public final Result<Record> join(Result<?> other, Field<?>... otherKeys) {
+        if (otherKeys.length != keys.length) {
+            throw new IllegalArgumentException("Expected " + keys.length + " keys, but got " + otherKeys.length + ": " + Arrays.asList(otherKeys));
+        }
+
+        Field<?>[] otherFields = other.fields();
+        int[] otherIndexes = new int[otherKeys.length];
+
+        for (int k = 0; k < otherKeys.length; k++) {
+            otherIndexes[k] = indexOrFail(other.fieldsRow(), otherKeys[k]);
+        }
+
+        Field<?>[] joinedFields = new Field[otherFields.length + fields.fields.length];
+        System.arraycopy(otherFields, 0, joinedFields, 0, otherFields.length);
+        System.arraycopy(fields.fields, 0, joinedFields, otherFields.length, fields.fields.length);
+
+        Result<Record> joined = new ResultImpl<Record>(configuration, joinedFields);
+        Object[] values = new Object[otherKeys.length];
+
+        int size = other.size();
+        for (int i = 0; i < size; i++) {
+            for (int k = 0; k < values.length; k++) {
+                values[k] = other.getValue(i, otherIndexes[k]);
+            }
+
+            int group = find(convert(values));
+            if (group < 0) {
+                continue;
+            }
+
+            Record otherRecord = other.get(i);
+            for (int row = groupFirst[group]; row >= 0; row = rowNext[row]) {
+                Record record = records[row];
+                RecordImpl join = new RecordImpl(joinedFields);
+
+                for (int j = 0; j < otherFields.length; j++) {
+                    join.values[j] = otherRecord.getValue(j);
+                    join.originals[j] = otherRecord.getValue(j);
+                }
+
+                for (int j = 0; j < fields.fields.length; j++) {
+                    join.values[otherFields.length + j] = record.getValue(j);
+                    join.originals[otherFields.length + j] = record.getValue(j);
+                }
+
+                join.attach(configuration);
+                joined.add(join);
+            }
+        }
+
+        return joined;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Package-private API
+    // -------------------------------------------------------------------------
+
+    /**
+     * The number of groups.
+     */
+    final int groups() {
+        return groups;
+    }
+
+    /**
+     * The size of a group.
+     */
+    final int groupSize(int group) {
+        return groupSize[group];
+    }
+
+    /**
+     * The first row of a group.
+     */
+    final int first(int group) {
+        return groupFirst[group];
+    }
+
+    /**
+     * The row after a given row in the same group, or <code>-1</code>.
+     */
+    final int next(int row) {
+        return rowNext[row];
+    }
+
+    /**
+     * Create a key record for a group.
+     */
+    final Record key(int group) {
+        RecordImpl key = new RecordImpl(keys);
+
+        for (int k = 0; k < keys.length; k++) {
+            key.values[k] = value(groupFirst[group], k);
+            key.originals[k] = value(groupFirst[group], k);
+        }
+
+        return key;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Hash table
+    // -------------------------------------------------------------------------
+
+    private final void add(int row) {
+        int hash = longs != null ? hash(longs[row], nulls.get(row)) : hash(row);
+        int group = longs != null ? find(hash, nulls.get(row), longs[row]) : find(hash, row);
+
+        if (group < 0) {
+            group = groups++;
+
+            groupHash[group] = hash;
+            groupNext[group] = buckets[hash & mask];
+            groupFirst[group] = row;
+            buckets[hash & mask] = group;
+        }
+        else {
+            rowNext[groupLast[group]] = row;
+        }
+
+        groupLast[group] = row;
+        groupSize[group]++;
+        rowNext[row] = -1;
+    }
+
+    /**
+     * Find the group of a row's key among the existing groups.
+     */
+    private final int find(int hash, int row) {
+        for (int group = buckets[hash & mask]; group >= 0; group = groupNext[group]) {
+            if (groupHash[group] == hash && equal(groupFirst[group], row)) {
+                return group;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Find the group of a single-column integer key.
+     */
+    private final int find(int hash, boolean isNull, long value) {
+        for (int group = buckets[hash & mask]; group >= 0; group = groupNext[group]) {
+            int first = groupFirst[group];
+
+            if (groupHash[group] == hash && nulls.get(first) == isNull && (isNull || longs[first] == value)) {
+                return group;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Find the group of some converted key values.
+     */
+    private final int find(Object[] values) {
+        if (longs != null) {
+            boolean isNull = values[0] == null;
+            long value = isNull ? 0L : longValue(values[0]);
+
+            return find(hash(value, isNull), isNull, value);
+        }
+
+        int hash = 1;
+        for (Object value : values) {
+            hash = 31 * hash + hashCode(value);
+        }
+
+        hash = spread(hash);
+
+        groups:
+        for (int group = buckets[hash & mask]; group >= 0; group = groupNext[group]) {
+            if (groupHash[group] == hash) {
+                int first = groupFirst[group];
+
+                for (int k = 0; k < indexes.length; k++) {
+                    if (!equal(value(first, k), values[k])) {
+                        continue groups;
+                    }
+                }
+
+                return group;
+            }
+        }
+
+        return -1;
+    }
+
+    private final int hash(int row) {
+        int hash = 1;
+
+        for (int k = 0; k < indexes.length; k++) {
+            hash = 31 * hash + hashCode(value(row, k));
+        }
+
+        return spread(hash);
+    }
+
+    private final int hash(long value) {
+        return hash(value, false);
+    }
+
+    private static final int hash(long value, boolean isNull) {
+        return isNull ? 0 : spread((int) (value ^ (value >>> 32)));
+    }
+
+    private final boolean equal(int row1, int row2) {
+        for (int k = 0; k < indexes.length; k++) {
+            if (!equal(value(row1, k), value(row2, k))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * The value of a row's key field, as it was when this index was created.
+     */
+    private final Object value(int row, int k) {
+        return keyValues[row * indexes.length + k];
+    }
+
+    /**
+     * Create a result containing a group's rows.
+     */
+    @SuppressWarnings("unchecked")
+    private final Result<R> group(int group) {
+        Result<R> result = new ResultImpl<R>(configuration, fields);
+
+        if (group >= 0) {
+            for (int row = groupFirst[group]; row >= 0; row = rowNext[row]) {
+                result.add((R) records[row]);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Convert lookup values to the key fields' types.
+     */
+    private final Object[] convert(Object[] values) {
+        if (values == null || values.length != keys.length) {
+            throw new IllegalArgumentException("Expected " + keys.length + " key values, but got " + (values == null ? null : Arrays.asList(values)));
+        }
+
+        Object[] result = new Object[values.length];
+
+        for (int k = 0; k < values.length; k++) {
+            result[k] = keys[k].getDataType().convert(values[k]);
+        }
+
+        return result;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Utilities
+    // -------------------------------------------------------------------------
+
+    private static final boolean integer(Class<?> type) {
+        return type == Byte.class || type == Short.class || type == Integer.class || type == Long.class;
+    }
+
+    private static final long longValue(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+
+        return Convert.convert(value, long.class);
+    }
+
+    private static final int tableSize(int size) {
+        int result = 16;
+
+        while (result < 2 * size) {
+            result <<= 1;
+        }
+
+        return result;
+    }
+
+    private static final int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Hash a value, consistently with {@link AbstractStore#hashCode()}.
+     */
+    private static final int hashCode(Object value) {
+        if (value == null || value.getClass().isArray()) {
+            return 0;
+        }
+
+        return value.hashCode();
+    }
+
+    /**
+     * Compare two values, consistently with {@link AbstractStore#equals(Object)}.
+     */
+    private static final boolean equal(Object value1, Object value2) {
+        if (value1 == null && value2 == null) {
+            return true;
+        }
+        else if (value1 == null || value2 == null) {
+            return false;
+        }
+        else if (value1.getClass().isArray() && value2.getClass().isArray()) {
+            if (value1.getClass() == byte[].class && value2.getClass() == byte[].class) {
+                return Arrays.equals((byte[]) value1, (byte[]) value2);
+            }
+            else if (!value1.getClass().getComponentType().isPrimitive() &&
+                     !value2.getClass().getComponentType().isPrimitive()) {
+                return Arrays.equals((Object[]) value1, (Object[]) value2);
+            }
+            else {
+                return false;
+            }
+        }
+        else {
+            return value1.equals(value2);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.jooq.Cursor;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.tools.StringUtils;
+import org.jooq.tools.json.JSONValue;
+
+/**
+ * A writer for exporting results or cursors as CSV, JSON or XML.
+ * <p>
+ * Records are written one by one to the target {@link Writer}, which makes
+ * it possible to export {@link Cursor} contents with constant memory
+ * consumption. The target writer is flushed every <code>flushSize</code>
+ * records (if positive), and after the last record. It is never closed.
+ *
+ * @author Lukas Eder
+ */
+abstract class ResultWriter {
+
+    final Writer     out;
+    final Field<?>[] fields;
+    final int        flushSize;
+    int              records;
+
+    ResultWriter(Writer out, Field<?>[] fields, int flushSize) {
+        this.out = out;
+        this.fields = fields;
+        this.flushSize = flushSize;
+    }
+
+    static final ResultWriter csv(Writer out, Field<?>[] fields, int flushSize, char delimiter, String nullString) {
+        return new CSV(out, fields, flushSize, delimiter, nullString);
+    }
+
+    static final ResultWriter json(Writer out, Field<?>[] fields, int flushSize) {
+        return new JSON(out, fields, flushSize);
+    }
+
+    static final ResultWriter xml(Writer out, Field<?>[] fields, int flushSize) {
+        return new XML(out, fields, flushSize);
+    }
+
+    /**
+     * Write all records of a result.
+     */
+    final void write(Result<?> result) throws IOException {
+        header();
+
+        int size = result.size();
+        for (int i = 0; i < size; i++) {
+            recordStart();
+
+            for (int index = 0; index < fields.length; index++) {
+                value(index, result.getValue(i, index));
+            }
+
+            recordEnd();
+        }
+
+        footer();
+    }
+
+    /**
+     * Write all remaining records of a cursor.
+     */
+    final void write(Cursor<?> cursor) throws IOException {
+        header();
+
+        for (Record record : cursor) {
+            recordStart();
+
+            for (int index = 0; index < fields.length; index++) {
+                value(index, record.getValue(index));
+            }
+
+            recordEnd();
+        }
+
+        footer();
+    }
+
+    private final void recordEnd() throws IOException {
+        recordEnd0();
+        records++;
+
+        if (flushSize > 0 && records % flushSize == 0) {
+            out.flush();
+        }
+    }
+
+    private final void footer() throws IOException {
+        footer0();
+        out.flush();
+    }
+
+    abstract void header() throws IOException;
+
+    abstract void recordStart() throws IOException;
+
+    abstract void value(int index, Object value) throws IOException;
+
+    abstract void recordEnd0() throws IOException;
+
+    abstract void footer0() throws IOException;
+
+    // -------------------------------------------------------------------------
+    // XXX: Formats
+    // -------------------------------------------------------------------------
+
+    private static class CSV extends ResultWriter {
+
+        private final String delimiter;
+        private final String nullString;
+
+        CSV(Writer out, Field<?>[] fields, int flushSize, char delimiter, String nullString) {
+            super(out, fields, flushSize);
+
+            this.delimiter = Character.toString(delimiter);
+            this.nullString = nullString;
+        }
+
+        @Override
+        final void header() throws IOException {
+            for (int index = 0; index < fields.length; index++) {
+                if (index > 0)
+                    out.write(delimiter);
+
+                out.write(escape(fields[index].getName(), ""));
+            }
+
+            out.write("\n");
+        }
+
+        @Override
+        final void recordStart() {}
+
+        @Override
+        final void value(int index, Object value) throws IOException {
+            if (index > 0)
+                out.write(delimiter);
+
+            out.write(escape(value, nullString));
+        }
+
+        @Override
+        final void recordEnd0() throws IOException {
+            out.write("\n");
+        }
+
+        @Override
+        final void footer0() {}
+
+        private static final String escape(Object value, String nullString) {
+
+            // Escape null and empty strings
+            if (value == null || "".equals(value)) {
+                if (StringUtils.isEmpty(nullString)) {
+                    return "\"\"";
+                }
+                else {
+                    return nullString;
+                }
+            }
+
+            String result = ResultImpl.format0(value, false);
+
+            if (StringUtils.containsAny(result, ',', ';', '\t', '"', '\n', '\r', '\'', '\\')) {
+                return "\"" + result.replace("\\", "\\\\").replace("\"", "\"\"") + "\"";
+            }
+            else {
+                return result;
+            }
+        }
+    }
+
+    private static class JSON extends ResultWriter {
+
+        JSON(Writer out, Field<?>[] fields, int flushSize) {
+            super(out, fields, flushSize);
+        }
+
+        @Override
+        final void header() throws IOException {
+            out.write("{\"fields\":[");
+
+            for (int index = 0; index < fields.length; index++) {
+                if (index > 0)
+                    out.write(",");
+
+                out.write("{\"name\":");
+                out.write(JSONValue.toJSONString(fields[index].getName()));
+                out.write(",\"type\":");
+                out.write(JSONValue.toJSONString(fields[index].getDataType().getTypeName().toUpperCase()));
+                out.write("}");
+            }
+
+            out.write("],\"records\":[");
+        }
+
+        @Override
+        final void recordStart() throws IOException {
+            if (records > 0)
+                out.write(",");
+
+            out.write("[");
+        }
+
+        @Override
+        final void value(int index, Object value) throws IOException {
+            if (index > 0)
+                out.write(",");
+
+            out.write(JSONValue.toJSONString(value));
+        }
+
+        @Override
+        final void recordEnd0() throws IOException {
+            out.write("]");
+        }
+
+        @Override
+        final void footer0() throws IOException {
+            out.write("]}");
+        }
+    }
+
+    private static class XML extends ResultWriter {
+
+        XML(Writer out, Field<?>[] fields, int flushSize) {
+            super(out, fields, flushSize);
+        }
+
+        @Override
+        final void header() throws IOException {
+            out.write("<result xmlns=\"http://www.jooq.org/xsd/jooq-export-2.6.0.xsd\">");
+            out.write("<fields>");
+
+            for (Field<?> field : fields) {
+                out.write("<field name=\"");
+                out.write(escape(field.getName()));
+                out.write("\" ");
+                out.write("type=\"");
+                out.write(field.getDataType().getTypeName().toUpperCase());
+                out.write("\"/>");
+            }
+
+            out.write("</fields>");
+            out.write("<records>");
+        }
+
+        @Override
+        final void recordStart() throws IOException {
+            out.write("<record>");
+        }
+
+        @Override
+        final void value(int index, Object value) throws IOException {
+            out.write("<value field=\"");
+            out.write(escape(fields[index].getName()));
+            out.write("\"");
+
+            if (value == null) {
+                out.write("/>");
+            }
+            else {
+                out.write(">");
+                out.write(escape(ResultImpl.format0(value, false)));
+                out.write("</value>");
+            }
+        }
+
+        @Override
+        final void recordEnd0() throws IOException {
+            out.write("</record>");
+        }
+
+        @Override
+        final void footer0() throws IOException {
+            out.write("</records>");
+            out.write("</result>");
+        }
+
+        private static final String escape(String string) {
+            return StringUtils.replaceEach(string,
+                new String[] { "\"", "'", "<", ">", "&" },
+                new String[] { "&quot;", "&apos;", "&lt;", "&gt;", "&amp;"});
+        }
+    }
+}
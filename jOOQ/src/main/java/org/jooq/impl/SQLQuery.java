@@ -70,6 +70,11 @@ class SQLQuery extends AbstractQuery {
     // Query API
     // ------------------------------------------------------------------------
 
+    @Override
+    final Object renderKey() {
+        return SQLTemplate.renderKey(configuration(), delegate);
+    }
+
     @Override
     public final void toSQL(RenderContext context) {
         context.visit(delegate);
@@ -76,6 +76,11 @@ class SQLResultQuery extends AbstractResultQuery<Record> {
     // ResultQuery API
     // ------------------------------------------------------------------------
 
+    @Override
+    final Object renderKey() {
+        return SQLTemplate.renderKey(configuration(), delegate);
+    }
+
     @Override
     public final void toSQL(RenderContext context) {
         context.visit(delegate);
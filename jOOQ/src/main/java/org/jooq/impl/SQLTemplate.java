@@ -40,13 +40,16 @@
  */
 package org.jooq.impl;
 
+import static java.util.Arrays.asList;
 import static org.jooq.Clause.TEMPLATE;
 
 import java.util.List;
 
 import org.jooq.BindContext;
 import org.jooq.Clause;
+import org.jooq.Configuration;
 import org.jooq.Context;
+import org.jooq.Param;
 import org.jooq.QueryPart;
 import org.jooq.RenderContext;
 import org.jooq.Template;
@@ -65,6 +68,32 @@ class SQLTemplate implements Template {
         return new SQLTemplateQueryPart(sql, input);
     }
 
+    /**
+     * A render cache key for a query part produced by an
+     * <code>SQLTemplate</code>, or <code>null</code> if the query part cannot
+     * be cached.
+     * <p>
+     * Plain SQL query parts whose substitutes are all bind values are
+     * described by their SQL string and by the SQL of their bind values,
+     * which depends on the bind values' types, names and inlining.
+     */
+    static final Object renderKey(Configuration configuration, QueryPart part) {
+        if (!(part instanceof SQLTemplateQueryPart))
+            return null;
+
+        SQLTemplateQueryPart template = (SQLTemplateQueryPart) part;
+        RenderContext render = new DefaultRenderContext(configuration);
+
+        for (QueryPart substitute : template.substitutes) {
+            if (!(substitute instanceof Param) || ((Param<?>) substitute).isInline())
+                return null;
+
+            render.visit(substitute).sql(',');
+        }
+
+        return asList(template.sql, render.render());
+    }
+
     private static class SQLTemplateQueryPart extends AbstractQueryPart {
 
         /**
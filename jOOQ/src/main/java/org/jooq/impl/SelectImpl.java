@@ -45,15 +45,20 @@ import static org.jooq.impl.DSL.exists;
 import static org.jooq.impl.DSL.notExists;
 import static org.jooq.impl.DSL.table;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.ResultSet;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 
 import javax.annotation.Generated;
 
+import org.jooq.AsyncResult;
 import org.jooq.Condition;
 import org.jooq.Configuration;
 import org.jooq.Converter;
@@ -2206,6 +2211,11 @@ class SelectImpl<R extends Record, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11,
         return getDelegate().fetchSize(rows);
     }
 
+    @Override
+    public final ResultQuery<R> fetchDirection(int direction) {
+        return getDelegate().fetchDirection(direction);
+    }
+
     @Override
     public final ResultQuery<R> resultSetConcurrency(int resultSetConcurrency) {
         return getDelegate().resultSetConcurrency(resultSetConcurrency);
@@ -2256,6 +2266,46 @@ class SelectImpl<R extends Record, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11,
         return getDelegate().fetch();
     }
 
+    @Override
+    public final Result<R> fetchColumnar() {
+        return getDelegate().fetchColumnar();
+    }
+
+    @Override
+    public final void formatCSV(Writer writer) throws IOException {
+        getDelegate().formatCSV(writer);
+    }
+
+    @Override
+    public final void formatCSV(Writer writer, char delimiter, String nullString) throws IOException {
+        getDelegate().formatCSV(writer, delimiter, nullString);
+    }
+
+    @Override
+    public final void formatCSV(OutputStream stream) throws IOException {
+        getDelegate().formatCSV(stream);
+    }
+
+    @Override
+    public final void formatJSON(Writer writer) throws IOException {
+        getDelegate().formatJSON(writer);
+    }
+
+    @Override
+    public final void formatJSON(OutputStream stream) throws IOException {
+        getDelegate().formatJSON(stream);
+    }
+
+    @Override
+    public final void formatXML(Writer writer) throws IOException {
+        getDelegate().formatXML(writer);
+    }
+
+    @Override
+    public final void formatXML(OutputStream stream) throws IOException {
+        getDelegate().formatXML(stream);
+    }
+
     @Override
     public final ResultSet fetchResultSet() {
         return getDelegate().fetchResultSet();
@@ -2542,6 +2592,16 @@ class SelectImpl<R extends Record, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11,
         return getDelegate().fetch(mapper);
     }
 
+    @Override
+    public final AsyncResult<Result<R>> fetchAsync() {
+        return getDelegate().fetchAsync();
+    }
+
+    @Override
+    public final AsyncResult<Result<R>> fetchAsync(Executor executor) {
+        return getDelegate().fetchAsync(executor);
+    }
+
     @Override
     @Deprecated
     public final org.jooq.FutureResult<R> fetchLater() {
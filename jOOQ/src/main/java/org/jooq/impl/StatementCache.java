@@ -0,0 +1,246 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jooq.tools.jdbc.JDBCUtils;
+
+/**
+ * A least-recently-used cache of idle {@link PreparedStatement}s of a single
+ * JDBC connection.
+ *
+ * @author Lukas Eder
+ * @see StatementCachingConnectionProvider
+ */
+final class StatementCache {
+
+    private final int                  maxStatements;
+    private final Map<Key, Entry>      idle;
+    private final AtomicLong           hits;
+    private final AtomicLong           misses;
+    private final AtomicLong           evictions;
+    private boolean                    cleared;
+
+    StatementCache(int maxStatements, AtomicLong hits, AtomicLong misses, AtomicLong evictions) {
+        this.maxStatements = maxStatements;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.idle = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+
+            /**
+             * Generated UID
+             */
+            private static final long serialVersionUID = -2906587532851390512L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > StatementCache.this.maxStatements) {
+                    StatementCache.this.evictions.incrementAndGet();
+                    JDBCUtils.safeClose(eldest.getValue().statement);
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Take an idle statement out of the cache, or <code>null</code> if there
+     * is no idle statement for the given key.
+     */
+    final synchronized Entry checkout(Key key) {
+        Entry result = idle.remove(key);
+
+        if (result != null)
+            hits.incrementAndGet();
+        else
+            misses.incrementAndGet();
+
+        return result;
+    }
+
+    /**
+     * Put a statement back into the cache after resetting it to the state it
+     * had when it was prepared.
+     */
+    final void checkin(Entry entry) {
+        PreparedStatement s = entry.statement;
+
+        try {
+            s.clearParameters();
+            s.clearBatch();
+            s.clearWarnings();
+
+            if (s.getQueryTimeout() != entry.queryTimeout)
+                s.setQueryTimeout(entry.queryTimeout);
+            if (s.getFetchSize() != entry.fetchSize)
+                s.setFetchSize(entry.fetchSize);
+            if (s.getMaxRows() != entry.maxRows)
+                s.setMaxRows(entry.maxRows);
+            if (s.getFetchDirection() != entry.fetchDirection)
+                s.setFetchDirection(entry.fetchDirection);
+        }
+
+        // Statements that cannot be reset are not re-used
+        catch (SQLException e) {
+            JDBCUtils.safeClose(s);
+            return;
+        }
+
+        synchronized (this) {
+            if (cleared) {
+                JDBCUtils.safeClose(s);
+            }
+
+            // Only one idle statement is kept per key
+            else {
+                Entry previous = idle.put(entry.key, entry);
+
+                if (previous != null)
+                    JDBCUtils.safeClose(previous.statement);
+            }
+        }
+    }
+
+    /**
+     * Close all idle statements and stop caching further statements.
+     */
+    final synchronized void clear() {
+        cleared = true;
+
+        Iterator<Entry> it = idle.values().iterator();
+        while (it.hasNext()) {
+            JDBCUtils.safeClose(it.next().statement);
+            it.remove();
+        }
+    }
+
+    /**
+     * A cache key consisting of a SQL string and all the options passed to
+     * <code>Connection.prepareStatement()</code>.
+     */
+    static final class Key {
+
+        final String   sql;
+        final int      resultSetType;
+        final int      resultSetConcurrency;
+        final int      resultSetHoldability;
+        final int      autoGeneratedKeys;
+        final int[]    columnIndexes;
+        final String[] columnNames;
+
+        Key(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability, int autoGeneratedKeys, int[] columnIndexes, String[] columnNames) {
+            this.sql = sql;
+            this.resultSetType = resultSetType;
+            this.resultSetConcurrency = resultSetConcurrency;
+            this.resultSetHoldability = resultSetHoldability;
+            this.autoGeneratedKeys = autoGeneratedKeys;
+            this.columnIndexes = columnIndexes;
+            this.columnNames = columnNames;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = sql.hashCode();
+            result = 31 * result + resultSetType;
+            result = 31 * result + resultSetConcurrency;
+            result = 31 * result + resultSetHoldability;
+            result = 31 * result + autoGeneratedKeys;
+            result = 31 * result + Arrays.hashCode(columnIndexes);
+            result = 31 * result + Arrays.hashCode(columnNames);
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+
+            if (!(obj instanceof Key))
+                return false;
+
+            Key other = (Key) obj;
+            return sql.equals(other.sql)
+                && resultSetType == other.resultSetType
+                && resultSetConcurrency == other.resultSetConcurrency
+                && resultSetHoldability == other.resultSetHoldability
+                && autoGeneratedKeys == other.autoGeneratedKeys
+                && Arrays.equals(columnIndexes, other.columnIndexes)
+                && Arrays.equals(columnNames, other.columnNames);
+        }
+
+        @Override
+        public String toString() {
+            return sql;
+        }
+    }
+
+    /**
+     * A cached statement along with the settings it had when it was prepared.
+     */
+    static final class Entry {
+
+        final Key               key;
+        final PreparedStatement statement;
+        final int               queryTimeout;
+        final int               fetchSize;
+        final int               maxRows;
+        final int               fetchDirection;
+
+        Entry(Key key, PreparedStatement statement) throws SQLException {
+            this.key = key;
+            this.statement = statement;
+            this.queryTimeout = statement.getQueryTimeout();
+            this.fetchSize = statement.getFetchSize();
+            this.maxRows = statement.getMaxRows();
+            this.fetchDirection = statement.getFetchDirection();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.jooq.tools.jdbc.DefaultConnection;
+
+/**
+ * A connection that takes its {@link PreparedStatement}s from a
+ * {@link StatementCache}.
+ *
+ * @author Lukas Eder
+ * @see StatementCachingConnectionProvider
+ */
+class StatementCachingConnection extends DefaultConnection {
+
+    private static final int                         NONE = -1;
+
+    private final StatementCachingConnectionProvider provider;
+    private final StatementCache                     cache;
+
+    StatementCachingConnection(StatementCachingConnectionProvider provider, Connection connection, StatementCache cache) {
+        super(connection);
+
+        this.provider = provider;
+        this.cache = cache;
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX Closing
+    // ------------------------------------------------------------------------
+
+    @Override
+    public final void close() throws SQLException {
+
+        // Statements cannot outlive their connection
+        provider.evict(getDelegate());
+        super.close();
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX Creation of PreparedStatements
+    // ------------------------------------------------------------------------
+
+    @Override
+    public final PreparedStatement prepareStatement(String sql) throws SQLException {
+        return prepare(new StatementCache.Key(sql, NONE, NONE, NONE, NONE, null, null));
+    }
+
+    @Override
+    public final PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+        return prepare(new StatementCache.Key(sql, NONE, NONE, NONE, autoGeneratedKeys, null, null));
+    }
+
+    @Override
+    public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
+        throws SQLException {
+        return prepare(new StatementCache.Key(sql, resultSetType, resultSetConcurrency, NONE, NONE, null, null));
+    }
+
+    @Override
+    public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency,
+        int resultSetHoldability) throws SQLException {
+        return prepare(new StatementCache.Key(sql, resultSetType, resultSetConcurrency, resultSetHoldability, NONE, null, null));
+    }
+
+    @Override
+    public final PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+        return prepare(new StatementCache.Key(sql, NONE, NONE, NONE, NONE, columnIndexes.clone(), null));
+    }
+
+    @Override
+    public final PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+        return prepare(new StatementCache.Key(sql, NONE, NONE, NONE, NONE, null, columnNames.clone()));
+    }
+
+    private final PreparedStatement prepare(StatementCache.Key key) throws SQLException {
+        StatementCache.Entry entry = cache.checkout(key);
+
+        if (entry == null)
+            entry = new StatementCache.Entry(key, prepare0(key));
+
+        return new CachedPreparedStatement(cache, entry);
+    }
+
+    private final PreparedStatement prepare0(StatementCache.Key key) throws SQLException {
+        Connection c = getDelegate();
+
+        if (key.columnIndexes != null)
+            return c.prepareStatement(key.sql, key.columnIndexes);
+        else if (key.columnNames != null)
+            return c.prepareStatement(key.sql, key.columnNames);
+        else if (key.autoGeneratedKeys != NONE)
+            return c.prepareStatement(key.sql, key.autoGeneratedKeys);
+        else if (key.resultSetHoldability != NONE)
+            return c.prepareStatement(key.sql, key.resultSetType, key.resultSetConcurrency, key.resultSetHoldability);
+        else if (key.resultSetType != NONE)
+            return c.prepareStatement(key.sql, key.resultSetType, key.resultSetConcurrency);
+        else
+            return c.prepareStatement(key.sql);
+    }
+}
@@ -0,0 +1,271 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jooq.ConnectionProvider;
+import org.jooq.Query;
+import org.jooq.exception.DataAccessException;
+
+/**
+ * A {@link ConnectionProvider} that caches {@link PreparedStatement}s per JDBC
+ * {@link Connection}.
+ * <p>
+ * This implementation wraps another {@link ConnectionProvider}. Statements
+ * prepared on the connections it provides are not closed when jOOQ closes
+ * them after execution. Instead, they are reset and kept in a
+ * least-recently-used cache, keyed by SQL string and by result set options,
+ * in order to be re-used by subsequent executions of the same SQL string on
+ * the same connection. This avoids an additional round trip to the database
+ * for every re-prepared statement, even when {@link Query#keepStatement(boolean)}
+ * is not used.
+ * <p>
+ * Every {@link Connection} gets its own cache. As cached statements reference
+ * their connection, caches are discarded and their statements closed
+ * explicitly, when:
+ * <ul>
+ * <li>The connection is found to be closed after {@link #release(Connection)}.
+ * </li>
+ * <li>The connection returned from {@link #acquire()} is closed.</li>
+ * <li>The connection is found to be closed on any subsequent
+ * {@link #acquire()}. This applies to connections that are closed by client
+ * code after jOOQ has released them, such as the ones provided by a
+ * {@link DefaultConnectionProvider}.</li>
+ * <li>{@link #clear()} is called.</li>
+ * </ul>
+ * <p>
+ * This means that statements can only be re-used for connections that stay
+ * open between executions, such as the ones provided by a
+ * {@link DefaultConnectionProvider}. Pooled connections provided by a
+ * {@link DataSourceConnectionProvider} are closed on every release, so they
+ * never hit the cache. They should rely on the pool's own statement cache,
+ * instead.
+ *
+ * @author Lukas Eder
+ */
+public class StatementCachingConnectionProvider implements ConnectionProvider {
+
+    private final ConnectionProvider               delegate;
+    private final int                              maxStatements;
+    private final Map<Connection, StatementCache>  caches;
+    private final AtomicLong                       hits;
+    private final AtomicLong                       misses;
+    private final AtomicLong                       evictions;
+
+    /**
+     * Create a new statement caching connection provider.
+     *
+     * @param delegate The connection provider that provides the actual
+     *            connections.
+     * @param maxStatements The maximum number of statements that are kept in
+     *            the cache of every connection.
+     */
+    public StatementCachingConnectionProvider(ConnectionProvider delegate, int maxStatements) {
+        if (maxStatements <= 0)
+            throw new IllegalArgumentException("maxStatements must be positive: " + maxStatements);
+
+        this.delegate = delegate;
+        this.maxStatements = maxStatements;
+        this.caches = new IdentityHashMap<Connection, StatementCache>();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.evictions = new AtomicLong();
+    }
+
+    /**
+     * The wrapped connection provider.
+     */
+    public final ConnectionProvider delegate() {
+        return delegate;
+    }
+
+    /**
+     * The maximum number of statements that are kept in the cache of every
+     * connection.
+     */
+    public final int maxStatements() {
+        return maxStatements;
+    }
+
+    @Override
+    public Connection acquire() {
+        Connection connection = delegate.acquire();
+
+        if (connection == null)
+            return null;
+
+        purge();
+        return new StatementCachingConnection(this, connection, cache(connection));
+    }
+
+    @Override
+    public void release(Connection connection) {
+        Connection physical = connection instanceof StatementCachingConnection
+            ? ((StatementCachingConnection) connection).getDelegate()
+            : connection;
+
+        delegate.release(physical);
+
+        // Statements cannot outlive their connection
+        try {
+            if (physical.isClosed())
+                evict(physical);
+        }
+        catch (SQLException e) {
+            throw new DataAccessException("Error checking connection state " + physical, e);
+        }
+    }
+
+    /**
+     * Close all statements that are currently kept in the caches of all
+     * connections.
+     */
+    public final void clear() {
+        StatementCache[] all;
+
+        synchronized (caches) {
+            all = caches.values().toArray(new StatementCache[caches.size()]);
+            caches.clear();
+        }
+
+        for (StatementCache cache : all)
+            cache.clear();
+    }
+
+    /**
+     * The number of prepared statements that could be taken from a cache.
+     */
+    public final long hits() {
+        return hits.get();
+    }
+
+    /**
+     * The number of prepared statements that had to be prepared on the
+     * connection.
+     */
+    public final long misses() {
+        return misses.get();
+    }
+
+    /**
+     * The number of cached statements that were closed because a cache has
+     * exceeded {@link #maxStatements()}.
+     */
+    public final long evictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public String toString() {
+        return "StatementCachingConnectionProvider [hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + "]";
+    }
+
+    /**
+     * Discard the cache of a connection and close its statements.
+     */
+    final void evict(Connection connection) {
+        StatementCache cache;
+
+        synchronized (caches) {
+            cache = caches.remove(connection);
+        }
+
+        if (cache != null)
+            cache.clear();
+    }
+
+    /**
+     * Discard the caches of all connections that have been closed since they
+     * were released.
+     */
+    private final void purge() {
+        List<StatementCache> closed = new ArrayList<StatementCache>();
+
+        synchronized (caches) {
+            Iterator<Map.Entry<Connection, StatementCache>> it = caches.entrySet().iterator();
+
+            while (it.hasNext()) {
+                Map.Entry<Connection, StatementCache> entry = it.next();
+
+                if (isClosed(entry.getKey())) {
+                    closed.add(entry.getValue());
+                    it.remove();
+                }
+            }
+        }
+
+        for (StatementCache cache : closed)
+            cache.clear();
+    }
+
+    private static final boolean isClosed(Connection connection) {
+        try {
+            return connection.isClosed();
+        }
+
+        // Connections whose state cannot be checked are not re-used
+        catch (SQLException e) {
+            return true;
+        }
+    }
+
+    private final StatementCache cache(Connection connection) {
+        synchronized (caches) {
+            StatementCache result = caches.get(connection);
+
+            if (result == null) {
+                result = new StatementCache(maxStatements, hits, misses, evictions);
+                caches.put(connection, result);
+            }
+
+            return result;
+        }
+    }
+}
@@ -44,6 +44,8 @@ import static java.lang.Boolean.TRUE;
 import static java.util.Arrays.asList;
 // ...
 import static org.jooq.SQLDialect.SQLITE;
+import static org.jooq.conf.OptimisticLockingMode.ORIGINAL_VALUES;
+import static org.jooq.conf.SettingsTools.getOptimisticLockingMode;
 import static org.jooq.conf.SettingsTools.updatablePrimaryKeys;
 import static org.jooq.impl.RecordDelegate.delegate;
 import static org.jooq.impl.RecordDelegate.RecordLifecycleType.DELETE;
@@ -55,6 +57,7 @@ import static org.jooq.impl.Utils.settings;
 
 import java.math.BigInteger;
 import java.sql.Timestamp;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -151,6 +154,23 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
 
     private final int store0() {
         TableField<R, ?>[] keys = getPrimaryKey().getFieldsArray();
+        int result = 0;
+
+        if (storeAsUpdate(keys)) {
+            result = storeUpdate(keys);
+        }
+        else {
+            result = storeInsert();
+        }
+
+        return result;
+    }
+
+    /**
+     * Whether {@link #store()} should execute an <code>UPDATE</code> rather
+     * than an <code>INSERT</code>.
+     */
+    private final boolean storeAsUpdate(TableField<R, ?>[] keys) {
         boolean executeUpdate = false;
 
         for (TableField<R, ?> field : keys) {
@@ -168,7 +188,7 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
             else {
 
                 // If any primary key value is null or changed, execute an insert
-                if (getValue(field) == null || getValue0(field).isChanged()) {
+                if (getValue(field) == null || changed(field)) {
                     executeUpdate = false;
                     break;
                 }
@@ -178,16 +198,7 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
             executeUpdate = true;
         }
 
-        int result = 0;
-
-        if (executeUpdate) {
-            result = storeUpdate(keys);
-        }
-        else {
-            result = storeInsert();
-        }
-
-        return result;
+        return executeUpdate;
     }
 
     private final int storeInsert() {
@@ -238,7 +249,7 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
             if (key != null && !key.isEmpty()) {
                 if (insert.getReturnedRecord() != null) {
                     for (Field<?> field : key) {
-                        setValue(field, new Value<Object>(insert.getReturnedRecord().getValue(field)));
+                        setUnchanged(field, insert.getReturnedRecord().getValue(field));
                     }
                 }
             }
@@ -278,19 +289,7 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
         BigInteger version = addRecordVersion(update);
         Timestamp timestamp = addRecordTimestamp(update);
 
-        if (isExecuteWithOptimisticLocking()) {
-
-            // [#1596] Add additional conditions for version and/or timestamp columns
-            if (isTimestampOrVersionAvailable()) {
-                addConditionForVersionAndTimestamp(update);
-            }
-
-            // [#1547] Try fetching the Record again first, and compare this
-            // Record's original values with the ones in the database
-            else {
-                checkIfChanged(keys);
-            }
-        }
+        addConditionsForOptimisticLocking(update, keys);
 
         // [#1596] Check if the record was really changed in the database
         int result = update.execute();
@@ -308,7 +307,7 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
      */
     private final void addChangedValues(StoreQuery<R> query) {
         for (Field<?> field : fields.fields.fields) {
-            if (getValue0(field).isChanged()) {
+            if (changed(field)) {
                 addValue(query, field);
             }
         }
@@ -399,19 +398,7 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
             DeleteQuery<R> delete1 = create().deleteQuery(getTable());
             Utils.addConditions(delete1, this, keys);
 
-            if (isExecuteWithOptimisticLocking()) {
-
-                // [#1596] Add additional conditions for version and/or timestamp columns
-                if (isTimestampOrVersionAvailable()) {
-                    addConditionForVersionAndTimestamp(delete1);
-                }
-
-                // [#1547] Try fetching the Record again first, and compare this
-                // Record's original values with the ones in the database
-                else {
-                    checkIfChanged(keys);
-                }
-            }
+            addConditionsForOptimisticLocking(delete1, keys);
 
             int result = delete1.execute();
             checkIfChanged(result, null, null);
@@ -425,6 +412,179 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
         }
     }
 
+    // -------------------------------------------------------------------------
+    // XXX: Batch execution
+    // -------------------------------------------------------------------------
+
+    /**
+     * Prepare the statement of a batch operation on this record, without
+     * executing it.
+     * <p>
+     * This fires the same {@link org.jooq.RecordListener} events as the
+     * corresponding single-record operation. Optimistic locking checks that
+     * cannot be expressed in the statement itself are executed immediately.
+     *
+     * @return The prepared statement, or <code>null</code> if there is
+     *         nothing to execute for this record.
+     */
+    final BatchCRUD.Prepared prepare(final DSLContext create, final BatchCRUD.Action action) {
+        final BatchCRUD.Prepared[] result = new BatchCRUD.Prepared[1];
+        final TableField<R, ?>[] keys = getPrimaryKey().getFieldsArray();
+
+        switch (action) {
+            case STORE:
+                delegate(configuration(), (Record) this, STORE)
+                .operate(new RecordOperation<Record, RuntimeException>() {
+
+                    @Override
+                    public Record operate(Record record) throws RuntimeException {
+                        result[0] = prepare(create, storeAsUpdate(keys) ? BatchCRUD.Action.UPDATE : BatchCRUD.Action.INSERT);
+                        return record;
+                    }
+                });
+
+                break;
+
+            case INSERT:
+                delegate(configuration(), (Record) this, INSERT)
+                .operate(new RecordOperation<Record, RuntimeException>() {
+
+                    @Override
+                    public Record operate(Record record) throws RuntimeException {
+                        result[0] = prepareInsert(create);
+                        return record;
+                    }
+                });
+
+                break;
+
+            case UPDATE:
+                delegate(configuration(), (Record) this, UPDATE)
+                .operate(new RecordOperation<Record, RuntimeException>() {
+
+                    @Override
+                    public Record operate(Record record) throws RuntimeException {
+                        result[0] = prepareUpdate(create, keys);
+                        return record;
+                    }
+                });
+
+                break;
+
+            case DELETE:
+                delegate(configuration(), (Record) this, DELETE)
+                .operate(new RecordOperation<Record, RuntimeException>() {
+
+                    @Override
+                    public Record operate(Record record) throws RuntimeException {
+                        result[0] = prepareDelete(create, keys);
+                        return record;
+                    }
+                });
+
+                break;
+        }
+
+        return result[0];
+    }
+
+    private final BatchCRUD.Prepared prepareInsert(DSLContext create) {
+        InsertQuery<R> insert = create.insertQuery(getTable());
+        addChangedValues(insert);
+
+        // Don't store records if no value was set by client code
+        if (!insert.isExecutable()) return null;
+
+        // [#1596] Set timestamp and/or version columns to appropriate values
+        BigInteger version = addRecordVersion(insert);
+        Timestamp timestamp = addRecordTimestamp(insert);
+
+        return new BatchCRUD.Prepared(this, BatchCRUD.Action.INSERT, insert, version, timestamp, false, new BitSet());
+    }
+
+    private final BatchCRUD.Prepared prepareUpdate(DSLContext create, TableField<R, ?>[] keys) {
+        UpdateQuery<R> update = create.updateQuery(getTable());
+        addChangedValues(update);
+        Utils.addConditions(update, this, keys);
+
+        // Don't store records if no value was set by client code
+        if (!update.isExecutable()) return null;
+
+        // [#1596] Set timestamp and/or version columns to appropriate values
+        BigInteger version = addRecordVersion(update);
+        Timestamp timestamp = addRecordTimestamp(update);
+
+        boolean optimistic = addConditionsForOptimisticLocking(update, keys);
+
+        return new BatchCRUD.Prepared(this, BatchCRUD.Action.UPDATE, update, version, timestamp, optimistic, nullConditions(keys, optimistic));
+    }
+
+    private final BatchCRUD.Prepared prepareDelete(DSLContext create, TableField<R, ?>[] keys) {
+        DeleteQuery<R> delete = create.deleteQuery(getTable());
+        Utils.addConditions(delete, this, keys);
+
+        boolean optimistic = addConditionsForOptimisticLocking(delete, keys);
+
+        return new BatchCRUD.Prepared(this, BatchCRUD.Action.DELETE, delete, null, null, optimistic, nullConditions(keys, optimistic));
+    }
+
+    /**
+     * The fields that are compared with <code>NULL</code> in the conditions of
+     * a prepared <code>UPDATE</code> or <code>DELETE</code> statement.
+     * <p>
+     * These conditions render <code>IS NULL</code> instead of a bind value,
+     * which is why they affect the SQL of a statement. This mirrors the
+     * conditions added by {@link Utils#addCondition(org.jooq.ConditionProvider, Record, Field)}
+     * and {@link #addConditionsForOptimisticLocking(org.jooq.ConditionProvider, TableField[])}.
+     */
+    private final BitSet nullConditions(TableField<R, ?>[] keys, boolean optimistic) {
+        BitSet result = new BitSet();
+        boolean originals = updatablePrimaryKeys(settings(this));
+
+        for (Field<?> key : keys) {
+            nullCondition(result, key, originals);
+        }
+
+        if (optimistic) {
+            if (isTimestampOrVersionAvailable()) {
+                TableField<R, ?> v = getTable().getRecordVersion();
+                TableField<R, ?> t = getTable().getRecordTimestamp();
+
+                if (v != null) nullCondition(result, v, originals);
+                if (t != null) nullCondition(result, t, originals);
+            }
+            else if (getOptimisticLockingMode(configuration().settings()) == ORIGINAL_VALUES) {
+                List<TableField<R, ?>> k = asList(keys);
+
+                for (Field<?> field : fields.fields.fields) {
+                    if (!k.contains(field) && !field.getDataType().isLob()) {
+                        nullCondition(result, field, true);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private final void nullCondition(BitSet result, Field<?> field, boolean original) {
+        if ((original ? original(field) : getValue(field)) == null) {
+            result.set(fields.indexOf(field));
+        }
+    }
+
+    /**
+     * Update this record's state after a prepared batch statement was
+     * successfully executed.
+     */
+    final void executed(BatchCRUD.Prepared prepared) {
+        setRecordVersionAndTimestamp(prepared.version, prepared.timestamp);
+
+        // [#673] If store() is called after delete(), a new INSERT should
+        // be executed and the record should be recreated
+        changed(prepared.action == BatchCRUD.Action.DELETE);
+    }
+
     @Override
     public final void refresh() {
         refresh(fields.fields.fields);
@@ -515,6 +675,63 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
         if (t != null) Utils.addCondition(query, this, t);
     }
 
+    /**
+     * Add conditions to an <code>UPDATE</code> or <code>DELETE</code> statement
+     * that detect concurrent changes to the database record, if optimistic
+     * locking is active.
+     *
+     * @return Whether optimistic locking is active
+     */
+    @SuppressWarnings("deprecation")
+    private final boolean addConditionsForOptimisticLocking(org.jooq.ConditionProvider query, TableField<R, ?>[] keys) {
+        if (!isExecuteWithOptimisticLocking())
+            return false;
+
+        // [#1596] Add additional conditions for version and/or timestamp columns
+        if (isTimestampOrVersionAvailable()) {
+            addConditionForVersionAndTimestamp(query);
+        }
+
+        // Compare this Record's original values with the ones in the database
+        // within the statement itself, avoiding an additional round trip
+        else if (getOptimisticLockingMode(configuration().settings()) == ORIGINAL_VALUES) {
+            addConditionForOriginalValues(query, keys);
+        }
+
+        // [#1547] Try fetching the Record again first, and compare this
+        // Record's original values with the ones in the database
+        else {
+            checkIfChanged(keys);
+        }
+
+        return true;
+    }
+
+    @SuppressWarnings("deprecation")
+    private final void addConditionForOriginalValues(org.jooq.ConditionProvider query, TableField<R, ?>[] keys) {
+        List<TableField<R, ?>> k = asList(keys);
+
+        for (Field<?> field : fields.fields.fields) {
+
+            // Primary keys are already part of the statement, and LOBs cannot
+            // be compared in most databases
+            if (!k.contains(field) && !field.getDataType().isLob()) {
+                addConditionForOriginalValue(query, field);
+            }
+        }
+    }
+
+    /**
+     * Extracted method to ensure generic type safety.
+     */
+    @SuppressWarnings("deprecation")
+    private final <T> void addConditionForOriginalValue(org.jooq.ConditionProvider query, Field<T> field) {
+
+        // The NULL check is decided upon the original value, which works in
+        // all dialects, unlike IS NOT DISTINCT FROM
+        query.addConditions(Utils.condition(field, original(field)));
+    }
+
     private final boolean isTimestampOrVersionAvailable() {
         return getTable().getRecordTimestamp() != null || getTable().getRecordVersion() != null;
     }
@@ -540,11 +757,8 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
         }
 
         for (Field<?> field : fields.fields.fields) {
-            Value<?> thisValue = getValue0(field);
-            Value<?> thatValue = ((AbstractRecord) record).getValue0(field);
-
-            Object thisObject = thisValue.getOriginal();
-            Object thatObject = thatValue.getOriginal();
+            Object thisObject = original(field);
+            Object thatObject = record.original(field);
 
             if (!StringUtils.equals(thisObject, thatObject)) {
                 throw new DataChangedException("Database record has been changed");
@@ -577,11 +791,11 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
     private final void setRecordVersionAndTimestamp(BigInteger version, Timestamp timestamp) {
         if (version != null) {
             TableField<R, ?> field = getTable().getRecordVersion();
-            setValue(field, new Value<Object>(field.getDataType().convert(version)));
+            setUnchanged(field, field.getDataType().convert(version));
         }
         if (timestamp != null) {
             TableField<R, ?> field = getTable().getRecordTimestamp();
-            setValue(field, new Value<Object>(field.getDataType().convert(timestamp)));
+            setUnchanged(field, field.getDataType().convert(timestamp));
         }
     }
 }
@@ -59,6 +59,10 @@ import static org.jooq.tools.jdbc.JDBCUtils.wasNull;
 import static org.jooq.tools.reflect.Reflect.accessible;
 import static org.jooq.tools.reflect.Reflect.on;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
@@ -83,12 +87,16 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -125,6 +133,7 @@ import org.jooq.UDT;
 import org.jooq.UDTRecord;
 import org.jooq.UpdatableRecord;
 import org.jooq.conf.Settings;
+import org.jooq.conf.SettingsTools;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.InvalidResultException;
 import org.jooq.impl.Utils.Cache.CachedOperation;
@@ -263,6 +272,19 @@ final class Utils {
     static final String          DATA_REFLECTION_CACHE_GET_MATCHING_SETTERS   = new String("org.jooq.configuration.reflection-cache.get-matching-setters");
     static final String          DATA_REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS = new String("org.jooq.configuration.reflection-cache.has-column-annotations");
 
+    /**
+     * All reflection cache types.
+     */
+    static final String[]        DATA_REFLECTION_CACHES                       = {
+        DATA_REFLECTION_CACHE_GET_ANNOTATED_GETTER,
+        DATA_REFLECTION_CACHE_GET_ANNOTATED_MEMBERS,
+        DATA_REFLECTION_CACHE_GET_ANNOTATED_SETTERS,
+        DATA_REFLECTION_CACHE_GET_MATCHING_GETTER,
+        DATA_REFLECTION_CACHE_GET_MATCHING_MEMBERS,
+        DATA_REFLECTION_CACHE_GET_MATCHING_SETTERS,
+        DATA_REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS
+    };
+
     // ------------------------------------------------------------------------
     // Other constants
     // ------------------------------------------------------------------------
@@ -361,21 +383,27 @@ final class Utils {
     /**
      * Create a new record
      */
-    @SuppressWarnings({ "unchecked", "rawtypes" })
     static final <R extends Record> RecordDelegate<R> newRecord(Class<R> type, Field<?>[] fields, Configuration configuration) {
+        return newRecord(recordConstructor(type), fields, configuration);
+    }
+
+    /**
+     * Create a new record from a constructor obtained through
+     * {@link #recordConstructor(Class)}.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static final <R extends Record> RecordDelegate<R> newRecord(Constructor<R> constructor, Field<?>[] fields, Configuration configuration) {
         try {
             R record;
 
             // An ad-hoc type resulting from a JOIN or arbitrary SELECT
-            if (type == RecordImpl.class || type == Record.class) {
+            if (constructor == null) {
                 record = (R) new RecordImpl(fields);
             }
 
             // Any generated record
             else {
-
-                // [#919] Allow for accessing non-public constructors
-                record = Reflect.accessible(type.getDeclaredConstructor()).newInstance();
+                record = constructor.newInstance();
             }
 
             return new RecordDelegate<R>(configuration, record);
@@ -385,6 +413,28 @@ final class Utils {
         }
     }
 
+    /**
+     * Look up the constructor of a record type, such that it can be re-used
+     * for the creation of many records.
+     *
+     * @return The accessible default constructor, or <code>null</code> for
+     *         ad-hoc record types, which are created from their fields.
+     */
+    static final <R extends Record> Constructor<R> recordConstructor(Class<R> type) {
+        if (type == RecordImpl.class || type == Record.class) {
+            return null;
+        }
+
+        try {
+
+            // [#919] Allow for accessing non-public constructors
+            return Reflect.accessible(type.getDeclaredConstructor());
+        }
+        catch (Exception e) {
+            throw new IllegalStateException("Could not construct new record", e);
+        }
+    }
+
     /**
      * Extract the configuration from an attachable.
      */
@@ -446,6 +496,88 @@ final class Utils {
         return fields == null ? null : fields.toArray(new Field[fields.size()]);
     }
 
+    /**
+     * The maximum number of bind values that should be used in a single
+     * statement of a given dialect.
+     */
+    static final int maxBindValues(SQLDialect dialect) {
+        switch (dialect.family()) {
+
+            // Derby and Firebird don't handle large IN lists or long
+            // statements very well
+            case DERBY:
+            case FIREBIRD:
+                return 1000;
+
+            case SQLITE:
+                return 999;
+
+            // The Postgres JDBC driver encodes the number of bind values as a
+            // 16 bit integer. Other databases have similar or higher limits
+            default:
+                return 32767;
+        }
+    }
+
+    /**
+     * The maximum number of rows that should be inserted with a single
+     * multi-record <code>INSERT</code> statement of a given dialect.
+     */
+    static final int maxInsertRows(SQLDialect dialect) {
+        switch (dialect.family()) {
+
+            // Multi-record INSERTs are simulated with UNION ALL. Firebird
+            // allows for at most 255 contexts per statement, one of which is
+            // the INSERT's target table
+            case FIREBIRD:
+                return 254;
+
+            // SQLITE_MAX_COMPOUND_SELECT defaults to 500
+            case SQLITE:
+                return 500;
+
+            default:
+                return Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Split a list into chunks, each of which can be bound to a single
+     * statement, given the number of bind values per list element.
+     */
+    static final <T> List<List<T>> chunks(Configuration configuration, List<T> list, int bindValuesPerElement) {
+        int size = Math.max(1, maxBindValues(configuration(configuration).dialect()) / Math.max(1, bindValuesPerElement));
+        List<List<T>> result = new ArrayList<List<T>>();
+
+        for (int i = 0; i < list.size(); i += size)
+            result.add(list.subList(i, Math.min(i + size, list.size())));
+
+        return result;
+    }
+
+    /**
+     * The fetch size that makes a dialect's JDBC driver stream rows, rather
+     * than loading the complete result set into memory, or <code>0</code> if
+     * the driver's default fetch size should be kept.
+     */
+    static final int streamingFetchSize(SQLDialect dialect) {
+        switch (dialect.family()) {
+
+            // Connector/J streams rows one by one only with this value
+            case MARIADB:
+            case MYSQL:
+                return Integer.MIN_VALUE;
+
+            // PgJDBC uses cursors only for positive fetch sizes, and only
+            // outside of auto-commit mode
+            case POSTGRES:
+                return 1000;
+
+            default:
+                return 0;
+        }
+    }
+
     // ------------------------------------------------------------------------
     // XXX: Data-type related methods
     // ------------------------------------------------------------------------
@@ -1344,13 +1476,11 @@ final class Utils {
      * [#2591] Type-safely copy a value from one record to another, preserving flags.
      */
     static final <T> void copyValue(AbstractRecord target, Field<T> targetField, Record source, Field<?> sourceField) {
-        Value<T> value = new Value<T>(
-            targetField.getDataType().convert(source.getValue(sourceField)),
-            targetField.getDataType().convert(source.original(sourceField)),
-            source.changed(sourceField)
-        );
+        int index = indexOrFail(target.fieldsRow(), targetField);
 
-        target.setValue(targetField, value);
+        target.values[index] = targetField.getDataType().convert(source.getValue(sourceField));
+        target.originals[index] = targetField.getDataType().convert(source.original(sourceField));
+        target.changed.set(index, source.changed(sourceField));
     }
 
     /**
@@ -1505,6 +1635,16 @@ final class Utils {
 
     /**
      * [#2965] This is a {@link Configuration}-based cache that can cache reflection information and other things
+     * <p>
+     * Values are computed at most once per key, without blocking the lookup or
+     * computation of other keys. The number of values per cache is bounded.
+     * <p>
+     * Operations that are run without a {@link Configuration} use process-wide
+     * caches. As cached values, such as {@link Method} or {@link Constructor},
+     * reference the classes they were obtained from, process-wide caches only
+     * hold values whose <code>Class</code> keys are visible from jOOQ's own
+     * class loader. Classes of applications that are deployed in a child class
+     * loader are thus never pinned by jOOQ.
      */
     static class Cache {
 
@@ -1519,12 +1659,39 @@ final class Utils {
             V call();
         }
 
+        /**
+         * The maximum number of values held by a single cache.
+         */
+        static final int                                  MAX_SIZE        = 10000;
+
+        /**
+         * Process-wide caches for operations that are run without a
+         * {@link Configuration}.
+         */
+        private static final ConcurrentMap<String, Cache> DEFAULT_CACHES  = new ConcurrentHashMap<String, Cache>();
+        private static final boolean                      DEFAULT_CACHING = reflectionCaching(SettingsTools.defaultSettings());
+
+        private final int                                 maxSize;
+        private final ConcurrentMap<Key, Value>           values          = new ConcurrentHashMap<Key, Value>();
+        private final AtomicLong                          hits            = new AtomicLong();
+        private final AtomicLong                          misses          = new AtomicLong();
+        private final AtomicLong                          evictions       = new AtomicLong();
+
+        Cache() {
+            this(MAX_SIZE);
+        }
+
+        Cache(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
         /**
          * Run a {@link CachedOperation} in the context of a
          * {@link Configuration}.
          *
          * @param configuration The configuration that may cache the outcome of
-         *            the {@link CachedOperation}.
+         *            the {@link CachedOperation}. If this is <code>null</code>,
+         *            a process-wide cache is used.
          * @param operation The expensive operation.
          * @param type The cache type to be used.
          * @param keys The cache keys.
@@ -1532,85 +1699,248 @@ final class Utils {
          */
         @SuppressWarnings("unchecked")
         static final <V> V run(Configuration configuration, CachedOperation<V> operation, String type, Object... keys) {
-
-            // If no configuration is provided take the default configuration that loads the default Settings
-            if (configuration == null)
-                configuration = new DefaultConfiguration();
+            Cache cache = cache(configuration, type);
 
             // Shortcut caching when the relevant Settings flag isn't set.
-            if (!reflectionCaching(configuration.settings()))
+            if (cache == null)
                 return operation.call();
 
-            Map<Object, Object> cache = (Map<Object, Object>) configuration.data(type);
+            // Don't pin application classes in process-wide caches
+            if (configuration == null && !cacheSafe(keys)) {
+                cache.misses.incrementAndGet();
+                return operation.call();
+            }
+
+            return (V) cache.get(operation, keys);
+        }
+
+        /**
+         * Get the cache of a given type from a {@link Configuration}, or
+         * <code>null</code> if reflection caching is turned off.
+         */
+        static final Cache cache(Configuration configuration, String type) {
+            if (configuration == null) {
+                if (!DEFAULT_CACHING)
+                    return null;
+
+                Cache cache = DEFAULT_CACHES.get(type);
+                if (cache == null) {
+                    DEFAULT_CACHES.putIfAbsent(type, new Cache());
+                    cache = DEFAULT_CACHES.get(type);
+                }
+
+                return cache;
+            }
+
+            if (!reflectionCaching(configuration.settings()))
+                return null;
+
+            Cache cache = (Cache) configuration.data(type);
             if (cache == null) {
 
                 // String synchronization is OK as all type literals were created using new String()
                 synchronized (type) {
-                    cache = (Map<Object, Object>) configuration.data(type);
+                    cache = (Cache) configuration.data(type);
 
                     if (cache == null) {
-                        cache = new ConcurrentHashMap<Object, Object>();
+                        cache = new Cache();
                         configuration.data(type, cache);
                     }
                 }
             }
 
-            Object key = key(keys);
-            Object result = cache.get(key);
+            return cache;
+        }
 
-            if (result == null) {
+        /**
+         * Get all caches that have been created in the context of a
+         * {@link Configuration}, or all process-wide caches if the
+         * configuration is <code>null</code>.
+         */
+        static final List<Cache> caches(Configuration configuration) {
+            if (configuration == null)
+                return new ArrayList<Cache>(DEFAULT_CACHES.values());
 
-                synchronized (cache) {
-                    result = cache.get(key);
+            List<Cache> result = new ArrayList<Cache>();
 
-                    if (result == null) {
-                        result = operation.call();
-                        cache.put(key, result == null ? NULL : result);
-                    }
+            for (String type : DATA_REFLECTION_CACHES) {
+                Cache cache = (Cache) configuration.data(type);
+
+                if (cache != null)
+                    result.add(cache);
+            }
+
+            return result;
+        }
+
+        /**
+         * Whether all <code>Class</code> keys are visible from jOOQ's own
+         * class loader, such that they may be cached process-wide.
+         */
+        static final boolean cacheSafe(Object... keys) {
+            for (Object key : keys)
+                if (key instanceof Class && !cacheSafe((Class<?>) key))
+                    return false;
+
+            return true;
+        }
+
+        private static final boolean cacheSafe(Class<?> type) {
+            ClassLoader target = type.getClassLoader();
+
+            if (target == null)
+                return true;
+
+            for (ClassLoader loader = Cache.class.getClassLoader(); loader != null; loader = loader.getParent())
+                if (loader == target)
+                    return true;
+
+            return false;
+        }
+
+        final Object get(CachedOperation<?> operation, Object... keys) {
+            Key key = new Key(keys);
+            Value value = values.get(key);
+
+            if (value == null) {
+                Value v = new Value();
+                value = values.putIfAbsent(key, v);
+
+                if (value == null) {
+                    value = v;
+                    evict();
                 }
             }
 
-            return (V) (result == NULL ? null : result);
+            return value.get(operation);
         }
 
         /**
-         * A <code>null</code> placeholder to be put in {@link ConcurrentHashMap}.
+         * Remove arbitrary values once the cache has grown beyond its maximum
+         * size.
          */
-        private static final Object NULL = new Object();
+        private final void evict() {
+            if (values.size() > maxSize) {
+                Iterator<Key> it = values.keySet().iterator();
+
+                while (it.hasNext() && values.size() > maxSize * 3 / 4) {
+                    it.next();
+                    it.remove();
+                    evictions.incrementAndGet();
+                }
+            }
+        }
+
+        /**
+         * The number of values that were served from this cache.
+         */
+        final long hits() {
+            return hits.get();
+        }
+
+        /**
+         * The number of values that had to be computed.
+         */
+        final long misses() {
+            return misses.get();
+        }
+
+        /**
+         * The number of values that were removed from this cache to respect
+         * its maximum size.
+         */
+        final long evictions() {
+            return evictions.get();
+        }
+
+        /**
+         * The number of values currently held by this cache.
+         */
+        final int size() {
+            return values.size();
+        }
 
         /**
-         * Create a single-value or multi-value key for caching.
+         * Remove all values and reset all counters.
          */
-        private static final Object key(final Object... key) {
-            if (key == null || key.length == 0)
-                return key;
+        final void clear() {
+            values.clear();
+            hits.set(0);
+            misses.set(0);
+            evictions.set(0);
+        }
+
+        @Override
+        public String toString() {
+            return "Cache [size=" + size() + ", hits=" + hits() + ", misses=" + misses() + ", evictions=" + evictions() + "]";
+        }
+
+        /**
+         * A lazily computed value.
+         */
+        private class Value {
+
+            private volatile Object value;
+
+            final Object get(CachedOperation<?> operation) {
+                Object result = value;
+
+                if (result == null) {
+                    synchronized (this) {
+                        result = value;
+
+                        if (result == null) {
+                            misses.incrementAndGet();
+                            result = operation.call();
+
+                            if (result == null)
+                                result = NULL;
 
-            if (key.length == 1)
-                return key[0];
+                            value = result;
+                        }
+                        else {
+                            hits.incrementAndGet();
+                        }
+                    }
+                }
+                else {
+                    hits.incrementAndGet();
+                }
 
-            return new Key(key);
+                return result == NULL ? null : result;
+            }
         }
 
         /**
-         * A multi-value key for caching.
+         * A <code>null</code> placeholder to be put in {@link ConcurrentHashMap}.
+         */
+        private static final Object NULL = new Object();
+
+        /**
+         * A single-value or multi-value key for caching.
          */
         private static class Key {
 
             private final Object[] key;
+            private final int      hash;
 
             Key(Object[] key) {
                 this.key = key;
+                this.hash = Arrays.hashCode(key);
             }
 
             @Override
             public int hashCode() {
-                return Arrays.hashCode(key);
+                return hash;
             }
 
             @Override
             public boolean equals(Object obj) {
+                if (this == obj)
+                    return true;
+
                 if (obj instanceof Key)
-                    return Arrays.equals(key, ((Key) obj).key);
+                    return hash == ((Key) obj).hash && Arrays.equals(key, ((Key) obj).key);
 
                 return false;
             }
@@ -1626,6 +1956,132 @@ final class Utils {
     // XXX: Reflection utilities used for POJO mapping
     // ------------------------------------------------------------------------
 
+    /**
+     * The events that listener types subscribe to, i.e. the names of the event
+     * methods that they override.
+     * <p>
+     * Subscriptions are computed once per listener type, regardless of the
+     * {@link Settings#isReflectionCaching()} flag, as they are needed for
+     * every execution. They are looked up without locking. Listener types are
+     * referenced weakly through {@link WeakTypeKey}, and the cached method
+     * names don't reference them.
+     */
+    private static final ConcurrentMap<Object, Set<String>> SUBSCRIPTIONS       = new ConcurrentHashMap<Object, Set<String>>();
+    private static final ReferenceQueue<Class<?>>           SUBSCRIPTIONS_QUEUE = new ReferenceQueue<Class<?>>();
+
+    /**
+     * Whether a listener subscribes to an event.
+     * <p>
+     * Listeners extending a default listener type, such as
+     * {@link DefaultExecuteListener}, subscribe to those events whose no-op
+     * implementation they override. All other listeners subscribe to all
+     * events.
+     */
+    static final boolean subscribes(Object listener, Class<?> defaultType, String method, Class<?> contextType) {
+        Set<String> subscriptions = subscriptions(listener, defaultType, contextType);
+        return subscriptions == null || subscriptions.contains(method);
+    }
+
+    /**
+     * The names of the events that a listener subscribes to, or
+     * <code>null</code> if it subscribes to all events.
+     *
+     * @see #subscribes(Object, Class, String, Class)
+     */
+    static final Set<String> subscriptions(Object listener, Class<?> defaultType, Class<?> contextType) {
+        if (!defaultType.isInstance(listener))
+            return null;
+
+        Class<?> type = listener.getClass();
+        Set<String> result = SUBSCRIPTIONS.get(new TypeKey(type));
+
+        if (result == null) {
+            result = new HashSet<String>();
+
+            for (Class<?> t = type; t != defaultType; t = t.getSuperclass())
+                for (Method m : t.getDeclaredMethods())
+                    if (!m.isBridge() && Arrays.equals(m.getParameterTypes(), new Class[] { contextType }))
+                        result.add(m.getName());
+
+            // Discard the subscriptions of listener types that were unloaded
+            for (Reference<?> stale; (stale = SUBSCRIPTIONS_QUEUE.poll()) != null;)
+                SUBSCRIPTIONS.remove(stale);
+
+            // Concurrent computations of the same subscriptions are harmless
+            Set<String> previous = SUBSCRIPTIONS.putIfAbsent(new WeakTypeKey(type, SUBSCRIPTIONS_QUEUE), result);
+            if (previous != null)
+                result = previous;
+        }
+
+        return result;
+    }
+
+    /**
+     * A key referencing a <code>Class</code> weakly, which is equal to other
+     * {@link WeakTypeKey} and {@link TypeKey} instances referencing the same
+     * <code>Class</code>.
+     */
+    private static final class WeakTypeKey extends WeakReference<Class<?>> {
+
+        private final int hash;
+
+        WeakTypeKey(Class<?> type, ReferenceQueue<Class<?>> queue) {
+            super(type, queue);
+
+            this.hash = System.identityHashCode(type);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+
+            Class<?> type = get();
+
+            if (type == null)
+                return false;
+            else if (obj instanceof WeakTypeKey)
+                return type == ((WeakTypeKey) obj).get();
+            else if (obj instanceof TypeKey)
+                return type == ((TypeKey) obj).type;
+            else
+                return false;
+        }
+    }
+
+    /**
+     * A key referencing a <code>Class</code> strongly, used to look up values
+     * stored with a {@link WeakTypeKey}.
+     */
+    private static final class TypeKey {
+
+        private final Class<?> type;
+
+        TypeKey(Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(type);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof TypeKey)
+                return type == ((TypeKey) obj).type;
+            else if (obj instanceof WeakTypeKey)
+                return type == ((WeakTypeKey) obj).get();
+            else
+                return false;
+        }
+    }
+
     /**
      * Check if JPA classes can be loaded. This is only done once per JVM!
      */
@@ -1835,7 +2291,7 @@ final class Utils {
                 return null;
             }
 
-        }, DATA_REFLECTION_CACHE_GET_ANNOTATED_GETTER, name);
+        }, DATA_REFLECTION_CACHE_GET_ANNOTATED_GETTER, type, name);
     }
 
     /**
@@ -40,12 +40,14 @@
  */
 package org.jooq.tools;
 
+import static java.util.Collections.synchronizedMap;
 import static org.jooq.types.Unsigned.ubyte;
 import static org.jooq.types.Unsigned.uint;
 import static org.jooq.types.Unsigned.ulong;
 import static org.jooq.types.Unsigned.ushort;
 
 import java.io.File;
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -60,11 +62,16 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 // ...
@@ -74,10 +81,12 @@ import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.SQLDialect;
 import org.jooq.exception.DataTypeException;
+import org.jooq.types.DayToSecond;
 import org.jooq.types.UByte;
 import org.jooq.types.UInteger;
 import org.jooq.types.ULong;
 import org.jooq.types.UShort;
+import org.jooq.types.YearToMonth;
 
 /**
  * Utility methods for type conversions
@@ -161,7 +170,7 @@ public final class Convert {
                     result[i] = values[i];
                 }
                 else {
-                    result[i] = convert(values[i], fields[i].getType());
+                    result[i] = converter(fields[i].getType()).from(values[i]);
                 }
             }
 
@@ -192,7 +201,7 @@ public final class Convert {
                     result[i] = values[i];
                 }
                 else {
-                    result[i] = convert(values[i], types[i]);
+                    result[i] = converter(types[i]).from(values[i]);
                 }
             }
 
@@ -269,9 +278,10 @@ public final class Convert {
             }
             else {
                 final Object[] result = (Object[]) Array.newInstance(toComponentType, from.length);
+                final ConvertAll<?> all = converter(toComponentType);
 
                 for (int i = 0; i < from.length; i++) {
-                    result[i] = convert(from[i], toComponentType);
+                    result[i] = all.from(from[i]);
                 }
 
                 return result;
@@ -295,7 +305,7 @@ public final class Convert {
      * Conversion type-safety
      */
     private static final <T, U> U convert0(Object from, Converter<T, U> converter) throws DataTypeException {
-        ConvertAll<T> all = new ConvertAll<T>(converter.fromType());
+        ConvertAll<T> all = converter(converter.fromType());
         return converter.from(all.from(from));
     }
 
@@ -349,7 +359,7 @@ public final class Convert {
      * @throws DataTypeException - When the conversion is not possible
      */
     public static final <T> T convert(Object from, Class<? extends T> toClass) throws DataTypeException {
-        return convert(from, new ConvertAll<T>(toClass));
+        return Convert.<T>converter(toClass).from(from);
     }
 
     /**
@@ -363,7 +373,7 @@ public final class Convert {
      * @see #convert(Object, Class)
      */
     public static final <T> List<T> convert(Collection<?> collection, Class<? extends T> type) throws DataTypeException {
-        return convert(collection, new ConvertAll<T>(type));
+        return convert(collection, Convert.<T>converter(type));
     }
 
     /**
@@ -384,7 +394,7 @@ public final class Convert {
      * Type safe conversion
      */
     private static final <T, U> List<U> convert0(Collection<?> collection, Converter<T, U> converter) throws DataTypeException {
-        ConvertAll<T> all = new ConvertAll<T>(converter.fromType());
+        ConvertAll<T> all = converter(converter.fromType());
         List<U> result = new ArrayList<U>(collection.size());
 
         for (Object o : collection) {
@@ -394,11 +404,102 @@ public final class Convert {
         return result;
     }
 
+    /**
+     * The maximum number of cached target types, and of cached source types
+     * per target type.
+     */
+    private static final int                                           MAX_CACHED         = 1000;
+
+    /**
+     * The cached converters per target type, for target types that are
+     * visible to jOOQ's class loader.
+     */
+    private static final ConcurrentMap<Class<?>, ConvertAll<?>>        CONVERTERS         = new ConcurrentHashMap<Class<?>, ConvertAll<?>>();
+
+    /**
+     * The cached converters per target type, for all other target types.
+     * <p>
+     * Types are referenced weakly, and their converters softly, such that this
+     * cache doesn't prevent other class loaders (e.g. those of undeployed
+     * applications) from being garbage collected.
+     */
+    private static final Map<Class<?>, SoftReference<ConvertAll<?>>> FOREIGN_CONVERTERS = synchronizedMap(new WeakHashMap<Class<?>, SoftReference<ConvertAll<?>>>());
+
+    /**
+     * Get the (cached) converter for a target type.
+     */
+    @SuppressWarnings("unchecked")
+    private static final <U> ConvertAll<U> converter(Class<? extends U> toClass) {
+        ConvertAll<U> result = (ConvertAll<U>) CONVERTERS.get(toClass);
+
+        if (result == null) {
+            if (cacheable(toClass)) {
+                result = new ConvertAll<U>(toClass);
+
+                if (CONVERTERS.size() < MAX_CACHED) {
+                    ConvertAll<U> previous = (ConvertAll<U>) CONVERTERS.putIfAbsent(toClass, result);
+
+                    if (previous != null) {
+                        result = previous;
+                    }
+                }
+            }
+            else {
+                synchronized (FOREIGN_CONVERTERS) {
+                    SoftReference<ConvertAll<?>> reference = FOREIGN_CONVERTERS.get(toClass);
+                    result = reference == null ? null : (ConvertAll<U>) reference.get();
+
+                    if (result == null) {
+                        result = new ConvertAll<U>(toClass);
+
+                        if (FOREIGN_CONVERTERS.size() < MAX_CACHED) {
+                            FOREIGN_CONVERTERS.put(toClass, new SoftReference<ConvertAll<?>>(result));
+                        }
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Whether a type is visible to jOOQ's class loader, and may thus be
+     * referenced strongly from process-wide caches.
+     */
+    private static final boolean cacheable(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+
+        if (loader == null) {
+            return true;
+        }
+
+        for (ClassLoader l = Convert.class.getClassLoader(); l != null; l = l.getParent()) {
+            if (l == loader) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     /**
      * No instances
      */
     private Convert() {}
 
+    /**
+     * A conversion from a given source type to a given target type, resolved
+     * once by a {@link ConvertAll} converter.
+     */
+    private static abstract class Conversion {
+
+        /**
+         * Convert a non-null value.
+         */
+        abstract Object convert(Object from);
+    }
+
     /**
      * The converter to convert them all.
      */
@@ -409,15 +510,124 @@ public final class Convert {
          */
         private static final long        serialVersionUID = 2508560107067092501L;
 
-        private final Class<? extends U> toClass;
+        private final Class<? extends U>                       toClass;
+        private final ConcurrentMap<Class<?>, Conversion>      conversions;
 
         ConvertAll(Class<? extends U> toClass) {
             this.toClass = toClass;
+            this.conversions = new ConcurrentHashMap<Class<?>, Conversion>();
         }
 
         @SuppressWarnings("unchecked")
         @Override
         public U from(Object from) {
+            if (from == null) {
+                return from0(null);
+            }
+
+            Class<?> fromClass = from.getClass();
+            Conversion conversion = conversions.get(fromClass);
+
+            if (conversion == null) {
+                conversion = resolve(fromClass);
+
+                // Source types from other class loaders are not cached, as
+                // this converter may be cached process-wide
+                if (conversions.size() < MAX_CACHED && cacheable(fromClass)) {
+                    conversions.putIfAbsent(fromClass, conversion);
+                }
+            }
+
+            return (U) conversion.convert(from);
+        }
+
+        /**
+         * Resolve the conversion of values of a source type into the target
+         * type.
+         * <p>
+         * Frequent conversions are specialised, such that they don't need to
+         * go through all rules of {@link #from0(Object)} again. All other
+         * conversions delegate to {@link #from0(Object)}.
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private final Conversion resolve(final Class<?> fromClass) {
+
+            // No conversion or simple up-casting
+            if (toClass.isAssignableFrom(fromClass)) {
+                return IDENTITY;
+            }
+
+            // Arrays are handled by from0()
+            else if (fromClass.isArray()) {
+            }
+
+            else if (toClass == String.class) {
+                return EnumType.class.isAssignableFrom(fromClass) ? ENUM_TYPE_TO_STRING : TO_STRING;
+            }
+
+            // Integer types can be converted into each other without the
+            // intermediary BigDecimal representation
+            else if (INTEGER_TYPES.contains(fromClass)) {
+                if (toClass == Byte.class || toClass == byte.class)
+                    return LONG_TO_BYTE;
+                else if (toClass == Short.class || toClass == short.class)
+                    return LONG_TO_SHORT;
+                else if (toClass == Integer.class || toClass == int.class)
+                    return LONG_TO_INTEGER;
+                else if (toClass == Long.class || toClass == long.class)
+                    return LONG_TO_LONG;
+                else if (toClass == BigInteger.class)
+                    return LONG_TO_BIG_INTEGER;
+                else if (toClass == BigDecimal.class)
+                    return LONG_TO_BIG_DECIMAL;
+            }
+
+            else if (fromClass == String.class) {
+
+                // [#1448] Enum values are looked up by their name, or by their
+                // EnumType literal
+                if (java.lang.Enum.class.isAssignableFrom(toClass) && toClass.isEnum()) {
+                    final Map<String, Object> constants = new HashMap<String, Object>();
+
+                    for (Object constant : toClass.getEnumConstants()) {
+                        if (constant instanceof EnumType)
+                            constants.put(((EnumType) constant).getLiteral(), constant);
+                    }
+
+                    for (Object constant : toClass.getEnumConstants()) {
+                        constants.put(((java.lang.Enum) constant).name(), constant);
+                    }
+
+                    return new Conversion() {
+                        @Override
+                        Object convert(Object from) {
+                            return constants.get(from);
+                        }
+                    };
+                }
+
+                // Intervals can be parsed from their string representation
+                else if (toClass == YearToMonth.class) {
+                    return STRING_TO_YEAR_TO_MONTH;
+                }
+                else if (toClass == DayToSecond.class) {
+                    return STRING_TO_DAY_TO_SECOND;
+                }
+            }
+
+            return new Conversion() {
+                @Override
+                Object convert(Object from) {
+                    return from0(from);
+                }
+            };
+        }
+
+        /**
+         * Apply all conversion rules.
+         */
+        @SuppressWarnings("unchecked")
+        private final U from0(Object from) {
             if (from == null) {
 
                 // [#936] If types are converted to primitives, the result must not
@@ -793,6 +1003,86 @@ public final class Convert {
             throw fail(from, toClass);
         }
 
+        private static final Set<Class<?>> INTEGER_TYPES           = new HashSet<Class<?>>(Arrays.<Class<?>>asList(
+            Byte.class, Short.class, Integer.class, Long.class));
+
+        private static final Conversion    IDENTITY                = new Conversion() {
+            @Override
+            Object convert(Object from) {
+                return from;
+            }
+        };
+
+        private static final Conversion    TO_STRING               = new Conversion() {
+            @Override
+            Object convert(Object from) {
+                return from.toString();
+            }
+        };
+
+        private static final Conversion    ENUM_TYPE_TO_STRING     = new Conversion() {
+            @Override
+            Object convert(Object from) {
+                return ((EnumType) from).getLiteral();
+            }
+        };
+
+        private static final Conversion    LONG_TO_BYTE            = new Conversion() {
+            @Override
+            Object convert(Object from) {
+                return Byte.valueOf(((Number) from).byteValue());
+            }
+        };
+
+        private static final Conversion    LONG_TO_SHORT           = new Conversion() {
+            @Override
+            Object convert(Object from) {
+                return Short.valueOf(((Number) from).shortValue());
+            }
+        };
+
+        private static final Conversion    LONG_TO_INTEGER         = new Conversion() {
+            @Override
+            Object convert(Object from) {
+                return Integer.valueOf(((Number) from).intValue());
+            }
+        };
+
+        private static final Conversion    LONG_TO_LONG            = new Conversion() {
+            @Override
+            Object convert(Object from) {
+                return Long.valueOf(((Number) from).longValue());
+            }
+        };
+
+        private static final Conversion    LONG_TO_BIG_INTEGER     = new Conversion() {
+            @Override
+            Object convert(Object from) {
+                return BigInteger.valueOf(((Number) from).longValue());
+            }
+        };
+
+        private static final Conversion    LONG_TO_BIG_DECIMAL     = new Conversion() {
+            @Override
+            Object convert(Object from) {
+                return BigDecimal.valueOf(((Number) from).longValue());
+            }
+        };
+
+        private static final Conversion    STRING_TO_YEAR_TO_MONTH = new Conversion() {
+            @Override
+            Object convert(Object from) {
+                return YearToMonth.valueOf((String) from);
+            }
+        };
+
+        private static final Conversion    STRING_TO_DAY_TO_SECOND = new Conversion() {
+            @Override
+            Object convert(Object from) {
+                return DayToSecond.valueOf((String) from);
+            }
+        };
+
         @Override
         public Object to(U to) {
             return to;
@@ -89,6 +89,7 @@ public class MockStatement extends JDBC41Statement implements CallableStatement
     private final MockConnection     connection;
 
     private final MockDataProvider   data;
+    private final String             prepared;
     private final List<String>       sql;
     private final List<List<Object>> bindings;
     private MockResult[]             result;
@@ -106,6 +107,8 @@ public class MockStatement extends JDBC41Statement implements CallableStatement
     // Statement properties
     private int                      queryTimeout;
     private int                      maxRows;
+    private int                      fetchSize;
+    private int                      fetchDirection       = ResultSet.FETCH_FORWARD;
 
     public MockStatement(MockConnection connection, MockDataProvider data) {
         this(connection, data, null);
@@ -114,6 +117,7 @@ public class MockStatement extends JDBC41Statement implements CallableStatement
     public MockStatement(MockConnection connection, MockDataProvider data, String sql) {
         this.connection = connection;
         this.data = data;
+        this.prepared = sql;
         this.sql = new ArrayList<String>();
         this.bindings = new ArrayList<List<Object>>();
 
@@ -293,7 +297,16 @@ public class MockStatement extends JDBC41Statement implements CallableStatement
     @Override
     public void clearBatch() throws SQLException {
         checkNotClosed();
-        sql.clear();
+
+        // A PreparedStatement's own SQL string is not part of the batch
+        if (prepared != null) {
+            sql.clear();
+            sql.add(prepared);
+        }
+        else {
+            sql.clear();
+        }
+
         bindings.clear();
         bindings.add(new ArrayList<Object>());
     }
@@ -676,23 +689,25 @@ public class MockStatement extends JDBC41Statement implements CallableStatement
     @Override
     public void setFetchDirection(int direction) throws SQLException {
         checkNotClosed();
+        this.fetchDirection = direction;
     }
 
     @Override
     public int getFetchDirection() throws SQLException {
         checkNotClosed();
-        return 0;
+        return fetchDirection;
     }
 
     @Override
     public void setFetchSize(int rows) throws SQLException {
         checkNotClosed();
+        this.fetchSize = rows;
     }
 
     @Override
     public int getFetchSize() throws SQLException {
         checkNotClosed();
-        return 0;
+        return fetchSize;
     }
 
     @Override
@@ -0,0 +1,344 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.tools.metrics;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jooq.Configuration;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.tools.JooqLogger;
+import org.jooq.tools.metrics.Finding.Type;
+
+/**
+ * An {@link ExecuteListenerProvider} that reports potential performance
+ * problems of executed statements.
+ * <p>
+ * The following problems are detected (see {@link Finding.Type}):
+ * <ul>
+ * <li>Many rows fetched with the JDBC driver's default fetch size</li>
+ * <li>Large {@link org.jooq.Result}s materialised in memory</li>
+ * <li>The same statement executed many times in a row by the same thread,
+ * which usually indicates an "N+1" problem</li>
+ * <li>The same SQL string rendered and prepared many times</li>
+ * </ul>
+ * <p>
+ * Findings are kept in a bounded ring buffer, which retains only the most
+ * recent findings. Capturing a stack trace is expensive, which is why stack
+ * traces are only sampled for a configurable fraction of all findings. All
+ * findings are also logged on <code>DEBUG</code> level.
+ * <p>
+ * Use this provider like any other {@link ExecuteListenerProvider}:
+ * <code><pre>
+ * Advisor advisor = new Advisor()
+ *     .withLargeFetchThreshold(5000)
+ *     .withStackTraceSampleRate(0.1);
+ * configuration.set(advisor);
+ *
+ * for (Finding finding : advisor.findings())
+ *     System.out.println(finding);
+ * </pre></code>
+ *
+ * @author Lukas Eder
+ * @see Configuration#set(ExecuteListenerProvider...)
+ */
+public class Advisor implements ExecuteListenerProvider, Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long                          serialVersionUID               = -1830318529046373014L;
+    private static final JooqLogger                    log                            = JooqLogger.getLogger(Advisor.class);
+
+    /**
+     * The default number of findings retained in the ring buffer.
+     */
+    public static final int                            DEFAULT_CAPACITY               = 100;
+
+    /**
+     * The maximum number of distinct SQL strings whose preparations are
+     * counted.
+     */
+    static final int                                   MAX_STATEMENTS                 = 1000;
+
+    private final AtomicReferenceArray<Finding>        findings;
+    private final AtomicLong                           position;
+    private final AtomicLong                           sampled;
+    private final ConcurrentMap<String, AtomicInteger> preparations;
+    private transient ThreadLocal<Repetition>          repetitions;
+
+    private volatile int                               largeFetchThreshold            = 1000;
+    private volatile int                               largeResultThreshold           = 10000;
+    private volatile int                               repeatedExecutionThreshold     = 10;
+    private volatile long                              repeatedExecutionWindow        = TimeUnit.SECONDS.toNanos(1);
+    private volatile int                               repeatedPreparationThreshold   = 1000;
+    private volatile double                            stackTraceSampleRate           = 0.01;
+
+    /**
+     * Create a new advisor, retaining up to {@link #DEFAULT_CAPACITY}
+     * findings.
+     */
+    public Advisor() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new advisor, retaining up to a given number of findings.
+     */
+    public Advisor(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+
+        this.findings = new AtomicReferenceArray<Finding>(capacity);
+        this.position = new AtomicLong();
+        this.sampled = new AtomicLong();
+        this.preparations = new ConcurrentHashMap<String, AtomicInteger>();
+        this.repetitions = new ThreadLocal<Repetition>();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        repetitions = new ThreadLocal<Repetition>();
+    }
+
+    @Override
+    public ExecuteListener provide() {
+        return new AdvisorListener(this);
+    }
+
+    // -------------------------------------------------------------------------
+    // Configuration
+    // -------------------------------------------------------------------------
+
+    /**
+     * The number of rows fetched with the driver's default fetch size, from
+     * which on a {@link Type#LARGE_FETCH_WITH_DEFAULT_FETCH_SIZE} finding is
+     * reported. Defaults to <code>1000</code>.
+     */
+    public Advisor withLargeFetchThreshold(int rows) {
+        this.largeFetchThreshold = rows;
+        return this;
+    }
+
+    /**
+     * The size of a materialised {@link org.jooq.Result}, from which on a
+     * {@link Type#LARGE_RESULT} finding is reported. Defaults to
+     * <code>10000</code>.
+     */
+    public Advisor withLargeResultThreshold(int rows) {
+        this.largeResultThreshold = rows;
+        return this;
+    }
+
+    /**
+     * The number of consecutive executions of the same statement by the same
+     * thread, from which on a {@link Type#REPEATED_EXECUTION} finding is
+     * reported. Defaults to <code>10</code>.
+     */
+    public Advisor withRepeatedExecutionThreshold(int executions) {
+        this.repeatedExecutionThreshold = executions;
+        return this;
+    }
+
+    /**
+     * The maximum time between two executions of the same statement for them
+     * to be considered consecutive. Defaults to one second.
+     */
+    public Advisor withRepeatedExecutionWindow(long time, TimeUnit unit) {
+        this.repeatedExecutionWindow = unit.toNanos(time);
+        return this;
+    }
+
+    /**
+     * The number of preparations of the same SQL string, from which on a
+     * {@link Type#REPEATED_PREPARATION} finding is reported. Defaults to
+     * <code>1000</code>.
+     */
+    public Advisor withRepeatedPreparationThreshold(int preparations) {
+        this.repeatedPreparationThreshold = preparations;
+        return this;
+    }
+
+    /**
+     * The fraction of findings for which a stack trace is captured, between
+     * <code>0.0</code> (never) and <code>1.0</code> (always). Defaults to
+     * <code>0.01</code>.
+     */
+    public Advisor withStackTraceSampleRate(double rate) {
+        if (rate < 0.0 || rate > 1.0)
+            throw new IllegalArgumentException("Sample rate must be between 0.0 and 1.0: " + rate);
+
+        this.stackTraceSampleRate = rate;
+        return this;
+    }
+
+    // -------------------------------------------------------------------------
+    // Programmatic API
+    // -------------------------------------------------------------------------
+
+    /**
+     * Get the most recent findings, oldest first.
+     * <p>
+     * Findings that are reported concurrently with this call may or may not be
+     * contained in the returned list.
+     */
+    public List<Finding> findings() {
+        int capacity = findings.length();
+        long end = position.get();
+        long start = Math.max(0, end - capacity);
+        List<Finding> result = new ArrayList<Finding>((int) (end - start));
+
+        for (long i = start; i < end; i++) {
+            Finding finding = findings.get((int) (i % capacity));
+
+            if (finding != null)
+                result.add(finding);
+        }
+
+        return result;
+    }
+
+    /**
+     * Discard all findings and counters.
+     */
+    public void clear() {
+        for (int i = 0; i < findings.length(); i++)
+            findings.set(i, null);
+
+        position.set(0);
+        preparations.clear();
+    }
+
+    // -------------------------------------------------------------------------
+    // Analysis, called by AdvisorListener
+    // -------------------------------------------------------------------------
+
+    final void fetched(String sql, long rows, int fetchSize) {
+        if (fetchSize == 0 && rows >= largeFetchThreshold)
+            report(Type.LARGE_FETCH_WITH_DEFAULT_FETCH_SIZE, sql, rows + " rows fetched with the driver's default fetch size", rows);
+    }
+
+    final void materialised(String sql, int rows) {
+        if (rows >= largeResultThreshold)
+            report(Type.LARGE_RESULT, sql, rows + " records materialised in a Result", rows);
+    }
+
+    final void prepared(String sql) {
+        AtomicInteger count = preparations.get(sql);
+
+        if (count == null) {
+            if (preparations.size() >= MAX_STATEMENTS)
+                return;
+
+            AtomicInteger previous = preparations.putIfAbsent(sql, count = new AtomicInteger());
+            if (previous != null)
+                count = previous;
+        }
+
+        int preparations = count.incrementAndGet();
+        if (preparations == repeatedPreparationThreshold)
+            report(Type.REPEATED_PREPARATION, sql, "SQL string rendered and prepared " + preparations + " times", preparations);
+    }
+
+    final void executed(String sql) {
+        Repetition repetition = repetitions.get();
+        long now = System.nanoTime();
+
+        if (repetition == null) {
+            repetitions.set(new Repetition(sql, now));
+            return;
+        }
+
+        if (sql.equals(repetition.sql) && now - repetition.time <= repeatedExecutionWindow) {
+            repetition.time = now;
+
+            if (++repetition.count == repeatedExecutionThreshold)
+                report(Type.REPEATED_EXECUTION, sql, "Statement executed " + repetition.count + " times in a row", repetition.count);
+        }
+        else {
+            repetition.sql = sql;
+            repetition.time = now;
+            repetition.count = 1;
+        }
+    }
+
+    private final void report(Type type, String sql, String message, long value) {
+        StackTraceElement[] stackTrace = null;
+
+        // Sample deterministically, such that exactly a fraction of "rate"
+        // findings gets a stack trace
+        double rate = stackTraceSampleRate;
+        long n = sampled.getAndIncrement();
+        if (Math.floor((n + 1) * rate) > Math.floor(n * rate))
+            stackTrace = new Throwable().getStackTrace();
+
+        Finding finding = new Finding(type, sql, message, value, stackTrace);
+        findings.set((int) (position.getAndIncrement() % findings.length()), finding);
+
+        if (log.isDebugEnabled())
+            log.debug("Advisor", finding);
+    }
+
+    /**
+     * The most recently executed statement of a thread.
+     */
+    private static class Repetition {
+        String sql;
+        long   time;
+        int    count;
+
+        Repetition(String sql, long time) {
+            this.sql = sql;
+            this.time = time;
+            this.count = 1;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.tools.metrics;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.jooq.ExecuteContext;
+import org.jooq.Result;
+import org.jooq.impl.DefaultExecuteListener;
+
+/**
+ * The {@link org.jooq.ExecuteListener} that observes a single execution
+ * lifecycle on behalf of an {@link Advisor}.
+ *
+ * @author Lukas Eder
+ */
+class AdvisorListener extends DefaultExecuteListener {
+
+    /**
+     * Generated UID
+     */
+    private static final long serialVersionUID = 4728935318502906347L;
+
+    private final Advisor     advisor;
+
+    private int               fetchSize;
+    private long              rows;
+
+    AdvisorListener(Advisor advisor) {
+        this.advisor = advisor;
+    }
+
+    @Override
+    public void prepareEnd(ExecuteContext ctx) {
+        if (ctx.sql() != null)
+            advisor.prepared(ctx.sql());
+    }
+
+    @Override
+    public void fetchStart(ExecuteContext ctx) {
+        Statement statement = ctx.statement();
+
+        if (statement != null) {
+            try {
+                fetchSize = statement.getFetchSize();
+            }
+
+            // Some drivers don't support fetch sizes. There's nothing to
+            // advise, then
+            catch (SQLException ignore) {
+                fetchSize = -1;
+            }
+        }
+    }
+
+    @Override
+    public void recordEnd(ExecuteContext ctx) {
+        rows++;
+    }
+
+    @Override
+    public void resultEnd(ExecuteContext ctx) {
+        Result<?> result = ctx.result();
+
+        if (result != null && ctx.sql() != null)
+            advisor.materialised(ctx.sql(), result.size());
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        String sql = ctx.sql();
+
+        if (sql != null) {
+            advisor.fetched(sql, rows, fetchSize);
+            advisor.executed(sql);
+        }
+    }
+}
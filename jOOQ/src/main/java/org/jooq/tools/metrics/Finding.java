@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.tools.metrics;
+
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * A potential performance problem reported by an {@link Advisor}.
+ *
+ * @author Lukas Eder
+ */
+public final class Finding implements Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long         serialVersionUID = 8107562403953014741L;
+
+    private final Type                type;
+    private final String              sql;
+    private final String              message;
+    private final String              thread;
+    private final long                time;
+    private final long                value;
+    private final StackTraceElement[] stackTrace;
+
+    Finding(Type type, String sql, String message, long value, StackTraceElement[] stackTrace) {
+        this.type = type;
+        this.sql = sql;
+        this.message = message;
+        this.thread = Thread.currentThread().getName();
+        this.time = System.currentTimeMillis();
+        this.value = value;
+        this.stackTrace = stackTrace;
+    }
+
+    /**
+     * The type of this finding.
+     */
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * The SQL string of the statement that caused this finding.
+     */
+    public String sql() {
+        return sql;
+    }
+
+    /**
+     * A human-readable description of this finding.
+     */
+    public String message() {
+        return message;
+    }
+
+    /**
+     * The name of the thread that executed the statement.
+     */
+    public String thread() {
+        return thread;
+    }
+
+    /**
+     * The time at which this finding was reported, in milliseconds since the
+     * epoch.
+     */
+    public long time() {
+        return time;
+    }
+
+    /**
+     * The measured value that exceeded the {@link Advisor}'s threshold, e.g.
+     * the number of fetched rows, or the number of repeated executions.
+     */
+    public long value() {
+        return value;
+    }
+
+    /**
+     * The stack trace of the call site that executed the statement, or
+     * <code>null</code> if no stack trace was sampled for this finding.
+     */
+    public StackTraceElement[] stackTrace() {
+        return stackTrace == null ? null : stackTrace.clone();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(type)
+          .append(" [")
+          .append(new Date(time))
+          .append(", ")
+          .append(thread)
+          .append("] ")
+          .append(message)
+          .append(": ")
+          .append(sql);
+
+        if (stackTrace != null)
+            for (StackTraceElement element : stackTrace)
+                sb.append("\n\tat ").append(element);
+
+        return sb.toString();
+    }
+
+    /**
+     * The type of a {@link Finding}.
+     */
+    public enum Type {
+
+        /**
+         * Many rows were fetched with the JDBC driver's default fetch size.
+         * <p>
+         * Depending on the driver, this may result in a lot of server round
+         * trips, or in all rows being loaded into memory at once. Consider
+         * specifying {@link org.jooq.ResultQuery#fetchSize(int)}.
+         */
+        LARGE_FETCH_WITH_DEFAULT_FETCH_SIZE,
+
+        /**
+         * A large {@link org.jooq.Result} was materialised in memory.
+         * <p>
+         * Consider consuming records one by one through
+         * {@link org.jooq.ResultQuery#fetchLazy()} instead.
+         */
+        LARGE_RESULT,
+
+        /**
+         * The same statement was executed many times in a row by the same
+         * thread.
+         * <p>
+         * This is often a sign of an "N+1" problem, where a loop over a
+         * previous result issues one query per record. Consider fetching all
+         * data with a single query, e.g. through
+         * {@link org.jooq.Result#fetchParents(org.jooq.ForeignKey)} or
+         * {@link org.jooq.Result#fetchChildren(org.jooq.ForeignKey)}.
+         */
+        REPEATED_EXECUTION,
+
+        /**
+         * The same SQL string was rendered and prepared many times.
+         * <p>
+         * Consider using a statement cache in your connection pool, or
+         * activating {@link org.jooq.conf.Settings#isRenderCaching()} for
+         * plain SQL queries.
+         */
+        REPEATED_PREPARATION
+    }
+}
@@ -0,0 +1,233 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.tools.metrics;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of non-negative <code>long</code> values.
+ * <p>
+ * Values are counted in logarithmic buckets, each power of two being split
+ * into 8 linear sub-buckets. Values below 16 are counted exactly, all other
+ * values with a relative error of at most 12.5%. Recording a value is a
+ * constant time operation that doesn't allocate any memory and doesn't take
+ * any locks.
+ *
+ * @author Lukas Eder
+ */
+public final class Histogram implements Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long    serialVersionUID = -6093484367211356427L;
+
+    private static final int     SUB_BUCKET_BITS  = 3;
+    private static final int     SUB_BUCKETS      = 1 << SUB_BUCKET_BITS;
+    private static final int     EXACT            = SUB_BUCKETS * 2;
+    private static final int     EXACT_BITS       = SUB_BUCKET_BITS + 1;
+    private static final int     BUCKETS          = EXACT + (63 - EXACT_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+    private final AtomicLong      count;
+    private final AtomicLong      sum;
+    private final AtomicLong      min;
+    private final AtomicLong      max;
+
+    /**
+     * Create a new, empty histogram.
+     */
+    public Histogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.count = new AtomicLong();
+        this.sum = new AtomicLong();
+        this.min = new AtomicLong(Long.MAX_VALUE);
+        this.max = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    /**
+     * Record a value.
+     * <p>
+     * Negative values are recorded as <code>0</code>.
+     */
+    public void record(long value) {
+        if (value < 0)
+            value = 0;
+
+        counts.incrementAndGet(index(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+
+        long m;
+        while (value < (m = min.get()) && !min.compareAndSet(m, value));
+        while (value > (m = max.get()) && !max.compareAndSet(m, value));
+    }
+
+    /**
+     * The number of recorded values.
+     */
+    public long count() {
+        return count.get();
+    }
+
+    /**
+     * The sum of all recorded values.
+     */
+    public long sum() {
+        return sum.get();
+    }
+
+    /**
+     * The smallest recorded value, or <code>0</code> if no value was recorded.
+     */
+    public long min() {
+        return count() == 0 ? 0 : min.get();
+    }
+
+    /**
+     * The largest recorded value, or <code>0</code> if no value was recorded.
+     */
+    public long max() {
+        return count() == 0 ? 0 : max.get();
+    }
+
+    /**
+     * The mean of all recorded values, or <code>0.0</code> if no value was
+     * recorded.
+     */
+    public double mean() {
+        long c = count();
+        return c == 0 ? 0.0 : (double) sum() / c;
+    }
+
+    /**
+     * An approximation of a percentile of all recorded values.
+     *
+     * @param percentile The percentile, between <code>0.0</code> and
+     *            <code>100.0</code>
+     * @return The approximated value, which is the upper bound of the bucket
+     *         containing the percentile, but never more than {@link #max()}.
+     */
+    public long percentile(double percentile) {
+        long[] c = new long[BUCKETS];
+        long total = 0;
+
+        for (int i = 0; i < BUCKETS; i++)
+            total += (c[i] = counts.get(i));
+
+        if (total == 0)
+            return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * total));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += c[i];
+
+            if (seen >= rank)
+                return Math.min(upperBound(i), max());
+        }
+
+        return max();
+    }
+
+    /**
+     * Create a copy of this histogram's current state.
+     */
+    public Histogram snapshot() {
+        Histogram result = new Histogram();
+
+        for (int i = 0; i < BUCKETS; i++)
+            result.counts.set(i, counts.get(i));
+
+        result.count.set(count.get());
+        result.sum.set(sum.get());
+        result.min.set(min.get());
+        result.max.set(max.get());
+        return result;
+    }
+
+    /**
+     * Remove all recorded values.
+     * <p>
+     * Values that are recorded concurrently may or may not be removed.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++)
+            counts.set(i, 0);
+
+        count.set(0);
+        sum.set(0);
+        min.set(Long.MAX_VALUE);
+        max.set(Long.MIN_VALUE);
+    }
+
+    static int index(long value) {
+        if (value < EXACT)
+            return (int) value;
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return EXACT + (exponent - EXACT_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBound(int index) {
+        if (index < EXACT)
+            return index;
+
+        int exponent = EXACT_BITS + (index - EXACT) / SUB_BUCKETS;
+        int subBucket = (index - EXACT) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((SUB_BUCKETS + subBucket) * width) + width - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "Histogram [count=" + count()
+            + ", min=" + min()
+            + ", p50=" + percentile(50)
+            + ", p90=" + percentile(90)
+            + ", p99=" + percentile(99)
+            + ", max=" + max() + "]";
+    }
+}
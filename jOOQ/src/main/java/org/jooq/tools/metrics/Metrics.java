@@ -0,0 +1,408 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.tools.metrics;
+
+import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.jooq.Configuration;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteListenerProvider;
+
+/**
+ * An {@link ExecuteListenerProvider} that collects execution metrics per SQL
+ * statement.
+ * <p>
+ * For each distinct, normalised SQL statement, latency histograms are
+ * recorded for the render, prepare, bind, execute and fetch phases, along with
+ * row counts and, optionally, an estimation of fetched bytes. Statements are
+ * normalised by replacing inlined string and numeric literals with
+ * <code>?</code>.
+ * <p>
+ * All metrics are collected with lock-free counters. The number of tracked
+ * statements is bounded. Once the bound is reached, executions of all further
+ * statements are accounted for in a single {@link #OTHER} entry.
+ * <p>
+ * Use this provider like any other {@link ExecuteListenerProvider}:
+ * <code><pre>
+ * Metrics metrics = new Metrics();
+ * configuration.set(metrics);
+ *
+ * // Programmatic access
+ * for (StatementMetrics statement : metrics.statements())
+ *     System.out.println(statement);
+ *
+ * // JMX access
+ * metrics.registerMBean("my-datasource");
+ * </pre></code>
+ *
+ * @author Lukas Eder
+ * @see Configuration#set(ExecuteListenerProvider...)
+ */
+public class Metrics implements ExecuteListenerProvider, MetricsMBean, Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long                             serialVersionUID       = 5637163658437217349L;
+
+    /**
+     * The default maximum number of tracked statements.
+     */
+    public static final int                               DEFAULT_MAX_STATEMENTS = 1000;
+
+    /**
+     * The SQL string of the entry that collects metrics of all statements
+     * beyond the maximum number of tracked statements.
+     */
+    public static final String                            OTHER                  = "<other statements>";
+
+    private final int                                     maxStatements;
+    private final ConcurrentMap<String, StatementMetrics> statements;
+    private final StatementMetrics                        other;
+    private volatile boolean                              estimateBytesFetched;
+    private transient ObjectName                          objectName;
+
+    /**
+     * Create a new metrics collector, tracking up to
+     * {@link #DEFAULT_MAX_STATEMENTS} statements.
+     */
+    public Metrics() {
+        this(DEFAULT_MAX_STATEMENTS);
+    }
+
+    /**
+     * Create a new metrics collector, tracking up to a given number of
+     * statements.
+     */
+    public Metrics(int maxStatements) {
+        this.maxStatements = maxStatements;
+        this.statements = new ConcurrentHashMap<String, StatementMetrics>();
+        this.other = new StatementMetrics(OTHER);
+    }
+
+    /**
+     * Whether the number of fetched bytes should be estimated. Defaults to
+     * <code>false</code>.
+     * <p>
+     * The estimation inspects every value of every fetched record, which adds
+     * overhead to each fetched row.
+     *
+     * @see StatementMetrics#bytesFetched()
+     */
+    public Metrics withBytesFetchedEstimation(boolean estimate) {
+        this.estimateBytesFetched = estimate;
+        return this;
+    }
+
+    final boolean estimateBytesFetched() {
+        return estimateBytesFetched;
+    }
+
+    @Override
+    public ExecuteListener provide() {
+        return new MetricsListener(this);
+    }
+
+    // -------------------------------------------------------------------------
+    // Programmatic API
+    // -------------------------------------------------------------------------
+
+    /**
+     * Get a snapshot of the metrics of all tracked statements, ordered by the
+     * total time spent executing them.
+     */
+    public List<StatementMetrics> statements() {
+        List<StatementMetrics> result = new ArrayList<StatementMetrics>(statements.size() + 1);
+
+        for (StatementMetrics statement : statements.values())
+            result.add(statement.snapshot());
+
+        if (other.executions() > 0)
+            result.add(other.snapshot());
+
+        Collections.sort(result, new Comparator<StatementMetrics>() {
+            @Override
+            public int compare(StatementMetrics o1, StatementMetrics o2) {
+                long s1 = o1.total().sum();
+                long s2 = o2.total().sum();
+
+                return s1 < s2 ? 1 : s1 > s2 ? -1 : 0;
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Get a snapshot of the metrics of a statement, or <code>null</code> if the
+     * statement is not tracked.
+     *
+     * @param sql The SQL statement, which is normalised before lookup.
+     */
+    public StatementMetrics statement(String sql) {
+        StatementMetrics result = OTHER.equals(sql) ? other : statements.get(normalise(sql));
+        return result == null ? null : result.snapshot();
+    }
+
+    // -------------------------------------------------------------------------
+    // JMX API
+    // -------------------------------------------------------------------------
+
+    /**
+     * Register these metrics with the platform MBean server under the name
+     * <code>org.jooq:type=Metrics,name=[name]</code>.
+     *
+     * @return The registered MBean's name.
+     * @throws JMException If registration failed.
+     */
+    public synchronized ObjectName registerMBean(String name) throws JMException {
+        unregisterMBean();
+
+        ObjectName result = new ObjectName("org.jooq:type=Metrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, result);
+        objectName = result;
+        return result;
+    }
+
+    /**
+     * Unregister these metrics from the platform MBean server, if they were
+     * registered.
+     *
+     * @throws JMException If unregistration failed.
+     */
+    public synchronized void unregisterMBean() throws JMException {
+        if (objectName != null) {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            objectName = null;
+        }
+    }
+
+    @Override
+    public int getTrackedStatements() {
+        return statements.size();
+    }
+
+    @Override
+    public long getExecutions() {
+        long result = other.executions();
+
+        for (StatementMetrics statement : statements.values())
+            result += statement.executions();
+
+        return result;
+    }
+
+    @Override
+    public long getErrors() {
+        long result = other.errors();
+
+        for (StatementMetrics statement : statements.values())
+            result += statement.errors();
+
+        return result;
+    }
+
+    @Override
+    public String[] getStatementSummaries() {
+        List<StatementMetrics> list = statements();
+        String[] result = new String[list.size()];
+
+        for (int i = 0; i < result.length; i++) {
+            StatementMetrics s = list.get(i);
+            Histogram total = s.total();
+
+            result[i] = s.sql()
+                + " | executions=" + s.executions()
+                + ", errors=" + s.errors()
+                + ", rows=" + (s.rowsFetched() + s.rowsAffected())
+                + ", p50=" + micros(total.percentile(50))
+                + ", p99=" + micros(total.percentile(99))
+                + ", max=" + micros(total.max());
+        }
+
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        statements.clear();
+        other.reset();
+    }
+
+    private static String micros(long nanos) {
+        return (nanos / 1000) + "us";
+    }
+
+    // -------------------------------------------------------------------------
+    // Recording
+    // -------------------------------------------------------------------------
+
+    final void record(String sql, MetricsListener listener, long total) {
+        StatementMetrics metrics = metrics(sql == null ? "" : normalise(sql));
+
+        if (listener.render >= 0)
+            metrics.render().record(listener.render);
+        if (listener.prepare >= 0)
+            metrics.prepare().record(listener.prepare);
+        if (listener.bind >= 0)
+            metrics.bind().record(listener.bind);
+        if (listener.execute >= 0)
+            metrics.execute().record(listener.execute);
+        if (listener.fetch >= 0)
+            metrics.fetch().record(listener.fetch);
+        if (listener.error)
+            metrics.error();
+
+        metrics.rowsAffected(listener.rowsAffected);
+        metrics.rowsFetched(listener.rowsFetched, listener.bytesFetched);
+        metrics.total().record(total);
+    }
+
+    private final StatementMetrics metrics(String sql) {
+        StatementMetrics result = statements.get(sql);
+
+        if (result == null) {
+            if (statements.size() >= maxStatements)
+                return other;
+
+            StatementMetrics m = new StatementMetrics(sql);
+            result = statements.putIfAbsent(sql, m);
+
+            if (result == null)
+                result = m;
+        }
+
+        return result;
+    }
+
+    /**
+     * Replace inlined string and numeric literals by <code>?</code>.
+     * <p>
+     * Quoted identifiers and comments are left untouched. If a statement
+     * doesn't contain any literals, the statement itself is returned.
+     */
+    static String normalise(String sql) {
+        StringBuilder result = null;
+        int length = sql.length();
+        int last = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = sql.charAt(i);
+            int end = -1;
+
+            // Quoted identifiers
+            if (c == '"' || c == '`' || c == '[') {
+                int close = sql.indexOf(c == '[' ? ']' : c, i + 1);
+                i = close < 0 ? length : close;
+            }
+
+            // Comments
+            else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                int close = sql.indexOf('\n', i);
+                i = close < 0 ? length : close;
+            }
+            else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int close = sql.indexOf("*/", i + 2);
+                i = close < 0 ? length : close + 1;
+            }
+
+            // String literals, with '' escapes
+            else if (c == '\'') {
+                end = i + 1;
+
+                while (end < length) {
+                    if (sql.charAt(end) == '\'') {
+                        if (end + 1 < length && sql.charAt(end + 1) == '\'')
+                            end += 2;
+                        else
+                            break;
+                    }
+                    else {
+                        end++;
+                    }
+                }
+
+                end = Math.min(end + 1, length);
+            }
+
+            // Numeric literals, which aren't part of identifiers
+            else if (Character.isDigit(c) && (i == 0 || !isIdentifierPart(sql.charAt(i - 1)))) {
+                end = i + 1;
+
+                while (end < length && (Character.isDigit(sql.charAt(end)) || sql.charAt(end) == '.'))
+                    end++;
+            }
+
+            if (end >= 0) {
+                if (result == null)
+                    result = new StringBuilder(length);
+
+                result.append(sql, last, i).append('?');
+                last = end;
+                i = end - 1;
+            }
+        }
+
+        if (result == null)
+            return sql;
+
+        return result.append(sql, last, length).toString();
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '.';
+    }
+
+    @Override
+    public String toString() {
+        return "Metrics [trackedStatements=" + getTrackedStatements() + ", executions=" + getExecutions() + "]";
+    }
+}
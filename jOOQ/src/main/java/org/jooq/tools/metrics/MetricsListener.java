@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.tools.metrics;
+
+import org.jooq.ExecuteContext;
+import org.jooq.Record;
+import org.jooq.impl.DefaultExecuteListener;
+
+/**
+ * The {@link org.jooq.ExecuteListener} that measures a single execution
+ * lifecycle on behalf of {@link Metrics}.
+ *
+ * @author Lukas Eder
+ */
+class MetricsListener extends DefaultExecuteListener {
+
+    /**
+     * Generated UID
+     */
+    private static final long serialVersionUID = -2914206133577339346L;
+
+    private final Metrics     metrics;
+    private final boolean     estimateBytesFetched;
+
+    private long              start;
+    private long              renderStart;
+    private long              prepareStart;
+    private long              bindStart;
+    private long              executeStart;
+    private long              fetchStart;
+
+    long                      render           = -1;
+    long                      prepare          = -1;
+    long                      bind             = -1;
+    long                      execute          = -1;
+    long                      fetch            = -1;
+    int                       rowsAffected;
+    long                      rowsFetched;
+    long                      bytesFetched;
+    boolean                   error;
+
+    MetricsListener(Metrics metrics) {
+        this.metrics = metrics;
+        this.estimateBytesFetched = metrics.estimateBytesFetched();
+    }
+
+    @Override
+    public void start(ExecuteContext ctx) {
+        start = System.nanoTime();
+    }
+
+    @Override
+    public void renderStart(ExecuteContext ctx) {
+        renderStart = System.nanoTime();
+    }
+
+    @Override
+    public void renderEnd(ExecuteContext ctx) {
+        render = add(render, renderStart);
+    }
+
+    @Override
+    public void prepareStart(ExecuteContext ctx) {
+        prepareStart = System.nanoTime();
+    }
+
+    @Override
+    public void prepareEnd(ExecuteContext ctx) {
+        prepare = add(prepare, prepareStart);
+    }
+
+    @Override
+    public void bindStart(ExecuteContext ctx) {
+        bindStart = System.nanoTime();
+    }
+
+    @Override
+    public void bindEnd(ExecuteContext ctx) {
+        bind = add(bind, bindStart);
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void executeEnd(ExecuteContext ctx) {
+        execute = add(execute, executeStart);
+
+        if (ctx.rows() > 0)
+            rowsAffected += ctx.rows();
+    }
+
+    @Override
+    public void fetchStart(ExecuteContext ctx) {
+        fetchStart = System.nanoTime();
+    }
+
+    @Override
+    public void recordEnd(ExecuteContext ctx) {
+        Record record = ctx.record();
+
+        if (record != null) {
+            rowsFetched++;
+
+            if (estimateBytesFetched)
+                estimateBytesFetched(record);
+        }
+    }
+
+    private final void estimateBytesFetched(Record record) {
+        for (int i = 0; i < record.size(); i++) {
+            Object value = record.getValue(i);
+
+            if (value instanceof String)
+                bytesFetched += 2L * ((String) value).length();
+            else if (value instanceof byte[])
+                bytesFetched += ((byte[]) value).length;
+            else if (value != null)
+                bytesFetched += 8;
+        }
+    }
+
+    @Override
+    public void fetchEnd(ExecuteContext ctx) {
+        fetch = add(fetch, fetchStart);
+    }
+
+    @Override
+    public void exception(ExecuteContext ctx) {
+        error = true;
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        String sql = ctx.sql();
+        String[] batchSQL = ctx.batchSQL();
+
+        if (sql == null && batchSQL.length > 0)
+            sql = batchSQL[0];
+
+        metrics.record(sql, this, System.nanoTime() - start);
+    }
+
+    /**
+     * Add the time elapsed since <code>phaseStart</code> to a phase's
+     * duration, which is <code>-1</code> if the phase didn't take place yet.
+     */
+    private static long add(long duration, long phaseStart) {
+        return Math.max(0, duration) + System.nanoTime() - phaseStart;
+    }
+}
@@ -0,0 +1,248 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.tools.metrics;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Execution metrics of a single SQL statement.
+ * <p>
+ * All durations are recorded in nanoseconds. Execution phases that did not
+ * take place, such as fetching for DML statements, are not recorded.
+ *
+ * @author Lukas Eder
+ * @see Metrics
+ */
+public final class StatementMetrics implements Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long serialVersionUID = 4330512766040437232L;
+
+    private final String      sql;
+    private final Histogram   render;
+    private final Histogram   prepare;
+    private final Histogram   bind;
+    private final Histogram   execute;
+    private final Histogram   fetch;
+    private final Histogram   total;
+    private final AtomicLong  errors;
+    private final AtomicLong  rowsAffected;
+    private final AtomicLong  rowsFetched;
+    private final AtomicLong  bytesFetched;
+
+    StatementMetrics(String sql) {
+        this(sql, new Histogram(), new Histogram(), new Histogram(), new Histogram(), new Histogram(), new Histogram(),
+             new AtomicLong(), new AtomicLong(), new AtomicLong(), new AtomicLong());
+    }
+
+    private StatementMetrics(
+        String sql,
+        Histogram render,
+        Histogram prepare,
+        Histogram bind,
+        Histogram execute,
+        Histogram fetch,
+        Histogram total,
+        AtomicLong errors,
+        AtomicLong rowsAffected,
+        AtomicLong rowsFetched,
+        AtomicLong bytesFetched) {
+
+        this.sql = sql;
+        this.render = render;
+        this.prepare = prepare;
+        this.bind = bind;
+        this.execute = execute;
+        this.fetch = fetch;
+        this.total = total;
+        this.errors = errors;
+        this.rowsAffected = rowsAffected;
+        this.rowsFetched = rowsFetched;
+        this.bytesFetched = bytesFetched;
+    }
+
+    /**
+     * The normalised SQL statement.
+     */
+    public String sql() {
+        return sql;
+    }
+
+    /**
+     * The number of executions.
+     */
+    public long executions() {
+        return total.count();
+    }
+
+    /**
+     * The number of executions that failed with an exception.
+     */
+    public long errors() {
+        return errors.get();
+    }
+
+    /**
+     * The total number of rows affected by DML statements.
+     */
+    public long rowsAffected() {
+        return rowsAffected.get();
+    }
+
+    /**
+     * The total number of fetched rows.
+     */
+    public long rowsFetched() {
+        return rowsFetched.get();
+    }
+
+    /**
+     * An estimation of the total number of fetched bytes, based on the fetched
+     * values' in-memory representation.
+     * <p>
+     * This is <code>0</code> unless enabled through
+     * {@link Metrics#withBytesFetchedEstimation(boolean)}.
+     */
+    public long bytesFetched() {
+        return bytesFetched.get();
+    }
+
+    /**
+     * Time spent rendering SQL.
+     */
+    public Histogram render() {
+        return render;
+    }
+
+    /**
+     * Time spent preparing JDBC statements.
+     */
+    public Histogram prepare() {
+        return prepare;
+    }
+
+    /**
+     * Time spent binding variables.
+     */
+    public Histogram bind() {
+        return bind;
+    }
+
+    /**
+     * Time spent executing statements.
+     */
+    public Histogram execute() {
+        return execute;
+    }
+
+    /**
+     * Time spent fetching results.
+     */
+    public Histogram fetch() {
+        return fetch;
+    }
+
+    /**
+     * Time spent in the whole execution lifecycle.
+     */
+    public Histogram total() {
+        return total;
+    }
+
+    /**
+     * Create a copy of these metrics' current state.
+     */
+    public StatementMetrics snapshot() {
+        return new StatementMetrics(
+            sql,
+            render.snapshot(),
+            prepare.snapshot(),
+            bind.snapshot(),
+            execute.snapshot(),
+            fetch.snapshot(),
+            total.snapshot(),
+            new AtomicLong(errors.get()),
+            new AtomicLong(rowsAffected.get()),
+            new AtomicLong(rowsFetched.get()),
+            new AtomicLong(bytesFetched.get()));
+    }
+
+    final void error() {
+        errors.incrementAndGet();
+    }
+
+    final void rowsAffected(int rows) {
+        if (rows > 0)
+            rowsAffected.addAndGet(rows);
+    }
+
+    final void rowsFetched(long rows, long bytes) {
+        rowsFetched.addAndGet(rows);
+        bytesFetched.addAndGet(bytes);
+    }
+
+    final void reset() {
+        render.reset();
+        prepare.reset();
+        bind.reset();
+        execute.reset();
+        fetch.reset();
+        total.reset();
+        errors.set(0);
+        rowsAffected.set(0);
+        rowsFetched.set(0);
+        bytesFetched.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "StatementMetrics [sql=" + sql
+            + ", executions=" + executions()
+            + ", errors=" + errors()
+            + ", rowsAffected=" + rowsAffected()
+            + ", rowsFetched=" + rowsFetched()
+            + ", bytesFetched=" + bytesFetched()
+            + ", total=" + total + "]";
+    }
+}
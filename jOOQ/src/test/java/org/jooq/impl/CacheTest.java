@@ -0,0 +1,330 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jooq.Configuration;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Record2;
+import org.jooq.SQLDialect;
+import org.jooq.VisitContext;
+import org.jooq.conf.Settings;
+import org.jooq.impl.Utils.Cache;
+import org.jooq.impl.Utils.Cache.CachedOperation;
+
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class CacheTest {
+
+    @Test
+    public void testHitsAndMisses() {
+        Cache cache = new Cache();
+        Counter counter = new Counter();
+
+        assertEquals(1, cache.get(counter, String.class, "a"));
+        assertEquals(1, cache.get(counter, String.class, "a"));
+        assertEquals(2, cache.get(counter, String.class, "b"));
+        assertEquals(2, cache.get(counter, String.class, "b"));
+        assertEquals(1, cache.get(counter, String.class, "a"));
+
+        assertEquals(2, counter.calls);
+        assertEquals(2L, cache.misses());
+        assertEquals(3L, cache.hits());
+        assertEquals(2, cache.size());
+
+        cache.clear();
+        assertEquals(0L, cache.misses());
+        assertEquals(0L, cache.hits());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testEviction() {
+        Cache cache = new Cache(8);
+        Counter counter = new Counter();
+
+        for (int i = 0; i < 8; i++)
+            cache.get(counter, i);
+
+        assertEquals(8, cache.size());
+        assertEquals(0L, cache.evictions());
+
+        cache.get(counter, 8);
+        assertTrue(cache.size() <= 6);
+        assertEquals(9 - cache.size(), cache.evictions());
+
+        // Evicted values are computed again
+        for (int i = 0; i <= 8; i++)
+            cache.get(counter, i);
+
+        assertTrue(counter.calls > 9);
+    }
+
+    @Test
+    public void testProcessWideCachesDontPinApplicationClasses() {
+        ClassLoader application = new URLClassLoader(new URL[0], Cache.class.getClassLoader());
+        Class<?> type = Proxy.getProxyClass(application, Runnable.class);
+
+        assertTrue(Cache.cacheSafe(String.class, "a"));
+        assertTrue(Cache.cacheSafe(Cache.class, "a"));
+        assertFalse(Cache.cacheSafe(type, "a"));
+
+        Cache cache = Cache.cache(null, Utils.DATA_REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS);
+        int size = cache.size();
+        Counter counter = new Counter();
+
+        Cache.run(null, counter, Utils.DATA_REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS, type);
+        Cache.run(null, counter, Utils.DATA_REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS, type);
+        assertEquals(2, counter.calls);
+        assertEquals(size, cache.size());
+
+        // Configurations can cache application classes
+        Configuration configuration = new DefaultConfiguration();
+        Cache.run(configuration, counter, Utils.DATA_REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS, type);
+        Cache.run(configuration, counter, Utils.DATA_REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS, type);
+        assertEquals(3, counter.calls);
+        assertEquals(1, ReflectionCache.of(configuration).size());
+    }
+
+    @Test
+    public void testReflectionCacheStatistics() {
+        Configuration configuration = new DefaultConfiguration().set(SQLDialect.H2);
+        Record2<Integer, String> record = DSL.using(configuration).newRecord(
+            field("ID", Integer.class),
+            field("NAME", String.class));
+        record.setValue(field("ID", Integer.class), 1);
+        record.setValue(field("NAME", String.class), "a");
+
+        ReflectionCache statistics = ReflectionCache.of(configuration);
+        assertEquals(0L, statistics.misses());
+
+        assertEquals("a", record.into(Pojo.class).name);
+        long misses = statistics.misses();
+        long hits = statistics.hits();
+        assertTrue(misses > 0L);
+
+        assertEquals("a", record.into(Pojo.class).name);
+        assertEquals(misses, statistics.misses());
+        assertTrue(statistics.hits() > hits);
+        assertTrue(statistics.size() > 0);
+
+        statistics.clear();
+        assertEquals(0L, statistics.hits());
+        assertEquals(0, statistics.size());
+
+        // Nothing is cached when reflection caching is turned off
+        configuration.set(new Settings().withReflectionCaching(false));
+        record.into(Pojo.class);
+        assertEquals(0L, statistics.misses());
+        assertEquals(0, statistics.size());
+    }
+
+    @Test
+    public void testListenerSubscriptions() {
+        ExecuteListener listener = new DefaultExecuteListener() {
+            @Override
+            public void executeStart(ExecuteContext ctx) {}
+
+            @Override
+            public void recordEnd(ExecuteContext ctx) {}
+        };
+
+        assertEquals(
+            new HashSet<String>(Arrays.asList("executeStart", "recordEnd")),
+            Utils.subscriptions(listener, DefaultExecuteListener.class, ExecuteContext.class));
+        assertTrue(Utils.subscribes(listener, DefaultExecuteListener.class, "recordEnd", ExecuteContext.class));
+        assertFalse(Utils.subscribes(listener, DefaultExecuteListener.class, "recordStart", ExecuteContext.class));
+
+        // Subscriptions are computed once per listener type
+        assertTrue(
+            Utils.subscriptions(listener, DefaultExecuteListener.class, ExecuteContext.class) ==
+            Utils.subscriptions(listener, DefaultExecuteListener.class, ExecuteContext.class));
+
+        // Other listeners subscribe to all events
+        assertTrue(Utils.subscribes(listener, DefaultVisitListener.class, "visitStart", VisitContext.class));
+    }
+
+    @Test
+    public void testListenerSubscriptionsDontPinListenerTypes() throws Exception {
+        ClassLoader application = new ApplicationClassLoader();
+        Class<?> type = application.loadClass(Listener.class.getName());
+        assertTrue(type != Listener.class);
+
+        Object listener = type.newInstance();
+        assertEquals(
+            new HashSet<String>(Arrays.asList("end")),
+            Utils.subscriptions(listener, DefaultExecuteListener.class, ExecuteContext.class));
+
+        WeakReference<Class<?>> ref = new WeakReference<Class<?>>(type);
+        application = null;
+        type = null;
+        listener = null;
+
+        for (int i = 0; i < 100 && ref.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(ref.get());
+    }
+
+    @Test
+    public void testConcurrentListenerSubscriptions() throws Exception {
+        final ExecuteListener listener = new DefaultExecuteListener() {
+            @Override
+            public void fetchEnd(ExecuteContext ctx) {}
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Set<String>>> futures = new ArrayList<Future<Set<String>>>();
+
+        try {
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(new Callable<Set<String>>() {
+                    @Override
+                    public Set<String> call() {
+                        return Utils.subscriptions(listener, DefaultExecuteListener.class, ExecuteContext.class);
+                    }
+                }));
+            }
+
+            for (Future<Set<String>> future : futures)
+                assertEquals(new HashSet<String>(Arrays.asList("fetchEnd")), future.get());
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    public static class Listener extends DefaultExecuteListener {
+
+        /**
+         * Generated UID
+         */
+        private static final long serialVersionUID = 6396366985385036312L;
+
+        @Override
+        public void end(ExecuteContext ctx) {}
+    }
+
+    /**
+     * A class loader that loads {@link Listener} itself, like an application
+     * deployed in a child class loader.
+     */
+    static class ApplicationClassLoader extends ClassLoader {
+
+        ApplicationClassLoader() {
+            super(CacheTest.class.getClassLoader());
+        }
+
+        @Override
+        protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(Listener.class.getName()))
+                return super.loadClass(name, resolve);
+
+            Class<?> result = findLoadedClass(name);
+
+            if (result == null) {
+                try {
+                    InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class");
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    byte[] buffer = new byte[4096];
+
+                    try {
+                        for (int read; (read = in.read(buffer)) > 0;)
+                            out.write(buffer, 0, read);
+                    }
+                    finally {
+                        in.close();
+                    }
+
+                    byte[] bytes = out.toByteArray();
+                    result = defineClass(name, bytes, 0, bytes.length);
+                }
+                catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+
+            return result;
+        }
+    }
+
+    public static class Pojo {
+        public Integer id;
+        public String  name;
+    }
+
+    static class Counter implements CachedOperation<Integer> {
+        int calls;
+
+        @Override
+        public Integer call() {
+            return ++calls;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import static java.util.Arrays.asList;
+import static org.jooq.test.data.Table1.FIELD_ID1;
+import static org.jooq.test.data.Table1.FIELD_NAME1;
+import static org.jooq.test.data.Table1.TABLE1;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.jooq.Loader;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.test.data.Table1Record;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class JSONReaderTest {
+
+    @Test
+    public void testJSON() throws Exception {
+        DSLContext e = DSL.using(SQLDialect.H2);
+        Result<Table1Record> result = e.newResult(TABLE1);
+
+        for (int i = 1; i <= 3; i++) {
+            Table1Record record = e.newRecord(TABLE1);
+            record.setValue(FIELD_ID1, i);
+            record.setValue(FIELD_NAME1, i == 2 ? null : "name" + i);
+            result.add(record);
+        }
+
+        // formatJSON() output is read back record by record
+        Result<Record> read = e.fetchFromJSON(result.formatJSON());
+        assertEquals(3, read.size());
+        assertEquals("ID1", read.field(0).getName());
+        assertEquals(asList((Object) "1", "name1"), asList(read.get(0).intoArray()).subList(0, 2));
+        assertEquals(asList((Object) "2", null), asList(read.get(1).intoArray()).subList(0, 2));
+
+        // Records may precede fields
+        read = e.fetchFromJSON("{\"records\":[[1,true],[2.5,\"x\"]],\"fields\":[{\"name\":\"A\"},{\"name\":\"B\"}]}");
+        assertEquals(asList((Object) "1", "true"), asList(read.get(0).intoArray()));
+        assertEquals(asList((Object) "2.5", "x"), asList(read.get(1).intoArray()));
+
+        // JSON numbers are loaded without an intermediary string
+        Bindings data = new Bindings();
+        Loader<Table1Record> loader = DSL.using(new MockConnection(data), SQLDialect.H2)
+            .loadInto(TABLE1)
+            .batchAfter(3)
+            .loadJSON(result.formatJSON())
+            .fields(FIELD_ID1, FIELD_NAME1)
+            .execute();
+
+        assertEquals(3, loader.stored());
+        assertEquals(asList(asList((Object) 1, "name1"), asList((Object) 2, null), asList((Object) 3, "name3")), data.bindings);
+    }
+
+    /**
+     * A data provider recording the bind values of batch inserts.
+     */
+    static class Bindings implements MockDataProvider {
+        final List<List<Object>> bindings = new ArrayList<List<Object>>();
+
+        @Override
+        public MockResult[] execute(MockExecuteContext ctx) {
+            MockResult[] result = new MockResult[ctx.batchBindings().length];
+
+            for (int i = 0; i < result.length; i++) {
+                bindings.add(asList(ctx.batchBindings()[i]));
+                result[i] = new MockResult(1, null);
+            }
+
+            return result;
+        }
+    }
+}
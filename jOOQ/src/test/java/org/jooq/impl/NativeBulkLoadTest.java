@@ -0,0 +1,396 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import static java.util.Arrays.asList;
+import static org.jooq.test.data.Table5.FIELD_ID5;
+import static org.jooq.test.data.Table5.FIELD_NAME5;
+import static org.jooq.test.data.Table5.TABLE5;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.jooq.Field;
+import org.jooq.Loader;
+import org.jooq.LoaderOptionsStep;
+import org.jooq.SQLDialect;
+import org.jooq.test.data.Table5Record;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class NativeBulkLoadTest {
+
+    private static final String DATA = "ID5,NAME5\n1,a\n2,b\n3,c\n4,d\n5,e\n";
+
+    @Test
+    public void testPostgresEncoding() throws IOException {
+        assertEquals(
+            "\"1\",\"a\"\n" +
+            "\"2\",\"a\"\"b\"\n" +
+            "\"3\",\"a\\b,c\"\n" +
+            "\"4\",\n" +
+            "\"5\",\"\"\n",
+            read(NativeBulkLoad.of(SQLDialect.POSTGRES), "{null}", Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testMySQLEncoding() throws IOException {
+        assertEquals(
+            "\"1\",\"a\"\n" +
+            "\"2\",\"a\\\"b\"\n" +
+            "\"3\",\"a\\\\b,c\"\n" +
+            "\"4\",\\N\n" +
+            "\"5\",\"\"\n",
+            read(NativeBulkLoad.of(SQLDialect.MYSQL), "{null}", Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testNullString() throws IOException {
+
+        // Without a null string, only actual null values are encoded as NULL
+        assertEquals(
+            "\"1\",\"a\"\n" +
+            "\"2\",\"a\\\"b\"\n" +
+            "\"3\",\"a\\\\b,c\"\n" +
+            "\"4\",\"{null}\"\n" +
+            "\"5\",\"\"\n",
+            read(NativeBulkLoad.of(SQLDialect.MYSQL), null, Integer.MAX_VALUE));
+
+        // The empty string may be the null string, too
+        assertEquals(
+            "\"1\",\"a\"\n" +
+            "\"2\",\"a\\\"b\"\n" +
+            "\"3\",\"a\\\\b,c\"\n" +
+            "\"4\",\"{null}\"\n" +
+            "\"5\",\\N\n",
+            read(NativeBulkLoad.of(SQLDialect.MYSQL), "", Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testRowsLimit() throws IOException {
+        NativeBulkLoad load = NativeBulkLoad.of(SQLDialect.POSTGRES);
+        Iterator<Object[]> reader = rows().iterator();
+        Field<?>[] fields = { FIELD_ID5, FIELD_NAME5, null };
+
+        NativeBulkLoad.Rows rows = load.rows(reader, fields, null, 2, 0);
+        assertEquals("\"1\",\"a\"\n\"2\",\"a\"\"b\"\n", string(rows));
+        assertEquals(asList(1, "a", "ignored"), asList(rows.first()));
+        assertEquals(2, rows.rows());
+        assertTrue(!rows.exhausted());
+
+        rows = load.rows(reader, fields, null, 2, 2);
+        assertEquals("\"3\",\"a\\b,c\"\n\"4\",\"{null}\"\n", string(rows));
+        assertEquals(2, rows.firstIndex());
+        assertTrue(!rows.exhausted());
+
+        rows = load.rows(reader, fields, null, 2, 4);
+        assertEquals("\"5\",\"\"\n", string(rows));
+        assertEquals(1, rows.rows());
+        assertTrue(rows.exhausted());
+
+        rows = load.rows(reader, fields, null, 2, 5);
+        assertEquals(null, rows.first());
+        assertEquals("", string(rows));
+    }
+
+    @Test
+    public void testCommitAfter() throws IOException {
+        BulkConnection connection = new BulkConnection();
+        Loader<Table5Record> loader = loader(connection, SQLDialect.POSTGRES).commitAfter(2)
+            .loadCSV(DATA).fields(FIELD_ID5, FIELD_NAME5).execute();
+
+        assertEquals(asList("\"1\",\"a\"\n\"2\",\"b\"\n", "\"3\",\"c\"\n\"4\",\"d\"\n", "\"5\",\"e\"\n"), connection.loads);
+        assertEquals(asList("copy \"TABLE5\" (\"ID5\", \"NAME5\") from stdin with csv"), new ArrayList<String>(new HashSet<String>(connection.sql)));
+        assertEquals(3, connection.commits);
+        assertEquals(0, connection.fallback.inserts);
+        assertEquals(0, loader.errors().size());
+        assertEquals(5, loader.processed());
+        assertEquals(5, loader.stored());
+        assertEquals(0, loader.ignored());
+
+        // Rows can be loaded in a single chunk, too
+        connection = new BulkConnection();
+        loader = loader(connection, SQLDialect.POSTGRES).commitAll()
+            .loadCSV(DATA).fields(FIELD_ID5, FIELD_NAME5).execute();
+
+        assertEquals(1, connection.loads.size());
+        assertEquals(1, connection.commits);
+        assertEquals(5, loader.stored());
+    }
+
+    @Test
+    public void testDuplicates() throws IOException {
+
+        // Skipped duplicates are errors, unless they are ignored explicitly
+        BulkConnection connection = new BulkConnection();
+        connection.duplicates.add("\"3\",\"c\"");
+        Loader<Table5Record> loader = loader(connection, SQLDialect.MYSQL).commitAfter(2)
+            .loadCSV(DATA).fields(FIELD_ID5, FIELD_NAME5).execute();
+
+        assertEquals(2, connection.loads.size());
+        assertEquals(1, loader.errors().size());
+        assertTrue(loader.errors().get(0).exception().getMessage().contains("1 rows could not be loaded"));
+        assertEquals(2, loader.errors().get(0).rowIndex());
+        assertEquals(asList("3", "c"), asList(loader.errors().get(0).row()));
+        assertEquals(4, loader.processed());
+        assertEquals(3, loader.stored());
+        assertEquals(1, loader.ignored());
+
+        connection = new BulkConnection();
+        connection.duplicates.add("\"3\",\"c\"");
+        loader = loader(connection, SQLDialect.MYSQL).onDuplicateKeyIgnore().commitAfter(2)
+            .loadCSV(DATA).fields(FIELD_ID5, FIELD_NAME5).execute();
+
+        assertEquals(3, connection.loads.size());
+        assertTrue(connection.sql.get(0).contains(" ignore into table "));
+        assertEquals(0, loader.errors().size());
+        assertEquals(5, loader.processed());
+        assertEquals(4, loader.stored());
+        assertEquals(1, loader.ignored());
+    }
+
+    @Test
+    public void testErrors() throws IOException {
+
+        // A failing chunk aborts loading
+        BulkConnection connection = new BulkConnection();
+        connection.fail = 2;
+        Loader<Table5Record> loader = loader(connection, SQLDialect.POSTGRES).commitAfter(2)
+            .loadCSV(DATA).fields(FIELD_ID5, FIELD_NAME5).execute();
+
+        assertEquals(2, connection.loads.size());
+        assertEquals(1, connection.commits);
+        assertEquals(1, loader.errors().size());
+        assertEquals(2, loader.errors().get(0).rowIndex());
+        assertEquals(4, loader.processed());
+        assertEquals(2, loader.stored());
+        assertEquals(2, loader.ignored());
+    }
+
+    @Test
+    public void testFallback() throws IOException {
+
+        // Individual erroneous rows cannot be skipped natively
+        BulkConnection c1 = new BulkConnection();
+        assertFallback(c1, loader(c1, SQLDialect.POSTGRES).onErrorIgnore());
+        BulkConnection c2 = new BulkConnection();
+        assertFallback(c2, loader(c2, SQLDialect.MYSQL).onErrorIgnore());
+
+        // Existing records cannot be updated natively
+        BulkConnection c3 = new BulkConnection();
+        assertFallback(c3, loader(c3, SQLDialect.MYSQL).onDuplicateKeyUpdate());
+
+        // PostgreSQL's COPY cannot skip duplicate records
+        BulkConnection c4 = new BulkConnection();
+        assertFallback(c4, loader(c4, SQLDialect.POSTGRES).onDuplicateKeyIgnore());
+
+        // H2 has no native bulk loading protocol, regardless of the driver
+        BulkConnection c5 = new BulkConnection();
+        assertFallback(c5, loader(c5, SQLDialect.H2));
+    }
+
+    private void assertFallback(BulkConnection connection, LoaderOptionsStep<Table5Record> step) throws IOException {
+        Loader<Table5Record> loader = step.loadCSV(DATA).fields(FIELD_ID5, FIELD_NAME5).execute();
+
+        assertEquals(0, connection.loads.size());
+        assertEquals(5, connection.fallback.inserts);
+        assertEquals(0, loader.errors().size());
+        assertEquals(5, loader.processed());
+    }
+
+    private static LoaderOptionsStep<Table5Record> loader(BulkConnection connection, SQLDialect dialect) {
+        return DSL.using(connection, dialect).loadInto(TABLE5).nativeBulkLoad();
+    }
+
+    private static List<Object[]> rows() {
+        List<Object[]> result = new ArrayList<Object[]>();
+
+        result.add(new Object[] { 1, "a", "ignored" });
+        result.add(new Object[] { 2, "a\"b" });
+        result.add(new Object[] { 3, "a\\b,c" });
+        result.add(new Object[] { 4, "{null}" });
+        result.add(new Object[] { 5, "" });
+
+        return result;
+    }
+
+    private static String read(NativeBulkLoad load, String nullString, int limit) throws IOException {
+        Field<?>[] fields = { FIELD_ID5, FIELD_NAME5, null };
+        return string(load.rows(rows().iterator(), fields, nullString, limit, 0));
+    }
+
+    private static String string(InputStream stream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[3];
+
+        for (int read; (read = stream.read(buffer)) != -1;)
+            out.write(buffer, 0, read);
+
+        return out.toString("UTF-8");
+    }
+
+    /**
+     * A connection supporting the PostgreSQL and MySQL native bulk loading
+     * protocols.
+     */
+    public static class BulkConnection extends MockConnection implements org.postgresql.PGConnection, com.mysql.jdbc.Connection {
+        final Fallback     fallback;
+        final List<String> sql        = new ArrayList<String>();
+        final List<String> loads      = new ArrayList<String>();
+        final Set<String>  duplicates = new HashSet<String>();
+        int                fail       = -1;
+        int                commits;
+
+        BulkConnection() {
+            this(new Fallback());
+        }
+
+        private BulkConnection(Fallback fallback) {
+            super(fallback);
+            this.fallback = fallback;
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) {
+            return iface.isInstance(this);
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) {
+            return iface.cast(this);
+        }
+
+        @Override
+        public void commit() {
+            commits++;
+        }
+
+        @Override
+        public Object getCopyAPI() {
+            return this;
+        }
+
+        public long copyIn(String s, InputStream data) throws SQLException, IOException {
+            return load(s, data);
+        }
+
+        @Override
+        public java.sql.Statement createStatement() {
+            return (java.sql.Statement) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class[] { com.mysql.jdbc.Statement.class },
+                new InvocationHandler() {
+                    InputStream data;
+
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        if (method.getName().equals("setLocalInfileInputStream"))
+                            data = (InputStream) args[0];
+                        else if (method.getName().equals("unwrap"))
+                            return proxy;
+                        else if (method.getName().equals("executeUpdate"))
+                            return (int) load((String) args[0], data);
+
+                        return null;
+                    }
+                });
+        }
+
+        final long load(String s, InputStream data) throws SQLException, IOException {
+            String content = string(data);
+
+            sql.add(s);
+            loads.add(content);
+
+            if (loads.size() == fail)
+                throw new SQLException("Expected");
+
+            long result = 0;
+            for (String line : content.split("\n"))
+                if (!duplicates.contains(line))
+                    result++;
+
+            return result;
+        }
+    }
+
+    /**
+     * A data provider for rows that are not loaded natively.
+     */
+    static class Fallback implements MockDataProvider {
+        int inserts;
+
+        @Override
+        public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+            if (ctx.sql().startsWith("select"))
+                return new MockResult[] { new MockResult(0, DSL.using(SQLDialect.H2).newResult(TABLE5)) };
+
+            assertTrue(ctx.sql().startsWith("insert into"));
+            int rows = Math.max(1, ctx.batchBindings().length);
+            inserts += rows;
+
+            MockResult[] result = new MockResult[rows];
+            for (int i = 0; i < rows; i++)
+                result[i] = new MockResult(1, null);
+
+            return result;
+        }
+    }
+}
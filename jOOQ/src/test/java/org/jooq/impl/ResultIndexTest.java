@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import static java.util.Arrays.asList;
+import static org.jooq.test.data.Table1.FIELD_ID1;
+import static org.jooq.test.data.Table1.FIELD_NAME1;
+import static org.jooq.test.data.Table1.TABLE1;
+import static org.jooq.test.data.Table2.FIELD_ID2;
+import static org.jooq.test.data.Table2.FIELD_NAME2;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Record2;
+import org.jooq.Result;
+import org.jooq.ResultIndex;
+import org.jooq.SQLDialect;
+import org.jooq.exception.InvalidResultException;
+import org.jooq.test.data.Table1Record;
+
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class ResultIndexTest {
+
+    private static final DSLContext CREATE = DSL.using(SQLDialect.H2);
+
+    @Test
+    public void testResultIndex() {
+        Result<Table1Record> r1 = CREATE.newResult(TABLE1);
+        r1.add(table1(1, "a"));
+        r1.add(table1(2, "b"));
+        r1.add(table1(1, "c"));
+        r1.add(table1(null, "d"));
+
+        ResultIndex<Table1Record> byId = r1.intoIndex(FIELD_ID1);
+        assertEquals(3, byId.size());
+        assertEquals(asList("a", "c"), byId.get(1).getValues(FIELD_NAME1));
+        assertEquals(asList("a", "c"), byId.get(1L).getValues(FIELD_NAME1));
+        assertEquals(asList("b"), byId.get("2").getValues(FIELD_NAME1));
+        assertEquals(asList("d"), byId.get((Object) null).getValues(FIELD_NAME1));
+        assertTrue(byId.get(5).isEmpty());
+        assertTrue(byId.contains(2));
+        assertFalse(byId.contains(5));
+
+        ResultIndex<Table1Record> byIdName = r1.intoIndex(FIELD_ID1, FIELD_NAME1);
+        assertEquals(4, byIdName.size());
+        assertEquals(1, byIdName.get(1, "c").size());
+        assertTrue(byIdName.get(1, "b").isEmpty());
+        assertEquals(r1.intoGroups(new Field[] { FIELD_ID1, FIELD_NAME1 }), byIdName.intoGroups());
+
+        Map<Record, Result<Table1Record>> groups = r1.intoGroups(new Field[] { FIELD_ID1 });
+        assertEquals(3, groups.size());
+        assertEquals(2, groups.values().iterator().next().size());
+
+        try {
+            r1.intoMap(new Field[] { FIELD_ID1 });
+            fail();
+        }
+        catch (InvalidResultException expected) {}
+
+        Result<Record2<Integer, String>> r2 = CREATE.newResult(FIELD_ID2, FIELD_NAME2);
+        r2.add(CREATE.newRecord(FIELD_ID2, FIELD_NAME2));
+        r2.add(CREATE.newRecord(FIELD_ID2, FIELD_NAME2));
+        r2.get(0).setValue(FIELD_ID2, 1);
+        r2.get(0).setValue(FIELD_NAME2, "x");
+        r2.get(1).setValue(FIELD_ID2, 3);
+        r2.get(1).setValue(FIELD_NAME2, "y");
+
+        Result<Record> joined = byId.join(r2, FIELD_ID2);
+        assertEquals(5, joined.fields().length);
+        assertEquals(2, joined.size());
+        assertEquals(asList("x", "x"), joined.getValues(FIELD_NAME2));
+        assertEquals(asList("a", "c"), joined.getValues(FIELD_NAME1));
+    }
+
+    @Test
+    public void testResultIndexAfterModifications() {
+        Result<Table1Record> r1 = CREATE.newResult(TABLE1);
+        r1.add(table1(1, "a"));
+        r1.add(table1(2, "b"));
+        r1.add(table1(1, "c"));
+
+        ResultIndex<Table1Record> byId = r1.intoIndex(FIELD_ID1);
+        ResultIndex<Table1Record> byName = r1.intoIndex(FIELD_NAME1);
+
+        // Sorting, removing, replacing and changing records doesn't affect
+        // the index
+        r1.sortDesc(FIELD_NAME1);
+        r1.remove(0);
+        r1.set(0, table1(3, "x"));
+        r1.get(1).setValue(FIELD_ID1, 4);
+        r1.get(1).setValue(FIELD_NAME1, "y");
+
+        assertEquals(2, byId.size());
+        assertEquals(asList("y", "c"), byId.get(1).getValues(FIELD_NAME1));
+        assertEquals(asList("b"), byId.get(2).getValues(FIELD_NAME1));
+        assertTrue(byId.get(3).isEmpty());
+        assertTrue(byId.get(4).isEmpty());
+
+        List<Object> keys = new ArrayList<Object>();
+        for (Record key : byId.intoGroups().keySet())
+            keys.add(key.getValue(0));
+
+        assertEquals(asList((Object) 1, 2), keys);
+
+        assertEquals(asList(4), byName.get("a").getValues(FIELD_ID1));
+        assertTrue(byName.get("y").isEmpty());
+
+        Result<Record2<Integer, String>> r2 = CREATE.newResult(FIELD_ID2, FIELD_NAME2);
+        r2.add(CREATE.newRecord(FIELD_ID2, FIELD_NAME2));
+        r2.get(0).setValue(FIELD_ID2, 1);
+        r2.get(0).setValue(FIELD_NAME2, "z");
+
+        Result<Record> joined = byId.join(r2, FIELD_ID2);
+        assertEquals(asList("y", "c"), joined.getValues(FIELD_NAME1));
+    }
+
+    private static Table1Record table1(Integer id, String name) {
+        Table1Record record = CREATE.newRecord(TABLE1);
+        record.setValue(FIELD_ID1, id);
+        record.setValue(FIELD_NAME1, name);
+        return record;
+    }
+}
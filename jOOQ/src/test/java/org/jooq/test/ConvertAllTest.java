@@ -40,9 +40,12 @@
  */
 package org.jooq.test;
 
+import static java.util.Arrays.asList;
+import static org.jooq.impl.DSL.field;
 import static org.jooq.tools.reflect.Reflect.wrapper;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
@@ -50,8 +53,21 @@ import java.math.BigInteger;
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.Locale;
 
+import org.jooq.Configuration;
+import org.jooq.Converter;
+import org.jooq.Field;
+import org.jooq.Record1;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.exception.DataTypeException;
+import org.jooq.impl.ConverterRegistry;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
 import org.jooq.tools.Convert;
+import org.jooq.types.DayToSecond;
+import org.jooq.types.YearToMonth;
 
 import org.junit.Test;
 
@@ -259,6 +275,91 @@ public class ConvertAllTest extends AbstractTest {
         testConversion(null, new Timestamp(0), BigDecimal.class);
     }
 
+    @Test
+    public void testToEnum() {
+        testConversion(null, null, SQLDialect.class);
+        testConversion(SQLDialect.H2, "H2", SQLDialect.class);
+        testConversion(null, "XX", SQLDialect.class);
+    }
+
+    @Test
+    public void testToInterval() {
+        testConversion(null, null, YearToMonth.class);
+        testConversion(new YearToMonth(1, 2), "1-2", YearToMonth.class);
+        testConversion(null, "xmf", YearToMonth.class);
+        testConversion(null, null, DayToSecond.class);
+        testConversion(new DayToSecond(1, 2, 3, 4), "1 2:3:4", DayToSecond.class);
+        testConversion(null, "xmf", DayToSecond.class);
+    }
+
+    @Test
+    public void testRegisteredConverter() {
+        Converter<String, Locale> converter = new Converter<String, Locale>() {
+            @Override
+            public Locale from(String databaseObject) {
+                return new Locale(databaseObject);
+            }
+
+            @Override
+            public String to(Locale userObject) {
+                return userObject.getLanguage();
+            }
+
+            @Override
+            public Class<String> fromType() {
+                return String.class;
+            }
+
+            @Override
+            public Class<Locale> toType() {
+                return Locale.class;
+            }
+        };
+
+        Configuration configuration = new DefaultConfiguration();
+        Field<String> field = field("x", String.class);
+        Result<Record1<String>> result = DSL.using(configuration).newResult(field);
+        Record1<String> record = DSL.using(configuration).newRecord(field);
+        record.setValue(field, "de");
+        result.add(record);
+
+        try {
+            record.getValue(field, Locale.class);
+            fail();
+        }
+        catch (DataTypeException expected) {}
+
+        // Converters apply to values of their configuration only
+        ConverterRegistry.of(configuration).register(converter);
+        assertEquals(Locale.GERMAN, ConverterRegistry.of(configuration).convert("de", Locale.class));
+        assertEquals(Locale.GERMAN, record.getValue(field, Locale.class));
+        assertEquals(asList(Locale.GERMAN), result.getValues(field, Locale.class));
+        assertEquals(asList(Locale.GERMAN), asList(result.intoArray(field, Locale.class)));
+
+        try {
+            Convert.convert("de", Locale.class);
+            fail();
+        }
+        catch (DataTypeException expected) {}
+
+        Record1<String> other = DSL.using(new DefaultConfiguration()).newRecord(field);
+        other.setValue(field, "de");
+
+        try {
+            other.getValue(field, Locale.class);
+            fail();
+        }
+        catch (DataTypeException expected) {}
+
+        ConverterRegistry.of(configuration).unregister(converter);
+
+        try {
+            record.getValue(field, Locale.class);
+            fail();
+        }
+        catch (DataTypeException expected) {}
+    }
+
     @SuppressWarnings("unchecked")
     private static <T, U> void testConversion(U expected, T from, Class<U> toClass) {
         if (from != null) {
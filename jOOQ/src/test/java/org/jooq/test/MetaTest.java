@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.test;
+
+import static java.util.Arrays.asList;
+import static org.jooq.impl.DSL.field;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockResultSet;
+
+import org.jmock.Expectations;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link DSLContext#meta()}
+ *
+ * @author Lukas Eder
+ */
+public class MetaTest extends AbstractTest {
+
+    @Test
+    public void testColumnsOfMySQLSchema() throws Exception {
+
+        // MySQL JDBC reports schemas as catalogs
+        List<Table<?>> tables = tables(SQLDialect.MYSQL, "db", null);
+
+        assertEquals(2, tables.size());
+        assertEquals("T1", tables.get(0).getName());
+        assertEquals(asList("ID", "NAME"), names(tables.get(0).fields()));
+        assertEquals(Integer.class, tables.get(0).field("ID").getType());
+        assertEquals("T2", tables.get(1).getName());
+        assertEquals(0, tables.get(1).fields().length);
+        context.assertIsSatisfied();
+    }
+
+    @Test
+    public void testColumnsOfH2Schema() throws Exception {
+        List<Table<?>> tables = tables(SQLDialect.H2, null, "PUBLIC");
+
+        assertEquals(2, tables.size());
+        assertEquals(asList("ID", "NAME"), names(tables.get(0).fields()));
+        assertEquals(0, tables.get(1).fields().length);
+        context.assertIsSatisfied();
+    }
+
+    /**
+     * Read the tables of a schema containing a table <code>T1</code> with two
+     * columns and a table <code>T2</code> without any columns, expecting
+     * columns to be fetched only once for the whole schema.
+     */
+    private List<Table<?>> tables(SQLDialect dialect, final String catalog, final String schema) throws Exception {
+        final Connection connection = context.mock(Connection.class);
+        final DatabaseMetaData meta = context.mock(DatabaseMetaData.class);
+        DSLContext e = DSL.using(connection, dialect);
+
+        final Result<Record> schemas = result(e, field("TABLE_SCHEM", String.class));
+        schemas.add(record(e, schemas.fields(), catalog != null ? catalog : schema));
+
+        final Result<Record> tables = result(e, 
+            field("TABLE_CAT", String.class),
+            field("TABLE_SCHEM", String.class),
+            field("TABLE_NAME", String.class),
+            field("TABLE_TYPE", String.class));
+        tables.add(record(e, tables.fields(), catalog, schema, "T1", "TABLE"));
+        tables.add(record(e, tables.fields(), catalog, schema, "T2", "SYNONYM"));
+
+        final Result<Record> columns = result(e, 
+            field("TABLE_CAT", String.class),
+            field("TABLE_SCHEM", String.class),
+            field("TABLE_NAME", String.class),
+            field("COLUMN_NAME", String.class),
+            field("DATA_TYPE", Integer.class),
+            field("TYPE_NAME", String.class),
+            field("COLUMN_SIZE", Integer.class),
+            field("BUFFER_LENGTH", String.class),
+            field("DECIMAL_DIGITS", Integer.class));
+        columns.add(record(e, columns.fields(), catalog, schema, "T1", "ID", Types.INTEGER, "INTEGER", 10, null, 0));
+        columns.add(record(e, columns.fields(), catalog, schema, "T1", "NAME", Types.VARCHAR, "VARCHAR", 50, null, 0));
+
+        context.checking(new Expectations() {{
+            allowing(connection).getMetaData();
+            will(returnValue(meta));
+
+            if (catalog != null) {
+                oneOf(meta).getCatalogs();
+                will(returnValue(new MockResultSet(schemas)));
+                oneOf(meta).getTables(catalog, null, "%", null);
+                will(returnValue(new MockResultSet(tables)));
+                oneOf(meta).getColumns(catalog, null, "%", "%");
+                will(returnValue(new MockResultSet(columns)));
+            }
+            else {
+                oneOf(meta).getCatalogs();
+                will(returnValue(new MockResultSet(empty(schemas))));
+                oneOf(meta).getSchemas();
+                will(returnValue(new MockResultSet(schemas)));
+                oneOf(meta).getTables(null, schema, "%", null);
+                will(returnValue(new MockResultSet(tables)));
+                oneOf(meta).getColumns(null, schema, "%", "%");
+                will(returnValue(new MockResultSet(columns)));
+            }
+        }});
+
+        return e.meta().getTables();
+    }
+
+    private static Result<Record> result(DSLContext e, Field<?>... fields) {
+        return e.newResult(fields);
+    }
+
+    private static Result<Record> empty(Result<Record> result) {
+        return DSL.using(SQLDialect.H2).newResult(result.fields());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Record record(DSLContext e, Field<?>[] fields, Object... values) {
+        Record result = e.newRecord(fields);
+
+        for (int i = 0; i < values.length; i++) {
+            result.setValue((Field<Object>) fields[i], values[i]);
+        }
+
+        return result;
+    }
+
+    private static List<String> names(Field<?>[] fields) {
+        List<String> result = new ArrayList<String>();
+
+        for (Field<?> field : fields) {
+            result.add(field.getName());
+        }
+
+        return result;
+    }
+}
@@ -49,27 +49,83 @@ import static org.jooq.test.data.Table2.FIELD_ID2;
 import static org.jooq.test.data.Table2.FIELD_NAME2;
 import static org.jooq.test.data.Table2.TABLE2;
 import static org.jooq.test.data.Table3.FIELD_NAME3;
+import static org.jooq.test.data.Table5.FIELD_ID5;
+import static org.jooq.test.data.Table5.FIELD_NAME5;
+import static org.jooq.test.data.Table5.FIELD_VERSION5;
+import static org.jooq.test.data.Table5.TABLE5;
+import static org.jooq.test.data.Table6.FIELD_DATA6;
+import static org.jooq.test.data.Table6.FIELD_ID6;
+import static org.jooq.test.data.Table6.FIELD_NAME6;
+import static org.jooq.test.data.Table6.TABLE6;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.ref.WeakReference;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
-
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.AsyncCallback;
+import org.jooq.AsyncFunction;
+import org.jooq.AsyncResult;
+import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
 import org.jooq.Constants;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.ForeignKey;
+import org.jooq.InsertQuery;
 import org.jooq.InsertResultStep;
+import org.jooq.Loader;
 import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Record2;
+import org.jooq.RecordContext;
 import org.jooq.Result;
 import org.jooq.SQLDialect;
+import org.jooq.SelectConditionStep;
+import org.jooq.SelectQuery;
+import org.jooq.conf.FetchDirection;
+import org.jooq.conf.OptimisticLockingMode;
+import org.jooq.conf.RenderNameStyle;
+import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
+import org.jooq.exception.DataChangedException;
+import org.jooq.impl.DAOImpl;
 import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultConnectionProvider;
+import org.jooq.impl.DefaultExecuteListener;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.impl.DefaultRecordListener;
+import org.jooq.impl.DefaultRecordListenerProvider;
+import org.jooq.impl.RenderCache;
+import org.jooq.impl.StatementCachingConnectionProvider;
 import org.jooq.test.data.Table1;
 import org.jooq.test.data.Table1Record;
+import org.jooq.test.data.Table5Record;
+import org.jooq.test.data.Table6Record;
 import org.jooq.tools.jdbc.MockConnection;
 import org.jooq.tools.jdbc.MockDataProvider;
 import org.jooq.tools.jdbc.MockExecuteContext;
@@ -210,6 +266,214 @@ public class MockTest extends AbstractTest {
         }
     }
 
+    @Test
+    public void testColumnarResult() {
+        DSLContext e = DSL.using(new MockConnection(new ColumnarResult()), SQLDialect.H2);
+        Result<Table1Record> rows = e.selectFrom(TABLE1).fetch();
+        Result<Table1Record> columns = e.selectFrom(TABLE1).fetchColumnar();
+
+        assertEquals(rows, columns);
+        assertEquals(rows.formatCSV(), columns.formatCSV());
+        assertEquals(asList(3, 1, 2, 1), columns.getValues(FIELD_ID1));
+        assertEquals(asList("c", "a", null, "a"), columns.getValues(FIELD_NAME1));
+        assertNull(columns.getValue(0, Table1.FIELD_DATE1));
+
+        Table1Record record = columns.get(1);
+        assertEquals(1, (int) record.getValue(FIELD_ID1));
+        assertFalse(record.changed());
+
+        // Materialised records are copies
+        record.setValue(FIELD_NAME1, "x");
+        assertEquals("a", columns.getValue(1, FIELD_NAME1));
+
+        columns.sortAsc(FIELD_ID1);
+        assertEquals(asList(1, 1, 2, 3), columns.getValues(FIELD_ID1));
+        assertEquals(asList("a", "a", null, "c"), columns.getValues(FIELD_NAME1));
+
+        Map<Integer, Result<Table1Record>> groups = columns.intoGroups(FIELD_ID1);
+        assertEquals(asList(1, 2, 3), new ArrayList<Integer>(groups.keySet()));
+        assertEquals(2, groups.get(1).size());
+        assertEquals(asList("a", "a"), groups.get(1).getValues(FIELD_NAME1));
+    }
+
+    @Test
+    public void testAsync() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            DefaultConfiguration c = new DefaultConfiguration();
+            c.set(new MockConnection(new ColumnarResult()));
+            c.set(SQLDialect.H2);
+            c.set(executor);
+
+            final List<Object> outcome = new ArrayList<Object>();
+            final CountDownLatch latch = new CountDownLatch(1);
+
+            AsyncResult<Integer> size =
+            DSL.using(c).selectFrom(TABLE1)
+               .fetchAsync()
+               .then(new AsyncFunction<Result<Table1Record>, Integer>() {
+                   @Override
+                   public Integer apply(Result<Table1Record> result) {
+                       return result.size();
+                   }
+               })
+               .onComplete(new AsyncCallback<Integer>() {
+                   @Override
+                   public void onSuccess(Integer result) {
+                       outcome.add(result);
+                       latch.countDown();
+                   }
+
+                   @Override
+                   public void onFailure(Throwable cause) {
+                       outcome.add(cause);
+                       latch.countDown();
+                   }
+               });
+
+            assertEquals(4, (int) size.get(5, TimeUnit.SECONDS));
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(asList(4), outcome);
+
+            // Failures are propagated through compositions
+            AsyncResult<Integer> failure =
+            DSL.using(new MockConnection(new Exceptional()), SQLDialect.H2)
+               .query("insert into x values(1)")
+               .executeAsync(executor)
+               .then(new AsyncFunction<Integer, Integer>() {
+                   @Override
+                   public Integer apply(Integer result) {
+                       fail();
+                       return result;
+                   }
+               });
+
+            try {
+                failure.get(5, TimeUnit.SECONDS);
+                fail();
+            }
+            catch (ExecutionException expected) {
+                assertTrue(expected.getCause() instanceof DataAccessException);
+            }
+
+            // The default executor is used for batches
+            int[] result =
+            DSL.using(new MockConnection(new BatchSingle()), SQLDialect.H2)
+               .batch(
+                   DSL.using(SQLDialect.H2).query("insert into x values(1)"),
+                   DSL.using(SQLDialect.H2).query("insert into x values(2)"))
+               .executeAsync()
+               .get(5, TimeUnit.SECONDS);
+
+            assertEquals(2, result.length);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 60000)
+    public void testAsyncBlockingExecutions() throws Exception {
+
+        // Blocking executions don't starve each other on the default executor
+        final int executions = Runtime.getRuntime().availableProcessors() * 2 + 2;
+        final CountDownLatch running = new CountDownLatch(executions);
+        DSLContext blocking = DSL.using(new MockConnection(new MockDataProvider() {
+            @Override
+            public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+                running.countDown();
+
+                try {
+                    if (!running.await(10, TimeUnit.SECONDS))
+                        throw new SQLException("Executions were not run concurrently");
+                }
+                catch (InterruptedException e) {
+                    throw new SQLException(e);
+                }
+
+                return new MockResult[] { new MockResult(1, null) };
+            }
+        }), SQLDialect.H2);
+
+        List<AsyncResult<Integer>> results = new ArrayList<AsyncResult<Integer>>();
+        for (int i = 0; i < executions; i++)
+            results.add(blocking.query("insert into x values(1)").executeAsync());
+
+        for (AsyncResult<Integer> result : results)
+            assertEquals(1, (int) result.get(20, TimeUnit.SECONDS));
+
+        // fetchLater() doesn't use the shared executor
+        final List<String> threads = new ArrayList<String>();
+        Result<Table1Record> result =
+        DSL.using(new MockConnection(new MockDataProvider() {
+            @Override
+            public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+                threads.add(Thread.currentThread().getName());
+                return new ColumnarResult().execute(ctx);
+            }
+        }), SQLDialect.H2).selectFrom(TABLE1).fetchLater().get(5, TimeUnit.SECONDS);
+
+        assertEquals(4, result.size());
+        assertEquals(1, threads.size());
+        assertFalse(threads.get(0).startsWith("jooq-async-"));
+    }
+
+    @Test
+    public void testStreamingExport() throws Exception {
+        DSLContext e = DSL.using(new MockConnection(new ColumnarResult()), SQLDialect.H2);
+        Result<Table1Record> result = e.selectFrom(TABLE1).fetch();
+
+        StringWriter csv = new StringWriter();
+        e.selectFrom(TABLE1).formatCSV(csv);
+        assertEquals(result.formatCSV(), csv.toString());
+
+        csv = new StringWriter();
+        e.selectFrom(TABLE1).formatCSV(csv, ';', "{null}");
+        assertEquals(result.formatCSV(';', "{null}"), csv.toString());
+
+        String expected =
+            "{\"fields\":[{\"name\":\"ID1\",\"type\":\"INTEGER\"},{\"name\":\"NAME1\",\"type\":\"VARCHAR\"}," +
+            "{\"name\":\"DATE1\",\"type\":\"DATE\"}]," +
+            "\"records\":[[3,\"c\",null],[1,\"a\",null],[2,null,null],[1,\"a\",null]]}";
+        assertEquals(expected, result.formatJSON());
+
+        StringWriter json = new StringWriter();
+        e.selectFrom(TABLE1).formatJSON(json);
+        assertEquals(expected, json.toString());
+
+        ByteArrayOutputStream xml = new ByteArrayOutputStream();
+        e.selectFrom(TABLE1).formatXML(xml);
+        assertEquals(result.formatXML(), xml.toString("UTF-8"));
+
+        Cursor<Table1Record> cursor = e.selectFrom(TABLE1).fetchLazy();
+        assertEquals(result.get(0), cursor.fetchOne());
+
+        csv = new StringWriter();
+        cursor.formatCSV(csv);
+        assertEquals(result.formatCSV().replace("3,c,\"\"\n", ""), csv.toString());
+        assertTrue(cursor.isClosed());
+    }
+
+    class ColumnarResult implements MockDataProvider {
+        @Override
+        public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+            DSLContext create = DSL.using(SQLDialect.H2);
+            Result<Table1Record> result = create.newResult(TABLE1);
+
+            for (Object[] row : new Object[][] { { 3, "c" }, { 1, "a" }, { 2, null }, { 1, "a" } }) {
+                Table1Record record = create.newRecord(TABLE1);
+                record.setValue(FIELD_ID1, (Integer) row[0]);
+                record.setValue(FIELD_NAME1, (String) row[1]);
+                result.add(record);
+            }
+
+            return new MockResult[] {
+                new MockResult(0, result)
+            };
+        }
+    }
+
     abstract class AbstractResult implements MockDataProvider {
         public void execute0(MockExecuteContext ctx) {
             assertEquals(1, ctx.batchSQL().length);
@@ -293,6 +557,854 @@ public class MockTest extends AbstractTest {
         }
     }
 
+    @Test
+    public void testRenderCaching() {
+        Configuration c = new DefaultConfiguration()
+            .set(new MockConnection(new RenderCaching()))
+            .set(SQLDialect.H2)
+            .set(new Settings().withRenderCaching(true));
+
+        // Structurally equal plain SQL queries share their SQL
+        Query query = DSL.using(c).query("update x set y = ?", 1);
+        assertEquals(1, query.execute());
+        assertEquals(2, query.bind(1, 2).execute());
+        assertEquals(2, DSL.using(c).query("update x set y = ?", 3).execute());
+
+        assertEquals(2L, RenderCache.of(c).hits());
+        assertEquals(1L, RenderCache.of(c).misses());
+        assertEquals(1, RenderCache.of(c).size());
+
+        c.settings().setRenderNameStyle(RenderNameStyle.AS_IS);
+        assertEquals(2, query.bind(1, 3).execute());
+        assertEquals(2L, RenderCache.of(c).hits());
+        assertEquals(2L, RenderCache.of(c).misses());
+        assertEquals(2, RenderCache.of(c).size());
+
+        // Plain SQL queries with other arguments than bind values are rendered
+        assertEquals(1, DSL.using(c).query("update x set y = ? {1}", 1, DSL.field("1")).execute());
+        assertEquals(2L, RenderCache.of(c).hits());
+        assertEquals(2L, RenderCache.of(c).misses());
+
+        RenderCache.of(c).reset();
+        assertEquals(0, RenderCache.of(c).size());
+    }
+
+    @Test
+    public void testRenderCachingWithModifiedQueries() {
+        BatchStore data = new BatchStore();
+        Configuration c = new DefaultConfiguration()
+            .set(new MockConnection(data))
+            .set(SQLDialect.H2)
+            .set(new Settings().withRenderCaching(true));
+
+        // DSL queries and their query parts can be modified at any time, so
+        // they are always rendered
+        SelectQuery<Table6Record> select = DSL.using(c).selectQuery(TABLE6);
+        select.addConditions(FIELD_ID6.eq(1));
+        select.execute();
+        select.execute();
+        assertEquals(data.sql.get(0), data.sql.get(1));
+
+        select.addConditions(FIELD_NAME6.eq("a"));
+        select.execute();
+        assertTrue(data.sql.get(2).contains("NAME6"));
+        assertEquals(asList((Object) 1, "a"), data.bindings.get(2));
+
+        SelectConditionStep<Table6Record> step = DSL.using(c).selectFrom(TABLE6).where(FIELD_ID6.eq(1));
+        step.execute();
+        step.and(FIELD_NAME6.eq("b")).execute();
+        assertTrue(data.sql.get(4).contains("NAME6"));
+
+        // Also when they are embedded in plain SQL
+        SelectQuery<Table6Record> subselect = DSL.using(c).selectQuery(TABLE6);
+        Query query = DSL.using(c).query("delete from x where y in ({0})", subselect);
+        query.execute();
+        subselect.addConditions(FIELD_ID6.eq(2));
+        query.execute();
+        assertTrue(data.sql.get(6).contains("ID6"));
+        assertEquals(asList((Object) 2), data.bindings.get(6));
+
+        assertEquals(0L, RenderCache.of(c).hits());
+        assertEquals(0L, RenderCache.of(c).misses());
+    }
+
+    class RenderCaching implements MockDataProvider {
+
+        @Override
+        public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+            assertTrue(ctx.sql().startsWith("update x set y = ?"));
+
+            return new MockResult[] {
+                new MockResult(ctx.bindings()[0].equals(1) ? 1 : 2, null)
+            };
+        }
+    }
+
+    @Test
+    public void testStatementCaching() {
+        StatementCachingConnectionProvider provider = new StatementCachingConnectionProvider(
+            new DefaultConnectionProvider(new MockConnection(new RenderCaching())), 1);
+        DSLContext e = DSL.using(provider, SQLDialect.H2);
+
+        Query query = e.query("update x set y = ?", 1);
+        assertEquals(1, query.execute());
+        assertEquals(2, query.bind(1, 2).queryTimeout(5).execute());
+        assertEquals(1, e.query("update x set y = ?", 1).execute());
+
+        assertEquals(1L, provider.misses());
+        assertEquals(2L, provider.hits());
+        assertEquals(0L, provider.evictions());
+
+        assertEquals(1, e.query("update x set y = ? -- other", 1).execute());
+        assertEquals(2L, provider.misses());
+        assertEquals(1L, provider.evictions());
+    }
+
+    @Test
+    public void testStatementCachingClosedConnections() throws Exception {
+        final List<Connection> connections = new ArrayList<Connection>();
+        final List<PreparedStatement> statements = new ArrayList<PreparedStatement>();
+
+        // Client code closes connections after jOOQ has released them
+        StatementCachingConnectionProvider provider = new StatementCachingConnectionProvider(new ConnectionProvider() {
+
+            @Override
+            public Connection acquire() {
+                Connection c = new MockConnection(new RenderCaching()) {
+
+                    @Override
+                    public PreparedStatement prepareStatement(String sql) throws SQLException {
+                        PreparedStatement result = super.prepareStatement(sql);
+                        statements.add(result);
+                        return result;
+                    }
+                };
+
+                connections.add(c);
+                return c;
+            }
+
+            @Override
+            public void release(Connection connection) {}
+        }, 10);
+        DSLContext e = DSL.using(provider, SQLDialect.H2);
+
+        assertEquals(1, e.query("update x set y = ?", 1).execute());
+        assertFalse(statements.get(0).isClosed());
+        connections.get(0).close();
+
+        // Caches of closed connections are discarded on the next acquisition
+        assertEquals(1, e.query("update x set y = ?", 1).execute());
+        assertTrue(statements.get(0).isClosed());
+        assertFalse(statements.get(1).isClosed());
+
+        // The provider doesn't keep closed connections reachable
+        WeakReference<Connection> ref = new WeakReference<Connection>(connections.get(0));
+        connections.remove(0);
+        statements.remove(0);
+
+        for (int i = 0; i < 100 && ref.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(ref.get());
+
+        // Closing an acquired connection closes its cached statements
+        Connection c = provider.acquire();
+        c.prepareStatement("update x set y = ?").close();
+        assertFalse(statements.get(1).isClosed());
+        c.close();
+        assertTrue(statements.get(1).isClosed());
+    }
+
+    @Test
+    public void testLoaderBatch() throws Exception {
+        String csv = "ID1,NAME1\n1,a\n2,b\n3,c\n4,d\n5,e";
+
+        LoaderBatch data = new LoaderBatch();
+        Loader<Table1Record> loader = DSL.using(new MockConnection(data), SQLDialect.H2)
+            .loadInto(TABLE1)
+            .bulkAfter(2)
+            .batchAfter(2)
+            .loadCSV(csv)
+            .fields(FIELD_ID1, FIELD_NAME1)
+            .execute();
+
+        assertEquals(5, loader.processed());
+        assertEquals(5, loader.stored());
+        assertEquals(0, loader.ignored());
+        assertEquals(asList(asList(1, "a", 2, "b"), asList(3, "c", 4, "d"), asList(5, "e")), data.bindings);
+        assertEquals(asList(2, 1), data.batchSizes);
+
+        // Errors are reported with their original row index
+        data = new LoaderBatch();
+        data.fail = "c";
+        loader = DSL.using(new MockConnection(data), SQLDialect.H2)
+            .loadInto(TABLE1)
+            .onErrorIgnore()
+            .bulkAfter(2)
+            .batchAfter(2)
+            .pipeline(1)
+            .loadCSV(csv)
+            .fields(FIELD_ID1, FIELD_NAME1)
+            .execute();
+
+        assertEquals(5, loader.processed());
+        assertEquals(3, loader.stored());
+        assertEquals(2, loader.ignored());
+        assertEquals(1, loader.errors().size());
+        assertEquals(2, loader.errors().get(0).rowIndex());
+        assertEquals(asList("3", "c"), asList(loader.errors().get(0).row()));
+        assertEquals(asList(2, 1), data.batchSizes);
+
+        // Without a native bulk loading driver, rows are inserted
+        data = new LoaderBatch();
+        loader = DSL.using(new MockConnection(data), SQLDialect.POSTGRES)
+            .loadInto(TABLE1)
+            .nativeBulkLoad()
+            .batchAfter(5)
+            .loadCSV(csv)
+            .fields(FIELD_ID1, FIELD_NAME1)
+            .execute();
+
+        assertEquals(5, loader.stored());
+        assertEquals(asList(5), data.batchSizes);
+    }
+
+    @Test(timeout = 60000)
+    public void testLoaderPipelineFailures() throws Exception {
+
+        // Reading fails while the pipeline's queues are full
+        LoaderBatch data = new LoaderBatch();
+        FailingReader reader = new FailingReader(10000);
+
+        try {
+            DSL.using(new MockConnection(data), SQLDialect.H2)
+                .loadInto(TABLE1)
+                .batchAfter(2)
+                .pipeline(1)
+                .loadCSV(reader)
+                .fields(FIELD_ID1, FIELD_NAME1)
+                .execute();
+            fail();
+        }
+        catch (RuntimeException expected) {
+            assertEquals("Expected", expected.getCause().getMessage());
+        }
+
+        assertTrue(reader.closed);
+        assertFalse(reader.readAfterClose);
+
+        // Loading is aborted while input is still being read
+        data = new LoaderBatch();
+        data.fail = "c";
+        reader = new FailingReader(Integer.MAX_VALUE);
+
+        Loader<Table1Record> loader = DSL.using(new MockConnection(data), SQLDialect.H2)
+            .loadInto(TABLE1)
+            .onErrorAbort()
+            .pipeline(1)
+            .loadCSV(reader)
+            .fields(FIELD_ID1, FIELD_NAME1)
+            .execute();
+
+        assertEquals(1, loader.errors().size());
+        assertTrue(reader.closed);
+        assertFalse(reader.readAfterClose);
+    }
+
+    @Test(timeout = 10000)
+    public void testLoaderPipelineBlockedReader() throws Exception {
+
+        // Loading is aborted while the reading thread can't be interrupted
+        LoaderBatch data = new LoaderBatch();
+        data.fail = "c";
+        BlockingReader reader = new BlockingReader("ID1,NAME1\n1,c\n");
+
+        Loader<Table1Record> loader = DSL.using(new MockConnection(data), SQLDialect.H2)
+            .loadInto(TABLE1)
+            .onErrorAbort()
+            .pipeline(1)
+            .loadCSV(reader)
+            .fields(FIELD_ID1, FIELD_NAME1)
+            .execute();
+
+        assertEquals(1, loader.errors().size());
+        assertFalse(reader.closed);
+
+        // The abandoned reading thread closes the input once it returns
+        reader.release.countDown();
+
+        while (!reader.closed)
+            Thread.sleep(10);
+    }
+
+    /**
+     * A reader producing CSV rows, which fails after a given number of
+     * characters.
+     */
+    /**
+     * A reader that blocks uninterruptibly after its initial content.
+     */
+    static class BlockingReader extends Reader {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Reader         content;
+        volatile boolean     closed;
+
+        BlockingReader(String content) {
+            this.content = new StringReader(content);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int result = content.read(buffer, offset, length);
+
+            if (result == -1) {
+                for (;;) {
+                    try {
+                        release.await();
+                        return -1;
+                    }
+                    catch (InterruptedException ignore) {}
+                }
+            }
+
+            return result;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    static class FailingReader extends Reader {
+        final int        failAt;
+        int              position;
+        volatile boolean closed;
+        volatile boolean readAfterClose;
+
+        FailingReader(int failAt) {
+            this.failAt = failAt;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            if (closed)
+                readAfterClose = true;
+            if (position >= failAt)
+                throw new IOException("Expected");
+
+            // Every row takes 8 characters, e.g. 123456,c
+            int result = 0;
+            for (; result < length && position < failAt; result++, position++)
+                buffer[offset + result] = position % 8 == 7 ? '\n' : position % 8 == 6 ? 'c' : position % 8 == 5 ? ',' : (char) ('0' + position / 8 % 10);
+
+            return result;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    class LoaderBatch implements MockDataProvider {
+        final List<List<Object>> bindings   = new ArrayList<List<Object>>();
+        final List<Integer>      batchSizes = new ArrayList<Integer>();
+        String                   fail;
+
+        @Override
+        public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+            assertTrue(ctx.sql().startsWith("insert into"));
+            batchSizes.add(ctx.batchBindings().length);
+
+            MockResult[] result = new MockResult[ctx.batchBindings().length];
+            for (int i = 0; i < result.length; i++) {
+                if (asList(ctx.batchBindings()[i]).contains(fail)) {
+                    throw new BatchUpdateException(new int[] { 1 });
+                }
+
+                bindings.add(asList(ctx.batchBindings()[i]));
+                result[i] = new MockResult(ctx.batchBindings()[i].length / 2, null);
+            }
+
+            return result;
+        }
+    }
+
+    @Test
+    public void testBatchStore() {
+        BatchStore data = new BatchStore();
+        DSLContext e = DSL.using(new MockConnection(data), SQLDialect.H2);
+
+        Table5Record r1 = existing(e, 1, "a");
+        Table5Record r2 = existing(e, 2, "b");
+        Table5Record r3 = e.newRecord(TABLE5);
+        r1.setValue(FIELD_NAME5, "x");
+        r2.setValue(FIELD_NAME5, "y");
+        r3.setValue(FIELD_ID5, 3);
+        r3.setValue(FIELD_NAME5, "z");
+
+        // Records of the same shape share a single statement
+        int[] result = e.batchStore(r1, r3, r2).execute();
+
+        assertEquals(asList(1, 1, 1), asList(result[0], result[1], result[2]));
+        assertEquals(2, data.sql.size());
+        assertTrue(data.sql.get(0).startsWith("update"));
+        assertTrue(data.sql.get(1).startsWith("insert"));
+        assertEquals(asList(2, 1), data.batchSizes);
+
+        assertEquals(2, (int) r1.getValue(FIELD_VERSION5));
+        assertEquals(2, (int) r2.getValue(FIELD_VERSION5));
+        assertEquals(1, (int) r3.getValue(FIELD_VERSION5));
+        assertFalse(r1.changed());
+        assertFalse(r2.changed());
+        assertFalse(r3.changed());
+
+        // NULL values are bound like any other values, so they don't split
+        // records into several batches
+        data = new BatchStore();
+        e = DSL.using(new MockConnection(data), SQLDialect.H2);
+        r1 = existing(e, 1, "a");
+        r2 = existing(e, 2, "b");
+        r3 = e.newRecord(TABLE5);
+        Table5Record r4 = e.newRecord(TABLE5);
+        r1.setValue(FIELD_NAME5, null);
+        r2.setValue(FIELD_NAME5, "y");
+        r3.setValue(FIELD_ID5, 3);
+        r3.setValue(FIELD_NAME5, null);
+        r4.setValue(FIELD_ID5, 4);
+        r4.setValue(FIELD_NAME5, "w");
+
+        e.batchStore(r1, r2, r3, r4).execute();
+        assertEquals(2, data.sql.size());
+        assertEquals(asList(2, 2), data.batchSizes);
+
+        // Optimistic locking failures are reported after execution
+        data = new BatchStore();
+        data.rows = 0;
+        e = DSL.using(new MockConnection(data), SQLDialect.H2, new Settings().withExecuteWithOptimisticLocking(true));
+        r1 = existing(e, 1, "a");
+        r1.setValue(FIELD_NAME5, "x");
+
+        try {
+            e.batchStore(r1).execute();
+            fail();
+        }
+        catch (DataChangedException expected) {}
+
+        assertEquals(1, (int) r1.getValue(FIELD_VERSION5));
+        assertTrue(r1.changed());
+    }
+
+    @Test
+    public void testOptimisticLockingWithOriginalValues() {
+        BatchStore data = new BatchStore();
+        DSLContext e = DSL.using(new MockConnection(data), SQLDialect.H2, new Settings()
+            .withExecuteWithOptimisticLocking(true)
+            .withOptimisticLockingMode(OptimisticLockingMode.ORIGINAL_VALUES));
+
+        // Original values are compared in the UPDATE statement, except LOBs
+        Table6Record r1 = e.newRecord(TABLE6);
+        r1.setValue(FIELD_ID6, 1);
+        r1.setValue(FIELD_NAME6, "a");
+        r1.setValue(FIELD_DATA6, new byte[] { 1 });
+        r1.changed(false);
+        r1.setValue(FIELD_NAME6, "b");
+
+        assertEquals(1, r1.store());
+        assertEquals(1, data.sql.size());
+        assertTrue(data.sql.get(0).startsWith("update"));
+        assertTrue(data.sql.get(0).contains("and \"TABLE6\".\"NAME6\" = "));
+        assertFalse(data.sql.get(0).contains("DATA6"));
+        assertEquals(asList("b", 1, "a"), data.bindings.get(0));
+        assertFalse(r1.changed());
+
+        // NULL original values are compared with IS NULL
+        Table6Record r2 = e.newRecord(TABLE6);
+        r2.setValue(FIELD_ID6, 2);
+        r2.changed(false);
+        r2.setValue(FIELD_NAME6, "c");
+
+        assertEquals(1, r2.store());
+        assertTrue(data.sql.get(1).contains("\"TABLE6\".\"NAME6\" is null"));
+
+        // A zero update count indicates a concurrent change
+        data.rows = 0;
+        r1.setValue(FIELD_NAME6, "d");
+
+        try {
+            r1.store();
+            fail();
+        }
+        catch (DataChangedException expected) {}
+
+        // Batches don't need any additional SELECT statements
+        data = new BatchStore();
+        e = DSL.using(new MockConnection(data), SQLDialect.H2, e.configuration().settings());
+        r1.attach(e.configuration());
+        r2.attach(e.configuration());
+        r2.setValue(FIELD_NAME6, "e");
+
+        // Only NULL original values split records into several batches, as
+        // they are compared with IS NULL
+        Table6Record r3 = e.newRecord(TABLE6);
+        r3.setValue(FIELD_ID6, 3);
+        r3.changed(false);
+        r3.setValue(FIELD_NAME6, "f");
+
+        e.batchStore(r1, r2, r3).execute();
+        assertEquals(asList(2, 1), data.batchSizes);
+        assertTrue(data.sql.get(0).startsWith("update"));
+        assertTrue(data.sql.get(1).startsWith("update"));
+        assertTrue(data.sql.get(1).contains("\"TABLE6\".\"NAME6\" is null"));
+    }
+
+    @Test
+    public void testFetchParentsAndChildren() {
+        Parents data = new Parents();
+        DSLContext e = DSL.using(new MockConnection(data), SQLDialect.SQLITE);
+        ForeignKey<Table6Record, Table5Record> key = TABLE6.getReferencesTo(TABLE5).get(0);
+
+        // Duplicate and NULL keys are not bound, large sets are chunked
+        Result<Table6Record> children = e.newResult(TABLE6);
+        for (int i = 0; i < 1200; i++) {
+            Table6Record child = e.newRecord(TABLE6);
+            child.setValue(FIELD_ID6, i == 0 ? null : i % 1000);
+            children.add(child);
+        }
+
+        Result<Table5Record> parents = children.fetchParents(key);
+        assertEquals(1000, parents.size());
+        assertEquals(asList(999, 1), asList(data.bindings.get(0).size(), data.bindings.get(1).size()));
+
+        Map<Table6Record, Table5Record> parentMap = key.fetchParentMap(children);
+        assertEquals(1199, parentMap.size());
+        assertNull(parentMap.get(children.get(0)));
+        assertEquals(7, (int) parentMap.get(children.get(1007)).getValue(FIELD_ID5));
+
+        // Each parent is mapped to its own children
+        data.bindings.clear();
+        Map<Table5Record, Result<Table6Record>> childrenMap = key.fetchChildrenMap(parents.subList(0, 3));
+        assertEquals(1, data.bindings.size());
+        assertEquals(3, childrenMap.size());
+
+        for (Table5Record parent : parents.subList(0, 3)) {
+            assertEquals(1, childrenMap.get(parent).size());
+            assertEquals(parent.getValue(FIELD_ID5), childrenMap.get(parent).get(0).getValue(FIELD_ID6));
+        }
+    }
+
+    class Parents implements MockDataProvider {
+        final List<List<Object>> bindings = new ArrayList<List<Object>>();
+
+        @Override
+        public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+            DSLContext e = DSL.using(SQLDialect.SQLITE);
+            bindings.add(asList(ctx.bindings()));
+
+            if (ctx.sql().contains("from \"TABLE5\"")) {
+                Result<Table5Record> result = e.newResult(TABLE5);
+
+                for (Object id : ctx.bindings()) {
+                    Table5Record record = e.newRecord(TABLE5);
+                    record.setValue(FIELD_ID5, (Integer) id);
+                    result.add(record);
+                }
+
+                return new MockResult[] { new MockResult(result.size(), result) };
+            }
+            else {
+                Result<Table6Record> result = e.newResult(TABLE6);
+
+                for (Object id : ctx.bindings()) {
+                    Table6Record record = e.newRecord(TABLE6);
+                    record.setValue(FIELD_ID6, (Integer) id);
+                    result.add(record);
+                }
+
+                return new MockResult[] { new MockResult(result.size(), result) };
+            }
+        }
+    }
+
+    @Test
+    public void testDAOBulkOperations() {
+        BatchStore data = new BatchStore();
+        Table6DAO dao = new Table6DAO(DSL.using(new MockConnection(data), SQLDialect.SQLITE).configuration());
+
+        // Many POJOs are inserted with few multi-row INSERT statements
+        List<Table6Pojo> pojos = new ArrayList<Table6Pojo>();
+        for (int i = 0; i < 1000; i++)
+            pojos.add(new Table6Pojo(i, "name" + i));
+
+        dao.insert(pojos);
+        assertEquals(3, data.sql.size());
+        assertTrue(data.sql.get(0).startsWith("insert into"));
+        assertEquals(asList(998, 998, 4), asList(data.bindings.get(0).size(), data.bindings.get(1).size(), data.bindings.get(2).size()));
+
+        // Duplicate IDs are removed, missing IDs are omitted
+        Parents parents = new Parents();
+        dao = new Table6DAO(DSL.using(new MockConnection(parents), SQLDialect.SQLITE).configuration());
+
+        Map<Integer, Table6Pojo> result = dao.findByIds(asList(1, 2, 2));
+        assertEquals(1, parents.bindings.size());
+        assertEquals(asList((Object) 1, 2), parents.bindings.get(0));
+        assertEquals(asList(1, 2), new ArrayList<Integer>(result.keySet()));
+        assertEquals(2, (int) result.get(2).ID6);
+
+        // Large sets of IDs are deleted in chunks
+        parents.bindings.clear();
+        List<Integer> ids = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++)
+            ids.add(i);
+
+        dao.deleteById(ids);
+        assertEquals(2, parents.bindings.size());
+        assertEquals(999, parents.bindings.get(0).size());
+    }
+
+    @Test
+    public void testDAOInsertWithRecordListeners() {
+        final List<String> events = new ArrayList<String>();
+        BatchStore data = new BatchStore();
+        Table6DAO dao = new Table6DAO(new DefaultConfiguration()
+            .set(new MockConnection(data))
+            .set(SQLDialect.SQLITE)
+            .set(new DefaultRecordListenerProvider(new DefaultRecordListener() {
+                @Override
+                public void insertStart(RecordContext ctx) {
+                    events.add("insertStart " + ctx.record().getValue(FIELD_ID6));
+                }
+
+                @Override
+                public void insertEnd(RecordContext ctx) {
+                    events.add("insertEnd " + ctx.record().getValue(FIELD_ID6));
+                }
+            })));
+
+        // RecordListeners are notified about every inserted POJO
+        dao.insert(asList(new Table6Pojo(1, "a"), new Table6Pojo(2, "b")));
+        assertEquals(1, data.sql.size());
+        assertEquals(asList(2), data.batchSizes);
+        assertEquals(asList("insertStart 1", "insertEnd 1", "insertStart 2", "insertEnd 2"), events);
+    }
+
+    @Test
+    public void testInsertChunking() {
+        BatchStore data = new BatchStore();
+        final List<String> prepared = new ArrayList<String>();
+        DSLContext e = DSL.using(new DefaultConfiguration()
+            .set(new MockConnection(data))
+            .set(SQLDialect.FIREBIRD)
+            .set(new DefaultExecuteListenerProvider(new DefaultExecuteListener() {
+                @Override
+                public void prepareEnd(ExecuteContext ctx) {
+                    prepared.add(ctx.sql());
+                }
+            })));
+
+        InsertQuery<Table6Record> insert = e.insertQuery(TABLE6);
+        for (int i = 0; i < 600; i++) {
+            insert.newRecord();
+            insert.addValue(FIELD_ID6, i);
+            insert.addValue(FIELD_NAME6, "name" + i);
+        }
+
+        // Firebird simulates multi-record inserts with at most 254 UNION ALL
+        // subqueries. Equal-sized chunks share a prepared statement
+        assertEquals(3, insert.execute());
+        assertEquals(3, data.sql.size());
+        assertEquals(asList(508, 508, 184), asList(data.bindings.get(0).size(), data.bindings.get(1).size(), data.bindings.get(2).size()));
+        assertEquals(data.sql.get(0), data.sql.get(1));
+        assertEquals(asList(data.sql.get(0), data.sql.get(2)), prepared);
+        assertEquals(asList((Object) 254, "name254"), data.bindings.get(1).subList(0, 2));
+
+        // Without keepStatement(), the shared statement is closed after execution
+        String full = data.sql.get(0);
+        String last = data.sql.get(2);
+        prepared.clear();
+        insert.execute();
+        assertEquals(asList(full, last), prepared);
+
+        // With keepStatement(), it is re-used until the query is closed
+        prepared.clear();
+        insert.keepStatement(true);
+        insert.execute();
+        insert.execute();
+        assertEquals(asList(full, last, last), prepared);
+
+        prepared.clear();
+        insert.close();
+        insert.execute();
+        assertEquals(asList(full, last), prepared);
+        insert.keepStatement(false).close();
+
+        // Small inserts are executed as a single statement
+        data.sql.clear();
+        e.insertInto(TABLE6, FIELD_ID6, FIELD_NAME6).values(1, "a").values(2, "b").execute();
+        assertEquals(1, data.sql.size());
+    }
+
+    @Test
+    public void testInsertChunkingOnDuplicateKeyUpdate() {
+        BatchStore data = new BatchStore();
+        DSLContext e = DSL.using(new MockConnection(data), SQLDialect.MYSQL);
+
+        InsertQuery<Table6Record> insert = e.insertQuery(TABLE6);
+        for (int i = 0; i < 16383; i++) {
+            insert.newRecord();
+            insert.addValue(FIELD_ID6, i);
+            insert.addValue(FIELD_NAME6, "name" + i);
+        }
+
+        insert.onDuplicateKeyUpdate(true);
+        insert.addValueForUpdate(FIELD_ID6, 0);
+        insert.addValueForUpdate(FIELD_NAME6, "x");
+
+        // The rows' 32766 bind values fit in a single statement, but not along
+        // with the ON DUPLICATE KEY UPDATE clause's bind values
+        assertEquals(2, insert.execute());
+        assertEquals(2, data.sql.size());
+        assertEquals(asList(32766, 4), asList(data.bindings.get(0).size(), data.bindings.get(1).size()));
+        assertEquals(asList((Object) 0, "x"), data.bindings.get(1).subList(2, 4));
+    }
+
+    public static class Table6Pojo {
+        public Integer ID6;
+        public String  NAME6;
+
+        public Table6Pojo() {}
+
+        Table6Pojo(Integer id, String name) {
+            this.ID6 = id;
+            this.NAME6 = name;
+        }
+    }
+
+    static class Table6DAO extends DAOImpl<Table6Record, Table6Pojo, Integer> {
+        Table6DAO(Configuration configuration) {
+            super(TABLE6, Table6Pojo.class, configuration);
+        }
+
+        @Override
+        protected Integer getId(Table6Pojo object) {
+            return object.ID6;
+        }
+    }
+
+    @Test
+    public void testExecuteListenerRecordEvents() {
+        final List<Object> records = new ArrayList<Object>();
+        final List<Object> executions = new ArrayList<Object>();
+
+        DSLContext e = DSL.using(new DefaultConfiguration()
+            .set(new MockConnection(new Parents()))
+            .set(SQLDialect.H2)
+            .set(
+                new DefaultExecuteListenerProvider(new DefaultExecuteListener() {
+                    @Override
+                    public void recordEnd(ExecuteContext ctx) {
+                        records.add(ctx.record());
+                    }
+                }),
+                new DefaultExecuteListenerProvider(new DefaultExecuteListener() {
+                    @Override
+                    public void executeEnd(ExecuteContext ctx) {
+                        executions.add(ctx.sql());
+                    }
+                })));
+
+        Result<Table5Record> result = e.selectFrom(TABLE5).where(FIELD_ID5.in(1, 2, 3)).fetch();
+        assertEquals(new ArrayList<Object>(result), records);
+        assertEquals(1, executions.size());
+    }
+
+    @Test
+    public void testFetchSettings() throws Exception {
+        final List<Integer> properties = new ArrayList<Integer>();
+        DefaultConfiguration c = new DefaultConfiguration();
+        c.set(new MockConnection(new Parents()));
+        c.set(new DefaultExecuteListenerProvider(new DefaultExecuteListener() {
+            @Override
+            public void executeStart(ExecuteContext ctx) {
+                try {
+                    properties.clear();
+                    properties.add(ctx.statement().getFetchSize());
+                    properties.add(ctx.statement().getFetchDirection());
+                    properties.add(ctx.statement().getMaxRows());
+                }
+                catch (SQLException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }));
+
+        // Dialect specific streaming is opt-in
+        c.set(SQLDialect.MYSQL);
+        DSL.using(c).selectFrom(TABLE6).fetchLazy().close();
+        assertEquals(asList(0, ResultSet.FETCH_FORWARD, 0), properties);
+
+        // Dialect specific streaming for lazy fetching only
+        c.set(new Settings().withFetchLazyStreaming(true));
+        DSL.using(c).selectFrom(TABLE6).fetch();
+        assertEquals(asList(0, ResultSet.FETCH_FORWARD, 0), properties);
+        DSL.using(c).selectFrom(TABLE6).fetchLazy().close();
+        assertEquals(asList(Integer.MIN_VALUE, ResultSet.FETCH_FORWARD, 0), properties);
+        DSL.using(c).selectFrom(TABLE6).fetchSize(10).fetchLazy().close();
+        assertEquals(asList(10, ResultSet.FETCH_FORWARD, 0), properties);
+        c.set(SQLDialect.H2);
+        DSL.using(c).selectFrom(TABLE6).fetchLazy().close();
+        assertEquals(asList(0, ResultSet.FETCH_FORWARD, 0), properties);
+
+        // Settings apply, unless overridden per query
+        c.set(new Settings()
+            .withFetchSize(100)
+            .withFetchDirection(FetchDirection.REVERSE)
+            .withMaxRows(5));
+        DSL.using(c).selectFrom(TABLE6).fetch();
+        assertEquals(asList(100, ResultSet.FETCH_REVERSE, 5), properties);
+        DSL.using(c).selectFrom(TABLE6).fetchSize(7).fetchDirection(ResultSet.FETCH_UNKNOWN).maxRows(3).fetch();
+        assertEquals(asList(7, ResultSet.FETCH_UNKNOWN, 3), properties);
+
+        c.set(new Settings().withFetchLazyStreaming(false));
+        c.set(SQLDialect.MYSQL);
+        DSL.using(c).selectFrom(TABLE6).fetchLazy().close();
+        assertEquals(asList(0, ResultSet.FETCH_FORWARD, 0), properties);
+    }
+
+    private Table5Record existing(DSLContext e, int id, String name) {
+        Table5Record record = e.newRecord(TABLE5);
+        record.setValue(FIELD_ID5, id);
+        record.setValue(FIELD_NAME5, name);
+        record.setValue(FIELD_VERSION5, 1);
+        record.changed(false);
+        return record;
+    }
+
+    class BatchStore implements MockDataProvider {
+        final List<String>       sql        = new ArrayList<String>();
+        final List<List<Object>> bindings   = new ArrayList<List<Object>>();
+        final List<Integer>      batchSizes = new ArrayList<Integer>();
+        int                      rows       = 1;
+
+        @Override
+        public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+            sql.add(ctx.sql());
+            bindings.add(asList(ctx.bindings()));
+            batchSizes.add(ctx.batchBindings().length);
+
+            MockResult[] result = new MockResult[Math.max(1, ctx.batchBindings().length)];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = new MockResult(rows, null);
+            }
+
+            return result;
+        }
+    }
+
     @Test
     public void testException() {
         DSLContext e = DSL.using(new MockConnection(new Exceptional()), SQLDialect.H2);
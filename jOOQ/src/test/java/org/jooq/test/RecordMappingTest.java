@@ -41,13 +41,18 @@
 
 package org.jooq.test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.jooq.impl.DSL.field;
 
+import java.beans.ConstructorProperties;
+
 import javax.persistence.Column;
 
 import org.jooq.Field;
 import org.jooq.Record1;
+import org.jooq.Record3;
 
 import org.junit.Test;
 
@@ -72,6 +77,181 @@ public class RecordMappingTest extends AbstractTest {
         assertTrue(pojo.oneZero2);
     }
 
+    @Test
+    public void testIntoPrimitivesAndWrappers() throws Exception {
+        Record3<Integer, Long, Boolean> record = record3(1, 2L, true);
+
+        // Assignable values are set without conversion, primitives are unboxed
+        Numbers pojo = record.into(Numbers.class);
+        assertEquals(1, pojo.i);
+        assertEquals(Integer.valueOf(1), pojo.iBoxed);
+        assertEquals(2L, pojo.l);
+        assertEquals(Long.valueOf(2L), pojo.lBoxed);
+        assertTrue(pojo.b);
+        assertEquals(Boolean.TRUE, pojo.bBoxed);
+    }
+
+    @Test
+    public void testIntoPrimitivesFromNull() throws Exception {
+        Record3<Integer, Long, Boolean> record = record3(null, null, null);
+
+        // null values are converted to primitive defaults
+        Numbers pojo = record.into(Numbers.class);
+        assertEquals(0, pojo.i);
+        assertNull(pojo.iBoxed);
+        assertEquals(0L, pojo.l);
+        assertNull(pojo.lBoxed);
+        assertEquals(false, pojo.b);
+        assertNull(pojo.bBoxed);
+
+        // Also for setters and constructors
+        NumberSetters setters = record.into(NumberSetters.class);
+        assertEquals(0, setters.i);
+        assertEquals(0L, setters.l);
+
+        ImmutableNumbers immutable = record.into(ImmutableNumbers.class);
+        assertEquals(0, immutable.i);
+        assertEquals(0L, immutable.l);
+        assertEquals(false, immutable.b);
+    }
+
+    @Test
+    public void testIntoConvertedTypes() throws Exception {
+        Field<String> i = field("I", String.class);
+        Field<String> l = field("L", String.class);
+        Field<Integer> b = field("B", Integer.class);
+        Record3<String, String, Integer> record = create.newRecord(i, l, b);
+        record.setValue(i, "42");
+        record.setValue(l, "43");
+        record.setValue(b, 1);
+
+        // Values whose type isn't assignable are converted
+        Numbers pojo = record.into(Numbers.class);
+        assertEquals(42, pojo.i);
+        assertEquals(Integer.valueOf(42), pojo.iBoxed);
+        assertEquals(43L, pojo.l);
+        assertEquals(Long.valueOf(43L), pojo.lBoxed);
+        assertTrue(pojo.b);
+        assertEquals(Boolean.TRUE, pojo.bBoxed);
+
+        NumberSetters setters = record.into(NumberSetters.class);
+        assertEquals(42, setters.i);
+        assertEquals(43L, setters.l);
+        assertEquals("1", setters.b);
+
+        ImmutableNumbers immutable = record.into(ImmutableNumbers.class);
+        assertEquals(42, immutable.i);
+        assertEquals(43L, immutable.l);
+        assertTrue(immutable.b);
+
+        // Values are also converted to more general types
+        Objects objects = record3(1, 2L, true).into(Objects.class);
+        assertEquals(1, objects.i);
+        assertEquals(2L, objects.l);
+        assertEquals("true", objects.b);
+    }
+
+    @Test
+    public void testIntoSettersAndMembers() throws Exception {
+        Record3<Integer, Long, Boolean> record = record3(1, 2L, true);
+
+        // Setters are called, even if a matching member exists
+        NumberSetters setters = record.into(NumberSetters.class);
+        assertEquals(1, setters.i);
+        assertEquals(1, setters.iCalls);
+        assertEquals(2L, setters.l);
+        assertEquals(1, setters.lCalls);
+        assertEquals("true", setters.b);
+    }
+
+    private Record3<Integer, Long, Boolean> record3(Integer i, Long l, Boolean b) {
+        Field<Integer> fi = field("I", Integer.class);
+        Field<Long> fl = field("L", Long.class);
+        Field<Boolean> fb = field("B", Boolean.class);
+
+        Record3<Integer, Long, Boolean> record = create.newRecord(fi, fl, fb);
+        record.setValue(fi, i);
+        record.setValue(fl, l);
+        record.setValue(fb, b);
+        return record;
+    }
+
+    public static class Numbers {
+
+        @Column(name = "I")
+        public int     i;
+
+        @Column(name = "I")
+        public Integer iBoxed;
+
+        @Column(name = "L")
+        public long    l;
+
+        @Column(name = "L")
+        public Long    lBoxed;
+
+        @Column(name = "B")
+        public boolean b;
+
+        @Column(name = "B")
+        public Boolean bBoxed;
+    }
+
+    public static class NumberSetters {
+
+        public int    i;
+        public int    iCalls;
+        private long  l;
+        public int    lCalls;
+        private String b;
+
+        public void setI(int i) {
+            this.i = i;
+            this.iCalls++;
+        }
+
+        public void setL(long l) {
+            this.l = l;
+            this.lCalls++;
+        }
+
+        public void setB(String b) {
+            this.b = b;
+        }
+    }
+
+    public static class ImmutableNumbers {
+
+        final int     i;
+        final long    l;
+        final boolean b;
+
+        @ConstructorProperties({ "i", "l", "b" })
+        public ImmutableNumbers(int i, long l, boolean b) {
+            this.i = i;
+            this.l = l;
+            this.b = b;
+        }
+
+        public int getI() {
+            return i;
+        }
+
+        public long getL() {
+            return l;
+        }
+
+        public boolean isB() {
+            return b;
+        }
+    }
+
+    public static class Objects {
+        public Object i;
+        public Number l;
+        public String b;
+    }
+
     public static class BooleansWithAnnotations {
 
         @Column(name = "B")
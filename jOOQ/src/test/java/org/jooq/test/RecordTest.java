@@ -41,6 +41,9 @@
 
 package org.jooq.test;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import org.jooq.test.data.Table1;
@@ -112,4 +115,28 @@ public class RecordTest extends AbstractTest {
         r4b.setValue(Table4.FIELD_ARRAY4, new Object[] { 1, 1 });
         assertEquals(-1, r4a.compareTo(r4b));
     }
+
+    @Test
+    public void testChangedFlags() throws Exception {
+        Table1Record r = create.newRecord(Table1.TABLE1);
+        assertFalse(r.changed());
+
+        r.setValue(Table1.FIELD_NAME1, "a");
+        assertTrue(r.changed());
+        assertTrue(r.changed(Table1.FIELD_NAME1));
+        assertFalse(r.changed(Table1.FIELD_ID1));
+        assertNull(r.original(Table1.FIELD_NAME1));
+
+        r.changed(false);
+        assertFalse(r.changed());
+        assertEquals("a", r.original(Table1.FIELD_NAME1));
+
+        r.setValue(Table1.FIELD_NAME1, "b");
+        assertEquals("b", r.getValue(Table1.FIELD_NAME1));
+        assertEquals("a", r.original().getValue(Table1.FIELD_NAME1));
+
+        r.reset(Table1.FIELD_NAME1);
+        assertFalse(r.changed(Table1.FIELD_NAME1));
+        assertEquals("a", r.getValue(Table1.FIELD_NAME1));
+    }
 }
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.test.data;
+
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.impl.AbstractKeys;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+/**
+ * An updatable table with a primary key and a record version column.
+ *
+ * @author Lukas Eder
+ */
+public class Table5 extends TableImpl<Table5Record> {
+
+    /**
+     * Generated UID
+     */
+    private static final long serialVersionUID = 7621282509163949636L;
+
+    public static final Table5                            TABLE5         = new Table5();
+
+    public static final TableField<Table5Record, Integer> FIELD_ID5      = createField("ID5", SQLDataType.INTEGER, TABLE5);
+    public static final TableField<Table5Record, String>  FIELD_NAME5    = createField("NAME5", SQLDataType.VARCHAR, TABLE5);
+    public static final TableField<Table5Record, Integer> FIELD_VERSION5 = createField("VERSION5", SQLDataType.INTEGER, TABLE5);
+
+    public Table5() {
+        super("TABLE5");
+    }
+
+    @Override
+    public Class<Table5Record> getRecordType() {
+        return Table5Record.class;
+    }
+
+    @Override
+    public UniqueKey<Table5Record> getPrimaryKey() {
+        return Keys.PK_TABLE5;
+    }
+
+    @Override
+    public TableField<Table5Record, Integer> getRecordVersion() {
+        return FIELD_VERSION5;
+    }
+
+    static class Keys extends AbstractKeys {
+
+        @SuppressWarnings("unchecked")
+        static final UniqueKey<Table5Record> PK_TABLE5 = createUniqueKey(TABLE5, FIELD_ID5);
+    }
+}
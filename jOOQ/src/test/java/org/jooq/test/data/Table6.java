@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.test.data;
+
+import static org.jooq.test.data.Table5.TABLE5;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jooq.ForeignKey;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.impl.AbstractKeys;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+/**
+ * An updatable table with a primary key and a LOB column, but without a
+ * record version column. Its primary key also references {@link Table5}.
+ *
+ * @author Lukas Eder
+ */
+public class Table6 extends TableImpl<Table6Record> {
+
+    /**
+     * Generated UID
+     */
+    private static final long serialVersionUID = -4133620317093546428L;
+
+    public static final Table6                            TABLE6         = new Table6();
+
+    public static final TableField<Table6Record, Integer> FIELD_ID6      = createField("ID6", SQLDataType.INTEGER, TABLE6);
+    public static final TableField<Table6Record, String>  FIELD_NAME6    = createField("NAME6", SQLDataType.VARCHAR, TABLE6);
+    public static final TableField<Table6Record, byte[]>  FIELD_DATA6    = createField("DATA6", SQLDataType.BLOB, TABLE6);
+
+    public Table6() {
+        super("TABLE6");
+    }
+
+    @Override
+    public Class<Table6Record> getRecordType() {
+        return Table6Record.class;
+    }
+
+    @Override
+    public UniqueKey<Table6Record> getPrimaryKey() {
+        return Keys.PK_TABLE6;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<ForeignKey<Table6Record, ?>> getReferences() {
+        return Arrays.<ForeignKey<Table6Record, ?>>asList(Keys.FK_TABLE6_TABLE5);
+    }
+
+    static class Keys extends AbstractKeys {
+
+        @SuppressWarnings("unchecked")
+        static final UniqueKey<Table6Record> PK_TABLE6 = createUniqueKey(TABLE6, FIELD_ID6);
+
+        @SuppressWarnings("unchecked")
+        static final ForeignKey<Table6Record, Table5Record> FK_TABLE6_TABLE5 = createForeignKey(Table5.Keys.PK_TABLE5, TABLE6, FIELD_ID6);
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.tools.metrics;
+
+import static java.util.Arrays.asList;
+import static org.jooq.test.data.Table5.FIELD_ID5;
+import static org.jooq.test.data.Table5.TABLE5;
+import static org.jooq.test.data.Table6.FIELD_ID6;
+import static org.jooq.test.data.Table6.TABLE6;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.metrics.Finding.Type;
+
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class AdvisorTest {
+
+    @Test
+    public void testAdvisor() throws Exception {
+        Advisor advisor = new Advisor(3)
+            .withLargeFetchThreshold(5)
+            .withLargeResultThreshold(5)
+            .withRepeatedExecutionThreshold(3)
+            .withRepeatedPreparationThreshold(4)
+            .withStackTraceSampleRate(1.0);
+        DSLContext e = DSL.using(new DefaultConfiguration()
+            .set(new MockConnection(new IdRecords()))
+            .set(SQLDialect.H2)
+            .set(advisor));
+
+        // Large results fetched with the default fetch size
+        e.selectFrom(TABLE5).where(FIELD_ID5.in(1, 2, 3, 4, 5, 6)).fetch();
+        assertEquals(asList(Type.LARGE_RESULT, Type.LARGE_FETCH_WITH_DEFAULT_FETCH_SIZE), types(advisor.findings()));
+        assertEquals(6L, advisor.findings().get(0).value());
+
+        // Lazy fetching with an explicit fetch size is fine
+        e.selectFrom(TABLE5).where(FIELD_ID5.in(1, 2, 3, 4, 5, 6)).fetchSize(2).fetchLazy().fetch(1);
+        assertEquals(2, advisor.findings().size());
+
+        // An N+1 loop, which also prepares the same SQL over and over again
+        advisor.clear();
+        for (int i = 0; i < 4; i++)
+            e.selectFrom(TABLE6).where(FIELD_ID6.eq(i)).fetch();
+
+        List<Finding> findings = advisor.findings();
+        assertEquals(asList(Type.REPEATED_EXECUTION, Type.REPEATED_PREPARATION), types(findings));
+        assertEquals(3L, findings.get(0).value());
+        assertEquals(e.selectFrom(TABLE6).where(FIELD_ID6.eq(0)).getSQL(), findings.get(0).sql());
+        assertTrue(findings.get(0).stackTrace().length > 0);
+
+        // Only the most recent findings are retained
+        e.selectFrom(TABLE5).where(FIELD_ID5.in(1, 2, 3, 4, 5, 6)).fetch();
+        assertEquals(asList(Type.REPEATED_PREPARATION, Type.LARGE_RESULT, Type.LARGE_FETCH_WITH_DEFAULT_FETCH_SIZE), types(advisor.findings()));
+    }
+
+    private List<Type> types(List<Finding> findings) {
+        List<Type> result = new ArrayList<Type>();
+
+        for (Finding finding : findings)
+            result.add(finding.type());
+
+        return result;
+    }
+}
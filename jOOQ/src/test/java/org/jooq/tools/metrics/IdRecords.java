@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.tools.metrics;
+
+import static org.jooq.test.data.Table5.FIELD_ID5;
+import static org.jooq.test.data.Table5.TABLE5;
+import static org.jooq.test.data.Table6.FIELD_ID6;
+import static org.jooq.test.data.Table6.TABLE6;
+
+import java.sql.SQLException;
+
+import org.jooq.DSLContext;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.test.data.Table5Record;
+import org.jooq.test.data.Table6Record;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+
+/**
+ * A data provider that returns a <code>TABLE5</code> or <code>TABLE6</code>
+ * record for each bind value of a query.
+ *
+ * @author Lukas Eder
+ */
+class IdRecords implements MockDataProvider {
+
+    @Override
+    public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+        DSLContext e = DSL.using(SQLDialect.SQLITE);
+
+        if (ctx.sql().contains("from \"TABLE5\"")) {
+            Result<Table5Record> result = e.newResult(TABLE5);
+
+            for (Object id : ctx.bindings()) {
+                Table5Record record = e.newRecord(TABLE5);
+                record.setValue(FIELD_ID5, (Integer) id);
+                result.add(record);
+            }
+
+            return new MockResult[] { new MockResult(result.size(), result) };
+        }
+        else {
+            Result<Table6Record> result = e.newResult(TABLE6);
+
+            for (Object id : ctx.bindings()) {
+                Table6Record record = e.newRecord(TABLE6);
+                record.setValue(FIELD_ID6, (Integer) id);
+                result.add(record);
+            }
+
+            return new MockResult[] { new MockResult(result.size(), result) };
+        }
+    }
+}
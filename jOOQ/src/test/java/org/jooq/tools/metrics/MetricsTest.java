@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2009-2014, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.tools.metrics;
+
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.test.data.Table5.FIELD_ID5;
+import static org.jooq.test.data.Table5.TABLE5;
+import static org.jooq.test.data.Table6.TABLE6;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.tools.jdbc.MockConnection;
+
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class MetricsTest {
+
+    @Test
+    public void testMetrics() throws Exception {
+        Metrics metrics = new Metrics(2);
+        DSLContext e = DSL.using(new DefaultConfiguration()
+            .set(new MockConnection(new IdRecords()))
+            .set(SQLDialect.H2)
+            .set(metrics));
+
+        e.selectFrom(TABLE5).where(FIELD_ID5.in(1, 2, 3)).fetch();
+        e.selectFrom(TABLE5).where(FIELD_ID5.in(4, 5, 6)).fetch();
+        e.selectFrom(TABLE5).where(FIELD_ID5.in(inline(7), inline(8))).fetch();
+        e.selectFrom(TABLE5).where(FIELD_ID5.in(inline(9), inline(10))).fetch();
+        e.selectFrom(TABLE6).fetch();
+
+        // Bind values and inlined literals don't produce new statements
+        String sql = e.selectFrom(TABLE5).where(FIELD_ID5.in(1, 2, 3)).getSQL();
+        StatementMetrics statement = metrics.statement(sql);
+        assertEquals(2L, statement.executions());
+        assertEquals(6L, statement.rowsFetched());
+        assertEquals(0L, statement.bytesFetched());
+        assertEquals(2L, statement.execute().count());
+        assertEquals(2L, metrics.statement(e.selectFrom(TABLE5).where(FIELD_ID5.in(inline(1), inline(2))).getSQL()).executions());
+
+        // Statements beyond the maximum are accounted for separately
+        assertEquals(2, metrics.getTrackedStatements());
+        assertEquals(5L, metrics.getExecutions());
+        assertEquals(1L, metrics.statement(Metrics.OTHER).executions());
+        assertEquals(3, metrics.statements().size());
+        assertEquals(3, metrics.getStatementSummaries().length);
+
+        metrics.reset();
+        assertEquals(0L, metrics.getExecutions());
+
+        // Fetched bytes are only estimated on demand
+        metrics.withBytesFetchedEstimation(true);
+        e.selectFrom(TABLE5).where(FIELD_ID5.in(1, 2, 3)).fetch();
+        assertTrue(metrics.statement(sql).bytesFetched() > 0L);
+    }
+}